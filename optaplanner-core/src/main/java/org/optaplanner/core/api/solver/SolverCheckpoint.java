@@ -0,0 +1,80 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.solver;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+
+/**
+ * A snapshot of a solver job's best solution, saved in a {@link SolverCheckpointStore}
+ * so {@link SolverManager#resume(Object)} can continue solving from it later, for example after a restart.
+ * <p>
+ * This class is immutable.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public final class SolverCheckpoint<Solution_> {
+
+    private final Solution_ bestSolution;
+    private final Score<?> bestScore;
+    private final long timeMillisSpent;
+
+    /**
+     * @param bestSolution never null, a {@link PlanningSolution} that isn't changed any more by the solver
+     * @param bestScore never null, the score of the bestSolution
+     * @param timeMillisSpent at least 0, the time the solver already spent to find the bestSolution (or later)
+     */
+    public SolverCheckpoint(Solution_ bestSolution, Score<?> bestScore, long timeMillisSpent) {
+        if (timeMillisSpent < 0L) {
+            throw new IllegalArgumentException("The timeMillisSpent (" + timeMillisSpent
+                    + ") cannot be negative.");
+        }
+        this.bestSolution = bestSolution;
+        this.bestScore = bestScore;
+        this.timeMillisSpent = timeMillisSpent;
+    }
+
+    /**
+     * @return never null
+     */
+    public Solution_ getBestSolution() {
+        return bestSolution;
+    }
+
+    /**
+     * @return never null
+     */
+    public Score<?> getBestScore() {
+        return bestScore;
+    }
+
+    /**
+     * A resumed solver continues its time spent from this value,
+     * so a {@code spentLimit} termination doesn't restart from zero.
+     *
+     * @return at least 0
+     */
+    public long getTimeMillisSpent() {
+        return timeMillisSpent;
+    }
+
+    @Override
+    public String toString() {
+        return "SolverCheckpoint(" + bestScore + ", " + timeMillisSpent + "ms)";
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.solver;
+
+import java.util.UUID;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.config.solver.SolverManagerConfig;
+
+/**
+ * Persists the {@link SolverCheckpoint}s of a {@link SolverManager},
+ * so a solver job can {@link SolverManager#resume(Object) resume} after the JVM (or its host) goes down.
+ * <p>
+ * Configure it with {@link SolverManagerConfig#setCheckpointStore(SolverCheckpointStore)}.
+ * <p>
+ * An implementation must be thread-safe: different solver threads save checkpoints of different problems
+ * at the same time.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <ProblemId_> the ID type of a submitted problem, such as {@link Long} or {@link UUID}.
+ */
+public interface SolverCheckpointStore<Solution_, ProblemId_> {
+
+    /**
+     * Called on the solver thread, so a slow implementation blocks that solver meanwhile.
+     * Overwrites the previous checkpoint of the same problemId, if any.
+     *
+     * @param problemId never null
+     * @param checkpoint never null
+     */
+    void save(ProblemId_ problemId, SolverCheckpoint<Solution_> checkpoint);
+
+    /**
+     * @param problemId never null
+     * @return null if there is no checkpoint for that problemId
+     */
+    SolverCheckpoint<Solution_> load(ProblemId_ problemId);
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.api.solver;
+
+import java.util.Objects;
+
+import org.optaplanner.core.config.solver.SolverManagerConfig;
+
+/**
+ * Determines in which order the {@link SolverManager} starts its scheduled solver jobs,
+ * when there are more of them than {@link SolverManagerConfig#getParallelSolverCount()}.
+ * <p>
+ * A solver job with a higher {@link #getPriority() priority} starts first.
+ * If all solver threads are busy, it preempts the running solver job with the lowest priority
+ * (if that one is lower), which resumes later from its last best solution.
+ * Between solver jobs with the same priority, the tenant with the least running solver jobs goes first,
+ * so 1 tenant can't claim every solver thread.
+ * Otherwise, solver jobs start in the order they were submitted.
+ * <p>
+ * This class is immutable.
+ */
+public final class SolverJobPriority {
+
+    public static final SolverJobPriority DEFAULT = new SolverJobPriority(0, null);
+
+    /**
+     * @param priority higher starts first, 0 is the default
+     * @return never null
+     */
+    public static SolverJobPriority of(int priority) {
+        return new SolverJobPriority(priority, null);
+    }
+
+    /**
+     * @param priority higher starts first, 0 is the default
+     * @param tenantId sometimes null, solver jobs with the same tenantId share the solver threads fairly
+     *        with other tenants. Must have a proper {@link Object#equals(Object)} and {@link Object#hashCode()}.
+     * @return never null
+     */
+    public static SolverJobPriority of(int priority, Object tenantId) {
+        return new SolverJobPriority(priority, tenantId);
+    }
+
+    private final int priority;
+    private final Object tenantId;
+
+    private SolverJobPriority(int priority, Object tenantId) {
+        this.priority = priority;
+        this.tenantId = tenantId;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    /**
+     * @return sometimes null
+     */
+    public Object getTenantId() {
+        return tenantId;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        SolverJobPriority other = (SolverJobPriority) o;
+        return priority == other.priority && Objects.equals(tenantId, other.tenantId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(priority, tenantId);
+    }
+
+    @Override
+    public String toString() {
+        return "SolverJobPriority(" + priority + (tenantId == null ? "" : ", " + tenantId) + ")";
+    }
+
+}
@@ -214,6 +214,30 @@ public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler);
 
+    /**
+     * As defined by {@link #solve(Object, Function, Consumer)}.
+     *
+     * @param problemId never null, a ID for each planning problem. This must be unique.
+     *        Use this problemId to {@link #terminateEarly(Object) terminate} the solver early,
+     *        {@link #getSolverStatus(Object) to get the status} or if the problem changes while solving.
+     * @param problemFinder never null, function that returns a {@link PlanningSolution}, usually with uninitialized planning
+     *        variables
+     * @param finalBestSolutionConsumer sometimes null, called only once, at the end, on a consumer thread
+     * @param exceptionHandler sometimes null, called if an exception or error occurs.
+     *        If null it defaults to logging the exception as an error.
+     * @param priority never null, determines when this problem starts solving compared to other scheduled problems
+     *        and if it can preempt a running solver.
+     *        Ignored by an implementation that doesn't support priorities.
+     * @return never null
+     */
+    default SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            SolverJobPriority priority) {
+        return solve(problemId, problemFinder, finalBestSolutionConsumer, exceptionHandler);
+    }
+
     /**
      * Submits a planning problem to solve and returns immediately.
      * The planning problem is solved on a solver {@link Thread}, as soon as one is available.
@@ -287,6 +311,79 @@ public interface SolverManager<Solution_, ProblemId_> extends AutoCloseable {
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler);
 
+    /**
+     * As defined by {@link #solveAndListen(Object, Function, Consumer, Consumer, BiConsumer)}.
+     * <p>
+     * If a solver job with a higher priority preempts this one,
+     * the {@code bestSolutionConsumer} isn't called until it resumes.
+     *
+     * @param problemId never null, an ID for each planning problem. This must be unique.
+     *        Use this problemId to {@link #terminateEarly(Object) terminate} the solver early,
+     *        {@link #getSolverStatus(Object) to get the status} or if the problem changes while solving.
+     * @param problemFinder never null, function that returns a {@link PlanningSolution}, usually with uninitialized planning
+     *        variables
+     * @param bestSolutionConsumer never null, called multiple times, on a consumer thread
+     * @param finalBestSolutionConsumer sometimes null, called only once, at the end, on a consumer thread.
+     *        That final best solution is already consumed by the bestSolutionConsumer earlier.
+     * @param exceptionHandler sometimes null, called if an exception or error occurs.
+     *        If null it defaults to logging the exception as an error.
+     * @param priority never null, determines when this problem starts solving compared to other scheduled problems
+     *        and if it can preempt a running solver.
+     *        Ignored by an implementation that doesn't support priorities.
+     * @return never null
+     */
+    default SolverJob<Solution_, ProblemId_> solveAndListen(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            SolverJobPriority priority) {
+        return solveAndListen(problemId, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
+                exceptionHandler);
+    }
+
+    /**
+     * Submits a planning problem to solve from its last {@link SolverCheckpoint} and returns immediately,
+     * for example to continue solving after the JVM restarted.
+     * <p>
+     * Requires a {@link SolverManagerConfig#getCheckpointStore() checkpointStore}.
+     * The solver continues the time spent of that checkpoint, so a {@code spentLimit} isn't restarted.
+     * A checkpoint of an initialized solution effectively skips the construction heuristic phases,
+     * because those only assign uninitialized planning entities.
+     *
+     * @param problemId never null, a ID for each planning problem. This must be unique.
+     * @return never null
+     * @throws IllegalStateException on the solver thread (so through {@link SolverJob#getFinalBestSolution()}),
+     *         if there is no checkpoint for that problemId
+     */
+    default SolverJob<Solution_, ProblemId_> resume(ProblemId_ problemId) {
+        return resume(problemId, (problemId_) -> {
+            throw new IllegalStateException("The problemId (" + problemId_ + ") has no checkpoint to resume from.");
+        }, null, null, null);
+    }
+
+    /**
+     * As defined by {@link #resume(Object)}.
+     *
+     * @param problemId never null, a ID for each planning problem. This must be unique.
+     * @param problemFinder never null, function that returns a {@link PlanningSolution},
+     *        only called if there is no checkpoint for that problemId
+     * @param bestSolutionConsumer sometimes null, called multiple times, on a consumer thread
+     * @param finalBestSolutionConsumer sometimes null, called only once, at the end, on a consumer thread
+     * @param exceptionHandler sometimes null, called if an exception or error occurs.
+     *        If null it defaults to logging the exception as an error.
+     * @return never null
+     * @throws UnsupportedOperationException if this implementation doesn't support checkpoints
+     */
+    default SolverJob<Solution_, ProblemId_> resume(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+        throw new UnsupportedOperationException("The " + getClass().getSimpleName()
+                + " does not support resuming the problemId (" + problemId + ") from a checkpoint.");
+    }
+
     /**
      * Returns if the {@link Solver} is scheduled to solve, actively solving or not.
      * <p>
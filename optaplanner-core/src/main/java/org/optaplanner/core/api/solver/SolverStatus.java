@@ -41,7 +41,8 @@ public enum SolverStatus {
      * If CPU resource are scarce and that solver thread is waiting for CPU time,
      * the state doesn't change, it's still considered solving active.
      * <p>
-     * Transitions into {@link #NOT_SOLVING} when terminated.
+     * Transitions into {@link #NOT_SOLVING} when terminated,
+     * or back into {@link #SOLVING_SCHEDULED} when preempted by a solver job with a higher {@link SolverJobPriority}.
      */
     SOLVING_ACTIVE,
     /**
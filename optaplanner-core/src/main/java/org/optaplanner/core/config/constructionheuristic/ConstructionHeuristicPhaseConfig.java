@@ -51,7 +51,8 @@ import org.optaplanner.core.config.util.ConfigUtils;
         "valueSorterManner",
         "entityPlacerConfig",
         "moveSelectorConfigList",
-        "foragerConfig"
+        "foragerConfig",
+        "speculativePlacementCount"
 })
 public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHeuristicPhaseConfig> {
 
@@ -95,6 +96,8 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
     @XmlElement(name = "forager")
     protected ConstructionHeuristicForagerConfig foragerConfig = null;
 
+    protected Integer speculativePlacementCount = null;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -147,6 +150,22 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         this.foragerConfig = foragerConfig;
     }
 
+    /**
+     * Requires a moveThreadCount and a queued entity placer.
+     * If higher than 1, that number of placements is evaluated in parallel against the same working solution
+     * and each picked move is validated against the steps of the previous placements before it is done.
+     * This can change the result compared to evaluating 1 placement per step.
+     *
+     * @return null or at least 1
+     */
+    public Integer getSpeculativePlacementCount() {
+        return speculativePlacementCount;
+    }
+
+    public void setSpeculativePlacementCount(Integer speculativePlacementCount) {
+        this.speculativePlacementCount = speculativePlacementCount;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -182,6 +201,11 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         return this;
     }
 
+    public ConstructionHeuristicPhaseConfig withSpeculativePlacementCount(Integer speculativePlacementCount) {
+        this.speculativePlacementCount = speculativePlacementCount;
+        return this;
+    }
+
     @Override
     public ConstructionHeuristicPhaseConfig inherit(ConstructionHeuristicPhaseConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -196,6 +220,8 @@ public class ConstructionHeuristicPhaseConfig extends PhaseConfig<ConstructionHe
         moveSelectorConfigList = ConfigUtils.inheritMergeableListConfig(
                 moveSelectorConfigList, inheritedConfig.getMoveSelectorConfigList());
         foragerConfig = ConfigUtils.inheritConfig(foragerConfig, inheritedConfig.getForagerConfig());
+        speculativePlacementCount = ConfigUtils.inheritOverwritableProperty(speculativePlacementCount,
+                inheritedConfig.getSpeculativePlacementCount());
         return this;
     }
 
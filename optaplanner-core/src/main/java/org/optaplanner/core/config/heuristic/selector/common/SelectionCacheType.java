@@ -32,6 +32,12 @@ public enum SelectionCacheType {
      * When the step is started.
      */
     STEP,
+    /**
+     * When the phase is started, but filtered again when the step is started,
+     * only for the selections that touch a planning entity or planning value that the previous step changed.
+     * Only supported on a move selector with a move set that doesn't change during the phase.
+     */
+    INCREMENTAL_STEP,
     /**
      * When the phase is started.
      */
@@ -57,6 +63,7 @@ public enum SelectionCacheType {
             case JUST_IN_TIME:
                 return false;
             case STEP:
+            case INCREMENTAL_STEP:
             case PHASE:
             case SOLVER:
                 return true;
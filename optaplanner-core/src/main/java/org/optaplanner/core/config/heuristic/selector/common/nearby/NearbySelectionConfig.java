@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.config.heuristic.selector.common.nearby;
 
+import java.io.File;
 import java.util.function.Consumer;
 
 import javax.xml.bind.annotation.XmlElement;
@@ -31,6 +32,9 @@ import org.optaplanner.core.impl.heuristic.selector.common.nearby.NearbyDistance
 @XmlType(propOrder = {
         "originEntitySelectorConfig",
         "nearbyDistanceMeterClass",
+        "nearbySizeMaximum",
+        "parallelDistanceMatrixBuild",
+        "distanceMatrixDirectory",
         "nearbySelectionDistributionType",
         "blockDistributionSizeMinimum",
         "blockDistributionSizeMaximum",
@@ -46,6 +50,9 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
     @XmlElement(name = "originEntitySelector")
     protected EntitySelectorConfig originEntitySelectorConfig = null;
     protected Class<? extends NearbyDistanceMeter> nearbyDistanceMeterClass = null;
+    protected Integer nearbySizeMaximum = null;
+    protected Boolean parallelDistanceMatrixBuild = null;
+    protected File distanceMatrixDirectory = null;
 
     protected NearbySelectionDistributionType nearbySelectionDistributionType = null;
 
@@ -77,6 +84,42 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
         this.nearbyDistanceMeterClass = nearbyDistanceMeterClass;
     }
 
+    /**
+     * Keeps only the nearest destinations per origin in the distance matrix,
+     * which bounds its memory and build time and limits the nearby selection to those destinations.
+     *
+     * @return sometimes null, null means unbounded
+     */
+    public Integer getNearbySizeMaximum() {
+        return nearbySizeMaximum;
+    }
+
+    public void setNearbySizeMaximum(Integer nearbySizeMaximum) {
+        this.nearbySizeMaximum = nearbySizeMaximum;
+    }
+
+    /**
+     * Builds the distance matrix in parallel at the start of every phase.
+     * Requires that the {@link NearbyDistanceMeter} and the child selector's filters are thread-safe.
+     *
+     * @return sometimes null, null means false
+     */
+    public Boolean getParallelDistanceMatrixBuild() {
+        return parallelDistanceMatrixBuild;
+    }
+
+    public void setParallelDistanceMatrixBuild(Boolean parallelDistanceMatrixBuild) {
+        this.parallelDistanceMatrixBuild = parallelDistanceMatrixBuild;
+    }
+
+    public File getDistanceMatrixDirectory() {
+        return distanceMatrixDirectory;
+    }
+
+    public void setDistanceMatrixDirectory(File distanceMatrixDirectory) {
+        this.distanceMatrixDirectory = distanceMatrixDirectory;
+    }
+
     public NearbySelectionDistributionType getNearbySelectionDistributionType() {
         return nearbySelectionDistributionType;
     }
@@ -166,6 +209,10 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
                     + ") is nearby selection"
                     + " but lacks a nearbyDistanceMeterClass (" + nearbyDistanceMeterClass + ").");
         }
+        if (nearbySizeMaximum != null && nearbySizeMaximum < 1) {
+            throw new IllegalArgumentException("The nearbySelectorConfig (" + this
+                    + ") has a nearbySizeMaximum (" + nearbySizeMaximum + ") which should be at least 1.");
+        }
         if (resolvedSelectionOrder != SelectionOrder.ORIGINAL && resolvedSelectionOrder != SelectionOrder.RANDOM) {
             throw new IllegalArgumentException("The nearbySelectorConfig (" + this
                     + ") with nearbyOriginEntitySelector (" + originEntitySelectorConfig
@@ -188,6 +235,12 @@ public class NearbySelectionConfig extends SelectorConfig<NearbySelectionConfig>
                 inheritedConfig.getOriginEntitySelectorConfig());
         nearbyDistanceMeterClass = ConfigUtils.inheritOverwritableProperty(nearbyDistanceMeterClass,
                 inheritedConfig.getNearbyDistanceMeterClass());
+        nearbySizeMaximum = ConfigUtils.inheritOverwritableProperty(nearbySizeMaximum,
+                inheritedConfig.getNearbySizeMaximum());
+        parallelDistanceMatrixBuild = ConfigUtils.inheritOverwritableProperty(parallelDistanceMatrixBuild,
+                inheritedConfig.getParallelDistanceMatrixBuild());
+        distanceMatrixDirectory = ConfigUtils.inheritOverwritableProperty(distanceMatrixDirectory,
+                inheritedConfig.getDistanceMatrixDirectory());
         nearbySelectionDistributionType = ConfigUtils.inheritOverwritableProperty(nearbySelectionDistributionType,
                 inheritedConfig.getNearbySelectionDistributionType());
         blockDistributionSizeMinimum = ConfigUtils.inheritOverwritableProperty(blockDistributionSizeMinimum,
@@ -28,7 +28,8 @@ import org.optaplanner.core.config.util.ConfigUtils;
 
 @XmlType(propOrder = {
         "entitySelectorConfig",
-        "valueSelectorConfig"
+        "valueSelectorConfig",
+        "flyweightMoves"
 })
 public class ChangeMoveSelectorConfig extends MoveSelectorConfig<ChangeMoveSelectorConfig> {
 
@@ -40,6 +41,8 @@ public class ChangeMoveSelectorConfig extends MoveSelectorConfig<ChangeMoveSelec
     @XmlElement(name = "valueSelector")
     private ValueSelectorConfig valueSelectorConfig = null;
 
+    private Boolean flyweightMoves = null;
+
     public EntitySelectorConfig getEntitySelectorConfig() {
         return entitySelectorConfig;
     }
@@ -56,11 +59,27 @@ public class ChangeMoveSelectorConfig extends MoveSelectorConfig<ChangeMoveSelec
         this.valueSelectorConfig = valueSelectorConfig;
     }
 
+    /**
+     * Reusing a move instance avoids creating a new move per selected move.
+     * Only the moves that are kept (such as the picked step) are copied.
+     * It's ignored for chained variables.
+     *
+     * @return sometimes null, null means false
+     */
+    public Boolean getFlyweightMoves() {
+        return flyweightMoves;
+    }
+
+    public void setFlyweightMoves(Boolean flyweightMoves) {
+        this.flyweightMoves = flyweightMoves;
+    }
+
     @Override
     public ChangeMoveSelectorConfig inherit(ChangeMoveSelectorConfig inheritedConfig) {
         super.inherit(inheritedConfig);
         entitySelectorConfig = ConfigUtils.inheritConfig(entitySelectorConfig, inheritedConfig.getEntitySelectorConfig());
         valueSelectorConfig = ConfigUtils.inheritConfig(valueSelectorConfig, inheritedConfig.getValueSelectorConfig());
+        flyweightMoves = ConfigUtils.inheritOverwritableProperty(flyweightMoves, inheritedConfig.getFlyweightMoves());
         return this;
     }
 
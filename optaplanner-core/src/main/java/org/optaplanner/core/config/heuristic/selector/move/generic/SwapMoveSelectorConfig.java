@@ -30,7 +30,8 @@ import org.optaplanner.core.config.util.ConfigUtils;
 @XmlType(propOrder = {
         "entitySelectorConfig",
         "secondaryEntitySelectorConfig",
-        "variableNameIncludeList"
+        "variableNameIncludeList",
+        "flyweightMoves"
 })
 public class SwapMoveSelectorConfig extends MoveSelectorConfig<SwapMoveSelectorConfig> {
 
@@ -45,6 +46,8 @@ public class SwapMoveSelectorConfig extends MoveSelectorConfig<SwapMoveSelectorC
     @XmlElement(name = "variableNameInclude")
     private List<String> variableNameIncludeList = null;
 
+    private Boolean flyweightMoves = null;
+
     public EntitySelectorConfig getEntitySelectorConfig() {
         return entitySelectorConfig;
     }
@@ -69,6 +72,21 @@ public class SwapMoveSelectorConfig extends MoveSelectorConfig<SwapMoveSelectorC
         this.variableNameIncludeList = variableNameIncludeList;
     }
 
+    /**
+     * Reusing a move instance avoids creating a new move per selected move.
+     * Only the moves that are kept (such as the picked step) are copied.
+     * It's ignored for chained variables.
+     *
+     * @return sometimes null, null means false
+     */
+    public Boolean getFlyweightMoves() {
+        return flyweightMoves;
+    }
+
+    public void setFlyweightMoves(Boolean flyweightMoves) {
+        this.flyweightMoves = flyweightMoves;
+    }
+
     @Override
     public SwapMoveSelectorConfig inherit(SwapMoveSelectorConfig inheritedConfig) {
         super.inherit(inheritedConfig);
@@ -77,6 +95,7 @@ public class SwapMoveSelectorConfig extends MoveSelectorConfig<SwapMoveSelectorC
                 inheritedConfig.getSecondaryEntitySelectorConfig());
         variableNameIncludeList = ConfigUtils.inheritMergeableListProperty(
                 variableNameIncludeList, inheritedConfig.getVariableNameIncludeList());
+        flyweightMoves = ConfigUtils.inheritOverwritableProperty(flyweightMoves, inheritedConfig.getFlyweightMoves());
         return this;
     }
 
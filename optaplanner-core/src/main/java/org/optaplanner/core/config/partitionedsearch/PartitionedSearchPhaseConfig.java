@@ -41,6 +41,8 @@ import org.optaplanner.core.impl.partitionedsearch.partitioner.SolutionPartition
         "solutionPartitionerClass",
         "solutionPartitionerCustomProperties",
         "runnablePartThreadLimit",
+        "repartitionIntervalMilliseconds",
+        "repartitionIntervalStepCount",
         "phaseConfigList"
 })
 public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchPhaseConfig> {
@@ -57,6 +59,8 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
     protected Map<String, String> solutionPartitionerCustomProperties = null;
 
     protected String runnablePartThreadLimit = null;
+    protected Long repartitionIntervalMilliseconds = null;
+    protected Integer repartitionIntervalStepCount = null;
 
     @XmlElements({
             @XmlElement(name = ConstructionHeuristicPhaseConfig.XML_ELEMENT_NAME,
@@ -118,6 +122,39 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
         this.runnablePartThreadLimit = runnablePartThreadLimit;
     }
 
+    /**
+     * If set, the partitions are terminated after this time,
+     * after which the working solution is split again with
+     * {@link SolutionPartitioner#repartitionWorkingSolution(ScoreDirector, Integer, List)},
+     * until this phase terminates.
+     * <p/>
+     * Defaults to null, which means the partitions stay the same during the entire phase.
+     *
+     * @return null or at least 1
+     */
+    public Long getRepartitionIntervalMilliseconds() {
+        return repartitionIntervalMilliseconds;
+    }
+
+    public void setRepartitionIntervalMilliseconds(Long repartitionIntervalMilliseconds) {
+        this.repartitionIntervalMilliseconds = repartitionIntervalMilliseconds;
+    }
+
+    /**
+     * Like {@link #getRepartitionIntervalMilliseconds()},
+     * but the partitions are terminated after this number of Partitioned Search steps.
+     * If both are set, the partitions are terminated by whichever comes first.
+     *
+     * @return null or at least 1
+     */
+    public Integer getRepartitionIntervalStepCount() {
+        return repartitionIntervalStepCount;
+    }
+
+    public void setRepartitionIntervalStepCount(Integer repartitionIntervalStepCount) {
+        this.repartitionIntervalStepCount = repartitionIntervalStepCount;
+    }
+
     public List<PhaseConfig> getPhaseConfigList() {
         return phaseConfigList;
     }
@@ -135,6 +172,10 @@ public class PartitionedSearchPhaseConfig extends PhaseConfig<PartitionedSearchP
                 solutionPartitionerCustomProperties, inheritedConfig.getSolutionPartitionerCustomProperties());
         runnablePartThreadLimit = ConfigUtils.inheritOverwritableProperty(runnablePartThreadLimit,
                 inheritedConfig.getRunnablePartThreadLimit());
+        repartitionIntervalMilliseconds = ConfigUtils.inheritOverwritableProperty(repartitionIntervalMilliseconds,
+                inheritedConfig.getRepartitionIntervalMilliseconds());
+        repartitionIntervalStepCount = ConfigUtils.inheritOverwritableProperty(repartitionIntervalStepCount,
+                inheritedConfig.getRepartitionIntervalStepCount());
         phaseConfigList = ConfigUtils.inheritMergeableListConfig(
                 phaseConfigList, inheritedConfig.getPhaseConfigList());
         return this;
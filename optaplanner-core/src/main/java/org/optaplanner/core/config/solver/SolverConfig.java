@@ -78,6 +78,8 @@ import org.optaplanner.core.impl.solver.random.RandomFactory;
         "randomFactoryClass",
         "moveThreadCount",
         "moveThreadBufferSize",
+        "moveThreadBatchSize",
+        "moveThreadWorkStealing",
         "threadFactoryClass",
         "monitoringConfig",
         "solutionClass",
@@ -237,6 +239,8 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
     protected Class<? extends RandomFactory> randomFactoryClass = null;
     protected String moveThreadCount = null;
     protected Integer moveThreadBufferSize = null;
+    protected Integer moveThreadBatchSize = null;
+    protected Boolean moveThreadWorkStealing = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
 
     protected Class<?> solutionClass = null;
@@ -362,6 +366,22 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         this.moveThreadBufferSize = moveThreadBufferSize;
     }
 
+    public Integer getMoveThreadBatchSize() {
+        return moveThreadBatchSize;
+    }
+
+    public void setMoveThreadBatchSize(Integer moveThreadBatchSize) {
+        this.moveThreadBatchSize = moveThreadBatchSize;
+    }
+
+    public Boolean getMoveThreadWorkStealing() {
+        return moveThreadWorkStealing;
+    }
+
+    public void setMoveThreadWorkStealing(Boolean moveThreadWorkStealing) {
+        this.moveThreadWorkStealing = moveThreadWorkStealing;
+    }
+
     public Class<? extends ThreadFactory> getThreadFactoryClass() {
         return threadFactoryClass;
     }
@@ -481,6 +501,16 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
         return this;
     }
 
+    public SolverConfig withMoveThreadBatchSize(Integer moveThreadBatchSize) {
+        this.moveThreadBatchSize = moveThreadBatchSize;
+        return this;
+    }
+
+    public SolverConfig withMoveThreadWorkStealing(Boolean moveThreadWorkStealing) {
+        this.moveThreadWorkStealing = moveThreadWorkStealing;
+        return this;
+    }
+
     public SolverConfig withThreadFactoryClass(Class<? extends ThreadFactory> threadFactoryClass) {
         this.threadFactoryClass = threadFactoryClass;
         return this;
@@ -632,6 +662,10 @@ public class SolverConfig extends AbstractConfig<SolverConfig> {
                 inheritedConfig.getMoveThreadCount());
         moveThreadBufferSize = ConfigUtils.inheritOverwritableProperty(moveThreadBufferSize,
                 inheritedConfig.getMoveThreadBufferSize());
+        moveThreadBatchSize = ConfigUtils.inheritOverwritableProperty(moveThreadBatchSize,
+                inheritedConfig.getMoveThreadBatchSize());
+        moveThreadWorkStealing = ConfigUtils.inheritOverwritableProperty(moveThreadWorkStealing,
+                inheritedConfig.getMoveThreadWorkStealing());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
         solutionClass = ConfigUtils.inheritOverwritableProperty(solutionClass, inheritedConfig.getSolutionClass());
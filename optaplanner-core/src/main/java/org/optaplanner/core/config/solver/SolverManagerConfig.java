@@ -16,11 +16,14 @@
 
 package org.optaplanner.core.config.solver;
 
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadFactory;
 import java.util.function.Consumer;
 
+import javax.xml.bind.annotation.XmlTransient;
 import javax.xml.bind.annotation.XmlType;
 
+import org.optaplanner.core.api.solver.SolverCheckpointStore;
 import org.optaplanner.core.config.AbstractConfig;
 import org.optaplanner.core.config.util.ConfigUtils;
 import org.slf4j.Logger;
@@ -28,16 +31,24 @@ import org.slf4j.LoggerFactory;
 
 @XmlType(propOrder = {
         "parallelSolverCount",
-        "threadFactoryClass"
+        "threadFactoryClass",
+        "checkpointIntervalMilliseconds"
 })
 public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
 
     public static final String PARALLEL_SOLVER_COUNT_AUTO = "AUTO";
+    public static final long CHECKPOINT_INTERVAL_MILLISECONDS_DEFAULT = 60_000L;
 
     private static final Logger LOGGER = LoggerFactory.getLogger(SolverManagerConfig.class);
 
     protected String parallelSolverCount = null;
     protected Class<? extends ThreadFactory> threadFactoryClass = null;
+    protected Long checkpointIntervalMilliseconds = null;
+
+    @XmlTransient
+    protected ExecutorService executorService = null;
+    @XmlTransient
+    protected SolverCheckpointStore<?, ?> checkpointStore = null;
 
     // Future features:
     // throttlingDelay
@@ -66,6 +77,56 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         this.threadFactoryClass = threadFactoryClass;
     }
 
+    /**
+     * If set, every solver job runs on this executor instead of on a fixed thread pool,
+     * so {@link #getThreadFactoryClass()} is ignored.
+     * The {@link #getParallelSolverCount()} still limits how many solver jobs are submitted to it at the same time,
+     * so solver job priorities and preemption still apply.
+     * For example, use a virtual thread per task executor to run many small solver jobs
+     * with blocking best solution consumers.
+     * <p>
+     * The {@link org.optaplanner.core.api.solver.SolverManager} does not shut it down on close,
+     * it only terminates its own solver jobs.
+     *
+     * @return sometimes null
+     */
+    public ExecutorService getExecutorService() {
+        return executorService;
+    }
+
+    public void setExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+    }
+
+    /**
+     * If set, every solver job saves a checkpoint of its best solution in this store
+     * at most once per {@link #getCheckpointIntervalMilliseconds()} and once more when it terminates,
+     * so {@link org.optaplanner.core.api.solver.SolverManager#resume(Object)} can continue from it.
+     *
+     * @return sometimes null
+     */
+    public SolverCheckpointStore<?, ?> getCheckpointStore() {
+        return checkpointStore;
+    }
+
+    public void setCheckpointStore(SolverCheckpointStore<?, ?> checkpointStore) {
+        this.checkpointStore = checkpointStore;
+    }
+
+    /**
+     * Ignored if there is no {@link #getCheckpointStore()}.
+     * Defaults to {@value #CHECKPOINT_INTERVAL_MILLISECONDS_DEFAULT}.
+     *
+     * @return sometimes null
+     */
+    public Long getCheckpointIntervalMilliseconds() {
+        return checkpointIntervalMilliseconds;
+    }
+
+    public void setCheckpointIntervalMilliseconds(Long checkpointIntervalMilliseconds) {
+        this.checkpointIntervalMilliseconds = checkpointIntervalMilliseconds;
+    }
+
     // ************************************************************************
     // With methods
     // ************************************************************************
@@ -80,6 +141,21 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return this;
     }
 
+    public SolverManagerConfig withExecutorService(ExecutorService executorService) {
+        this.executorService = executorService;
+        return this;
+    }
+
+    public SolverManagerConfig withCheckpointStore(SolverCheckpointStore<?, ?> checkpointStore) {
+        this.checkpointStore = checkpointStore;
+        return this;
+    }
+
+    public SolverManagerConfig withCheckpointIntervalMilliseconds(Long checkpointIntervalMilliseconds) {
+        this.checkpointIntervalMilliseconds = checkpointIntervalMilliseconds;
+        return this;
+    }
+
     // ************************************************************************
     // Builder methods
     // ************************************************************************
@@ -98,7 +174,8 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
                     + ") resulted in a resolvedParallelSolverCount (" + resolvedParallelSolverCount
                     + ") that is lower than 1.");
         }
-        if (resolvedParallelSolverCount > availableProcessorCount) {
+        // An executorService, such as a virtual thread per task executor, can run more solver jobs than CPU cores
+        if (executorService == null && resolvedParallelSolverCount > availableProcessorCount) {
             LOGGER.warn("The resolvedParallelSolverCount ({}) is higher "
                     + "than the availableProcessorCount ({}), which is counter-efficient.",
                     resolvedParallelSolverCount, availableProcessorCount);
@@ -107,6 +184,17 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
         return resolvedParallelSolverCount;
     }
 
+    public long resolveCheckpointIntervalMilliseconds() {
+        if (checkpointIntervalMilliseconds == null) {
+            return CHECKPOINT_INTERVAL_MILLISECONDS_DEFAULT;
+        }
+        if (checkpointIntervalMilliseconds < 0L) {
+            throw new IllegalArgumentException("The checkpointIntervalMilliseconds (" + checkpointIntervalMilliseconds
+                    + ") cannot be negative.");
+        }
+        return checkpointIntervalMilliseconds;
+    }
+
     protected int getAvailableProcessors() {
         return Runtime.getRuntime().availableProcessors();
     }
@@ -126,6 +214,12 @@ public class SolverManagerConfig extends AbstractConfig<SolverManagerConfig> {
                 inheritedConfig.getParallelSolverCount());
         threadFactoryClass = ConfigUtils.inheritOverwritableProperty(threadFactoryClass,
                 inheritedConfig.getThreadFactoryClass());
+        executorService = ConfigUtils.inheritOverwritableProperty(executorService,
+                inheritedConfig.getExecutorService());
+        checkpointStore = ConfigUtils.inheritOverwritableProperty(checkpointStore,
+                inheritedConfig.getCheckpointStore());
+        checkpointIntervalMilliseconds = ConfigUtils.inheritOverwritableProperty(checkpointIntervalMilliseconds,
+                inheritedConfig.getCheckpointIntervalMilliseconds());
         return this;
     }
 
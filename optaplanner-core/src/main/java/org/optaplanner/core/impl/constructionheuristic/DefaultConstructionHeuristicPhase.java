@@ -16,12 +16,17 @@
 
 package org.optaplanner.core.impl.constructionheuristic;
 
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.impl.constructionheuristic.decider.ConstructionHeuristicDecider;
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.heuristic.move.FlyweightMove;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.phase.AbstractPhase;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
@@ -65,42 +70,85 @@ public class DefaultConstructionHeuristicPhase<Solution_> extends AbstractPhase<
         // 算法开始
         phaseStarted(phaseScope);
 
-        // 遍历PlanningEntity
-        for (Placement<Solution_> placement : entityPlacer) {
-            ConstructionHeuristicStepScope<Solution_> stepScope = new ConstructionHeuristicStepScope<>(phaseScope);
-            stepStarted(stepScope);
-            // 决定下一步
-            decider.decideNextStep(stepScope, placement);
-            // 错误分析和输出
-            if (stepScope.getStep() == null) {
-                if (phaseTermination.isPhaseTerminated(phaseScope)) {
-                    logger.trace("{}    Step index ({}), time spent ({}) terminated without picking a nextStep.",
-                            logIndentation,
-                            stepScope.getStepIndex(),
-                            stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow());
-                } else if (stepScope.getSelectedMoveCount() == 0L) {
-                    logger.warn("{}    No doable selected move at step index ({}), time spent ({})."
-                            + " Terminating phase early.",
-                            logIndentation,
-                            stepScope.getStepIndex(),
-                            stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow());
-                } else {
-                    throw new IllegalStateException("The step index (" + stepScope.getStepIndex()
-                            + ") has selected move count (" + stepScope.getSelectedMoveCount()
-                            + ") but failed to pick a nextStep (" + stepScope.getStep() + ").");
+        int speculativePlacementCount = decider.getSpeculativePlacementCount();
+        if (speculativePlacementCount > 1) {
+            solveSpeculatively(phaseScope, speculativePlacementCount);
+        } else {
+            // 遍历PlanningEntity
+            for (Placement<Solution_> placement : entityPlacer) {
+                if (!solveStep(phaseScope, placement)) {
+                    break;
                 }
-                // Although stepStarted has been called, stepEnded is not called for this step
-                break;
             }
-            // （真正）进行这一步
-            doStep(stepScope);
-            stepEnded(stepScope);
-            phaseScope.setLastCompletedStepScope(stepScope);
+        }
+        phaseEnded(phaseScope);
+    }
+
+    private void solveSpeculatively(ConstructionHeuristicPhaseScope<Solution_> phaseScope,
+            int speculativePlacementCount) {
+        Iterator<Placement<Solution_>> placementIterator = entityPlacer.iterator();
+        List<List<Move<Solution_>>> moveListList = new ArrayList<>(speculativePlacementCount);
+        while (placementIterator.hasNext()) {
+            moveListList.clear();
+            while (moveListList.size() < speculativePlacementCount && placementIterator.hasNext()) {
+                // Select every move before the next placement is selected,
+                // because the next placement might replay a different entity.
+                // Materialize because the moves are evaluated and done after the next move is selected.
+                List<Move<Solution_>> moveList = new ArrayList<>();
+                placementIterator.next().forEach(move -> moveList.add(FlyweightMove.materializeIfFlyweight(move)));
+                moveListList.add(moveList);
+            }
+            if (!decider.evaluateSpeculatively(phaseScope, moveListList)) {
+                logger.trace("{}    Step index ({}), time spent ({}) aborted the speculative placement evaluation.",
+                        logIndentation,
+                        phaseScope.getNextStepIndex(),
+                        phaseScope.calculateSolverTimeMillisSpentUpToNow());
+                return;
+            }
+            for (List<Move<Solution_>> moveList : moveListList) {
+                if (!solveStep(phaseScope, new Placement<>(moveList.iterator()))) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * @param phaseScope never null
+     * @param placement never null
+     * @return false if the phase must stop
+     */
+    private boolean solveStep(ConstructionHeuristicPhaseScope<Solution_> phaseScope, Placement<Solution_> placement) {
+        ConstructionHeuristicStepScope<Solution_> stepScope = new ConstructionHeuristicStepScope<>(phaseScope);
+        stepStarted(stepScope);
+        // 决定下一步
+        decider.decideNextStep(stepScope, placement);
+        // 错误分析和输出
+        if (stepScope.getStep() == null) {
             if (phaseTermination.isPhaseTerminated(phaseScope)) {
-                break;
+                logger.trace("{}    Step index ({}), time spent ({}) terminated without picking a nextStep.",
+                        logIndentation,
+                        stepScope.getStepIndex(),
+                        stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow());
+            } else if (stepScope.getSelectedMoveCount() == 0L) {
+                logger.warn("{}    No doable selected move at step index ({}), time spent ({})."
+                        + " Terminating phase early.",
+                        logIndentation,
+                        stepScope.getStepIndex(),
+                        stepScope.getPhaseScope().calculateSolverTimeMillisSpentUpToNow());
+            } else {
+                throw new IllegalStateException("The step index (" + stepScope.getStepIndex()
+                        + ") has selected move count (" + stepScope.getSelectedMoveCount()
+                        + ") but failed to pick a nextStep (" + stepScope.getStep() + ").");
             }
+            // Although stepStarted has been called, stepEnded is not called for this step
+            return false;
         }
-        phaseEnded(phaseScope);
+        // （真正）进行这一步
+        doStep(stepScope);
+        stepEnded(stepScope);
+        phaseScope.setLastCompletedStepScope(stepScope);
+        return !phaseTermination.isPhaseTerminated(phaseScope);
     }
 
     private void doStep(ConstructionHeuristicStepScope<Solution_> stepScope) {
@@ -39,8 +39,11 @@ import org.optaplanner.core.impl.constructionheuristic.decider.forager.Construct
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.EntityPlacerFactory;
 import org.optaplanner.core.impl.constructionheuristic.placer.PooledEntityPlacerFactory;
+import org.optaplanner.core.impl.constructionheuristic.placer.QueuedEntityPlacer;
 import org.optaplanner.core.impl.constructionheuristic.placer.QueuedEntityPlacerFactory;
 import org.optaplanner.core.impl.constructionheuristic.placer.QueuedValuePlacerFactory;
+import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
 import org.optaplanner.core.impl.phase.AbstractPhaseFactory;
 import org.optaplanner.core.impl.solver.recaller.BestSolutionRecaller;
@@ -62,7 +65,8 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         DefaultConstructionHeuristicPhase<Solution_> phase =
                 new DefaultConstructionHeuristicPhase<>(phaseIndex, solverConfigPolicy.getLogIndentation(),
                         buildPhaseTermination(phaseConfigPolicy, solverTermination));
-        phase.setDecider(buildDecider(phaseConfigPolicy, phase.getPhaseTermination()));
+        ConstructionHeuristicDecider<Solution_> decider = buildDecider(phaseConfigPolicy, phase.getPhaseTermination());
+        phase.setDecider(decider);
         ConstructionHeuristicType constructionHeuristicType_ = defaultIfNull(
                 phaseConfig.getConstructionHeuristicType(), ConstructionHeuristicType.ALLOCATE_ENTITY_FROM_QUEUE);
         phaseConfigPolicy
@@ -90,6 +94,15 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         }
         EntityPlacer<Solution_> entityPlacer = EntityPlacerFactory.<Solution_> create(entityPlacerConfig_)
                 .buildEntityPlacer(phaseConfigPolicy);
+        if (decider.getSpeculativePlacementCount() > 1 && !(entityPlacer instanceof QueuedEntityPlacer)) {
+            throw new IllegalArgumentException("The speculativePlacementCount ("
+                    + phaseConfig.getSpeculativePlacementCount() + ") requires a "
+                    + QueuedEntityPlacerConfig.class.getSimpleName() + ", not the entityPlacerConfig ("
+                    + entityPlacerConfig_ + "), because every other placement depends on the previous steps.");
+        }
+        if (decider.getSpeculativePlacementCount() > 1) {
+            assertSpeculativePlacementSupported(phaseConfigPolicy);
+        }
         phase.setEntityPlacer(entityPlacer);
         EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
@@ -102,6 +115,32 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         return phase;
     }
 
+    /**
+     * The moves of a speculative placement are selected before the steps of the earlier placements of its batch.
+     * So they only remain complete if those steps can't change which values are selectable.
+     */
+    private void assertSpeculativePlacementSupported(HeuristicConfigPolicy<Solution_> configPolicy) {
+        for (EntityDescriptor<Solution_> entityDescriptor : configPolicy.getSolutionDescriptor()
+                .getGenuineEntityDescriptors()) {
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : entityDescriptor
+                    .getGenuineVariableDescriptorList()) {
+                if (variableDescriptor.isChained()) {
+                    throw new IllegalArgumentException("The speculativePlacementCount ("
+                            + phaseConfig.getSpeculativePlacementCount() + ") does not support the chained variable ("
+                            + variableDescriptor + "), because an entity placed earlier in the same batch"
+                            + " is not selectable as a value of the later placements.");
+                }
+                if (!variableDescriptor.getValueRangeDescriptor().isEntityIndependent()) {
+                    throw new IllegalArgumentException("The speculativePlacementCount ("
+                            + phaseConfig.getSpeculativePlacementCount()
+                            + ") does not support the entity dependent value range of the variable ("
+                            + variableDescriptor + "), because an earlier step in the same batch"
+                            + " can change the values of the later placements.");
+                }
+            }
+        }
+    }
+
     private ConstructionHeuristicDecider<Solution_> buildDecider(HeuristicConfigPolicy<Solution_> configPolicy,
             Termination<Solution_> termination) {
         ConstructionHeuristicForagerConfig foragerConfig_ = phaseConfig.getForagerConfig() == null
@@ -113,7 +152,16 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
         EnvironmentMode environmentMode = configPolicy.getEnvironmentMode();
         ConstructionHeuristicDecider<Solution_> decider;
         Integer moveThreadCount = configPolicy.getMoveThreadCount();
+        Integer speculativePlacementCount = phaseConfig.getSpeculativePlacementCount();
+        if (speculativePlacementCount != null && speculativePlacementCount < 1) {
+            throw new IllegalArgumentException("The speculativePlacementCount (" + speculativePlacementCount
+                    + ") cannot be negative or zero.");
+        }
         if (moveThreadCount == null) {
+            if (speculativePlacementCount != null && speculativePlacementCount > 1) {
+                throw new IllegalArgumentException("The speculativePlacementCount (" + speculativePlacementCount
+                        + ") requires a moveThreadCount (" + moveThreadCount + ").");
+            }
             decider = new ConstructionHeuristicDecider<>(configPolicy.getLogIndentation(), termination, forager);
         } else {
             Integer moveThreadBufferSize = configPolicy.getMoveThreadBufferSize();
@@ -135,6 +183,12 @@ public class DefaultConstructionHeuristicPhaseFactory<Solution_>
                 multiThreadedDecider.setAssertExpectedStepScore(true);
                 multiThreadedDecider.setAssertShadowVariablesAreNotStaleAfterStep(true);
             }
+            if (Boolean.TRUE.equals(configPolicy.getMoveThreadWorkStealing())) {
+                multiThreadedDecider.setMoveThreadWorkStealing(true);
+            }
+            if (speculativePlacementCount != null) {
+                multiThreadedDecider.setSpeculativePlacementCount(speculativePlacementCount);
+            }
             decider = multiThreadedDecider;
         }
         if (environmentMode.isNonIntrusiveFullAsserted()) {
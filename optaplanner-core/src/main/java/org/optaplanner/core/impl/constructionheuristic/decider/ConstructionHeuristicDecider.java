@@ -16,6 +16,8 @@
 
 package org.optaplanner.core.impl.constructionheuristic.decider;
 
+import java.util.List;
+
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.constructionheuristic.decider.forager.ConstructionHeuristicForager;
@@ -63,6 +65,13 @@ public class ConstructionHeuristicDecider<Solution_> {
         this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
     }
 
+    /**
+     * @return at least 1, the number of placements that are evaluated against the same working solution
+     */
+    public int getSpeculativePlacementCount() {
+        return 1;
+    }
+
     // ************************************************************************
     // Worker methods
     // ************************************************************************
@@ -111,6 +120,21 @@ public class ConstructionHeuristicDecider<Solution_> {
         pickMove(stepScope);
     }
 
+    /**
+     * Evaluates the moves of multiple placements before any of their steps is done.
+     * Only called if {@link #getSpeculativePlacementCount()} is higher than 1.
+     * @param phaseScope never null
+     * @param moveListList never null, 1 move list per placement, in placement order
+     * @return false if the evaluation was aborted (for example because the solver thread was interrupted
+     *         or the phase terminated),
+     *         in which case the phase must stop without doing the steps of those placements
+     */
+    public boolean evaluateSpeculatively(ConstructionHeuristicPhaseScope<Solution_> phaseScope,
+            List<List<Move<Solution_>>> moveListList) {
+        throw new UnsupportedOperationException("Impossible situation: the " + getClass().getSimpleName()
+                + " does not support speculative placement evaluation.");
+    }
+
     protected void pickMove(ConstructionHeuristicStepScope<Solution_> stepScope) {
         ConstructionHeuristicMoveScope<Solution_> pickedMoveScope = forager.pickMove(stepScope);
         if (pickedMoveScope != null) {
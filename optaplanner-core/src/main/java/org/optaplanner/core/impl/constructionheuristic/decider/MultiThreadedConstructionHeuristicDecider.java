@@ -21,9 +21,9 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 
@@ -34,14 +34,16 @@ import org.optaplanner.core.impl.constructionheuristic.placer.Placement;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicMoveScope;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicPhaseScope;
 import org.optaplanner.core.impl.constructionheuristic.scope.ConstructionHeuristicStepScope;
+import org.optaplanner.core.impl.heuristic.move.FlyweightMove;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.thread.ApplyStepOperation;
 import org.optaplanner.core.impl.heuristic.thread.DestroyOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveEvaluationOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveThreadOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveThreadRunner;
-import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
+import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexRingBuffer;
 import org.optaplanner.core.impl.heuristic.thread.SetupOperation;
+import org.optaplanner.core.impl.heuristic.thread.WorkStealingOperationQueue;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.termination.Termination;
 import org.optaplanner.core.impl.solver.thread.ThreadUtils;
@@ -58,13 +60,22 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
     protected boolean assertStepScoreFromScratch = false;
     protected boolean assertExpectedStepScore = false;
     protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
+    protected boolean moveThreadWorkStealing = false;
+    protected int speculativePlacementCount = 1;
 
     protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
-    protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
-    protected CyclicBarrier moveThreadBarrier;
+    /** Used instead of {@link #operationQueue} if {@link #moveThreadWorkStealing} is enabled. */
+    protected WorkStealingOperationQueue<Solution_> workStealingOperationQueue;
+    protected OrderByMoveIndexRingBuffer<Solution_> resultQueue;
+    protected Phaser moveThreadPhaser;
     protected ExecutorService executor;
     protected List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList;
 
+    protected List<List<Move<Solution_>>> speculativeMoveListList;
+    protected List<Score<?>[]> speculativeScoresList;
+    protected Score<?> speculativeStartingScore;
+    protected int speculativePlacementIndex;
+
     public MultiThreadedConstructionHeuristicDecider(String logIndentation, Termination<Solution_> termination,
             ConstructionHeuristicForager<Solution_> forager, ThreadFactory threadFactory, int moveThreadCount,
             int selectedMoveBufferSize) {
@@ -86,39 +97,69 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         this.assertShadowVariablesAreNotStaleAfterStep = assertShadowVariablesAreNotStaleAfterStep;
     }
 
+    /**
+     * @param moveThreadWorkStealing true if every move thread has its own operations and steals from the others,
+     *        false if all move threads share 1 operation queue
+     */
+    public void setMoveThreadWorkStealing(boolean moveThreadWorkStealing) {
+        this.moveThreadWorkStealing = moveThreadWorkStealing;
+    }
+
+    /**
+     * @param speculativePlacementCount at least 1, the number of placements that are evaluated in parallel
+     *        against the same working solution, 1 to evaluate 1 placement per step
+     */
+    public void setSpeculativePlacementCount(int speculativePlacementCount) {
+        this.speculativePlacementCount = speculativePlacementCount;
+    }
+
+    @Override
+    public int getSpeculativePlacementCount() {
+        return speculativePlacementCount;
+    }
+
     @Override
     public void phaseStarted(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
-        // Capacity: number of moves in circulation + number of setup xor step operations + number of destroy operations
-        operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        if (moveThreadWorkStealing) {
+            workStealingOperationQueue = new WorkStealingOperationQueue<>(moveThreadCount);
+        } else {
+            // Capacity: number of moves in circulation + number of setup xor step operations + number of destroy operations
+            operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        }
         // Capacity: number of moves in circulation + number of exception handling results
-        resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
-        moveThreadBarrier = new CyclicBarrier(moveThreadCount);
+        resultQueue = new OrderByMoveIndexRingBuffer<>(selectedMoveBufferSize + moveThreadCount);
+        moveThreadPhaser = new Phaser(moveThreadCount);
         InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
         executor = createThreadPoolExecutor();
         moveThreadRunnerList = new ArrayList<>(moveThreadCount);
         for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
-            MoveThreadRunner<Solution_, ?> moveThreadRunner = new MoveThreadRunner<>(
-                    logIndentation, moveThreadIndex, false,
-                    operationQueue, resultQueue, moveThreadBarrier,
-                    assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
-                    assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
+            MoveThreadRunner<Solution_, ?> moveThreadRunner = moveThreadWorkStealing
+                    ? new MoveThreadRunner<>(
+                            logIndentation, moveThreadIndex, false,
+                            workStealingOperationQueue, resultQueue, moveThreadPhaser,
+                            assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
+                            assertStepScoreFromScratch, assertExpectedStepScore,
+                            assertShadowVariablesAreNotStaleAfterStep)
+                    : new MoveThreadRunner<>(
+                            logIndentation, moveThreadIndex, false,
+                            operationQueue, resultQueue, moveThreadPhaser,
+                            assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
+                            assertStepScoreFromScratch, assertExpectedStepScore,
+                            assertShadowVariablesAreNotStaleAfterStep);
             moveThreadRunnerList.add(moveThreadRunner);
             executor.submit(moveThreadRunner);
-            operationQueue.add(new SetupOperation<>(scoreDirector));
         }
+        addToAllMoveThreads(new SetupOperation<>(scoreDirector));
     }
 
     @Override
     public void phaseEnded(ConstructionHeuristicPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
         // Tell the move thread runners to stop
-        // Don't clear the operationsQueue to avoid moveThreadBarrier deadlock:
+        // Don't clear the operationsQueue to avoid moveThreadPhaser deadlock:
         // The MoveEvaluationOperations are already cleared and the new ApplyStepOperation isn't added yet.
-        DestroyOperation<Solution_> destroyOperation = new DestroyOperation<>();
-        for (int i = 0; i < moveThreadCount; i++) {
-            operationQueue.add(destroyOperation);
-        }
+        addToAllMoveThreads(new DestroyOperation<>());
         // TODO This should probably be in a finally that spans at least the entire phase, maybe even the entire solve
         ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Multithreaded Local Search");
         long childThreadsScoreCalculationCount = 0;
@@ -127,8 +168,10 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
         }
         phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
         operationQueue = null;
+        workStealingOperationQueue = null;
         resultQueue = null;
         moveThreadRunnerList = null;
+        clearSpeculativeResults();
     }
 
     protected ExecutorService createThreadPoolExecutor() {
@@ -144,11 +187,26 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
 
     @Override
     public void decideNextStep(ConstructionHeuristicStepScope<Solution_> stepScope, Placement<Solution_> placement) {
+        if (speculativeMoveListList != null) {
+            decideNextSpeculativeStep(stepScope);
+        } else {
+            evaluatePlacement(stepScope, placement.iterator());
+        }
+        // Start doing the step on every move thread. Don't wait for the stepEnded() event.
+        if (stepScope.getStep() != null) {
+            // Increase stepIndex by 1, because it's a preliminary action
+            ApplyStepOperation<Solution_, ?> stepOperation = new ApplyStepOperation<>(stepScope.getStepIndex() + 1,
+                    stepScope.getStep(), (Score) stepScope.getScore());
+            addToAllMoveThreads(stepOperation);
+        }
+    }
+
+    private void evaluatePlacement(ConstructionHeuristicStepScope<Solution_> stepScope,
+            Iterator<Move<Solution_>> moveIterator) {
         int stepIndex = stepScope.getStepIndex();
         resultQueue.startNextStep(stepIndex);
         int selectingMoveIndex = 0;
         int foragingMoveIndex = 0;
-        Iterator<Move<Solution_>> moveIterator = placement.iterator();
         do {
             boolean moveIteratorEmpty = !moveIterator.hasNext();
             // First fill the buffer so move evaluation can run freely in parallel
@@ -161,28 +219,193 @@ public class MultiThreadedConstructionHeuristicDecider<Solution_> extends Constr
                 foragingMoveIndex++;
             }
             if (!moveIteratorEmpty) {
-                Move<Solution_> selectingMove = moveIterator.next();
-                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectingMoveIndex, selectingMove));
+                // Materialize because the move threads evaluate it after the next move is selected
+                Move<Solution_> selectingMove = FlyweightMove.materializeIfFlyweight(moveIterator.next());
+                addMoveOperation(new MoveEvaluationOperation<>(stepIndex, selectingMoveIndex, selectingMove));
                 selectingMoveIndex++;
             }
         } while (foragingMoveIndex < selectingMoveIndex);
 
         // Do not evaluate the remaining selected moves for this step that haven't started evaluation yet
-        operationQueue.clear();
+        clearMoveOperations();
         pickMove(stepScope);
-        // Start doing the step on every move thread. Don't wait for the stepEnded() event.
-        if (stepScope.getStep() != null) {
-            // Increase stepIndex by 1, because it's a preliminary action
-            ApplyStepOperation<Solution_, ?> stepOperation = new ApplyStepOperation<>(stepIndex + 1,
-                    stepScope.getStep(), (Score) stepScope.getScore());
+    }
+
+    // ************************************************************************
+    // Speculative placement methods
+    // ************************************************************************
+
+    /**
+     * Evaluates every move of every placement against the current working solution,
+     * so the move threads aren't limited to the moves of a single placement.
+     * The scores are only valid as long as the placements don't interfere with each other,
+     * which is validated by {@link #decideNextSpeculativeStep(ConstructionHeuristicStepScope)}.
+     * Stops selecting moves as soon as the phase terminates, like a normal step.
+     */
+    @Override
+    public boolean evaluateSpeculatively(ConstructionHeuristicPhaseScope<Solution_> phaseScope,
+            List<List<Move<Solution_>>> moveListList) {
+        int stepIndex = phaseScope.getNextStepIndex();
+        resultQueue.startNextStep(stepIndex);
+        List<Score<?>[]> scoresList = new ArrayList<>(moveListList.size());
+        int moveCount = moveListList.stream().mapToInt(List::size).sum();
+        // Maps the moveIndex of a result to its placement and the moveIndex within that placement
+        int[] placementIndexes = new int[moveCount];
+        int[] placementMoveIndexes = new int[moveCount];
+        int selectingMoveIndex = 0;
+        int foragingMoveIndex = 0;
+        for (int placementIndex = 0; placementIndex < moveListList.size(); placementIndex++) {
+            List<Move<Solution_>> moveList = moveListList.get(placementIndex);
+            scoresList.add(new Score<?>[moveList.size()]);
+            for (int placementMoveIndex = 0; placementMoveIndex < moveList.size(); placementMoveIndex++) {
+                // Keep at most selectedMoveBufferSize moves in circulation, just like a normal step
+                if (selectingMoveIndex - foragingMoveIndex >= selectedMoveBufferSize) {
+                    if (!takeSpeculativeResult(stepIndex, placementIndexes, placementMoveIndexes, scoresList)) {
+                        return false;
+                    }
+                    foragingMoveIndex++;
+                }
+                phaseScope.getSolverScope().checkYielding();
+                if (termination.isPhaseTerminated(phaseScope)) {
+                    // Like an interruption, the resultQueue already started this stepIndex
+                    clearMoveOperations();
+                    return false;
+                }
+                placementIndexes[selectingMoveIndex] = placementIndex;
+                placementMoveIndexes[selectingMoveIndex] = placementMoveIndex;
+                addMoveOperation(new MoveEvaluationOperation<>(stepIndex, selectingMoveIndex,
+                        moveList.get(placementMoveIndex)));
+                selectingMoveIndex++;
+            }
+        }
+        while (foragingMoveIndex < selectingMoveIndex) {
+            if (!takeSpeculativeResult(stepIndex, placementIndexes, placementMoveIndexes, scoresList)) {
+                return false;
+            }
+            foragingMoveIndex++;
+        }
+        speculativeMoveListList = moveListList;
+        speculativeScoresList = scoresList;
+        speculativeStartingScore = phaseScope.getLastCompletedStepScope().getScore();
+        speculativePlacementIndex = 0;
+        return true;
+    }
+
+    /**
+     * @return false if the solver thread was interrupted
+     */
+    private boolean takeSpeculativeResult(int stepIndex, int[] placementIndexes, int[] placementMoveIndexes,
+            List<Score<?>[]> scoresList) {
+        OrderByMoveIndexRingBuffer.MoveResult<Solution_> result;
+        try {
+            result = resultQueue.take();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // The resultQueue already started this stepIndex, so no step can be evaluated anymore in this phase
+            clearMoveOperations();
+            return false;
+        }
+        if (stepIndex != result.getStepIndex()) {
+            throw new IllegalStateException("Impossible situation: the solverThread's stepIndex (" + stepIndex
+                    + ") differs from the result's stepIndex (" + result.getStepIndex() + ").");
+        }
+        if (!result.isMoveDoable()) {
+            throw new IllegalStateException("Impossible situation: Construction Heuristics move is not doable.");
+        }
+        int moveIndex = result.getMoveIndex();
+        scoresList.get(placementIndexes[moveIndex])[placementMoveIndexes[moveIndex]] = result.getScore();
+        return true;
+    }
+
+    /**
+     * Only the picked move is validated against the steps of the earlier placements of the batch,
+     * because scoring every move again would cost as much as not evaluating speculatively.
+     * So an unpicked move whose score improved by those steps isn't detected,
+     * which can lead to another (but still reproducible) result than without speculative placements.
+     * On a conflict, the placement's moves are evaluated again, which is only correct because
+     * chained variables and entity dependent value ranges are rejected, so those moves are still complete.
+     */
+    private <Score_ extends Score<Score_>> void decideNextSpeculativeStep(
+            ConstructionHeuristicStepScope<Solution_> stepScope) {
+        List<Move<Solution_>> moveList = speculativeMoveListList.get(speculativePlacementIndex);
+        Score_[] scores = (Score_[]) speculativeScoresList.get(speculativePlacementIndex);
+        Score_ startingScore = (Score_) speculativeStartingScore;
+        boolean rebased = speculativePlacementIndex > 0;
+        speculativePlacementIndex++;
+        if (speculativePlacementIndex >= speculativeMoveListList.size()) {
+            clearSpeculativeResults();
+        }
+        // Rebase every score on the working score, which includes the steps of the previous placements
+        Score_ lastStepScore = (Score_) stepScope.getPhaseScope().getLastCompletedStepScope().getScore();
+        for (int moveIndex = 0; moveIndex < moveList.size(); moveIndex++) {
+            ConstructionHeuristicMoveScope<Solution_> moveScope = new ConstructionHeuristicMoveScope<>(stepScope,
+                    moveIndex, moveList.get(moveIndex));
+            moveScope.setScore(scores[moveIndex].subtract(startingScore).add(lastStepScore));
+            forager.addMove(moveScope);
+            if (forager.isQuitEarly()) {
+                break;
+            }
+        }
+        pickMove(stepScope);
+        Move<Solution_> step = stepScope.getStep();
+        if (!rebased || step == null) {
+            return;
+        }
+        // Validate that the previous steps didn't change the score of the picked move
+        InnerScoreDirector<Solution_, Score_> scoreDirector = stepScope.getScoreDirector();
+        Score_ validatedScore = scoreDirector.doAndProcessMove(step, assertMoveScoreFromScratch);
+        if (validatedScore.equals(stepScope.getScore())) {
+            return;
+        }
+        logger.trace("{}        Speculative step ({}) conflicts with a previous step: score ({}) differs from ({}).",
+                logIndentation, step, validatedScore, stepScope.getScore());
+        // Conflict: evaluate the placement again against the current working solution
+        stepScope.setStep(null);
+        stepScope.setStepString(null);
+        stepScope.setScore(null);
+        forager.stepStarted(stepScope);
+        evaluatePlacement(stepScope, moveList.iterator());
+    }
+
+    private void clearSpeculativeResults() {
+        speculativeMoveListList = null;
+        speculativeScoresList = null;
+        speculativeStartingScore = null;
+        speculativePlacementIndex = 0;
+    }
+
+    // ************************************************************************
+    // Queue methods
+    // ************************************************************************
+
+    private void addToAllMoveThreads(MoveThreadOperation<Solution_> operation) {
+        if (moveThreadWorkStealing) {
+            workStealingOperationQueue.addToAll(operation);
+        } else {
             for (int i = 0; i < moveThreadCount; i++) {
-                operationQueue.add(stepOperation);
+                operationQueue.add(operation);
             }
         }
     }
 
+    private void addMoveOperation(MoveThreadOperation<Solution_> operation) {
+        if (moveThreadWorkStealing) {
+            workStealingOperationQueue.addMoveOperation(operation);
+        } else {
+            operationQueue.add(operation);
+        }
+    }
+
+    private void clearMoveOperations() {
+        if (moveThreadWorkStealing) {
+            workStealingOperationQueue.clearMoveOperations();
+        } else {
+            operationQueue.clear();
+        }
+    }
+
     private boolean forageResult(ConstructionHeuristicStepScope<Solution_> stepScope, int stepIndex) {
-        OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
+        OrderByMoveIndexRingBuffer.MoveResult<Solution_> result;
         try {
             result = resultQueue.take();
         } catch (InterruptedException e) {
@@ -62,7 +62,10 @@ public class DefaultConstructionHeuristicForager<Solution_> extends AbstractCons
         checkPickEarly(moveScope);
         if (maxScoreMoveScope == null
                 || scoreComparator.compare((Score) moveScope.getScore(), (Score) maxScoreMoveScope.getScore()) > 0) {
+            moveScope.materializeMove();
             maxScoreMoveScope = moveScope;
+        } else if (earlyPickedMoveScope == moveScope) {
+            moveScope.materializeMove();
         }
     }
 
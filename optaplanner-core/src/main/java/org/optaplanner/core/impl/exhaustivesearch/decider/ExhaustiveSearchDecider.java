@@ -23,6 +23,7 @@ import org.optaplanner.core.impl.exhaustivesearch.node.ExhaustiveSearchNode;
 import org.optaplanner.core.impl.exhaustivesearch.node.bounder.ScoreBounder;
 import org.optaplanner.core.impl.exhaustivesearch.scope.ExhaustiveSearchPhaseScope;
 import org.optaplanner.core.impl.exhaustivesearch.scope.ExhaustiveSearchStepScope;
+import org.optaplanner.core.impl.heuristic.move.FlyweightMove;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.entity.mimic.ManualEntityMimicRecorder;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
@@ -128,7 +129,8 @@ public class ExhaustiveSearchDecider<Solution_> implements ExhaustiveSearchPhase
         for (Move<?> move : moveSelector) {
             ExhaustiveSearchNode moveNode = new ExhaustiveSearchNode(moveLayer, expandingNode);
             moveIndex++;
-            moveNode.setMove(move);
+            // Materialize because the node keeps its move
+            moveNode.setMove(FlyweightMove.materializeIfFlyweight(move));
             // Do not filter out pointless moves, because the original value of the entity(s) is irrelevant.
             // If the original value is null and the variable is nullable, the move to null must be done too.
             doMove(stepScope, moveNode);
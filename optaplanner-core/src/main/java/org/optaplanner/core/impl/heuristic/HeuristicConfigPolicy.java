@@ -40,6 +40,8 @@ public class HeuristicConfigPolicy<Solution_> {
     private final String logIndentation;
     private final Integer moveThreadCount;
     private final Integer moveThreadBufferSize;
+    private final Integer moveThreadBatchSize;
+    private final Boolean moveThreadWorkStealing;
     private final Class<? extends ThreadFactory> threadFactoryClass;
     private final InnerScoreDirectorFactory<Solution_, ?> scoreDirectorFactory;
 
@@ -54,16 +56,28 @@ public class HeuristicConfigPolicy<Solution_> {
     public HeuristicConfigPolicy(EnvironmentMode environmentMode, Integer moveThreadCount, Integer moveThreadBufferSize,
             Class<? extends ThreadFactory> threadFactoryClass,
             InnerScoreDirectorFactory<Solution_, ?> scoreDirectorFactory) {
-        this(environmentMode, "", moveThreadCount, moveThreadBufferSize, threadFactoryClass, scoreDirectorFactory);
+        this(environmentMode, moveThreadCount, moveThreadBufferSize, null, null, threadFactoryClass,
+                scoreDirectorFactory);
+    }
+
+    public HeuristicConfigPolicy(EnvironmentMode environmentMode, Integer moveThreadCount, Integer moveThreadBufferSize,
+            Integer moveThreadBatchSize, Boolean moveThreadWorkStealing,
+            Class<? extends ThreadFactory> threadFactoryClass,
+            InnerScoreDirectorFactory<Solution_, ?> scoreDirectorFactory) {
+        this(environmentMode, "", moveThreadCount, moveThreadBufferSize, moveThreadBatchSize, moveThreadWorkStealing,
+                threadFactoryClass, scoreDirectorFactory);
     }
 
     public HeuristicConfigPolicy(EnvironmentMode environmentMode, String logIndentation, Integer moveThreadCount,
-            Integer moveThreadBufferSize, Class<? extends ThreadFactory> threadFactoryClass,
+            Integer moveThreadBufferSize, Integer moveThreadBatchSize, Boolean moveThreadWorkStealing,
+            Class<? extends ThreadFactory> threadFactoryClass,
             InnerScoreDirectorFactory<Solution_, ?> scoreDirectorFactory) {
         this.environmentMode = environmentMode;
         this.logIndentation = logIndentation;
         this.moveThreadCount = moveThreadCount;
         this.moveThreadBufferSize = moveThreadBufferSize;
+        this.moveThreadBatchSize = moveThreadBatchSize;
+        this.moveThreadWorkStealing = moveThreadWorkStealing;
         this.threadFactoryClass = threadFactoryClass;
         this.scoreDirectorFactory = scoreDirectorFactory;
     }
@@ -88,6 +102,14 @@ public class HeuristicConfigPolicy<Solution_> {
         return moveThreadBufferSize;
     }
 
+    public Integer getMoveThreadBatchSize() {
+        return moveThreadBatchSize;
+    }
+
+    public Boolean getMoveThreadWorkStealing() {
+        return moveThreadWorkStealing;
+    }
+
     public SolutionDescriptor<Solution_> getSolutionDescriptor() {
         return scoreDirectorFactory.getSolutionDescriptor();
     }
@@ -146,8 +168,8 @@ public class HeuristicConfigPolicy<Solution_> {
 
     public HeuristicConfigPolicy<Solution_> createPhaseConfigPolicy() {
         return new HeuristicConfigPolicy<>(environmentMode, logIndentation,
-                moveThreadCount, moveThreadBufferSize, threadFactoryClass,
-                scoreDirectorFactory);
+                moveThreadCount, moveThreadBufferSize, moveThreadBatchSize, moveThreadWorkStealing,
+                threadFactoryClass, scoreDirectorFactory);
     }
 
     public HeuristicConfigPolicy<Solution_> createFilteredPhaseConfigPolicy() {
@@ -159,8 +181,8 @@ public class HeuristicConfigPolicy<Solution_> {
 
     public HeuristicConfigPolicy<Solution_> createChildThreadConfigPolicy(ChildThreadType childThreadType) {
         return new HeuristicConfigPolicy<>(environmentMode, logIndentation + "        ",
-                moveThreadCount, moveThreadBufferSize, threadFactoryClass,
-                scoreDirectorFactory);
+                moveThreadCount, moveThreadBufferSize, moveThreadBatchSize, moveThreadWorkStealing,
+                threadFactoryClass, scoreDirectorFactory);
     }
 
     // ************************************************************************
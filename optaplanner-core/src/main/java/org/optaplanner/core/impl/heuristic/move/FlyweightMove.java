@@ -0,0 +1,56 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.move;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+
+/**
+ * A {@link Move} that a move selector's iterator might reuse for every move it selects,
+ * to avoid creating a new instance per selected move.
+ * <p>
+ * A move returned by {@link java.util.Iterator#next()} is only valid
+ * until the next call to {@link java.util.Iterator#hasNext()} or {@link java.util.Iterator#next()}
+ * on that same iterator, because a decorating iterator (such as a filtering one)
+ * selects its upcoming move during {@link java.util.Iterator#hasNext()}.
+ * So an iterator that decorates another one must not call the child's {@link java.util.Iterator#hasNext()}
+ * between the child's {@link java.util.Iterator#next()} and returning that move.
+ * <p>
+ * Any code that keeps a reference to a move beyond that (for example to pick it as the step
+ * or to put it in a {@link CompositeMove}), must keep the return value of {@link #materialize()} instead.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ */
+public interface FlyweightMove<Solution_> extends Move<Solution_> {
+
+    /**
+     * @param move never null
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     * @return never null, a move that is safe to keep a reference to
+     */
+    static <Solution_> Move<Solution_> materializeIfFlyweight(Move<Solution_> move) {
+        if (move instanceof FlyweightMove) {
+            return ((FlyweightMove<Solution_>) move).materialize();
+        }
+        return move;
+    }
+
+    /**
+     * @return never null, this instance if it is never reused, otherwise a new instance that equals this one
+     */
+    Move<Solution_> materialize();
+
+}
@@ -52,4 +52,12 @@ public abstract class AbstractSelectorFactory<Solution_, SelectorConfig_ extends
                         + ") is not implemented.");
         }
     }
+
+    protected void validateIncrementalCacheType(SelectionCacheType resolvedCacheType) {
+        if (resolvedCacheType == SelectionCacheType.INCREMENTAL_STEP) {
+            throw new IllegalArgumentException("The selectorConfig (" + config
+                    + ") has a resolvedCacheType (" + resolvedCacheType
+                    + ") which is only supported on a moveSelector.");
+        }
+    }
 }
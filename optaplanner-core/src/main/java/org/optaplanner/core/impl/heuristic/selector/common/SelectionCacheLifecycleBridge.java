@@ -47,7 +47,7 @@ public class SelectionCacheLifecycleBridge<Solution_> implements PhaseLifecycleL
 
     @Override
     public void phaseStarted(AbstractPhaseScope<Solution_> phaseScope) {
-        if (cacheType == SelectionCacheType.PHASE) {
+        if (cacheType == SelectionCacheType.PHASE || cacheType == SelectionCacheType.INCREMENTAL_STEP) {
             selectionCacheLifecycleListener.constructCache(phaseScope.getSolverScope());
         }
     }
@@ -68,7 +68,7 @@ public class SelectionCacheLifecycleBridge<Solution_> implements PhaseLifecycleL
 
     @Override
     public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
-        if (cacheType == SelectionCacheType.PHASE) {
+        if (cacheType == SelectionCacheType.PHASE || cacheType == SelectionCacheType.INCREMENTAL_STEP) {
             selectionCacheLifecycleListener.disposeCache(phaseScope.getSolverScope());
         }
     }
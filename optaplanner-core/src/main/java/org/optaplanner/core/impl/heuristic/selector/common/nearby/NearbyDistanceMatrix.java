@@ -16,38 +16,214 @@
 
 package org.optaplanner.core.impl.heuristic.selector.common.nearby;
 
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.IntStream;
+
+import org.optaplanner.core.api.domain.lookup.PlanningId;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.domain.common.accessor.MemberAccessor;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public final class NearbyDistanceMatrix<Origin, Destination> {
 
+    private static final Logger LOGGER = LoggerFactory.getLogger(NearbyDistanceMatrix.class);
+
+    /**
+     * Up to this destinationSize, a bounded insertion sort keeps the nearest destinations.
+     * Beyond it, sorting all destinations at once is faster.
+     */
+    private static final int INSERTION_SORT_DESTINATION_SIZE_MAXIMUM = 128;
+
+    private static final int FILE_FORMAT_VERSION = 2;
+    private static final long FINGERPRINT_OFFSET_BASIS = 0xcbf29ce484222325L;
+    private static final long FINGERPRINT_PRIME = 0x100000001b3L;
+
     private final NearbyDistanceMeter<Origin, Destination> nearbyDistanceMeter;
     private final Map<Origin, Destination[]> originToDestinationsMap;
+    /** The origins loaded from a file, of which the destinations are only resolved when first used. */
+    private final Map<Origin, PersistedDestinations> originToPersistedDestinationsMap;
     private final Function<Origin, Iterator<Destination>> destinationIteratorProvider;
     private final ToIntFunction<Origin> destinationSizeFunction;
+    private final boolean parallelBuild;
+    /** Null if this matrix isn't persisted. */
+    private final File persistenceDirectory;
+    /** Null if this matrix isn't persisted. */
+    private final ToLongFunction<Object> planningIdHashFunction;
 
     public NearbyDistanceMatrix(NearbyDistanceMeter<Origin, Destination> nearbyDistanceMeter, int originSize,
             Function<Origin, Iterator<Destination>> destinationIteratorProvider,
             ToIntFunction<Origin> destinationSizeFunction) {
+        this(nearbyDistanceMeter, originSize, destinationIteratorProvider, destinationSizeFunction, false);
+    }
+
+    public NearbyDistanceMatrix(NearbyDistanceMeter<Origin, Destination> nearbyDistanceMeter, int originSize,
+            Function<Origin, Iterator<Destination>> destinationIteratorProvider,
+            ToIntFunction<Origin> destinationSizeFunction, boolean parallelBuild) {
+        this(nearbyDistanceMeter, originSize, destinationIteratorProvider, destinationSizeFunction, parallelBuild,
+                null, null);
+    }
+
+    /**
+     * @param nearbyDistanceMeter never null
+     * @param originSize at least 0
+     * @param destinationIteratorProvider never null
+     * @param destinationSizeFunction never null, the number of nearest destinations to keep per origin
+     * @param parallelBuild true if {@link #addAllOrigins(Iterator)} computes the origins in parallel,
+     *        in which case the nearbyDistanceMeter and the destinationIteratorProvider must be thread-safe
+     * @param persistenceDirectory sometimes null, if not null {@link #addAllOrigins(Iterator)} loads the matrix
+     *        from this directory if the same origins and destinations were added before,
+     *        as far as their planning IDs and the fingerprints of the nearbyDistanceMeter tell
+     * @param planningIdHashFunction null if persistenceDirectory is null,
+     *        see {@link #buildPlanningIdHashFunction(SolutionDescriptor)}
+     */
+    public NearbyDistanceMatrix(NearbyDistanceMeter<Origin, Destination> nearbyDistanceMeter, int originSize,
+            Function<Origin, Iterator<Destination>> destinationIteratorProvider,
+            ToIntFunction<Origin> destinationSizeFunction, boolean parallelBuild,
+            File persistenceDirectory, ToLongFunction<Object> planningIdHashFunction) {
         this.nearbyDistanceMeter = nearbyDistanceMeter;
         originToDestinationsMap = new HashMap<>(originSize);
+        originToPersistedDestinationsMap = new HashMap<>(persistenceDirectory == null ? 0 : originSize);
         this.destinationIteratorProvider = destinationIteratorProvider;
         this.destinationSizeFunction = destinationSizeFunction;
+        this.parallelBuild = parallelBuild;
+        if ((persistenceDirectory == null) != (planningIdHashFunction == null)) {
+            throw new IllegalArgumentException("The persistenceDirectory (" + persistenceDirectory
+                    + ") and the planningIdHashFunction (" + planningIdHashFunction + ") must both be null or not.");
+        }
+        this.persistenceDirectory = persistenceDirectory;
+        this.planningIdHashFunction = planningIdHashFunction;
+    }
+
+    /**
+     * Hashes the {@link PlanningId} of an origin or destination, the same way in every JVM.
+     *
+     * @param solutionDescriptor never null
+     * @return never null, thread-safe
+     */
+    public static ToLongFunction<Object> buildPlanningIdHashFunction(SolutionDescriptor<?> solutionDescriptor) {
+        Map<Class<?>, MemberAccessor> planningIdAccessorMap = new ConcurrentHashMap<>();
+        return object -> {
+            MemberAccessor planningIdAccessor = planningIdAccessorMap.computeIfAbsent(object.getClass(), clazz -> {
+                MemberAccessor memberAccessor = ConfigUtils.findPlanningIdMemberAccessor(clazz,
+                        solutionDescriptor.getDomainAccessType(), solutionDescriptor.getGeneratedMemberAccessorMap());
+                if (memberAccessor == null) {
+                    throw new IllegalArgumentException("The class (" + clazz + ") has no @"
+                            + PlanningId.class.getSimpleName() + " annotation,"
+                            + " which a nearbySelection with a distanceMatrixDirectory requires.\n"
+                            + "Maybe add a @" + PlanningId.class.getSimpleName() + " annotation"
+                            + " or remove the distanceMatrixDirectory.");
+                }
+                return memberAccessor;
+            });
+            Object planningId = planningIdAccessor.executeGetter(object);
+            if (planningId == null) {
+                throw new IllegalStateException("The planningId (" + planningId + ") of the member ("
+                        + planningIdAccessor + ") of the class (" + object.getClass()
+                        + ") on object (" + object + ") must not be null.");
+            }
+            // Unlike Object.hashCode(), String.hashCode() is the same in every JVM, for example for enums
+            long planningIdHash = (planningId instanceof Number) ? ((Number) planningId).longValue()
+                    : planningId.toString().hashCode();
+            return mixFingerprint(object.getClass().getName().hashCode(), planningIdHash);
+        };
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    /**
+     * Adds all destinations of every origin.
+     * If built in parallel, this uses the common {@link java.util.concurrent.ForkJoinPool}.
+     *
+     * @param originIterator never null
+     */
+    public void addAllOrigins(Iterator<Origin> originIterator) {
+        if (!parallelBuild && persistenceDirectory == null) {
+            originIterator.forEachRemaining(this::addAllDestinations);
+            return;
+        }
+        List<Origin> originList = new ArrayList<>();
+        originIterator.forEachRemaining(originList::add);
+        if (persistenceDirectory == null) {
+            computeAllOrigins(originList);
+            return;
+        }
+        File matrixFile = new File(persistenceDirectory,
+                "nearbyDistanceMatrix-" + Long.toHexString(computeMatrixFileFingerprint(originList)) + ".dat");
+        long matrixFingerprint = computeMatrixFingerprint(originList);
+        if (matrixFile.exists() && loadAllOrigins(originList, matrixFingerprint, matrixFile)) {
+            return;
+        }
+        NearestDestinations<Destination>[] nearestDestinationsArray = computeAllOrigins(originList);
+        saveAllOrigins(nearestDestinationsArray, matrixFingerprint, matrixFile);
     }
 
     public void addAllDestinations(Origin origin) {
+        originToDestinationsMap.put(origin, computeDestinations(origin).destinations);
+    }
+
+    private NearestDestinations<Destination>[] computeAllOrigins(List<Origin> originList) {
+        NearestDestinations<Destination>[] nearestDestinationsArray = new NearestDestinations[originList.size()];
+        IntStream originIndexStream = IntStream.range(0, originList.size());
+        if (parallelBuild) {
+            originIndexStream = originIndexStream.parallel();
+        }
+        originIndexStream.forEach(i -> nearestDestinationsArray[i] = computeDestinations(originList.get(i)));
+        // Only this thread changes the map, so it doesn't need to be thread-safe
+        for (int i = 0; i < nearestDestinationsArray.length; i++) {
+            originToDestinationsMap.put(originList.get(i), nearestDestinationsArray[i].destinations);
+        }
+        return nearestDestinationsArray;
+    }
+
+    private NearestDestinations<Destination> computeDestinations(Origin origin) {
         int destinationSize = destinationSizeFunction.applyAsInt(origin);
+        Iterator<Destination> destinationIterator = destinationIteratorProvider.apply(origin);
+        if (destinationSize <= INSERTION_SORT_DESTINATION_SIZE_MAXIMUM) {
+            return insertNearestDestinations(origin, destinationIterator, destinationSize);
+        } else {
+            return sortNearestDestinations(origin, destinationIterator, destinationSize);
+        }
+    }
+
+    private NearestDestinations<Destination> insertNearestDestinations(Origin origin,
+            Iterator<Destination> destinationIterator, int destinationSize) {
         Destination[] destinations = (Destination[]) new Object[destinationSize];
         double[] distances = new double[destinationSize];
-        Iterator<Destination> destinationIterator = destinationIteratorProvider.apply(origin);
+        int[] ordinals = new int[destinationSize];
+        long fingerprint = startOriginFingerprint(origin, destinationSize);
         int size = 0;
+        int ordinal = 0;
         double highestDistance = Double.MAX_VALUE;
         while (destinationIterator.hasNext()) {
             Destination destination = destinationIterator.next();
+            fingerprint = addDestinationFingerprint(fingerprint, destination);
             double distance = nearbyDistanceMeter.getNearbyDistance(origin, destination);
             if (distance < highestDistance || size < destinationSize) {
                 int insertIndex = Arrays.binarySearch(distances, 0, size, distance);
@@ -65,29 +241,299 @@ public final class NearbyDistanceMatrix<Origin, Destination> {
                         size - insertIndex - 1);
                 System.arraycopy(distances, insertIndex, distances, insertIndex + 1,
                         size - insertIndex - 1);
+                System.arraycopy(ordinals, insertIndex, ordinals, insertIndex + 1,
+                        size - insertIndex - 1);
                 destinations[insertIndex] = destination;
                 distances[insertIndex] = distance;
+                ordinals[insertIndex] = ordinal;
                 highestDistance = distances[size - 1];
             }
+            ordinal++;
+        }
+        validateSize(size, destinationSize);
+        return new NearestDestinations<>(destinations, ordinals, fingerprint);
+    }
+
+    private NearestDestinations<Destination> sortNearestDestinations(Origin origin,
+            Iterator<Destination> destinationIterator, int destinationSize) {
+        List<Destination> destinationList = new ArrayList<>(destinationSize);
+        double[] distances = new double[destinationSize];
+        long fingerprint = startOriginFingerprint(origin, destinationSize);
+        while (destinationIterator.hasNext()) {
+            Destination destination = destinationIterator.next();
+            fingerprint = addDestinationFingerprint(fingerprint, destination);
+            if (destinationList.size() == distances.length) {
+                distances = Arrays.copyOf(distances, distances.length * 2);
+            }
+            distances[destinationList.size()] = nearbyDistanceMeter.getNearbyDistance(origin, destination);
+            destinationList.add(destination);
         }
+        int size = destinationList.size();
+        if (size < destinationSize) {
+            validateSize(size, destinationSize);
+        }
+        Integer[] indexes = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            indexes[i] = i;
+        }
+        double[] finalDistances = distances;
+        // The sort is stable, so destinations with the same distance keep their iteration order
+        Arrays.sort(indexes, Comparator.comparingDouble(i -> finalDistances[i]));
+        Destination[] destinations = (Destination[]) new Object[destinationSize];
+        int[] ordinals = new int[destinationSize];
+        for (int i = 0; i < destinationSize; i++) {
+            destinations[i] = destinationList.get(indexes[i]);
+            ordinals[i] = indexes[i];
+        }
+        return new NearestDestinations<>(destinations, ordinals, fingerprint);
+    }
+
+    private static void validateSize(int size, int destinationSize) {
         if (size != destinationSize) {
             throw new IllegalStateException("The destinationIterator's size (" + size
                     + ") differs from the expected destinationSize (" + destinationSize + ").");
         }
-        originToDestinationsMap.put(origin, destinations);
     }
 
     public Object getDestination(Origin origin, int nearbyIndex) {
         Destination[] destinations = originToDestinationsMap.get(origin);
         if (destinations == null) {
-            /*
-             * The item may be missing in the distance matrix due to an underlying filtering selector.
-             * In such a case, the distance matrix needs to be updated.
-             */
-            addAllDestinations(origin);
-            destinations = originToDestinationsMap.get(origin);
+            destinations = resolvePersistedDestinations(origin);
+            if (destinations == null) {
+                /*
+                 * The item may be missing in the distance matrix due to an underlying filtering selector.
+                 * In such a case, the distance matrix needs to be updated.
+                 */
+                addAllDestinations(origin);
+                destinations = originToDestinationsMap.get(origin);
+            }
         }
         return destinations[nearbyIndex];
     }
 
+    // ************************************************************************
+    // Persistence methods
+    // ************************************************************************
+
+    /**
+     * The file holds, per origin, its fingerprint and the iteration ordinals of its nearest destinations.
+     * Loading doesn't iterate the destinations of every origin, because that costs origins times destinations:
+     * the matrix fingerprint only covers the origins and the destinations of the first origin
+     * and each origin checks its own fingerprint when its destinations are first used,
+     * see {@link #resolvePersistedDestinations(Object)}.
+     */
+    private boolean loadAllOrigins(List<Origin> originList, long matrixFingerprint, File matrixFile) {
+        try (FileChannel channel = FileChannel.open(matrixFile.toPath(), StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+            if (buffer.getInt() != FILE_FORMAT_VERSION) {
+                return false;
+            }
+            if (buffer.getLong() != matrixFingerprint) {
+                LOGGER.debug("Ignoring the nearby distance matrix file ({}) because the problem facts changed.",
+                        matrixFile);
+                return false;
+            }
+            if (buffer.getInt() != originList.size()) {
+                return false;
+            }
+            Map<Origin, PersistedDestinations> loadedOriginToPersistedDestinationsMap =
+                    new HashMap<>(originList.size());
+            for (Origin origin : originList) {
+                long originFingerprint = buffer.getLong();
+                int destinationSize = buffer.getInt();
+                if (destinationSize != destinationSizeFunction.applyAsInt(origin)) {
+                    return false;
+                }
+                int[] ordinals = new int[destinationSize];
+                for (int i = 0; i < destinationSize; i++) {
+                    int ordinal = buffer.getInt();
+                    if (ordinal < 0) {
+                        return false;
+                    }
+                    ordinals[i] = ordinal;
+                }
+                loadedOriginToPersistedDestinationsMap.put(origin,
+                        new PersistedDestinations(ordinals, originFingerprint));
+            }
+            originToPersistedDestinationsMap.putAll(loadedOriginToPersistedDestinationsMap);
+            return true;
+        } catch (IOException | BufferUnderflowException e) {
+            LOGGER.warn("Ignoring the nearby distance matrix file ({}) because it can't be read.", matrixFile, e);
+            return false;
+        }
+    }
+
+    /**
+     * @return null if the origin wasn't loaded or its destinations changed since the file was saved
+     */
+    private Destination[] resolvePersistedDestinations(Origin origin) {
+        PersistedDestinations persistedDestinations = originToPersistedDestinationsMap.remove(origin);
+        if (persistedDestinations == null) {
+            return null;
+        }
+        int[] ordinals = persistedDestinations.ordinals;
+        long fingerprint = startOriginFingerprint(origin, ordinals.length);
+        List<Destination> destinationList = new ArrayList<>();
+        Iterator<Destination> destinationIterator = destinationIteratorProvider.apply(origin);
+        while (destinationIterator.hasNext()) {
+            Destination destination = destinationIterator.next();
+            fingerprint = addDestinationFingerprint(fingerprint, destination);
+            destinationList.add(destination);
+        }
+        if (fingerprint != persistedDestinations.fingerprint) {
+            LOGGER.debug("Recomputing the nearest destinations of the origin ({}) because they changed.", origin);
+            return null;
+        }
+        Destination[] destinations = (Destination[]) new Object[ordinals.length];
+        for (int i = 0; i < ordinals.length; i++) {
+            if (ordinals[i] >= destinationList.size()) {
+                return null;
+            }
+            destinations[i] = destinationList.get(ordinals[i]);
+        }
+        originToDestinationsMap.put(origin, destinations);
+        return destinations;
+    }
+
+    private void saveAllOrigins(NearestDestinations<Destination>[] nearestDestinationsArray, long matrixFingerprint,
+            File matrixFile) {
+        Path temporaryPath = null;
+        try {
+            Files.createDirectories(persistenceDirectory.toPath());
+            // Unique, in case another solver saves the same matrix at the same time
+            temporaryPath = Files.createTempFile(persistenceDirectory.toPath(), matrixFile.getName(), ".tmp");
+            try (OutputStream outputStream = Files.newOutputStream(temporaryPath);
+                    DataOutputStream out = new DataOutputStream(new BufferedOutputStream(outputStream))) {
+                out.writeInt(FILE_FORMAT_VERSION);
+                out.writeLong(matrixFingerprint);
+                out.writeInt(nearestDestinationsArray.length);
+                for (NearestDestinations<Destination> nearestDestinations : nearestDestinationsArray) {
+                    out.writeLong(nearestDestinations.fingerprint);
+                    out.writeInt(nearestDestinations.ordinals.length);
+                    for (int ordinal : nearestDestinations.ordinals) {
+                        out.writeInt(ordinal);
+                    }
+                }
+            }
+            try {
+                Files.move(temporaryPath, matrixFile.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporaryPath, matrixFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            // Solving continues with the computed matrix, only the next solver can't reuse it
+            LOGGER.warn("Saving the nearby distance matrix file ({}) failed.", matrixFile, e);
+            if (temporaryPath != null) {
+                temporaryPath.toFile().delete();
+            }
+        }
+    }
+
+    /**
+     * Includes the planning IDs of the destinations of the first origin and its destination size,
+     * so matrices with the same origins but other destinations (for example a nearby entity selector
+     * and a nearby value selector of the same meter) don't overwrite each other's file.
+     *
+     * @return the file key, which ignores the fingerprints of the nearbyDistanceMeter,
+     *         so a matrix of changed problem facts overwrites the same file
+     */
+    private long computeMatrixFileFingerprint(List<Origin> originList) {
+        long fingerprint = startMatrixFingerprint(originList.size());
+        for (Origin origin : originList) {
+            fingerprint = mixFingerprint(fingerprint, planningIdHashFunction.applyAsLong(origin));
+        }
+        if (!originList.isEmpty()) {
+            Origin firstOrigin = originList.get(0);
+            fingerprint = mixFingerprint(fingerprint, destinationSizeFunction.applyAsInt(firstOrigin));
+            Iterator<Destination> destinationIterator = destinationIteratorProvider.apply(firstOrigin);
+            while (destinationIterator.hasNext()) {
+                long destinationPlanningIdHash = planningIdHashFunction.applyAsLong(destinationIterator.next());
+                fingerprint = mixFingerprint(fingerprint, destinationPlanningIdHash);
+            }
+        }
+        return fingerprint;
+    }
+
+    /**
+     * Costs origins plus destinations, instead of origins times destinations,
+     * because it only includes the destinations of the first origin.
+     * Usually every origin has the same destinations, otherwise {@link #resolvePersistedDestinations(Object)}
+     * still detects the change.
+     *
+     * @return the fingerprint of the origins and destinations, including the fingerprints of the nearbyDistanceMeter
+     */
+    private long computeMatrixFingerprint(List<Origin> originList) {
+        long fingerprint = startMatrixFingerprint(originList.size());
+        for (Origin origin : originList) {
+            fingerprint = mixFingerprint(fingerprint, planningIdHashFunction.applyAsLong(origin));
+            fingerprint = mixFingerprint(fingerprint, nearbyDistanceMeter.getOriginFingerprint(origin));
+        }
+        if (!originList.isEmpty()) {
+            Iterator<Destination> destinationIterator = destinationIteratorProvider.apply(originList.get(0));
+            while (destinationIterator.hasNext()) {
+                fingerprint = addDestinationFingerprint(fingerprint, destinationIterator.next());
+            }
+        }
+        return fingerprint;
+    }
+
+    private long startMatrixFingerprint(int originSize) {
+        long fingerprint = mixFingerprint(FINGERPRINT_OFFSET_BASIS, FILE_FORMAT_VERSION);
+        fingerprint = mixFingerprint(fingerprint, nearbyDistanceMeter.getClass().getName().hashCode());
+        return mixFingerprint(fingerprint, originSize);
+    }
+
+    private long startOriginFingerprint(Origin origin, int destinationSize) {
+        if (planningIdHashFunction == null) {
+            return 0L;
+        }
+        long fingerprint = mixFingerprint(FINGERPRINT_OFFSET_BASIS, planningIdHashFunction.applyAsLong(origin));
+        fingerprint = mixFingerprint(fingerprint, nearbyDistanceMeter.getOriginFingerprint(origin));
+        return mixFingerprint(fingerprint, destinationSize);
+    }
+
+    private long addDestinationFingerprint(long fingerprint, Destination destination) {
+        if (planningIdHashFunction == null) {
+            return 0L;
+        }
+        fingerprint = mixFingerprint(fingerprint, planningIdHashFunction.applyAsLong(destination));
+        return mixFingerprint(fingerprint, nearbyDistanceMeter.getDestinationFingerprint(destination));
+    }
+
+    private static long mixFingerprint(long fingerprint, long value) {
+        // FNV-1a, but per long instead of per byte, so the value is spread over all bits first
+        long spreadValue = value * 0x9e3779b97f4a7c15L;
+        return (fingerprint ^ (spreadValue ^ (spreadValue >>> 32))) * FINGERPRINT_PRIME;
+    }
+
+    private static final class PersistedDestinations {
+
+        /** The iteration ordinal of each nearest destination. */
+        private final int[] ordinals;
+        private final long fingerprint;
+
+        private PersistedDestinations(int[] ordinals, long fingerprint) {
+            this.ordinals = ordinals;
+            this.fingerprint = fingerprint;
+        }
+
+    }
+
+    private static final class NearestDestinations<Destination> {
+
+        private final Destination[] destinations;
+        /** The iteration ordinal of each destination, to persist the matrix. */
+        private final int[] ordinals;
+        /** 0 if the matrix isn't persisted. */
+        private final long fingerprint;
+
+        private NearestDestinations(Destination[] destinations, int[] ordinals, long fingerprint) {
+            this.destinations = destinations;
+            this.ordinals = ordinals;
+            this.fingerprint = fingerprint;
+        }
+
+    }
+
 }
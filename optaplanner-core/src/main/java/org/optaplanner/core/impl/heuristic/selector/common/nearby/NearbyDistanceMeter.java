@@ -32,4 +32,29 @@ public interface NearbyDistanceMeter<O, D> {
      */
     double getNearbyDistance(O origin, D destination);
 
+    /**
+     * Only used if the distance matrix is persisted in a {@code distanceMatrixDirectory}.
+     * Hashes every property of the origin that {@link #getNearbyDistance(Object, Object)} reads,
+     * such as its latitude and longitude, so a persisted distance matrix isn't reused after those change.
+     * It must return the same value in every JVM, so don't use {@link Object#hashCode()} of an {@link Object}
+     * that doesn't override it.
+     *
+     * @param origin never null
+     * @return 0 by default, in which case only the planning ID of the origin is checked
+     */
+    default long getOriginFingerprint(O origin) {
+        return 0L;
+    }
+
+    /**
+     * Only used if the distance matrix is persisted in a {@code distanceMatrixDirectory}.
+     * Same as {@link #getOriginFingerprint(Object)}, but for a destination.
+     *
+     * @param destination never null
+     * @return 0 by default, in which case only the planning ID of the destination is checked
+     */
+    default long getDestinationFingerprint(D destination) {
+        return 0L;
+    }
+
 }
@@ -22,6 +22,7 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Stream;
 
+import org.apache.commons.lang3.ObjectUtils;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
@@ -108,6 +109,7 @@ public class EntitySelectorFactory<Solution_> extends AbstractSelectorFactory<So
             config.getNearbySelectionConfig().validateNearby(resolvedCacheType, resolvedSelectionOrder);
         }
         validateCacheTypeVersusSelectionOrder(resolvedCacheType, resolvedSelectionOrder);
+        validateIncrementalCacheType(resolvedCacheType);
         validateSorting(resolvedSelectionOrder);
         validateProbability(resolvedSelectionOrder);
         validateSelectedLimit(minimumCacheType);
@@ -208,7 +210,10 @@ public class EntitySelectorFactory<Solution_> extends AbstractSelectorFactory<So
         // TODO Check nearbyDistanceMeterClass.getGenericInterfaces() to confirm generic type S is an entityClass
         NearbyRandom nearbyRandom = NearbyRandomFactory.create(nearbySelectionConfig).buildNearbyRandom(randomSelection);
         return new NearEntityNearbyEntitySelector<>(entitySelector, originEntitySelector, nearbyDistanceMeter,
-                nearbyRandom, randomSelection);
+                nearbyRandom, randomSelection,
+                ObjectUtils.defaultIfNull(nearbySelectionConfig.getNearbySizeMaximum(), Integer.MAX_VALUE),
+                Boolean.TRUE.equals(nearbySelectionConfig.getParallelDistanceMatrixBuild()),
+                nearbySelectionConfig.getDistanceMatrixDirectory());
     }
 
     private EntitySelector<Solution_> applyFiltering(EntitySelector<Solution_> entitySelector) {
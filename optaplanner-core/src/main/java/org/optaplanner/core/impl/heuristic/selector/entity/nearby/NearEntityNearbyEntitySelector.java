@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.heuristic.selector.entity.nearby;
 
+import java.io.File;
 import java.util.Iterator;
 import java.util.ListIterator;
 
@@ -37,12 +38,25 @@ public final class NearEntityNearbyEntitySelector<Solution_> extends AbstractEnt
     protected final NearbyRandom nearbyRandom;
     protected final boolean randomSelection;
     protected final boolean discardNearbyIndexZero = true; // TODO deactivate me when appropriate
+    /** The maximum number of nearest entities to select per origin, Integer.MAX_VALUE if unbounded. */
+    protected final int nearbySizeMaximum;
+    protected final boolean parallelDistanceMatrixBuild;
+    /** Null if the distance matrix isn't persisted. */
+    protected final File distanceMatrixDirectory;
 
     protected NearbyDistanceMatrix nearbyDistanceMatrix = null;
 
     public NearEntityNearbyEntitySelector(EntitySelector<Solution_> childEntitySelector,
             EntitySelector<Solution_> originEntitySelector, NearbyDistanceMeter<?, ?> nearbyDistanceMeter,
             NearbyRandom nearbyRandom, boolean randomSelection) {
+        this(childEntitySelector, originEntitySelector, nearbyDistanceMeter, nearbyRandom, randomSelection,
+                Integer.MAX_VALUE, false, null);
+    }
+
+    public NearEntityNearbyEntitySelector(EntitySelector<Solution_> childEntitySelector,
+            EntitySelector<Solution_> originEntitySelector, NearbyDistanceMeter<?, ?> nearbyDistanceMeter,
+            NearbyRandom nearbyRandom, boolean randomSelection, int nearbySizeMaximum,
+            boolean parallelDistanceMatrixBuild, File distanceMatrixDirectory) {
         this.childEntitySelector = childEntitySelector;
         if (!(originEntitySelector instanceof MimicReplayingEntitySelector)) {
             // In order to select a nearby entity, we must first have something to be near by.
@@ -53,6 +67,9 @@ public final class NearEntityNearbyEntitySelector<Solution_> extends AbstractEnt
         this.nearbyDistanceMeter = nearbyDistanceMeter;
         this.nearbyRandom = nearbyRandom;
         this.randomSelection = randomSelection;
+        this.nearbySizeMaximum = nearbySizeMaximum;
+        this.parallelDistanceMatrixBuild = parallelDistanceMatrixBuild;
+        this.distanceMatrixDirectory = distanceMatrixDirectory;
         if (randomSelection && nearbyRandom == null) {
             throw new IllegalArgumentException("The entitySelector (" + this
                     + ") with randomSelection (" + randomSelection + ") has no nearbyRandom (" + nearbyRandom + ").");
@@ -88,13 +105,23 @@ public final class NearEntityNearbyEntitySelector<Solution_> extends AbstractEnt
         }
 
         nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize,
-                origin -> childEntitySelector.endingIterator(), origin -> computeDestinationSize(childSize));
-        replayingOriginEntitySelector.endingIterator()
-                .forEachRemaining(origin -> nearbyDistanceMatrix.addAllDestinations(origin));
+                origin -> childEntitySelector.endingIterator(), origin -> computeDestinationSize(childSize),
+                parallelDistanceMatrixBuild, distanceMatrixDirectory,
+                distanceMatrixDirectory == null ? null
+                        : NearbyDistanceMatrix.buildPlanningIdHashFunction(phaseScope.getSolutionDescriptor()));
+        nearbyDistanceMatrix.addAllOrigins(replayingOriginEntitySelector.endingIterator());
+    }
+
+    /**
+     * @param childSize at least 0
+     * @return childSize, unless the {@link #nearbySizeMaximum} keeps less nearest entities (including the origin)
+     */
+    private long limitChildSize(long childSize) {
+        return Math.min(childSize, (long) nearbySizeMaximum + (discardNearbyIndexZero ? 1L : 0L));
     }
 
     private int computeDestinationSize(long childSize) {
-        int destinationSize = (int) childSize;
+        int destinationSize = (int) limitChildSize(childSize);
         if (randomSelection) {
             // Reduce RAM memory usage by reducing destinationSize if nearbyRandom will never select a higher value
             int overallSizeMaximum = nearbyRandom.getOverallSizeMaximum();
@@ -133,16 +160,17 @@ public final class NearEntityNearbyEntitySelector<Solution_> extends AbstractEnt
 
     @Override
     public long getSize() {
-        return childEntitySelector.getSize() - (discardNearbyIndexZero ? 1 : 0);
+        return limitChildSize(childEntitySelector.getSize()) - (discardNearbyIndexZero ? 1 : 0);
     }
 
     @Override
     public Iterator<Object> iterator() {
         Iterator<Object> replayingOriginEntityIterator = replayingOriginEntitySelector.iterator();
+        long childSize = limitChildSize(childEntitySelector.getSize());
         if (!randomSelection) {
-            return new OriginalNearbyEntityIterator(replayingOriginEntityIterator, childEntitySelector.getSize());
+            return new OriginalNearbyEntityIterator(replayingOriginEntityIterator, childSize);
         } else {
-            return new RandomNearbyEntityIterator(replayingOriginEntityIterator, childEntitySelector.getSize());
+            return new RandomNearbyEntityIterator(replayingOriginEntityIterator, childSize);
         }
     }
 
@@ -17,9 +17,10 @@
 package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
 
 import java.util.ArrayList;
-import java.util.Collection;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -34,15 +35,27 @@ import org.optaplanner.core.config.heuristic.selector.entity.pillar.SubPillarCon
 import org.optaplanner.core.config.heuristic.selector.move.generic.SubPillarType;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.selector.AbstractSelector;
-import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleBridge;
 import org.optaplanner.core.impl.heuristic.selector.common.SelectionCacheLifecycleListener;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.CachedListRandomIterator;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.UpcomingSelectionIterator;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
+import org.optaplanner.core.impl.heuristic.selector.entity.FromSolutionEntitySelector;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 
 /**
+ * The pillars are constructed at the first step of a phase.
+ * After that, at the start of every step, only the entities which had a variable change
+ * (as recorded by a {@link PillarVariableSupply}) move to another pillar.
+ * <p>
+ * That requires the entitySelector to select the same entities during the entire phase,
+ * so it must be cached at least {@link SelectionCacheType#PHASE} or select all entities of the working solution.
+ * Otherwise (for example if it filters on the planning variables), the pillars are constructed again at every step.
+ *
  * @see PillarSelector
  */
 public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_>
@@ -54,9 +67,21 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
     protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptors;
     protected final boolean randomSelection;
     protected final SubPillarConfigPolicy subpillarConfigPolicy;
+    /** False if the entitySelector can select other entities every step, even if its size doesn't change. */
+    protected final boolean incrementalCacheSupported;
+
+    /** Null if there is no score director to record the variable changes, so every step rebuilds the pillars. */
+    protected List<PillarVariableSupply<Solution_>> pillarVariableSupplyList = null;
 
+    protected long cachedEntitySize = -1L;
+    protected Map<List<Object>, Pillar> valueStateToPillarMap = null;
+    protected Map<Object, PillarEntity> pillarEntityMap = null;
     protected List<List<Object>> cachedBasePillarList = null;
 
+    /** Always the identity permutation between sub pillar samples. */
+    protected int[] sandboxIndexes = new int[0];
+    protected int[] swapIndexes = new int[0];
+
     public DefaultPillarSelector(EntitySelector<Solution_> entitySelector,
             List<GenuineVariableDescriptor<Solution_>> variableDescriptors, boolean randomSelection,
             SubPillarConfigPolicy subpillarConfigPolicy) {
@@ -92,7 +117,8 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
                     + ") with neverEnding (" + entitySelector.isNeverEnding() + ").");
         }
         phaseLifecycleSupport.addEventListener(entitySelector);
-        phaseLifecycleSupport.addEventListener(new SelectionCacheLifecycleBridge<>(CACHE_TYPE, this));
+        incrementalCacheSupported = entitySelector instanceof FromSolutionEntitySelector
+                || entitySelector.getCacheType().compareTo(SelectionCacheType.PHASE) >= 0;
         boolean subPillarEnabled = subpillarConfigPolicy.isSubPillarEnabled();
         if (!randomSelection && subPillarEnabled) {
             throw new IllegalStateException("The selector (" + this
@@ -132,6 +158,40 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
         return CACHE_TYPE;
     }
 
+    @Override
+    public void solvingStarted(SolverScope<Solution_> solverScope) {
+        super.solvingStarted(solverScope);
+        InnerScoreDirector<Solution_, ?> scoreDirector = solverScope.getScoreDirector();
+        if (scoreDirector != null) {
+            SupplyManager<Solution_> supplyManager = scoreDirector.getSupplyManager();
+            pillarVariableSupplyList = new ArrayList<>(variableDescriptors.size());
+            for (GenuineVariableDescriptor<Solution_> variableDescriptor : variableDescriptors) {
+                pillarVariableSupplyList.add(
+                        supplyManager.demand(new PillarVariableDemand<>(variableDescriptor, this)));
+            }
+        }
+    }
+
+    @Override
+    public void stepStarted(AbstractStepScope<Solution_> stepScope) {
+        super.stepStarted(stepScope);
+        if (!updateCache()) {
+            constructCache(stepScope.getPhaseScope().getSolverScope());
+        }
+    }
+
+    @Override
+    public void phaseEnded(AbstractPhaseScope<Solution_> phaseScope) {
+        super.phaseEnded(phaseScope);
+        disposeCache(phaseScope.getSolverScope());
+    }
+
+    @Override
+    public void solvingEnded(SolverScope<Solution_> solverScope) {
+        super.solvingEnded(solverScope);
+        pillarVariableSupplyList = null;
+    }
+
     @Override
     public void constructCache(SolverScope<Solution_> solverScope) {
         long entitySize = entitySelector.getSize();
@@ -150,28 +210,94 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
             entities = entities.sorted((Comparator<? super Object>) comparator);
         }
         // Create all the pillars from a stream of entities; if sorted, the pillars will be sequential.
-        Map<List<Object>, List<Object>> valueStateToPillarMap = new LinkedHashMap<>((int) entitySize);
+        cachedEntitySize = entitySize;
+        valueStateToPillarMap = new LinkedHashMap<>((int) entitySize);
+        pillarEntityMap = new IdentityHashMap<>((int) entitySize);
+        Iterator<Object> entityIterator = entities.iterator();
+        int ordinal = 0;
+        while (entityIterator.hasNext()) {
+            Object entity = entityIterator.next();
+            List<Object> valueState = getValueState(entity);
+            valueStateToPillarMap.computeIfAbsent(valueState, key -> new Pillar()).append(entity, ordinal);
+            pillarEntityMap.put(entity, new PillarEntity(ordinal, valueState));
+            ordinal++;
+        }
+        if (pillarVariableSupplyList != null) {
+            // The pillars already reflect all changes so far
+            pillarVariableSupplyList.forEach(PillarVariableSupply::clear);
+        }
+        refreshCachedBasePillarList();
+    }
+
+    private List<Object> getValueState(Object entity) {
         int variableCount = variableDescriptors.size();
-        entities.forEach(entity -> {
-            List<Object> valueState = variableCount == 1 ? getSingleVariableValueState(entity, variableDescriptors)
-                    : getMultiVariableValueState(entity, variableDescriptors, variableCount);
-            List<Object> pillar = valueStateToPillarMap.computeIfAbsent(valueState, key -> new ArrayList<>());
-            pillar.add(entity);
-        });
+        return variableCount == 1 ? getSingleVariableValueState(entity, variableDescriptors)
+                : getMultiVariableValueState(entity, variableDescriptors, variableCount);
+    }
+
+    /**
+     * @return false if the cache must be constructed from scratch instead
+     */
+    private boolean updateCache() {
+        if (!incrementalCacheSupported || pillarVariableSupplyList == null || cachedBasePillarList == null
+                || entitySelector.getSize() != cachedEntitySize) {
+            return false;
+        }
+        for (PillarVariableSupply<Solution_> pillarVariableSupply : pillarVariableSupplyList) {
+            if (pillarVariableSupply.isEntitiesChanged()) {
+                return false;
+            }
+        }
+        boolean pillarsChanged = false;
+        for (PillarVariableSupply<Solution_> pillarVariableSupply : pillarVariableSupplyList) {
+            for (Object entity : pillarVariableSupply.getChangedEntitySet()) {
+                pillarsChanged |= movePillarEntity(entity);
+            }
+            pillarVariableSupply.clear();
+        }
+        if (pillarsChanged) {
+            refreshCachedBasePillarList();
+        }
+        return true;
+    }
+
+    private boolean movePillarEntity(Object entity) {
+        PillarEntity pillarEntity = pillarEntityMap.get(entity);
+        if (pillarEntity == null) {
+            // The entitySelector doesn't select it
+            return false;
+        }
+        List<Object> valueState = getValueState(entity);
+        if (valueState.equals(pillarEntity.valueState)) {
+            // Changed and changed back, for example by an undo move
+            return false;
+        }
+        Pillar oldPillar = valueStateToPillarMap.get(pillarEntity.valueState);
+        oldPillar.remove(pillarEntity.ordinal);
+        if (oldPillar.entityList.isEmpty()) {
+            valueStateToPillarMap.remove(pillarEntity.valueState);
+        }
+        valueStateToPillarMap.computeIfAbsent(valueState, key -> new Pillar()).insert(entity, pillarEntity.ordinal);
+        pillarEntity.valueState = valueState;
+        return true;
+    }
+
+    private void refreshCachedBasePillarList() {
         // Store the cache. Exclude pillars of size lower than the minimumSubPillarSize, as we shouldn't select those.
-        Collection<List<Object>> pillarLists = valueStateToPillarMap.values();
+        // Sort the pillars as if they were created from the stream of entities.
         int minimumSubPillarSize = subpillarConfigPolicy.getMinimumSubPillarSize();
-        if (minimumSubPillarSize > 1) {
-            cachedBasePillarList = pillarLists.stream()
-                    .filter(pillar -> pillar.size() >= minimumSubPillarSize)
-                    .collect(Collectors.toList());
-        } else { // Use shortcut when we don't intend to remove anything.
-            cachedBasePillarList = new ArrayList<>(pillarLists);
-        }
+        cachedBasePillarList = valueStateToPillarMap.values().stream()
+                .filter(pillar -> pillar.entityList.size() >= minimumSubPillarSize)
+                .sorted(Comparator.comparingInt(pillar -> pillar.ordinals[0]))
+                .map(pillar -> pillar.entityList)
+                .collect(Collectors.toList());
     }
 
     @Override
     public void disposeCache(SolverScope<Solution_> solverScope) {
+        cachedEntitySize = -1L;
+        valueStateToPillarMap = null;
+        pillarEntityMap = null;
         cachedBasePillarList = null;
     }
 
@@ -309,16 +435,35 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
         private List<Object> selectRandom(final List<Object> basePillar, final int subPillarSize) {
             // Random sampling: See http://eyalsch.wordpress.com/2010/04/01/random-sample/
             // Used Swapping instead of Floyd because subPillarSize is large, to avoid hashCode() hit
-            Object[] sandboxPillar = basePillar.toArray(); // Clone to avoid changing basePillar
+            // Swap the indexes of a reusable identity permutation (instead of cloning the basePillar)
+            // and swap them back afterwards, so this scales with the subPillarSize instead of the basePillarSize.
+            int basePillarSize = basePillar.size();
+            if (sandboxIndexes.length < basePillarSize) {
+                sandboxIndexes = new int[basePillarSize];
+                for (int i = 0; i < basePillarSize; i++) {
+                    sandboxIndexes[i] = i;
+                }
+                swapIndexes = new int[basePillarSize];
+            }
             List<Object> subPillar = new ArrayList<>(subPillarSize);
             for (int i = 0; i < subPillarSize; i++) {
-                int index = i + workingRandom.nextInt(basePillar.size() - i);
-                subPillar.add(sandboxPillar[index]);
-                sandboxPillar[index] = sandboxPillar[i];
+                int index = i + workingRandom.nextInt(basePillarSize - i);
+                subPillar.add(basePillar.get(sandboxIndexes[index]));
+                swapIndexes[i] = index;
+                swapSandboxIndexes(i, index);
+            }
+            for (int i = subPillarSize - 1; i >= 0; i--) {
+                swapSandboxIndexes(i, swapIndexes[i]);
             }
             return subPillar;
         }
 
+        private void swapSandboxIndexes(int a, int b) {
+            int sandboxIndex = sandboxIndexes[a];
+            sandboxIndexes[a] = sandboxIndexes[b];
+            sandboxIndexes[b] = sandboxIndex;
+        }
+
         private List<Object> selectBasePillar() {
             // Known issue/compromise: Every subPillar should have same probability, but doesn't.
             // Instead, every basePillar has the same probability.
@@ -326,4 +471,73 @@ public class DefaultPillarSelector<Solution_> extends AbstractSelector<Solution_
             return cachedBasePillarList.get(baseListIndex);
         }
     }
+
+    private static final class PillarEntity {
+
+        private final int ordinal;
+        private List<Object> valueState;
+
+        private PillarEntity(int ordinal, List<Object> valueState) {
+            this.ordinal = ordinal;
+            this.valueState = valueState;
+        }
+
+    }
+
+    private static final class Pillar {
+
+        /**
+         * Never changed after the cache is constructed, but replaced instead,
+         * because moves keep a reference to it.
+         */
+        private List<Object> entityList = new ArrayList<>();
+        /** The entity ordinals, in the same ascending order as the entityList. */
+        private int[] ordinals = new int[4];
+
+        private void append(Object entity, int ordinal) {
+            ensureOrdinalsCapacity(entityList.size() + 1);
+            ordinals[entityList.size()] = ordinal;
+            entityList.add(entity);
+        }
+
+        private void insert(Object entity, int ordinal) {
+            int size = entityList.size();
+            int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (index >= 0) {
+                throw new IllegalStateException("Impossible state: the pillar (" + entityList
+                        + ") already contains an entity with ordinal (" + ordinal + ").");
+            }
+            index = -index - 1;
+            List<Object> newEntityList = new ArrayList<>(size + 1);
+            newEntityList.addAll(entityList.subList(0, index));
+            newEntityList.add(entity);
+            newEntityList.addAll(entityList.subList(index, size));
+            entityList = newEntityList;
+            ensureOrdinalsCapacity(size + 1);
+            System.arraycopy(ordinals, index, ordinals, index + 1, size - index);
+            ordinals[index] = ordinal;
+        }
+
+        private void remove(int ordinal) {
+            int size = entityList.size();
+            int index = Arrays.binarySearch(ordinals, 0, size, ordinal);
+            if (index < 0) {
+                throw new IllegalStateException("Impossible state: the pillar (" + entityList
+                        + ") doesn't contain an entity with ordinal (" + ordinal + ").");
+            }
+            List<Object> newEntityList = new ArrayList<>(size - 1);
+            newEntityList.addAll(entityList.subList(0, index));
+            newEntityList.addAll(entityList.subList(index + 1, size));
+            entityList = newEntityList;
+            System.arraycopy(ordinals, index + 1, ordinals, index, size - index - 1);
+        }
+
+        private void ensureOrdinalsCapacity(int capacity) {
+            if (ordinals.length < capacity) {
+                ordinals = Arrays.copyOf(ordinals, Math.max(capacity, ordinals.length * 2));
+            }
+        }
+
+    }
+
 }
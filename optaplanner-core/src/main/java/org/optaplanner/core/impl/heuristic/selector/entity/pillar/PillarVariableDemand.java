@@ -0,0 +1,77 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
+
+import java.util.Objects;
+
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+
+/**
+ * Unlike most demands, every {@link DefaultPillarSelector} gets its own {@link PillarVariableSupply},
+ * because it consumes the recorded changes.
+ */
+public class PillarVariableDemand<Solution_> implements Demand<Solution_, PillarVariableSupply<Solution_>> {
+
+    protected final GenuineVariableDescriptor<Solution_> sourceVariableDescriptor;
+    protected final PillarSelector<Solution_> pillarSelector;
+
+    public PillarVariableDemand(GenuineVariableDescriptor<Solution_> sourceVariableDescriptor,
+            PillarSelector<Solution_> pillarSelector) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+        this.pillarSelector = pillarSelector;
+    }
+
+    // ************************************************************************
+    // Creation method
+    // ************************************************************************
+
+    @Override
+    public PillarVariableSupply<Solution_> createExternalizedSupply(InnerScoreDirector<Solution_, ?> scoreDirector) {
+        return new PillarVariableSupply<>(sourceVariableDescriptor);
+    }
+
+    // ************************************************************************
+    // Equals/hashCode method
+    // ************************************************************************
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof PillarVariableDemand)) {
+            return false;
+        }
+        PillarVariableDemand<Solution_> other = (PillarVariableDemand<Solution_>) o;
+        return sourceVariableDescriptor.equals(other.sourceVariableDescriptor)
+                && pillarSelector == other.pillarSelector;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(PillarVariableDemand.class.getName(), sourceVariableDescriptor,
+                System.identityHashCode(pillarSelector));
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getSimpleEntityAndVariableName() + ")";
+    }
+
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.domain.variable.descriptor.VariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.listener.SourcedVariableListener;
+import org.optaplanner.core.impl.domain.variable.supply.Supply;
+
+/**
+ * Records the entities whose source variable changed,
+ * so the {@link DefaultPillarSelector} only needs to move those entities to another pillar.
+ * <p>
+ * Many of those changes are undone by the time the changes are consumed,
+ * but recording them is cheaper than updating the pillars for every move that is evaluated.
+ */
+public class PillarVariableSupply<Solution_> implements SourcedVariableListener<Solution_, Object>, Supply {
+
+    protected final VariableDescriptor<Solution_> sourceVariableDescriptor;
+
+    protected final Set<Object> changedEntitySet = Collections.newSetFromMap(new IdentityHashMap<>());
+    protected boolean entitiesChanged = true;
+
+    public PillarVariableSupply(VariableDescriptor<Solution_> sourceVariableDescriptor) {
+        this.sourceVariableDescriptor = sourceVariableDescriptor;
+    }
+
+    @Override
+    public VariableDescriptor<Solution_> getSourceVariableDescriptor() {
+        return sourceVariableDescriptor;
+    }
+
+    /**
+     * @return true if entities were added or removed, or the working solution was reset,
+     *         in which case the changed entities are incomplete
+     */
+    public boolean isEntitiesChanged() {
+        return entitiesChanged;
+    }
+
+    /**
+     * @return never null, the entities whose variable changed since the last {@link #clear()}
+     */
+    public Set<Object> getChangedEntitySet() {
+        return changedEntitySet;
+    }
+
+    public void clear() {
+        changedEntitySet.clear();
+        entitiesChanged = false;
+    }
+
+    @Override
+    public void resetWorkingSolution(ScoreDirector<Solution_> scoreDirector) {
+        changedEntitySet.clear();
+        entitiesChanged = true;
+    }
+
+    @Override
+    public void close() {
+        changedEntitySet.clear();
+    }
+
+    @Override
+    public void beforeEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityAdded(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        entitiesChanged = true;
+    }
+
+    @Override
+    public void beforeVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterVariableChanged(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        changedEntitySet.add(entity);
+    }
+
+    @Override
+    public void beforeEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        // Do nothing
+    }
+
+    @Override
+    public void afterEntityRemoved(ScoreDirector<Solution_> scoreDirector, Object entity) {
+        entitiesChanged = true;
+    }
+
+    @Override
+    public String toString() {
+        return getClass().getSimpleName() + "(" + sourceVariableDescriptor.getVariableName() + ")";
+    }
+
+}
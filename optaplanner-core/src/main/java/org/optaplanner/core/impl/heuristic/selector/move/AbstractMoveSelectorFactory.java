@@ -34,6 +34,7 @@ import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionSo
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.WeightFactorySelectionSorter;
 import org.optaplanner.core.impl.heuristic.selector.move.decorator.CachingMoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.decorator.FilteringMoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.decorator.IncrementalCachingMoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.decorator.ProbabilityMoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.decorator.SelectedCountLimitMoveSelector;
 import org.optaplanner.core.impl.heuristic.selector.move.decorator.ShufflingMoveSelector;
@@ -77,12 +78,17 @@ public abstract class AbstractMoveSelectorFactory<Solution_, MoveSelectorConfig_
                 SelectionOrder.resolve(config.getSelectionOrder(), inheritedSelectionOrder);
 
         validateCacheTypeVersusSelectionOrder(resolvedCacheType, resolvedSelectionOrder);
+        validateIncrementalCacheTypeVersusSelectionOrder(resolvedCacheType, resolvedSelectionOrder);
         validateSorting(resolvedSelectionOrder);
         validateProbability(resolvedSelectionOrder);
         validateSelectedLimit(minimumCacheType);
 
         boolean randomMoveSelection = determineBaseRandomSelection(resolvedCacheType, resolvedSelectionOrder);
         SelectionCacheType selectionCacheType = SelectionCacheType.max(minimumCacheType, resolvedCacheType);
+        if (selectionCacheType == SelectionCacheType.INCREMENTAL_STEP) {
+            // The IncrementalCachingMoveSelector iterates its child only once per phase
+            selectionCacheType = SelectionCacheType.PHASE;
+        }
         MoveSelector<Solution_> moveSelector = buildBaseMoveSelector(configPolicy, selectionCacheType, randomMoveSelection);
         validateResolvedCacheType(resolvedCacheType, moveSelector);
 
@@ -112,6 +118,24 @@ public abstract class AbstractMoveSelectorFactory<Solution_, MoveSelectorConfig_
                     + ") has a resolvedCacheType (" + resolvedCacheType + ") that is not supported.\n"
                     + "Maybe don't use a <cacheType> on this type of moveSelector.");
         }
+        if (!moveSelector.supportsPhaseAndSolverCaching() && resolvedCacheType == SelectionCacheType.INCREMENTAL_STEP) {
+            throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                    + ") has a resolvedCacheType (" + resolvedCacheType + ") that is not supported,"
+                    + " because its moves change every step.\n"
+                    + "Maybe use the cacheType (" + SelectionCacheType.STEP + ") instead.");
+        }
+    }
+
+    private void validateIncrementalCacheTypeVersusSelectionOrder(SelectionCacheType resolvedCacheType,
+            SelectionOrder resolvedSelectionOrder) {
+        if (resolvedCacheType == SelectionCacheType.INCREMENTAL_STEP
+                && resolvedSelectionOrder != SelectionOrder.ORIGINAL
+                && resolvedSelectionOrder != SelectionOrder.RANDOM) {
+            throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                    + ") with resolvedCacheType (" + resolvedCacheType
+                    + ") has a resolvedSelectionOrder (" + resolvedSelectionOrder
+                    + ") that is not " + SelectionOrder.ORIGINAL + " or " + SelectionOrder.RANDOM + ".");
+        }
     }
 
     protected boolean determineBaseRandomSelection(SelectionCacheType resolvedCacheType,
@@ -126,7 +150,8 @@ public abstract class AbstractMoveSelectorFactory<Solution_, MoveSelectorConfig_
                 return false;
             case RANDOM:
                 // Predict if caching will occur
-                return resolvedCacheType.isNotCached() || (isBaseInherentlyCached() && !hasFiltering());
+                return resolvedCacheType.isNotCached() || (isBaseInherentlyCached() && !hasFiltering()
+                        && resolvedCacheType != SelectionCacheType.INCREMENTAL_STEP);
             default:
                 throw new IllegalStateException("The selectionOrder (" + resolvedSelectionOrder
                         + ") is not implemented.");
@@ -137,6 +162,28 @@ public abstract class AbstractMoveSelectorFactory<Solution_, MoveSelectorConfig_
         return false;
     }
 
+    /**
+     * A cache keeps every selected move, so it can't hold a move instance that is reused for the next selected move.
+     *
+     * @param flyweightMoves sometimes null, null means false
+     * @param minimumCacheType never null, the cacheType of the base move selector
+     * @return true if the base move selector should reuse its move instances
+     */
+    protected boolean determineFlyweightMoves(Boolean flyweightMoves, SelectionCacheType minimumCacheType) {
+        if (!Boolean.TRUE.equals(flyweightMoves)) {
+            return false;
+        }
+        if (minimumCacheType.isCached()) {
+            throw new IllegalArgumentException("The moveSelectorConfig (" + config
+                    + ") with flyweightMoves (" + flyweightMoves
+                    + ") has a minimumCacheType (" + minimumCacheType + ") that caches the selected moves.\n"
+                    + "Maybe remove the flyweightMoves or use the cacheType (" + SelectionCacheType.JUST_IN_TIME
+                    + ") and the selectionOrder (" + SelectionOrder.ORIGINAL + " or " + SelectionOrder.RANDOM
+                    + ") on this moveSelector and its parents.");
+        }
+        return true;
+    }
+
     private boolean hasFiltering() {
         return config.getFilterClass() != null;
     }
@@ -249,7 +296,11 @@ public abstract class AbstractMoveSelectorFactory<Solution_, MoveSelectorConfig_
 
     private MoveSelector<Solution_> applyCaching(SelectionCacheType resolvedCacheType,
             SelectionOrder resolvedSelectionOrder, MoveSelector<Solution_> moveSelector) {
-        if (resolvedCacheType.isCached() && resolvedCacheType.compareTo(moveSelector.getCacheType()) > 0) {
+        if (resolvedCacheType == SelectionCacheType.INCREMENTAL_STEP) {
+            // Even if the moveSelector is already cached, because the filtering needs to be incremental
+            moveSelector = new IncrementalCachingMoveSelector<>(moveSelector,
+                    resolvedSelectionOrder.toRandomSelectionBoolean());
+        } else if (resolvedCacheType.isCached() && resolvedCacheType.compareTo(moveSelector.getCacheType()) > 0) {
             moveSelector =
                     new CachingMoveSelector<>(moveSelector, resolvedCacheType,
                             resolvedSelectionOrder.toRandomSelectionBoolean());
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.NoSuchElementException;
 
 import org.optaplanner.core.impl.heuristic.move.CompositeMove;
+import org.optaplanner.core.impl.heuristic.move.FlyweightMove;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.move.NoChangeMove;
 import org.optaplanner.core.impl.heuristic.selector.common.iterator.SelectionIterator;
@@ -131,7 +132,9 @@ public class CartesianProductMoveSelector<Solution_> extends CompositeMoveSelect
                 }
                 // Clone to avoid CompositeMove corruption
                 System.arraycopy(subSelections, 0, moveList, 0, startingIndex);
-                moveList[startingIndex] = moveIteratorList.get(startingIndex).next(); // Increment the 4 in 004999
+                // Materialize because every CompositeMove keeps its child moves
+                moveList[startingIndex] = FlyweightMove.materializeIfFlyweight(
+                        moveIteratorList.get(startingIndex).next()); // Increment the 4 in 004999
             }
             for (int i = startingIndex + 1; i < childSize; i++) { // Increment the 9s in 004999
                 Iterator<Move<Solution_>> moveIterator = childMoveSelectorList.get(i).iterator();
@@ -144,7 +147,7 @@ public class CartesianProductMoveSelector<Solution_> extends CompositeMoveSelect
                         return noUpcomingSelection();
                     }
                 } else {
-                    next = moveIterator.next();
+                    next = FlyweightMove.materializeIfFlyweight(moveIterator.next());
                 }
                 moveList[i] = next;
             }
@@ -222,7 +225,7 @@ public class CartesianProductMoveSelector<Solution_> extends CompositeMoveSelect
                     }
                 }
                 if (!skip) {
-                    moveList.add(moveIterator.next());
+                    moveList.add(FlyweightMove.materializeIfFlyweight(moveIterator.next()));
                 }
             }
             if (ignoreEmptyChildIterators) {
@@ -139,6 +139,12 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
         protected final NavigableMap<Double, Iterator<Move<Solution_>>> moveIteratorMap;
         protected double probabilityWeightTotal;
         protected boolean stale;
+        /**
+         * The child iterator of the last selected move, if it hasn't been checked for a next move yet.
+         * That check is delayed until the next selection, because it can select the child's upcoming move,
+         * which can change the {@link org.optaplanner.core.impl.heuristic.move.FlyweightMove} just returned.
+         */
+        protected Iterator<Move<Solution_>> lastMoveIterator = null;
 
         public RandomUnionMoveIterator() {
             probabilityItemMap = new LinkedHashMap<>(childMoveSelectorList.size());
@@ -162,6 +168,7 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
 
         @Override
         public boolean hasNext() {
+            checkLastMoveIterator();
             if (stale) {
                 refreshMoveIteratorMap();
             }
@@ -170,6 +177,7 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
 
         @Override
         public Move<Solution_> next() {
+            checkLastMoveIterator();
             if (stale) {
                 refreshMoveIteratorMap();
             }
@@ -178,12 +186,19 @@ public class UnionMoveSelector<Solution_> extends CompositeMoveSelector<Solution
             // entry is never null because randomOffset < probabilityWeightTotal
             Iterator<Move<Solution_>> moveIterator = entry.getValue();
             Move<Solution_> next = moveIterator.next();
-            if (!moveIterator.hasNext()) {
-                stale = true;
-            }
+            lastMoveIterator = moveIterator;
             return next;
         }
 
+        private void checkLastMoveIterator() {
+            if (lastMoveIterator != null) {
+                if (!lastMoveIterator.hasNext()) {
+                    stale = true;
+                }
+                lastMoveIterator = null;
+            }
+        }
+
         private void refreshMoveIteratorMap() {
             moveIteratorMap.clear();
             double probabilityWeightOffset = 0.0;
@@ -0,0 +1,233 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.decorator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import org.optaplanner.core.impl.heuristic.selector.common.iterator.CachedListRandomIterator;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+
+/**
+ * A {@link MoveSelector} that caches the moves of its child {@link MoveSelector} for the entire phase,
+ * but filters them again at the beginning of every step,
+ * only for the moves that touch a planning entity or planning value that the previous step changed.
+ * Outside of local search, it filters all moves again, like {@link SelectionCacheType#STEP}.
+ * <p>
+ * This presumes that the {@link SelectionFilter} only depends on the planning entities and planning values
+ * of the move, as returned by {@link Move#getPlanningEntities()} and {@link Move#getPlanningValues()}
+ * when the cache is constructed.
+ *
+ * @see CachingMoveSelector
+ */
+public class IncrementalCachingMoveSelector<Solution_> extends AbstractCachingMoveSelector<Solution_> {
+
+    protected final MoveSelector<Solution_> unfilteredMoveSelector;
+    /** Null if the childMoveSelector isn't filtered, in which case the cached moves never change. */
+    protected final FilteringMoveSelector<Solution_> filteringMoveSelector;
+    protected final boolean randomSelection;
+
+    protected ScoreDirector<Solution_> scoreDirector = null;
+    protected List<Move<Solution_>> unfilteredMoveList = null;
+    protected boolean[] acceptedArray = null;
+    protected Map<Object, MoveIndexList> planningObjectToMoveIndexListMap = null;
+    protected Set<Object> changedPlanningObjectSet = null;
+    protected boolean allChanged = false;
+
+    public IncrementalCachingMoveSelector(MoveSelector<Solution_> childMoveSelector, boolean randomSelection) {
+        super(childMoveSelector, SelectionCacheType.INCREMENTAL_STEP);
+        if (childMoveSelector instanceof FilteringMoveSelector) {
+            filteringMoveSelector = (FilteringMoveSelector<Solution_>) childMoveSelector;
+            unfilteredMoveSelector = filteringMoveSelector.childMoveSelector;
+        } else {
+            filteringMoveSelector = null;
+            unfilteredMoveSelector = childMoveSelector;
+        }
+        this.randomSelection = randomSelection;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void constructCache(SolverScope<Solution_> solverScope) {
+        long childSize = unfilteredMoveSelector.getSize();
+        if (childSize > Integer.MAX_VALUE) {
+            throw new IllegalStateException("The selector (" + this
+                    + ") has a childMoveSelector (" + unfilteredMoveSelector
+                    + ") with childSize (" + childSize
+                    + ") which is higher than Integer.MAX_VALUE.");
+        }
+        unfilteredMoveList = new ArrayList<>((int) childSize);
+        unfilteredMoveSelector.iterator().forEachRemaining(unfilteredMoveList::add);
+        if (filteringMoveSelector == null) {
+            cachedMoveList = unfilteredMoveList;
+        } else {
+            scoreDirector = solverScope.getScoreDirector();
+            acceptedArray = new boolean[unfilteredMoveList.size()];
+            planningObjectToMoveIndexListMap = new HashMap<>();
+            for (int i = 0; i < unfilteredMoveList.size(); i++) {
+                Move<Solution_> move = unfilteredMoveList.get(i);
+                indexMove(move.getPlanningEntities(), i);
+                indexMove(move.getPlanningValues(), i);
+                acceptedArray[i] = filteringMoveSelector.accept(scoreDirector, move);
+            }
+            changedPlanningObjectSet = new HashSet<>();
+            allChanged = false;
+            refreshCachedMoveList();
+        }
+        logger.trace("    Created cachedMoveList: size ({}) of unfilteredMoveList size ({}), moveSelector ({}).",
+                cachedMoveList.size(), unfilteredMoveList.size(), this);
+    }
+
+    private void indexMove(Collection<?> planningObjects, int moveIndex) {
+        for (Object planningObject : planningObjects) {
+            planningObjectToMoveIndexListMap.computeIfAbsent(planningObject, key -> new MoveIndexList())
+                    .add(moveIndex);
+        }
+    }
+
+    @Override
+    public void stepStarted(AbstractStepScope<Solution_> stepScope) {
+        super.stepStarted(stepScope);
+        if (filteringMoveSelector == null) {
+            return;
+        }
+        boolean acceptedChanged = false;
+        if (allChanged) {
+            for (int i = 0; i < unfilteredMoveList.size(); i++) {
+                acceptedChanged |= refilter(i);
+            }
+        } else {
+            for (Object changedPlanningObject : changedPlanningObjectSet) {
+                MoveIndexList moveIndexList = planningObjectToMoveIndexListMap.get(changedPlanningObject);
+                if (moveIndexList != null) {
+                    for (int i = 0; i < moveIndexList.size; i++) {
+                        acceptedChanged |= refilter(moveIndexList.moveIndexes[i]);
+                    }
+                }
+            }
+        }
+        changedPlanningObjectSet.clear();
+        allChanged = false;
+        if (acceptedChanged) {
+            refreshCachedMoveList();
+        }
+    }
+
+    private boolean refilter(int moveIndex) {
+        boolean accepted = filteringMoveSelector.accept(scoreDirector, unfilteredMoveList.get(moveIndex));
+        if (accepted == acceptedArray[moveIndex]) {
+            return false;
+        }
+        acceptedArray[moveIndex] = accepted;
+        return true;
+    }
+
+    private void refreshCachedMoveList() {
+        cachedMoveList = new ArrayList<>(unfilteredMoveList.size());
+        for (int i = 0; i < unfilteredMoveList.size(); i++) {
+            if (acceptedArray[i]) {
+                cachedMoveList.add(unfilteredMoveList.get(i));
+            }
+        }
+    }
+
+    @Override
+    public void stepEnded(AbstractStepScope<Solution_> stepScope) {
+        super.stepEnded(stepScope);
+        if (filteringMoveSelector == null) {
+            return;
+        }
+        if (stepScope instanceof LocalSearchStepScope) {
+            LocalSearchStepScope<Solution_> localSearchStepScope = (LocalSearchStepScope<Solution_>) stepScope;
+            Move<Solution_> step = localSearchStepScope.getStep();
+            try {
+                changedPlanningObjectSet.addAll(step.getPlanningEntities());
+                changedPlanningObjectSet.addAll(step.getPlanningValues());
+                // The undo step knows the planning values that the step replaced
+                changedPlanningObjectSet.addAll(localSearchStepScope.getUndoStep().getPlanningValues());
+            } catch (UnsupportedOperationException e) {
+                // The step comes from another moveSelector, with a custom move that doesn't tell what it changes
+                allChanged = true;
+            }
+        } else {
+            // The step isn't known, so filter all moves again
+            allChanged = true;
+        }
+    }
+
+    @Override
+    public void disposeCache(SolverScope<Solution_> solverScope) {
+        super.disposeCache(solverScope);
+        scoreDirector = null;
+        unfilteredMoveList = null;
+        acceptedArray = null;
+        planningObjectToMoveIndexListMap = null;
+        changedPlanningObjectSet = null;
+    }
+
+    @Override
+    public boolean isNeverEnding() {
+        // CachedListRandomIterator is neverEnding
+        return randomSelection;
+    }
+
+    @Override
+    public Iterator<Move<Solution_>> iterator() {
+        if (!randomSelection) {
+            return cachedMoveList.iterator();
+        } else {
+            return new CachedListRandomIterator<>(cachedMoveList, workingRandom);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "IncrementalCaching(" + childMoveSelector + ")";
+    }
+
+    private static final class MoveIndexList {
+
+        private int[] moveIndexes = new int[4];
+        private int size = 0;
+
+        private void add(int moveIndex) {
+            if (size == moveIndexes.length) {
+                moveIndexes = Arrays.copyOf(moveIndexes, size * 2);
+            }
+            moveIndexes[size++] = moveIndex;
+        }
+
+    }
+
+}
@@ -24,22 +24,41 @@ import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.heuristic.move.FlyweightMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
-public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
+public class ChangeMove<Solution_> extends AbstractMove<Solution_> implements FlyweightMove<Solution_> {
 
-    protected final Object entity;
+    protected Object entity;
     protected final GenuineVariableDescriptor<Solution_> variableDescriptor;
-    protected final Object toPlanningValue;
+    protected Object toPlanningValue;
+    /** True if a {@link ChangeMoveSelector} iterator reuses this instance for every move it selects. */
+    protected final boolean flyweight;
 
     public ChangeMove(Object entity, GenuineVariableDescriptor<Solution_> variableDescriptor,
             Object toPlanningValue) {
+        this(entity, variableDescriptor, toPlanningValue, false);
+    }
+
+    protected ChangeMove(Object entity, GenuineVariableDescriptor<Solution_> variableDescriptor,
+            Object toPlanningValue, boolean flyweight) {
         this.entity = entity;
         this.variableDescriptor = variableDescriptor;
         this.toPlanningValue = toPlanningValue;
+        this.flyweight = flyweight;
+    }
+
+    /**
+     * @param variableDescriptor never null
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     * @return never null, a move to {@link #reset(Object, Object)} before every use
+     */
+    static <Solution_> ChangeMove<Solution_> createFlyweight(GenuineVariableDescriptor<Solution_> variableDescriptor) {
+        return new ChangeMove<>(null, variableDescriptor, null, true);
     }
 
     public Object getEntity() {
@@ -58,6 +77,29 @@ public class ChangeMove<Solution_> extends AbstractMove<Solution_> {
     // Worker methods
     // ************************************************************************
 
+    /**
+     * Only called by the iterator that created this flyweight instance, in its {@link java.util.Iterator#next()},
+     * so not while it selects its upcoming move and the previously returned move might still be in use.
+     *
+     * @param entity never null
+     * @param toPlanningValue sometimes null
+     */
+    void reset(Object entity, Object toPlanningValue) {
+        if (!flyweight) {
+            throw new IllegalStateException("Impossible state: the move (" + this + ") is not a flyweight.");
+        }
+        this.entity = entity;
+        this.toPlanningValue = toPlanningValue;
+    }
+
+    @Override
+    public Move<Solution_> materialize() {
+        if (!flyweight) {
+            return this;
+        }
+        return new ChangeMove<>(entity, variableDescriptor, toPlanningValue);
+    }
+
     @Override
     public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
         Object oldValue = variableDescriptor.getValue(entity);
@@ -36,17 +36,32 @@ public class ChangeMoveSelector<Solution_> extends GenericMoveSelector<Solution_
     protected final EntitySelector<Solution_> entitySelector;
     protected final ValueSelector<Solution_> valueSelector;
     protected final boolean randomSelection;
+    /** Reuse one {@link ChangeMove} per iterator instead of creating one per selected move. */
+    protected final boolean flyweight;
 
     protected final boolean chained;
     protected SingletonInverseVariableSupply inverseVariableSupply = null;
 
     public ChangeMoveSelector(EntitySelector<Solution_> entitySelector, ValueSelector<Solution_> valueSelector,
             boolean randomSelection) {
+        this(entitySelector, valueSelector, randomSelection, false);
+    }
+
+    /**
+     * @param entitySelector never null
+     * @param valueSelector never null
+     * @param randomSelection true if the moves are selected randomly
+     * @param flyweight true to reuse the selected move instance, ignored for a chained variable
+     */
+    public ChangeMoveSelector(EntitySelector<Solution_> entitySelector, ValueSelector<Solution_> valueSelector,
+            boolean randomSelection, boolean flyweight) {
         this.entitySelector = entitySelector;
         this.valueSelector = valueSelector;
         this.randomSelection = randomSelection;
         GenuineVariableDescriptor<Solution_> variableDescriptor = valueSelector.getVariableDescriptor();
         chained = variableDescriptor.isChained();
+        // The ChainedChangeMove calculates its trailing entities when it's created, so it can't be reused
+        this.flyweight = flyweight && !chained;
         phaseLifecycleSupport.addEventListener(entitySelector);
         phaseLifecycleSupport.addEventListener(valueSelector);
     }
@@ -113,6 +128,27 @@ public class ChangeMoveSelector<Solution_> extends GenericMoveSelector<Solution_
                         return new ChainedChangeMove<>(entity, variableDescriptor, inverseVariableSupply, toValue);
                     }
                 };
+            } else if (flyweight) {
+                return new AbstractOriginalChangeIterator<>(entitySelector, valueSelector) {
+                    private final ChangeMove<Solution_> flyweightMove = ChangeMove.createFlyweight(variableDescriptor);
+                    private Object upcomingEntity;
+                    private Object upcomingToValue;
+
+                    @Override
+                    protected Move<Solution_> newChangeSelection(Object entity, Object toValue) {
+                        // Don't reset the flyweightMove yet: the previously returned move might still be in use
+                        upcomingEntity = entity;
+                        upcomingToValue = toValue;
+                        return flyweightMove;
+                    }
+
+                    @Override
+                    public Move<Solution_> next() {
+                        Move<Solution_> move = super.next();
+                        flyweightMove.reset(upcomingEntity, upcomingToValue);
+                        return move;
+                    }
+                };
             } else {
                 return new AbstractOriginalChangeIterator<>(entitySelector, valueSelector) {
                     @Override
@@ -129,6 +165,27 @@ public class ChangeMoveSelector<Solution_> extends GenericMoveSelector<Solution_
                         return new ChainedChangeMove<>(entity, variableDescriptor, inverseVariableSupply, toValue);
                     }
                 };
+            } else if (flyweight) {
+                return new AbstractRandomChangeIterator<>(entitySelector, valueSelector) {
+                    private final ChangeMove<Solution_> flyweightMove = ChangeMove.createFlyweight(variableDescriptor);
+                    private Object upcomingEntity;
+                    private Object upcomingToValue;
+
+                    @Override
+                    protected Move<Solution_> newChangeSelection(Object entity, Object toValue) {
+                        // Don't reset the flyweightMove yet: the previously returned move might still be in use
+                        upcomingEntity = entity;
+                        upcomingToValue = toValue;
+                        return flyweightMove;
+                    }
+
+                    @Override
+                    public Move<Solution_> next() {
+                        Move<Solution_> move = super.next();
+                        flyweightMove.reset(upcomingEntity, upcomingToValue);
+                        return move;
+                    }
+                };
             } else {
                 return new AbstractRandomChangeIterator<>(entitySelector, valueSelector) {
                     @Override
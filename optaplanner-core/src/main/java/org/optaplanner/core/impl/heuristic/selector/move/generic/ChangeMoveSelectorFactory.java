@@ -64,7 +64,8 @@ public class ChangeMoveSelectorFactory<Solution_>
         ValueSelector<Solution_> valueSelector = valueSelectorFactory.buildValueSelector(configPolicy,
                 entitySelector.getEntityDescriptor(),
                 minimumCacheType, SelectionOrder.fromRandomSelectionBoolean(randomSelection));
-        return new ChangeMoveSelector<>(entitySelector, valueSelector, randomSelection);
+        boolean flyweightMoves = determineFlyweightMoves(config.getFlyweightMoves(), minimumCacheType);
+        return new ChangeMoveSelector<>(entitySelector, valueSelector, randomSelection, flyweightMoves);
     }
 
     @Override
@@ -113,6 +114,7 @@ public class ChangeMoveSelectorFactory<Solution_>
                 childValueSelectorConfig.setVariableName(variableDescriptor.getVariableName());
             }
             childMoveSelectorConfig.setValueSelectorConfig(childValueSelectorConfig);
+            childMoveSelectorConfig.setFlyweightMoves(config.getFlyweightMoves());
             moveSelectorConfigList.add(childMoveSelectorConfig);
         }
 
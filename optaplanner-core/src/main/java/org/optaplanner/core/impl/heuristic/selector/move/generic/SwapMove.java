@@ -28,22 +28,42 @@ import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.impl.domain.valuerange.descriptor.ValueRangeDescriptor;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.heuristic.move.AbstractMove;
+import org.optaplanner.core.impl.heuristic.move.FlyweightMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
 /**
  * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
  */
-public class SwapMove<Solution_> extends AbstractMove<Solution_> {
+public class SwapMove<Solution_> extends AbstractMove<Solution_> implements FlyweightMove<Solution_> {
 
     protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptorList;
 
-    protected final Object leftEntity;
-    protected final Object rightEntity;
+    protected Object leftEntity;
+    protected Object rightEntity;
+    /** True if a {@link SwapMoveSelector} iterator reuses this instance for every move it selects. */
+    protected final boolean flyweight;
 
     public SwapMove(List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, Object leftEntity, Object rightEntity) {
+        this(variableDescriptorList, leftEntity, rightEntity, false);
+    }
+
+    protected SwapMove(List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, Object leftEntity,
+            Object rightEntity, boolean flyweight) {
         this.variableDescriptorList = variableDescriptorList;
         this.leftEntity = leftEntity;
         this.rightEntity = rightEntity;
+        this.flyweight = flyweight;
+    }
+
+    /**
+     * @param variableDescriptorList never null
+     * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+     * @return never null, a move to {@link #reset(Object, Object)} before every use
+     */
+    static <Solution_> SwapMove<Solution_> createFlyweight(
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptorList) {
+        return new SwapMove<>(variableDescriptorList, null, null, true);
     }
 
     public List<String> getVariableNameList() {
@@ -66,6 +86,29 @@ public class SwapMove<Solution_> extends AbstractMove<Solution_> {
     // Worker methods
     // ************************************************************************
 
+    /**
+     * Only called by the iterator that created this flyweight instance, in its {@link java.util.Iterator#next()},
+     * so not while it selects its upcoming move and the previously returned move might still be in use.
+     *
+     * @param leftEntity never null
+     * @param rightEntity never null
+     */
+    void reset(Object leftEntity, Object rightEntity) {
+        if (!flyweight) {
+            throw new IllegalStateException("Impossible state: the move (" + this + ") is not a flyweight.");
+        }
+        this.leftEntity = leftEntity;
+        this.rightEntity = rightEntity;
+    }
+
+    @Override
+    public Move<Solution_> materialize() {
+        if (!flyweight) {
+            return this;
+        }
+        return new SwapMove<>(variableDescriptorList, leftEntity, rightEntity);
+    }
+
     @Override
     public boolean isMoveDoable(ScoreDirector<Solution_> scoreDirector) {
         boolean movable = false;
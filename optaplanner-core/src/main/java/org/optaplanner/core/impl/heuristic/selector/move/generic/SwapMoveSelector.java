@@ -38,12 +38,27 @@ public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
     protected final EntitySelector<Solution_> rightEntitySelector;
     protected final List<GenuineVariableDescriptor<Solution_>> variableDescriptorList;
     protected final boolean randomSelection;
+    /** Reuse one {@link SwapMove} per iterator instead of creating one per selected move. */
+    protected final boolean flyweight;
 
     protected final boolean anyChained;
     protected List<SingletonInverseVariableSupply> inverseVariableSupplyList = null;
 
     public SwapMoveSelector(EntitySelector<Solution_> leftEntitySelector, EntitySelector<Solution_> rightEntitySelector,
             List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, boolean randomSelection) {
+        this(leftEntitySelector, rightEntitySelector, variableDescriptorList, randomSelection, false);
+    }
+
+    /**
+     * @param leftEntitySelector never null
+     * @param rightEntitySelector never null
+     * @param variableDescriptorList never null, not empty
+     * @param randomSelection true if the moves are selected randomly
+     * @param flyweight true to reuse the selected move instance, ignored if any variable is chained
+     */
+    public SwapMoveSelector(EntitySelector<Solution_> leftEntitySelector, EntitySelector<Solution_> rightEntitySelector,
+            List<GenuineVariableDescriptor<Solution_>> variableDescriptorList, boolean randomSelection,
+            boolean flyweight) {
         this.leftEntitySelector = leftEntitySelector;
         this.rightEntitySelector = rightEntitySelector;
         this.variableDescriptorList = variableDescriptorList;
@@ -75,6 +90,8 @@ public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
             }
         }
         this.anyChained = anyChained;
+        // The ChainedSwapMove calculates its trailing entities when it's created, so it can't be reused
+        this.flyweight = flyweight && !anyChained;
         phaseLifecycleSupport.addEventListener(leftEntitySelector);
         if (leftEntitySelector != rightEntitySelector) {
             phaseLifecycleSupport.addEventListener(rightEntitySelector);
@@ -133,6 +150,51 @@ public class SwapMoveSelector<Solution_> extends GenericMoveSelector<Solution_>
 
     @Override
     public Iterator<Move<Solution_>> iterator() {
+        if (flyweight) {
+            if (!randomSelection) {
+                return new AbstractOriginalSwapIterator<>(leftEntitySelector, rightEntitySelector) {
+                    private final SwapMove<Solution_> flyweightMove = SwapMove.createFlyweight(variableDescriptorList);
+                    private Object upcomingLeftEntity;
+                    private Object upcomingRightEntity;
+
+                    @Override
+                    protected Move<Solution_> newSwapSelection(Object leftSubSelection, Object rightSubSelection) {
+                        // Don't reset the flyweightMove yet: the previously returned move might still be in use
+                        upcomingLeftEntity = leftSubSelection;
+                        upcomingRightEntity = rightSubSelection;
+                        return flyweightMove;
+                    }
+
+                    @Override
+                    public Move<Solution_> next() {
+                        Move<Solution_> move = super.next();
+                        flyweightMove.reset(upcomingLeftEntity, upcomingRightEntity);
+                        return move;
+                    }
+                };
+            } else {
+                return new AbstractRandomSwapIterator<>(leftEntitySelector, rightEntitySelector) {
+                    private final SwapMove<Solution_> flyweightMove = SwapMove.createFlyweight(variableDescriptorList);
+                    private Object upcomingLeftEntity;
+                    private Object upcomingRightEntity;
+
+                    @Override
+                    protected Move<Solution_> newSwapSelection(Object leftSubSelection, Object rightSubSelection) {
+                        // Don't reset the flyweightMove yet: the previously returned move might still be in use
+                        upcomingLeftEntity = leftSubSelection;
+                        upcomingRightEntity = rightSubSelection;
+                        return flyweightMove;
+                    }
+
+                    @Override
+                    public Move<Solution_> next() {
+                        Move<Solution_> move = super.next();
+                        flyweightMove.reset(upcomingLeftEntity, upcomingRightEntity);
+                        return move;
+                    }
+                };
+            }
+        }
         if (!randomSelection) {
             return new AbstractOriginalSwapIterator<>(leftEntitySelector, rightEntitySelector) {
                 @Override
@@ -59,8 +59,9 @@ public class SwapMoveSelectorFactory<Solution_>
                                 SelectionOrder.fromRandomSelectionBoolean(randomSelection));
         List<GenuineVariableDescriptor<Solution_>> variableDescriptorList =
                 deduceVariableDescriptorList(leftEntitySelector.getEntityDescriptor(), config.getVariableNameIncludeList());
+        boolean flyweightMoves = determineFlyweightMoves(config.getFlyweightMoves(), minimumCacheType);
         return new SwapMoveSelector<>(leftEntitySelector, rightEntitySelector, variableDescriptorList,
-                randomSelection);
+                randomSelection, flyweightMoves);
     }
 
     @Override
@@ -110,6 +111,7 @@ public class SwapMoveSelectorFactory<Solution_>
                 childMoveSelectorConfig.setSecondaryEntitySelectorConfig(childSecondaryEntitySelectorConfig);
             }
             childMoveSelectorConfig.setVariableNameIncludeList(config.getVariableNameIncludeList());
+            childMoveSelectorConfig.setFlyweightMoves(config.getFlyweightMoves());
             moveSelectorConfigList.add(childMoveSelectorConfig);
         }
 
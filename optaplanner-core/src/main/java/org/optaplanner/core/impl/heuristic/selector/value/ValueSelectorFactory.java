@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
+import org.apache.commons.lang3.ObjectUtils;
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.domain.valuerange.ValueRangeProvider;
 import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
@@ -132,6 +133,7 @@ public class ValueSelectorFactory<Solution_>
             config.getNearbySelectionConfig().validateNearby(resolvedCacheType, resolvedSelectionOrder);
         }
         validateCacheTypeVersusSelectionOrder(resolvedCacheType, resolvedSelectionOrder);
+        validateIncrementalCacheType(resolvedCacheType);
         validateSorting(resolvedSelectionOrder);
         validateProbability(resolvedSelectionOrder);
         validateSelectedLimit(minimumCacheType);
@@ -487,7 +489,10 @@ public class ValueSelectorFactory<Solution_>
         NearbyRandom nearbyRandom =
                 NearbyRandomFactory.create(config.getNearbySelectionConfig()).buildNearbyRandom(randomSelection);
         return new NearEntityNearbyValueSelector<>(valueSelector, originEntitySelector, nearbyDistanceMeter,
-                nearbyRandom, randomSelection);
+                nearbyRandom, randomSelection,
+                ObjectUtils.defaultIfNull(nearbySelectionConfig.getNearbySizeMaximum(), Integer.MAX_VALUE),
+                Boolean.TRUE.equals(nearbySelectionConfig.getParallelDistanceMatrixBuild()),
+                nearbySelectionConfig.getDistanceMatrixDirectory());
     }
 
     private ValueSelector<Solution_> applyMimicRecording(HeuristicConfigPolicy<Solution_> configPolicy,
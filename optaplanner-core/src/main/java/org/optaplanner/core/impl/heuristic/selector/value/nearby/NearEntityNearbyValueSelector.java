@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.heuristic.selector.value.nearby;
 
+import java.io.File;
 import java.util.Iterator;
 
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
@@ -37,12 +38,25 @@ public final class NearEntityNearbyValueSelector<Solution_> extends AbstractValu
     protected final NearbyRandom nearbyRandom;
     protected final boolean randomSelection;
     protected final boolean discardNearbyIndexZero;
+    /** The maximum number of nearest values to select per origin, Integer.MAX_VALUE if unbounded. */
+    protected final int nearbySizeMaximum;
+    protected final boolean parallelDistanceMatrixBuild;
+    /** Null if the distance matrix isn't persisted. */
+    protected final File distanceMatrixDirectory;
 
     protected NearbyDistanceMatrix nearbyDistanceMatrix = null;
 
     public NearEntityNearbyValueSelector(ValueSelector<Solution_> childValueSelector,
             EntitySelector<Solution_> originEntitySelector, NearbyDistanceMeter<?, ?> nearbyDistanceMeter,
             NearbyRandom nearbyRandom, boolean randomSelection) {
+        this(childValueSelector, originEntitySelector, nearbyDistanceMeter, nearbyRandom, randomSelection,
+                Integer.MAX_VALUE, false, null);
+    }
+
+    public NearEntityNearbyValueSelector(ValueSelector<Solution_> childValueSelector,
+            EntitySelector<Solution_> originEntitySelector, NearbyDistanceMeter<?, ?> nearbyDistanceMeter,
+            NearbyRandom nearbyRandom, boolean randomSelection, int nearbySizeMaximum,
+            boolean parallelDistanceMatrixBuild, File distanceMatrixDirectory) {
         this.childValueSelector = childValueSelector;
         if (!(originEntitySelector instanceof MimicReplayingEntitySelector)) {
             // In order to select a nearby value, we must first have something to be near by.
@@ -53,6 +67,9 @@ public final class NearEntityNearbyValueSelector<Solution_> extends AbstractValu
         this.nearbyDistanceMeter = nearbyDistanceMeter;
         this.nearbyRandom = nearbyRandom;
         this.randomSelection = randomSelection;
+        this.nearbySizeMaximum = nearbySizeMaximum;
+        this.parallelDistanceMatrixBuild = parallelDistanceMatrixBuild;
+        this.distanceMatrixDirectory = distanceMatrixDirectory;
         if (randomSelection && nearbyRandom == null) {
             throw new IllegalArgumentException("The valueSelector (" + this
                     + ") with randomSelection (" + randomSelection + ") has no nearbyRandom (" + nearbyRandom + ").");
@@ -79,9 +96,18 @@ public final class NearEntityNearbyValueSelector<Solution_> extends AbstractValu
                     + ") which is higher than Integer.MAX_VALUE.");
         }
         nearbyDistanceMatrix = new NearbyDistanceMatrix(nearbyDistanceMeter, (int) originSize,
-                childValueSelector::endingIterator, this::computeDestinationSize);
-        replayingOriginEntitySelector.endingIterator()
-                .forEachRemaining(origin -> nearbyDistanceMatrix.addAllDestinations(origin));
+                childValueSelector::endingIterator, this::computeDestinationSize, parallelDistanceMatrixBuild,
+                distanceMatrixDirectory, distanceMatrixDirectory == null ? null
+                        : NearbyDistanceMatrix.buildPlanningIdHashFunction(phaseScope.getSolutionDescriptor()));
+        nearbyDistanceMatrix.addAllOrigins(replayingOriginEntitySelector.endingIterator());
+    }
+
+    /**
+     * @param childSize at least 0
+     * @return childSize, unless the {@link #nearbySizeMaximum} keeps less nearest values (including the origin)
+     */
+    private long limitChildSize(long childSize) {
+        return Math.min(childSize, (long) nearbySizeMaximum + (discardNearbyIndexZero ? 1L : 0L));
     }
 
     private int computeDestinationSize(Object origin) {
@@ -91,7 +117,7 @@ public final class NearEntityNearbyValueSelector<Solution_> extends AbstractValu
                     + ") has an entitySize (" + childSize
                     + ") which is higher than Integer.MAX_VALUE.");
         }
-        int destinationSize = (int) childSize;
+        int destinationSize = (int) limitChildSize(childSize);
         if (randomSelection) {
             // Reduce RAM memory usage by reducing destinationSize if nearbyRandom will never select a higher value
             int overallSizeMaximum = nearbyRandom.getOverallSizeMaximum();
@@ -127,16 +153,17 @@ public final class NearEntityNearbyValueSelector<Solution_> extends AbstractValu
 
     @Override
     public long getSize(Object entity) {
-        return childValueSelector.getSize(entity) - (discardNearbyIndexZero ? 1 : 0);
+        return limitChildSize(childValueSelector.getSize(entity)) - (discardNearbyIndexZero ? 1 : 0);
     }
 
     @Override
     public Iterator<Object> iterator(Object entity) {
         Iterator<Object> replayingOriginEntityIterator = replayingOriginEntitySelector.iterator();
+        long childSize = limitChildSize(childValueSelector.getSize(entity));
         if (!randomSelection) {
-            return new OriginalEntityNearbyValueIterator(replayingOriginEntityIterator, childValueSelector.getSize(entity));
+            return new OriginalEntityNearbyValueIterator(replayingOriginEntityIterator, childSize);
         } else {
-            return new RandomEntityNearbyValueIterator(replayingOriginEntityIterator, childValueSelector.getSize(entity));
+            return new RandomEntityNearbyValueIterator(replayingOriginEntityIterator, childSize);
         }
     }
 
@@ -17,8 +17,7 @@
 package org.optaplanner.core.impl.heuristic.thread;
 
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.BrokenBarrierException;
-import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.Phaser;
 import java.util.concurrent.atomic.AtomicLong;
 
 import org.optaplanner.core.api.score.Score;
@@ -37,8 +36,9 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
     private final boolean evaluateDoable;
 
     private final BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
-    private final OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
-    private final CyclicBarrier moveThreadBarrier;
+    private final WorkStealingOperationQueue<Solution_> workStealingOperationQueue;
+    private final OrderByMoveIndexRingBuffer<Solution_> resultQueue;
+    private final Phaser moveThreadPhaser;
 
     private final boolean assertMoveScoreFromScratch;
     private final boolean assertExpectedUndoMoveScore;
@@ -51,8 +51,33 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
 
     public MoveThreadRunner(String logIndentation, int moveThreadIndex, boolean evaluateDoable,
             BlockingQueue<MoveThreadOperation<Solution_>> operationQueue,
-            OrderByMoveIndexBlockingQueue<Solution_> resultQueue,
-            CyclicBarrier moveThreadBarrier,
+            OrderByMoveIndexRingBuffer<Solution_> resultQueue,
+            Phaser moveThreadPhaser,
+            boolean assertMoveScoreFromScratch, boolean assertExpectedUndoMoveScore,
+            boolean assertStepScoreFromScratch, boolean assertExpectedStepScore,
+            boolean assertShadowVariablesAreNotStaleAfterStep) {
+        this(logIndentation, moveThreadIndex, evaluateDoable, operationQueue, null, resultQueue, moveThreadPhaser,
+                assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
+                assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
+    }
+
+    public MoveThreadRunner(String logIndentation, int moveThreadIndex, boolean evaluateDoable,
+            WorkStealingOperationQueue<Solution_> workStealingOperationQueue,
+            OrderByMoveIndexRingBuffer<Solution_> resultQueue,
+            Phaser moveThreadPhaser,
+            boolean assertMoveScoreFromScratch, boolean assertExpectedUndoMoveScore,
+            boolean assertStepScoreFromScratch, boolean assertExpectedStepScore,
+            boolean assertShadowVariablesAreNotStaleAfterStep) {
+        this(logIndentation, moveThreadIndex, evaluateDoable, null, workStealingOperationQueue, resultQueue,
+                moveThreadPhaser, assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
+                assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
+    }
+
+    private MoveThreadRunner(String logIndentation, int moveThreadIndex, boolean evaluateDoable,
+            BlockingQueue<MoveThreadOperation<Solution_>> operationQueue,
+            WorkStealingOperationQueue<Solution_> workStealingOperationQueue,
+            OrderByMoveIndexRingBuffer<Solution_> resultQueue,
+            Phaser moveThreadPhaser,
             boolean assertMoveScoreFromScratch, boolean assertExpectedUndoMoveScore,
             boolean assertStepScoreFromScratch, boolean assertExpectedStepScore,
             boolean assertShadowVariablesAreNotStaleAfterStep) {
@@ -60,8 +85,9 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         this.moveThreadIndex = moveThreadIndex;
         this.evaluateDoable = evaluateDoable;
         this.operationQueue = operationQueue;
+        this.workStealingOperationQueue = workStealingOperationQueue;
         this.resultQueue = resultQueue;
-        this.moveThreadBarrier = moveThreadBarrier;
+        this.moveThreadPhaser = moveThreadPhaser;
         this.assertMoveScoreFromScratch = assertMoveScoreFromScratch;
         this.assertExpectedUndoMoveScore = assertExpectedUndoMoveScore;
         this.assertStepScoreFromScratch = assertStepScoreFromScratch;
@@ -77,13 +103,16 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
             while (true) {
                 MoveThreadOperation<Solution_> operation;
                 try {
-                    operation = operationQueue.take();
+                    operation = workStealingOperationQueue == null ? operationQueue.take()
+                            : workStealingOperationQueue.take(moveThreadIndex, stepIndex);
                 } catch (InterruptedException e) {
                     Thread.currentThread().interrupt();
                     break;
                 }
 
                 if (operation instanceof SetupOperation) {
+                    // Two-phase: announce this SetupOperation was taken, but only wait for the others after the setup
+                    int phase = moveThreadPhaser.arrive();
                     SetupOperation<Solution_, Score_> setupOperation = (SetupOperation<Solution_, Score_>) operation;
                     scoreDirector = setupOperation.getScoreDirector()
                             .createChildThreadScoreDirector(ChildThreadType.MOVE_THREAD);
@@ -93,8 +122,8 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                             logIndentation, moveThreadIndex, stepIndex, lastStepScore);
                     try {
                         // Don't consume another operation until every moveThread took this SetupOperation
-                        moveThreadBarrier.await();
-                    } catch (InterruptedException | BrokenBarrierException e) {
+                        moveThreadPhaser.awaitAdvanceInterruptibly(phase);
+                    } catch (InterruptedException e) {
                         Thread.currentThread().interrupt();
                         break;
                     }
@@ -104,9 +133,9 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                     calculationCount.set(scoreDirector.getCalculationCount());
                     break;
                 } else if (operation instanceof ApplyStepOperation) {
-                    // TODO Performance gain with specialized 2-phase cyclic barrier:
-                    // As soon as the last move thread has taken its ApplyStepOperation,
-                    // other move threads can already depart from the moveThreadStepBarrier: no need to wait until the step is done.
+                    // Two-phase: as soon as the last move thread has taken its ApplyStepOperation,
+                    // the other move threads can depart: no need to wait until the slowest one has done the step.
+                    int phase = moveThreadPhaser.arrive();
                     ApplyStepOperation<Solution_, Score_> applyStepOperation =
                             (ApplyStepOperation<Solution_, Score_>) operation;
                     if (stepIndex + 1 != applyStepOperation.getStepIndex()) {
@@ -124,8 +153,8 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                             logIndentation, moveThreadIndex, stepIndex, lastStepScore);
                     try {
                         // Don't consume an MoveEvaluationOperation until every moveThread took this ApplyStepOperation
-                        moveThreadBarrier.await();
-                    } catch (InterruptedException | BrokenBarrierException e) {
+                        moveThreadPhaser.awaitAdvanceInterruptibly(phase);
+                    } catch (InterruptedException e) {
                         Thread.currentThread().interrupt();
                         break;
                     }
@@ -139,19 +168,20 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
                                 + moveIndex + ").");
                     }
                     Move<Solution_> move = moveEvaluationOperation.getMove().rebase(scoreDirector);
-                    if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
-                        LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex);
-                        resultQueue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, move);
-                    } else {
-                        Score<?> score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
-                        if (assertExpectedUndoMoveScore) {
-                            scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
-                        }
-                        LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
-                                logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
-                        // Deliberately add to fail fast if there is not enough capacity (which is impossible)
-                        resultQueue.addMove(moveThreadIndex, stepIndex, moveIndex, move, score);
+                    evaluateMove(stepIndex, moveIndex, move, lastStepScore);
+                } else if (operation instanceof MoveBatchEvaluationOperation) {
+                    MoveBatchEvaluationOperation<Solution_> moveBatchEvaluationOperation =
+                            (MoveBatchEvaluationOperation<Solution_>) operation;
+                    if (stepIndex != moveBatchEvaluationOperation.getStepIndex()) {
+                        throw new IllegalStateException("Impossible situation: the moveThread's stepIndex ("
+                                + stepIndex + ") differs from the operation's stepIndex ("
+                                + moveBatchEvaluationOperation.getStepIndex() + ") with firstMoveIndex ("
+                                + moveBatchEvaluationOperation.getFirstMoveIndex() + ").");
+                    }
+                    int moveIndex = moveBatchEvaluationOperation.getFirstMoveIndex();
+                    for (Move<Solution_> batchMove : moveBatchEvaluationOperation.getMoveList()) {
+                        evaluateMove(stepIndex, moveIndex, batchMove.rebase(scoreDirector), lastStepScore);
+                        moveIndex++;
                     }
                 } else {
                     throw new IllegalStateException("Unknown operation (" + operation + ").");
@@ -172,6 +202,22 @@ public class MoveThreadRunner<Solution_, Score_ extends Score<Score_>> implement
         }
     }
 
+    private void evaluateMove(int stepIndex, int moveIndex, Move<Solution_> move, Score_ lastStepScore) {
+        if (evaluateDoable && !move.isMoveDoable(scoreDirector)) {
+            LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), not doable.",
+                    logIndentation, moveThreadIndex, stepIndex, moveIndex);
+            resultQueue.addUndoableMove(moveThreadIndex, stepIndex, moveIndex, move);
+            return;
+        }
+        Score<?> score = scoreDirector.doAndProcessMove(move, assertMoveScoreFromScratch);
+        if (assertExpectedUndoMoveScore) {
+            scoreDirector.assertExpectedUndoMoveScore(move, lastStepScore);
+        }
+        LOGGER.trace("{}            Move thread ({}) evaluation: step index ({}), move index ({}), score ({}).",
+                logIndentation, moveThreadIndex, stepIndex, moveIndex, score);
+        resultQueue.addMove(moveThreadIndex, stepIndex, moveIndex, move, score);
+    }
+
     protected void predictWorkingStepScore(Move<Solution_> step, Score_ score) {
         // There is no need to recalculate the score, but we still need to set it
         scoreDirector.getSolutionDescriptor().setScore(scoreDirector.getWorkingSolution(), score);
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.LockSupport;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.heuristic.move.Move;
+
+/**
+ * Lock-free result queue of the multithreaded deciders:
+ * multiple move threads produce results, only the solver thread consumes them, in move index order.
+ * <p>
+ * Every move index has a fixed slot ({@code moveIndex % capacity}) and the slots are reused across steps,
+ * so adding a result doesn't allocate. This relies on the deciders never having more moves in circulation
+ * than the capacity: a slot is only written again after the solver thread has taken its previous result.
+ * It also relies on the move thread phaser: no move thread still adds a result of the previous step
+ * once a move thread adds a result of the current step.
+ *
+ * @param <Solution_> the solution type, the class with the {@link org.optaplanner.core.api.domain.solution.PlanningSolution} annotation
+ */
+public class OrderByMoveIndexRingBuffer<Solution_> {
+
+    private static final long NO_KEY = -1L;
+    private static final int SPIN_LIMIT = 100;
+
+    private final MoveResult<Solution_>[] slots;
+    /** For every slot, the {@link #toKey(int, int) key} of the result that has been published in it. */
+    private final AtomicLongArray publishedKeys;
+    private final AtomicReference<MoveResult<Solution_>> exceptionResult = new AtomicReference<>(null);
+
+    private volatile int filterStepIndex = Integer.MIN_VALUE;
+    private int nextMoveIndex = Integer.MIN_VALUE;
+
+    // Only set while the solver thread is about to park, to avoid an unpark call for every result
+    private volatile Thread waitingThread = null;
+    private volatile long waitingKey = NO_KEY;
+
+    public OrderByMoveIndexRingBuffer(int capacity) {
+        slots = new MoveResult[capacity];
+        for (int i = 0; i < capacity; i++) {
+            slots[i] = new MoveResult<>();
+        }
+        publishedKeys = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            publishedKeys.set(i, NO_KEY);
+        }
+    }
+
+    private static long toKey(int stepIndex, int moveIndex) {
+        return ((long) stepIndex << 32) | (moveIndex & 0xFFFFFFFFL);
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     *
+     * @param stepIndex at least 0
+     */
+    public void startNextStep(int stepIndex) {
+        if (filterStepIndex >= stepIndex) {
+            throw new IllegalStateException("The old filterStepIndex (" + filterStepIndex
+                    + ") must be less than the stepIndex (" + stepIndex + ")");
+        }
+        throwIfExceptionThrown();
+        filterStepIndex = stepIndex;
+        nextMoveIndex = 0;
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     *
+     * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0
+     * @param move never null
+     */
+    public void addUndoableMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move) {
+        publish(moveThreadIndex, stepIndex, moveIndex, move, false, null);
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     *
+     * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
+     * @param stepIndex at least 0
+     * @param moveIndex at least 0
+     * @param move never null
+     * @param score never null
+     */
+    public void addMove(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, Score score) {
+        publish(moveThreadIndex, stepIndex, moveIndex, move, true, score);
+    }
+
+    private void publish(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, boolean moveDoable,
+            Score score) {
+        if (stepIndex != filterStepIndex || exceptionResult.get() != null) {
+            // Discard element from previous step or after a failure
+            return;
+        }
+        int slotIndex = moveIndex % slots.length;
+        slots[slotIndex].set(moveThreadIndex, stepIndex, moveIndex, move, moveDoable, score);
+        long key = toKey(stepIndex, moveIndex);
+        // Volatile write: publishes the slot's fields to the solver thread
+        publishedKeys.set(slotIndex, key);
+        if (waitingKey == key) {
+            Thread thread = waitingThread;
+            if (thread != null) {
+                LockSupport.unpark(thread);
+            }
+        }
+    }
+
+    /**
+     * This method is thread-safe. It can be called from any move thread.
+     * Results that have been added before, will still be returned before {@link #take()} throws an exception,
+     * unless there's a lower moveIndex that hasn't been added yet.
+     *
+     * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
+     * @param throwable never null
+     */
+    public void addExceptionThrown(int moveThreadIndex, Throwable throwable) {
+        MoveResult<Solution_> result = new MoveResult<>();
+        result.setThrowable(moveThreadIndex, throwable);
+        // If 2 exceptions are added from different threads concurrently, either one could win.
+        // This is a known deviation from 100% reproducibility, that never occurs in a success scenario.
+        exceptionResult.compareAndSet(null, result);
+        Thread thread = waitingThread;
+        if (thread != null) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     *
+     * @return never null, only valid until the next call of this method, because the instance is reused
+     * @throws InterruptedException if interrupted
+     */
+    public MoveResult<Solution_> take() throws InterruptedException {
+        int moveIndex = nextMoveIndex;
+        nextMoveIndex++;
+        int slotIndex = moveIndex % slots.length;
+        long key = toKey(filterStepIndex, moveIndex);
+        int spinCount = 0;
+        while (publishedKeys.get(slotIndex) != key) {
+            throwIfExceptionThrown();
+            if (spinCount < SPIN_LIMIT) {
+                spinCount++;
+                Thread.onSpinWait();
+                continue;
+            }
+            waitingThread = Thread.currentThread();
+            waitingKey = key;
+            // Recheck after announcing the wait, so an unpark can't be missed
+            if (publishedKeys.get(slotIndex) != key && exceptionResult.get() == null) {
+                LockSupport.park(this);
+            }
+            waitingKey = NO_KEY;
+            waitingThread = null;
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+        return slots[slotIndex];
+    }
+
+    private void throwIfExceptionThrown() {
+        MoveResult<Solution_> result = exceptionResult.get();
+        if (result != null) {
+            throw new IllegalStateException("The move thread with moveThreadIndex ("
+                    + result.getMoveThreadIndex() + ") has thrown an exception."
+                    + " Relayed here in the parent thread.",
+                    result.getThrowable());
+        }
+    }
+
+    /**
+     * Mutable, because every slot reuses its instance.
+     * The fields are safely published by the volatile write of the slot's key.
+     */
+    public static class MoveResult<Solution_> {
+
+        private int moveThreadIndex = -1;
+        private int stepIndex = -1;
+        private int moveIndex = -1;
+        private Move<Solution_> move = null;
+        private boolean moveDoable = false;
+        private Score score = null;
+        private Throwable throwable = null;
+
+        private void set(int moveThreadIndex, int stepIndex, int moveIndex, Move<Solution_> move, boolean moveDoable,
+                Score score) {
+            this.moveThreadIndex = moveThreadIndex;
+            this.stepIndex = stepIndex;
+            this.moveIndex = moveIndex;
+            this.move = move;
+            this.moveDoable = moveDoable;
+            this.score = score;
+        }
+
+        private void setThrowable(int moveThreadIndex, Throwable throwable) {
+            this.moveThreadIndex = moveThreadIndex;
+            this.throwable = throwable;
+        }
+
+        public int getMoveThreadIndex() {
+            return moveThreadIndex;
+        }
+
+        public int getStepIndex() {
+            return stepIndex;
+        }
+
+        public int getMoveIndex() {
+            return moveIndex;
+        }
+
+        public Move<Solution_> getMove() {
+            return move;
+        }
+
+        public boolean isMoveDoable() {
+            return moveDoable;
+        }
+
+        public Score getScore() {
+            return score;
+        }
+
+        private Throwable getThrowable() {
+            return throwable;
+        }
+
+    }
+
+}
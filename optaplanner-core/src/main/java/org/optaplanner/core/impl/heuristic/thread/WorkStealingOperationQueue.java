@@ -0,0 +1,214 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Alternative to a single shared {@link java.util.concurrent.BlockingQueue} of {@link MoveThreadOperation}s:
+ * every move thread owns a FIFO queue of move evaluation operations and steals from its peers' queues when idle.
+ * <p>
+ * The move evaluation operations are dealt out round-robin, so every move thread mostly evaluates its own moves
+ * on its own child score director, and the solver thread doesn't contend with all move threads on 1 queue.
+ * A move thread that ran out of work takes the oldest operation of a busy peer,
+ * so a few expensive moves don't hold up the cheap ones behind them.
+ * <p>
+ * Unlike a classic work stealing deque, the owner and the thieves both take from the head (the oldest operation):
+ * the solver thread consumes the results in move index order (see {@link OrderByMoveIndexRingBuffer}),
+ * so evaluating the newest operation first would only make it wait longer for the oldest one.
+ * The queues are {@link ConcurrentLinkedDeque}s only to put an operation of a later step back at the head.
+ * <p>
+ * The other operations ({@link SetupOperation}, {@link ApplyStepOperation} and {@link DestroyOperation})
+ * are added to every move thread and are never stolen.
+ * A move thread always takes those first and never takes a move evaluation operation of another step,
+ * so it never evaluates a move of the next step before it has applied that step.
+ *
+ * @param <Solution_> the solution type, the class with the {@link org.optaplanner.core.api.domain.solution.PlanningSolution} annotation
+ */
+public class WorkStealingOperationQueue<Solution_> {
+
+    private final int moveThreadCount;
+    private final List<Queue<MoveThreadOperation<Solution_>>> controlQueueList;
+    private final List<ConcurrentLinkedDeque<MoveThreadOperation<Solution_>>> moveDequeList;
+    /** For every move thread, the thread if it's parked waiting for an operation, otherwise null. */
+    private final AtomicReferenceArray<Thread> idleThreads;
+
+    // Only used by the solver thread
+    private int nextMoveThreadIndex = 0;
+
+    public WorkStealingOperationQueue(int moveThreadCount) {
+        this.moveThreadCount = moveThreadCount;
+        controlQueueList = new ArrayList<>(moveThreadCount);
+        moveDequeList = new ArrayList<>(moveThreadCount);
+        for (int i = 0; i < moveThreadCount; i++) {
+            controlQueueList.add(new ConcurrentLinkedQueue<>());
+            moveDequeList.add(new ConcurrentLinkedDeque<>());
+        }
+        idleThreads = new AtomicReferenceArray<>(moveThreadCount);
+    }
+
+    // ************************************************************************
+    // Solver thread methods
+    // ************************************************************************
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     *
+     * @param operation never null, a {@link SetupOperation}, {@link ApplyStepOperation} or {@link DestroyOperation}
+     */
+    public void addToAll(MoveThreadOperation<Solution_> operation) {
+        if (isMoveOperation(operation)) {
+            throw new IllegalArgumentException("The operation (" + operation
+                    + ") is a move evaluation operation and must be added to only 1 move thread.");
+        }
+        for (int i = 0; i < moveThreadCount; i++) {
+            controlQueueList.get(i).add(operation);
+            LockSupport.unpark(idleThreads.get(i));
+        }
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     *
+     * @param operation never null, a {@link MoveEvaluationOperation} or {@link MoveBatchEvaluationOperation}
+     */
+    public void addMoveOperation(MoveThreadOperation<Solution_> operation) {
+        if (!isMoveOperation(operation)) {
+            throw new IllegalArgumentException("The operation (" + operation
+                    + ") is not a move evaluation operation.");
+        }
+        int moveThreadIndex = nextMoveThreadIndex;
+        nextMoveThreadIndex = (nextMoveThreadIndex + 1) % moveThreadCount;
+        moveDequeList.get(moveThreadIndex).addLast(operation);
+        Thread owner = idleThreads.get(moveThreadIndex);
+        if (owner != null) {
+            LockSupport.unpark(owner);
+            return;
+        }
+        // The owner is busy, so wake up an idle peer to steal it
+        for (int i = 0; i < moveThreadCount; i++) {
+            Thread peer = idleThreads.get(i);
+            if (peer != null) {
+                LockSupport.unpark(peer);
+                return;
+            }
+        }
+    }
+
+    /**
+     * Not thread-safe. Can only be called from the solver thread.
+     * Removes the move evaluation operations that haven't been taken yet.
+     */
+    public void clearMoveOperations() {
+        for (ConcurrentLinkedDeque<MoveThreadOperation<Solution_>> moveDeque : moveDequeList) {
+            moveDeque.clear();
+        }
+        nextMoveThreadIndex = 0;
+    }
+
+    // ************************************************************************
+    // Move thread methods
+    // ************************************************************************
+
+    /**
+     * This method is thread-safe. Can only be called from the move thread with that moveThreadIndex.
+     *
+     * @param moveThreadIndex {@code 0 <= moveThreadIndex < moveThreadCount}
+     * @param stepIndex the step index of the move thread, only move evaluation operations of that step are taken
+     * @return never null
+     * @throws InterruptedException if interrupted
+     */
+    public MoveThreadOperation<Solution_> take(int moveThreadIndex, int stepIndex) throws InterruptedException {
+        while (true) {
+            MoveThreadOperation<Solution_> operation = poll(moveThreadIndex, stepIndex);
+            if (operation != null) {
+                return operation;
+            }
+            idleThreads.set(moveThreadIndex, Thread.currentThread());
+            // Recheck after announcing the idleness, so an unpark can't be missed
+            operation = poll(moveThreadIndex, stepIndex);
+            if (operation == null) {
+                LockSupport.park(this);
+            }
+            idleThreads.set(moveThreadIndex, null);
+            if (operation != null) {
+                return operation;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+        }
+    }
+
+    private MoveThreadOperation<Solution_> poll(int moveThreadIndex, int stepIndex) {
+        MoveThreadOperation<Solution_> operation = controlQueueList.get(moveThreadIndex).poll();
+        if (operation != null) {
+            return operation;
+        }
+        // First the own queue, then the peers' queues, all oldest operation first
+        for (int i = 0; i < moveThreadCount; i++) {
+            ConcurrentLinkedDeque<MoveThreadOperation<Solution_>> moveDeque =
+                    moveDequeList.get((moveThreadIndex + i) % moveThreadCount);
+            operation = pollMoveOperation(moveDeque, stepIndex);
+            if (operation != null) {
+                return operation;
+            }
+        }
+        return null;
+    }
+
+    private MoveThreadOperation<Solution_> pollMoveOperation(
+            ConcurrentLinkedDeque<MoveThreadOperation<Solution_>> moveDeque, int stepIndex) {
+        while (true) {
+            MoveThreadOperation<Solution_> operation = moveDeque.pollFirst();
+            if (operation == null) {
+                return null;
+            }
+            int operationStepIndex = getStepIndex(operation);
+            if (operationStepIndex == stepIndex) {
+                return operation;
+            } else if (operationStepIndex > stepIndex) {
+                // This move thread hasn't taken its ApplyStepOperation yet, so leave it for the others
+                moveDeque.offerFirst(operation);
+                return null;
+            }
+            // Discard an operation of a previous step: the solver thread no longer needs its result
+        }
+    }
+
+    private static boolean isMoveOperation(MoveThreadOperation<?> operation) {
+        return operation instanceof MoveEvaluationOperation || operation instanceof MoveBatchEvaluationOperation;
+    }
+
+    private static int getStepIndex(MoveThreadOperation<?> operation) {
+        if (operation instanceof MoveEvaluationOperation) {
+            return ((MoveEvaluationOperation<?>) operation).getStepIndex();
+        } else if (operation instanceof MoveBatchEvaluationOperation) {
+            return ((MoveBatchEvaluationOperation<?>) operation).getStepIndex();
+        } else {
+            throw new IllegalStateException("Impossible state: the operation (" + operation
+                    + ") is not a move evaluation operation.");
+        }
+    }
+
+}
@@ -107,11 +107,19 @@ public class DefaultLocalSearchPhaseFactory<Solution_>
                 // If it's too high, more moves are selected that aren't foraged
                 moveThreadBufferSize = 10;
             }
+            Integer moveThreadBatchSize = configPolicy.getMoveThreadBatchSize();
+            if (moveThreadBatchSize == null) {
+                moveThreadBatchSize = 1;
+            } else if (moveThreadBatchSize < 1) {
+                throw new IllegalArgumentException("The moveThreadBatchSize (" + moveThreadBatchSize
+                        + ") cannot be less than 1.");
+            }
             ThreadFactory threadFactory = configPolicy.buildThreadFactory(ChildThreadType.MOVE_THREAD);
-            int selectedMoveBufferSize = moveThreadCount * moveThreadBufferSize;
+            // Every move thread has moveThreadBufferSize batches in circulation
+            int selectedMoveBufferSize = moveThreadCount * moveThreadBufferSize * moveThreadBatchSize;
             MultiThreadedLocalSearchDecider<Solution_> multiThreadedDecider = new MultiThreadedLocalSearchDecider<>(
                     configPolicy.getLogIndentation(), termination, moveSelector, acceptor, forager,
-                    threadFactory, moveThreadCount, selectedMoveBufferSize);
+                    threadFactory, moveThreadCount, selectedMoveBufferSize, moveThreadBatchSize);
             if (environmentMode.isNonIntrusiveFullAsserted()) {
                 multiThreadedDecider.setAssertStepScoreFromScratch(true);
             }
@@ -119,6 +127,9 @@ public class DefaultLocalSearchPhaseFactory<Solution_>
                 multiThreadedDecider.setAssertExpectedStepScore(true);
                 multiThreadedDecider.setAssertShadowVariablesAreNotStaleAfterStep(true);
             }
+            if (Boolean.TRUE.equals(configPolicy.getMoveThreadWorkStealing())) {
+                multiThreadedDecider.setMoveThreadWorkStealing(true);
+            }
             decider = multiThreadedDecider;
         }
         if (environmentMode.isNonIntrusiveFullAsserted()) {
@@ -21,23 +21,26 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.Phaser;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.heuristic.move.FlyweightMove;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
 import org.optaplanner.core.impl.heuristic.thread.ApplyStepOperation;
 import org.optaplanner.core.impl.heuristic.thread.DestroyOperation;
+import org.optaplanner.core.impl.heuristic.thread.MoveBatchEvaluationOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveEvaluationOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveThreadOperation;
 import org.optaplanner.core.impl.heuristic.thread.MoveThreadRunner;
-import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexBlockingQueue;
+import org.optaplanner.core.impl.heuristic.thread.OrderByMoveIndexRingBuffer;
 import org.optaplanner.core.impl.heuristic.thread.SetupOperation;
+import org.optaplanner.core.impl.heuristic.thread.WorkStealingOperationQueue;
 import org.optaplanner.core.impl.localsearch.decider.acceptor.Acceptor;
 import org.optaplanner.core.impl.localsearch.decider.forager.LocalSearchForager;
 import org.optaplanner.core.impl.localsearch.scope.LocalSearchMoveScope;
@@ -55,24 +58,41 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
     protected final ThreadFactory threadFactory;
     protected final int moveThreadCount;
     protected final int selectedMoveBufferSize;
+    protected final int moveThreadBatchSize;
 
     protected boolean assertStepScoreFromScratch = false;
     protected boolean assertExpectedStepScore = false;
     protected boolean assertShadowVariablesAreNotStaleAfterStep = false;
+    protected boolean moveThreadWorkStealing = false;
 
     protected BlockingQueue<MoveThreadOperation<Solution_>> operationQueue;
-    protected OrderByMoveIndexBlockingQueue<Solution_> resultQueue;
-    protected CyclicBarrier moveThreadBarrier;
+    /** Used instead of {@link #operationQueue} if {@link #moveThreadWorkStealing} is enabled. */
+    protected WorkStealingOperationQueue<Solution_> workStealingOperationQueue;
+    protected OrderByMoveIndexRingBuffer<Solution_> resultQueue;
+    protected Phaser moveThreadPhaser;
     protected ExecutorService executor;
     protected List<MoveThreadRunner<Solution_, ?>> moveThreadRunnerList;
+    /** Selected moves that haven't been sent to the move threads yet, because their batch isn't full. */
+    protected List<Move<Solution_>> selectingMoveBatch;
 
     public MultiThreadedLocalSearchDecider(String logIndentation, Termination<Solution_> termination,
             MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager,
             ThreadFactory threadFactory, int moveThreadCount, int selectedMoveBufferSize) {
+        this(logIndentation, termination, moveSelector, acceptor, forager, threadFactory, moveThreadCount,
+                selectedMoveBufferSize, 1);
+    }
+
+    /**
+     * @param moveThreadBatchSize at least 1, the number of moves sent to a move thread in one operation
+     */
+    public MultiThreadedLocalSearchDecider(String logIndentation, Termination<Solution_> termination,
+            MoveSelector<Solution_> moveSelector, Acceptor<Solution_> acceptor, LocalSearchForager<Solution_> forager,
+            ThreadFactory threadFactory, int moveThreadCount, int selectedMoveBufferSize, int moveThreadBatchSize) {
         super(logIndentation, termination, moveSelector, acceptor, forager);
         this.threadFactory = threadFactory;
         this.moveThreadCount = moveThreadCount;
         this.selectedMoveBufferSize = selectedMoveBufferSize;
+        this.moveThreadBatchSize = moveThreadBatchSize;
     }
 
     public void setAssertStepScoreFromScratch(boolean assertStepScoreFromScratch) {
@@ -87,39 +107,57 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         this.assertShadowVariablesAreNotStaleAfterStep = assertShadowVariablesAreNotStaleAfterStep;
     }
 
+    /**
+     * @param moveThreadWorkStealing true if every move thread has its own operations and steals from the others,
+     *        false if all move threads share 1 operation queue
+     */
+    public void setMoveThreadWorkStealing(boolean moveThreadWorkStealing) {
+        this.moveThreadWorkStealing = moveThreadWorkStealing;
+    }
+
     @Override
     public void phaseStarted(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseStarted(phaseScope);
-        // Capacity: number of moves in circulation + number of setup xor step operations + number of destroy operations
-        operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        if (moveThreadWorkStealing) {
+            workStealingOperationQueue = new WorkStealingOperationQueue<>(moveThreadCount);
+        } else {
+            // Capacity: number of moves in circulation + number of setup xor step operations + number of destroy operations
+            operationQueue = new ArrayBlockingQueue<>(selectedMoveBufferSize + moveThreadCount + moveThreadCount);
+        }
         // Capacity: number of moves in circulation + number of exception handling results
-        resultQueue = new OrderByMoveIndexBlockingQueue<>(selectedMoveBufferSize + moveThreadCount);
-        moveThreadBarrier = new CyclicBarrier(moveThreadCount);
+        resultQueue = new OrderByMoveIndexRingBuffer<>(selectedMoveBufferSize + moveThreadCount);
+        moveThreadPhaser = new Phaser(moveThreadCount);
+        selectingMoveBatch = new ArrayList<>(moveThreadBatchSize);
         InnerScoreDirector<Solution_, ?> scoreDirector = phaseScope.getScoreDirector();
         executor = createThreadPoolExecutor();
         moveThreadRunnerList = new ArrayList<>(moveThreadCount);
         for (int moveThreadIndex = 0; moveThreadIndex < moveThreadCount; moveThreadIndex++) {
-            MoveThreadRunner<Solution_, ?> moveThreadRunner = new MoveThreadRunner<>(
-                    logIndentation, moveThreadIndex, true,
-                    operationQueue, resultQueue, moveThreadBarrier,
-                    assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
-                    assertStepScoreFromScratch, assertExpectedStepScore, assertShadowVariablesAreNotStaleAfterStep);
+            MoveThreadRunner<Solution_, ?> moveThreadRunner = moveThreadWorkStealing
+                    ? new MoveThreadRunner<>(
+                            logIndentation, moveThreadIndex, true,
+                            workStealingOperationQueue, resultQueue, moveThreadPhaser,
+                            assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
+                            assertStepScoreFromScratch, assertExpectedStepScore,
+                            assertShadowVariablesAreNotStaleAfterStep)
+                    : new MoveThreadRunner<>(
+                            logIndentation, moveThreadIndex, true,
+                            operationQueue, resultQueue, moveThreadPhaser,
+                            assertMoveScoreFromScratch, assertExpectedUndoMoveScore,
+                            assertStepScoreFromScratch, assertExpectedStepScore,
+                            assertShadowVariablesAreNotStaleAfterStep);
             moveThreadRunnerList.add(moveThreadRunner);
             executor.submit(moveThreadRunner);
-            operationQueue.add(new SetupOperation<>(scoreDirector));
         }
+        addToAllMoveThreads(new SetupOperation<>(scoreDirector));
     }
 
     @Override
     public void phaseEnded(LocalSearchPhaseScope<Solution_> phaseScope) {
         super.phaseEnded(phaseScope);
         // Tell the move thread runners to stop
-        // Don't clear the operationsQueue to avoid moveThreadBarrier deadlock:
+        // Don't clear the operationsQueue to avoid moveThreadPhaser deadlock:
         // The MoveEvaluationOperations are already cleared and the new ApplyStepOperation isn't added yet.
-        DestroyOperation<Solution_> destroyOperation = new DestroyOperation<>();
-        for (int i = 0; i < moveThreadCount; i++) {
-            operationQueue.add(destroyOperation);
-        }
+        addToAllMoveThreads(new DestroyOperation<>());
         // TODO This should probably be in a finally that spans at least the entire phase, maybe even the entire solve
         ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Multithreaded Local Search");
         long childThreadsScoreCalculationCount = 0;
@@ -128,8 +166,10 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
         }
         phaseScope.addChildThreadsScoreCalculationCount(childThreadsScoreCalculationCount);
         operationQueue = null;
+        workStealingOperationQueue = null;
         resultQueue = null;
         moveThreadRunnerList = null;
+        selectingMoveBatch = null;
     }
 
     protected ExecutorService createThreadPoolExecutor() {
@@ -157,34 +197,78 @@ public class MultiThreadedLocalSearchDecider<Solution_> extends LocalSearchDecid
             // For reproducibility, the selectedMoveBufferSize always need to be entirely selected,
             // even if some of those moves won't end up being evaluated or foraged
             if (selectingMoveIndex >= selectedMoveBufferSize || moveIteratorEmpty) {
+                // The move to forage might still be waiting in an incomplete batch
+                if (!selectingMoveBatch.isEmpty()
+                        && foragingMoveIndex >= selectingMoveIndex - selectingMoveBatch.size()) {
+                    dispatchMoveBatch(stepIndex, selectingMoveIndex);
+                }
                 if (forageResult(stepScope, stepIndex)) {
                     break;
                 }
                 foragingMoveIndex++;
             }
             if (!moveIteratorEmpty) {
-                Move<Solution_> selectingMove = moveIterator.next();
-                operationQueue.add(new MoveEvaluationOperation<>(stepIndex, selectingMoveIndex, selectingMove));
+                // Materialize because the move threads evaluate it after the next move is selected
+                selectingMoveBatch.add(FlyweightMove.materializeIfFlyweight(moveIterator.next()));
                 selectingMoveIndex++;
+                if (selectingMoveBatch.size() >= moveThreadBatchSize) {
+                    dispatchMoveBatch(stepIndex, selectingMoveIndex);
+                }
             }
         } while (foragingMoveIndex < selectingMoveIndex);
 
         // Do not evaluate the remaining selected moves for this step that haven't started evaluation yet
-        operationQueue.clear();
+        selectingMoveBatch.clear();
+        clearMoveOperations();
         pickMove(stepScope);
         // Start doing the step on every move thread. Don't wait for the stepEnded() event.
         if (stepScope.getStep() != null) {
             // Increase stepIndex by 1, because it's a preliminary action
             ApplyStepOperation<Solution_, ?> stepOperation = new ApplyStepOperation<>(stepIndex + 1,
                     stepScope.getStep(), (Score) stepScope.getScore());
+            addToAllMoveThreads(stepOperation);
+        }
+    }
+
+    private void dispatchMoveBatch(int stepIndex, int selectingMoveIndex) {
+        int firstMoveIndex = selectingMoveIndex - selectingMoveBatch.size();
+        if (selectingMoveBatch.size() == 1) {
+            addMoveOperation(new MoveEvaluationOperation<>(stepIndex, firstMoveIndex, selectingMoveBatch.get(0)));
+        } else {
+            addMoveOperation(new MoveBatchEvaluationOperation<>(stepIndex, firstMoveIndex,
+                    new ArrayList<>(selectingMoveBatch)));
+        }
+        selectingMoveBatch.clear();
+    }
+
+    private void addToAllMoveThreads(MoveThreadOperation<Solution_> operation) {
+        if (moveThreadWorkStealing) {
+            workStealingOperationQueue.addToAll(operation);
+        } else {
             for (int i = 0; i < moveThreadCount; i++) {
-                operationQueue.add(stepOperation);
+                operationQueue.add(operation);
             }
         }
     }
 
+    private void addMoveOperation(MoveThreadOperation<Solution_> operation) {
+        if (moveThreadWorkStealing) {
+            workStealingOperationQueue.addMoveOperation(operation);
+        } else {
+            operationQueue.add(operation);
+        }
+    }
+
+    private void clearMoveOperations() {
+        if (moveThreadWorkStealing) {
+            workStealingOperationQueue.clearMoveOperations();
+        } else {
+            operationQueue.clear();
+        }
+    }
+
     private boolean forageResult(LocalSearchStepScope<Solution_> stepScope, int stepIndex) {
-        OrderByMoveIndexBlockingQueue.MoveResult<Solution_> result;
+        OrderByMoveIndexRingBuffer.MoveResult<Solution_> result;
         try {
             result = resultQueue.take();
         } catch (InterruptedException e) {
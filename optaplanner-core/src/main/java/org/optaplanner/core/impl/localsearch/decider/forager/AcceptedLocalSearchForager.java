@@ -93,6 +93,9 @@ public class AcceptedLocalSearchForager<Solution_> extends AbstractLocalSearchFo
         if (moveScope.getAccepted()) {
             acceptedMoveCount++;
             checkPickEarly(moveScope);
+            if (earlyPickedMoveScope == moveScope) {
+                moveScope.materializeMove();
+            }
         }
         finalistPodium.addMove(moveScope);
     }
@@ -49,6 +49,7 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
     }
 
     protected void clearAndAddFinalist(LocalSearchMoveScope<Solution_> moveScope) {
+        moveScope.materializeMove();
         finalistList.clear();
         finalistList.add(moveScope);
     }
@@ -58,6 +59,7 @@ public abstract class AbstractFinalistPodium<Solution_> extends LocalSearchPhase
             // Avoid unbounded growth and OutOfMemoryException
             return;
         }
+        moveScope.materializeMove();
         finalistList.add(moveScope);
     }
 
@@ -26,6 +26,7 @@ import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.config.phase.PhaseConfig;
 import org.optaplanner.core.impl.heuristic.HeuristicConfigPolicy;
 import org.optaplanner.core.impl.heuristic.move.Move;
@@ -60,6 +61,9 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
     protected final ThreadFactory threadFactory;
     protected final Integer runnablePartThreadLimit;
 
+    protected Long repartitionIntervalMilliseconds = null;
+    protected Integer repartitionIntervalStepCount = null;
+
     protected List<PhaseConfig> phaseConfigList;
     protected HeuristicConfigPolicy<Solution_> configPolicy;
 
@@ -80,6 +84,21 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         this.configPolicy = configPolicy;
     }
 
+    /**
+     * @param repartitionIntervalMilliseconds null if the partitions don't time out, otherwise at least 1
+     */
+    public void setRepartitionIntervalMilliseconds(Long repartitionIntervalMilliseconds) {
+        this.repartitionIntervalMilliseconds = repartitionIntervalMilliseconds;
+    }
+
+    /**
+     * @param repartitionIntervalStepCount null if the partitions don't end after a number of steps,
+     *        otherwise at least 1
+     */
+    public void setRepartitionIntervalStepCount(Integer repartitionIntervalStepCount) {
+        this.repartitionIntervalStepCount = repartitionIntervalStepCount;
+    }
+
     @Override
     public String getPhaseTypeString() {
         return "Partitioned Search";
@@ -94,12 +113,41 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
         PartitionedSearchPhaseScope<Solution_> phaseScope = new PartitionedSearchPhaseScope<>(solverScope);
         List<Solution_> partList = solutionPartitioner.splitWorkingSolution(
                 solverScope.getScoreDirector(), runnablePartThreadLimit);
-        int partCount = partList.size();
-        phaseScope.setPartCount(partCount);
+        phaseScope.setPartCount(partList.size());
         phaseStarted(phaseScope);
+        while (solvePartList(solverScope, phaseScope, partList) && !phaseTermination.isPhaseTerminated(phaseScope)) {
+            // Repartition the best solution, so the entities near the old partition borders are optimized together
+            if (isBestScoreBetterThanWorkingScore(phaseScope)) {
+                solverScope.setWorkingSolutionFromBestSolution();
+            }
+            partList = solutionPartitioner.repartitionWorkingSolution(
+                    solverScope.getScoreDirector(), runnablePartThreadLimit, partList);
+            phaseScope.setPartCount(partList.size());
+            logger.debug("{}    PS repartitioned at step ({}) into partCount ({}).",
+                    logIndentation, phaseScope.getNextStepIndex(), partList.size());
+        }
+        phaseEnded(phaseScope);
+    }
+
+    /**
+     * Solves every part on its own thread and merges their improvements into the working solution,
+     * until every part has finished.
+     *
+     * @return true if the parts were stopped because the repartition interval passed
+     */
+    private boolean solvePartList(SolverScope<Solution_> solverScope, PartitionedSearchPhaseScope<Solution_> phaseScope,
+            List<Solution_> partList) {
+        int partCount = partList.size();
         ExecutorService executor = createThreadPoolExecutor(partCount);
         ChildThreadPlumbingTermination<Solution_> childThreadPlumbingTermination =
                 new ChildThreadPlumbingTermination<>();
+        Long repartitionSystemTimeMillis = null;
+        if (repartitionIntervalMilliseconds != null) {
+            repartitionSystemTimeMillis = System.currentTimeMillis() + repartitionIntervalMilliseconds;
+            childThreadPlumbingTermination.terminateChildrenAt(repartitionSystemTimeMillis);
+        }
+        boolean repartitionIntervalStepCountReached = false;
+        int partListStepCount = 0;
         PartitionQueue<Solution_> partitionQueue = new PartitionQueue<>(partCount);
         Semaphore runnablePartThreadSemaphore = runnablePartThreadLimit == null ? null
                 : new Semaphore(runnablePartThreadLimit, true);
@@ -141,6 +189,13 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
                 doStep(stepScope);
                 stepEnded(stepScope);
                 phaseScope.setLastCompletedStepScope(stepScope);
+                partListStepCount++;
+                if (repartitionIntervalStepCount != null && partListStepCount >= repartitionIntervalStepCount
+                        && !repartitionIntervalStepCountReached) {
+                    // Keep applying the moves that the parts still send while they terminate
+                    repartitionIntervalStepCountReached = true;
+                    childThreadPlumbingTermination.terminateChildren();
+                }
             }
             phaseScope.addChildThreadsScoreCalculationCount(partitionQueue.getPartsCalculationCount());
         } finally {
@@ -150,7 +205,14 @@ public class DefaultPartitionedSearchPhase<Solution_> extends AbstractPhase<Solu
             childThreadPlumbingTermination.terminateChildren();
             ThreadUtils.shutdownAwaitOrKill(executor, logIndentation, "Partitioned Search");
         }
-        phaseEnded(phaseScope);
+        return repartitionIntervalStepCountReached
+                || (repartitionSystemTimeMillis != null && System.currentTimeMillis() >= repartitionSystemTimeMillis);
+    }
+
+    private boolean isBestScoreBetterThanWorkingScore(PartitionedSearchPhaseScope<Solution_> phaseScope) {
+        Score bestScore = phaseScope.getBestScore();
+        Score workingScore = phaseScope.calculateScore();
+        return bestScore.compareTo(workingScore) > 0;
     }
 
     private ExecutorService createThreadPoolExecutor(int partCount) {
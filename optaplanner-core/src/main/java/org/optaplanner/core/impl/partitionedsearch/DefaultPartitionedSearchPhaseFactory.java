@@ -64,6 +64,18 @@ public class DefaultPartitionedSearchPhaseFactory<Solution_>
         }
         phase.setPhaseConfigList(phaseConfigList_);
         phase.setConfigPolicy(phaseConfigPolicy.createChildThreadConfigPolicy(ChildThreadType.PART_THREAD));
+        Long repartitionIntervalMilliseconds = phaseConfig.getRepartitionIntervalMilliseconds();
+        if (repartitionIntervalMilliseconds != null && repartitionIntervalMilliseconds < 1L) {
+            throw new IllegalArgumentException("The repartitionIntervalMilliseconds ("
+                    + repartitionIntervalMilliseconds + ") cannot be less than 1.");
+        }
+        phase.setRepartitionIntervalMilliseconds(repartitionIntervalMilliseconds);
+        Integer repartitionIntervalStepCount = phaseConfig.getRepartitionIntervalStepCount();
+        if (repartitionIntervalStepCount != null && repartitionIntervalStepCount < 1) {
+            throw new IllegalArgumentException("The repartitionIntervalStepCount ("
+                    + repartitionIntervalStepCount + ") cannot be less than 1.");
+        }
+        phase.setRepartitionIntervalStepCount(repartitionIntervalStepCount);
         EnvironmentMode environmentMode = phaseConfigPolicy.getEnvironmentMode();
         if (environmentMode.isNonIntrusiveFullAsserted()) {
             phase.setAssertStepScoreFromScratch(true);
@@ -49,4 +49,27 @@ public interface SolutionPartitioner<Solution_> {
      */
     List<Solution_> splitWorkingSolution(ScoreDirector<Solution_> scoreDirector, Integer runnablePartThreadLimit);
 
+    /**
+     * Like {@link #splitWorkingSolution(ScoreDirector, Integer)},
+     * but called when a partitioned search phase that has a repartition interval starts a new round of partitions.
+     * The {@link ScoreDirector#getWorkingSolution()} then contains the merged result of the previous partitions.
+     * <p>
+     * Override this method to move the partition borders,
+     * so the {@link PlanningEntity planning entities} near the old borders can be optimized together.
+     * Defaults to {@link #splitWorkingSolution(ScoreDirector, Integer)}.
+     *
+     * @param scoreDirector never null, the {@link ScoreDirector}
+     *        which has the {@link ScoreDirector#getWorkingSolution()} that needs to be split up
+     * @param runnablePartThreadLimit null if unlimited, never negative
+     * @param previousPartList never null, the partitions of the previous round.
+     *        Their part solvers changed them while solving, so use them to know which planning entities
+     *        were in which partition, not for their planning values,
+     *        which might differ from the merged working solution.
+     * @return never null, {@link List#size()} of at least 1.
+     */
+    default List<Solution_> repartitionWorkingSolution(ScoreDirector<Solution_> scoreDirector,
+            Integer runnablePartThreadLimit, List<Solution_> previousPartList) {
+        return splitWorkingSolution(scoreDirector, runnablePartThreadLimit);
+    }
+
 }
@@ -16,9 +16,11 @@
 
 package org.optaplanner.core.impl.partitionedsearch.queue;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
@@ -50,6 +52,8 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
     private int openPartCount;
     private long partsCalculationCount;
     private final Map<Integer, Long> processedEventIndexMap; // Key is partIndex
+    private final List<PartitionChangedEvent<Solution_>> drainedEventList;
+    private PartitionChangedEvent<Solution_> pendingExceptionEvent = null;
 
     public PartitionQueue(int partCount) {
         // TODO partCount * 100 is pulled from thin air
@@ -67,6 +71,7 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
         for (int i = 0; i < partCount; i++) {
             processedEventIndexMap.put(i, -1L);
         }
+        drainedEventList = new ArrayList<>(partCount * 100);
     }
 
     /**
@@ -122,11 +127,19 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
         return new PartitionQueueIterator();
     }
 
+    /**
+     * Every selection coalesces all events that are waiting in the queue:
+     * it combines the latest move of every part that improved into 1 {@link PartitionChangeMove},
+     * so the parent thread does 1 step (and 1 score calculation) for all of them.
+     */
     private class PartitionQueueIterator extends UpcomingSelectionIterator<PartitionChangeMove<Solution_>> {
 
         @Override
         protected PartitionChangeMove<Solution_> createUpcomingSelection() {
-            while (true) {
+            if (pendingExceptionEvent != null) {
+                throw createRelayedException(pendingExceptionEvent);
+            }
+            while (openPartCount > 0) {
                 PartitionChangedEvent<Solution_> triggerEvent;
                 try {
                     triggerEvent = queue.take();
@@ -134,36 +147,55 @@ public class PartitionQueue<Solution_> implements Iterable<PartitionChangeMove<S
                     Thread.currentThread().interrupt();
                     throw new IllegalStateException("Solver thread was interrupted in Partitioned Search.", e);
                 }
-                switch (triggerEvent.getType()) {
-                    case MOVE:
-                        int partIndex = triggerEvent.getPartIndex();
-                        long processedEventIndex = processedEventIndexMap.get(partIndex);
-                        if (triggerEvent.getEventIndex() <= processedEventIndex) {
-                            // Skip this one because it or a better version was already processed
-                            LOGGER.trace("    Skipped event of partIndex ({}).", partIndex);
-                            continue;
-                        }
-                        PartitionChangedEvent<Solution_> latestMoveEvent = moveEventMap.get(partIndex);
-                        processedEventIndexMap.put(partIndex, latestMoveEvent.getEventIndex());
-                        return latestMoveEvent.getMove();
-                    case FINISHED:
-                        openPartCount--;
-                        partsCalculationCount += triggerEvent.getPartCalculationCount();
-                        if (openPartCount <= 0) {
-                            return noUpcomingSelection();
-                        } else {
-                            continue;
+                drainedEventList.add(triggerEvent);
+                queue.drainTo(drainedEventList);
+                List<PartitionChangeMove<Solution_>> moveList = new ArrayList<>(nextEventIndexMap.size());
+                try {
+                    for (PartitionChangedEvent<Solution_> event : drainedEventList) {
+                        switch (event.getType()) {
+                            case MOVE:
+                                int partIndex = event.getPartIndex();
+                                long processedEventIndex = processedEventIndexMap.get(partIndex);
+                                if (event.getEventIndex() <= processedEventIndex) {
+                                    // Skip this one because it or a better version was already processed
+                                    LOGGER.trace("    Skipped event of partIndex ({}).", partIndex);
+                                    continue;
+                                }
+                                PartitionChangedEvent<Solution_> latestMoveEvent = moveEventMap.get(partIndex);
+                                processedEventIndexMap.put(partIndex, latestMoveEvent.getEventIndex());
+                                moveList.add(latestMoveEvent.getMove());
+                                break;
+                            case FINISHED:
+                                openPartCount--;
+                                partsCalculationCount += event.getPartCalculationCount();
+                                break;
+                            case EXCEPTION_THROWN:
+                                if (moveList.isEmpty()) {
+                                    throw createRelayedException(event);
+                                }
+                                // First return the moves that were added before the exception
+                                pendingExceptionEvent = event;
+                                return PartitionChangeMove.merge(moveList);
+                            default:
+                                throw new IllegalStateException("The partitionChangedEventType ("
+                                        + event.getType() + ") is not implemented.");
                         }
-                    case EXCEPTION_THROWN:
-                        throw new IllegalStateException("The partition child thread with partIndex ("
-                                + triggerEvent.getPartIndex() + ") has thrown an exception."
-                                + " Relayed here in the parent thread.",
-                                triggerEvent.getThrowable());
-                    default:
-                        throw new IllegalStateException("The partitionChangedEventType ("
-                                + triggerEvent.getType() + ") is not implemented.");
+                    }
+                } finally {
+                    drainedEventList.clear();
+                }
+                if (!moveList.isEmpty()) {
+                    return PartitionChangeMove.merge(moveList);
                 }
             }
+            return noUpcomingSelection();
+        }
+
+        private IllegalStateException createRelayedException(PartitionChangedEvent<Solution_> exceptionEvent) {
+            return new IllegalStateException("The partition child thread with partIndex ("
+                    + exceptionEvent.getPartIndex() + ") has thrown an exception."
+                    + " Relayed here in the parent thread.",
+                    exceptionEvent.getThrowable());
         }
 
     }
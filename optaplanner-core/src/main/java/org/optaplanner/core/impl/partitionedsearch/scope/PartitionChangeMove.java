@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.partitionedsearch.scope;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.LinkedHashMap;
@@ -69,13 +70,43 @@ public final class PartitionChangeMove<Solution_> extends AbstractMove<Solution_
         return new PartitionChangeMove<>(changeMap, partIndex);
     }
 
+    /**
+     * Combines the moves of different parts into 1 move, so they are applied in a single step.
+     * The parts don't share any movable entities, so the order of the moves doesn't matter.
+     *
+     * @param moveList never null, not empty, at most 1 move per partIndex
+     * @return never null
+     */
+    public static <Solution_> PartitionChangeMove<Solution_> merge(List<PartitionChangeMove<Solution_>> moveList) {
+        if (moveList.size() == 1) {
+            return moveList.get(0);
+        }
+        Map<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> mergedChangeMap = new LinkedHashMap<>(
+                moveList.get(0).changeMap.size());
+        int[] partIndexes = new int[moveList.size()];
+        for (int i = 0; i < moveList.size(); i++) {
+            PartitionChangeMove<Solution_> move = moveList.get(i);
+            for (Map.Entry<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> entry : move.changeMap
+                    .entrySet()) {
+                mergedChangeMap.computeIfAbsent(entry.getKey(), k -> new ArrayList<>()).addAll(entry.getValue());
+            }
+            partIndexes[i] = move.partIndexes[0];
+        }
+        return new PartitionChangeMove<>(mergedChangeMap, partIndexes);
+    }
+
     private final Map<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> changeMap;
-    private final int partIndex;
+    private final int[] partIndexes;
 
     public PartitionChangeMove(Map<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> changeMap,
             int partIndex) {
+        this(changeMap, new int[] { partIndex });
+    }
+
+    private PartitionChangeMove(Map<GenuineVariableDescriptor<Solution_>, List<Pair<Object, Object>>> changeMap,
+            int[] partIndexes) {
         this.changeMap = changeMap;
-        this.partIndex = partIndex;
+        this.partIndexes = partIndexes;
     }
 
     @Override
@@ -133,7 +164,7 @@ public final class PartitionChangeMove<Solution_> extends AbstractMove<Solution_
             }
             destinationChangeMap.put(variableDescriptor, destinationPairList);
         }
-        return new PartitionChangeMove<>(destinationChangeMap, partIndex);
+        return new PartitionChangeMove<>(destinationChangeMap, partIndexes);
     }
 
     @Override
@@ -151,7 +182,10 @@ public final class PartitionChangeMove<Solution_> extends AbstractMove<Solution_
     @Override
     public String toString() {
         int changeCount = changeMap.values().stream().mapToInt(List::size).sum();
-        return "part-" + partIndex + " {" + changeCount + " variables changed}";
+        if (partIndexes.length == 1) {
+            return "part-" + partIndexes[0] + " {" + changeCount + " variables changed}";
+        }
+        return "parts-" + Arrays.toString(partIndexes) + " {" + changeCount + " variables changed}";
     }
 
 }
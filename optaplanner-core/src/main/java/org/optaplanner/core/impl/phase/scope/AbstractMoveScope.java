@@ -20,6 +20,7 @@ import java.util.Random;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.heuristic.move.FlyweightMove;
 import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 
@@ -29,7 +30,7 @@ import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 public abstract class AbstractMoveScope<Solution_> {
 
     protected final int moveIndex;
-    protected final Move<Solution_> move;
+    protected Move<Solution_> move;
 
     protected Score<?> score = null;
 
@@ -56,6 +57,14 @@ public abstract class AbstractMoveScope<Solution_> {
         this.score = score;
     }
 
+    /**
+     * Must be called before this move scope is kept after the next move is selected,
+     * because the move selector might reuse the same {@link FlyweightMove} instance for that next move.
+     */
+    public void materializeMove() {
+        move = FlyweightMove.materializeIfFlyweight(move);
+    }
+
     // ************************************************************************
     // Calculated methods
     // ************************************************************************
@@ -55,16 +55,17 @@ public final class BendableScoreInliner extends ScoreInliner<BendableScore> {
             int levelWeight = constraintWeight.getHardOrSoftScore(singleLevel);
             if (singleLevel < constraintWeight.getHardLevelsSize()) {
                 int level = singleLevel;
+                if (!constraintMatchEnabled) {
+                    return WeightedScoreImpacter.of(
+                            (int matchWeight) -> this.hardScores[level] += levelWeight * matchWeight);
+                }
                 return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
                     int hardImpact = levelWeight * matchWeight;
                     this.hardScores[level] += hardImpact;
                     UndoScoreImpacter undoScoreImpact = () -> this.hardScores[level] -= hardImpact;
-                    if (!constraintMatchEnabled) {
-                        return undoScoreImpact;
-                    }
                     Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                             BendableScore.ofHard(hardScores.length, softScores.length, level, hardImpact),
-                            justificationsSupplier.get());
+                            justificationsSupplier);
                     return () -> {
                         undoScoreImpact.run();
                         undoConstraintMatch.run();
@@ -72,16 +73,17 @@ public final class BendableScoreInliner extends ScoreInliner<BendableScore> {
                 });
             } else {
                 int level = singleLevel - constraintWeight.getHardLevelsSize();
+                if (!constraintMatchEnabled) {
+                    return WeightedScoreImpacter.of(
+                            (int matchWeight) -> this.softScores[level] += levelWeight * matchWeight);
+                }
                 return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
                     int softImpact = levelWeight * matchWeight;
                     this.softScores[level] += softImpact;
                     UndoScoreImpacter undoScoreImpact = () -> this.softScores[level] -= softImpact;
-                    if (!constraintMatchEnabled) {
-                        return undoScoreImpact;
-                    }
                     Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                             BendableScore.ofSoft(hardScores.length, softScores.length, level, softImpact),
-                            justificationsSupplier.get());
+                            justificationsSupplier);
                     return () -> {
                         undoScoreImpact.run();
                         undoConstraintMatch.run();
@@ -89,6 +91,16 @@ public final class BendableScoreInliner extends ScoreInliner<BendableScore> {
                 });
             }
         } else {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of((int matchWeight) -> {
+                    for (int i = 0; i < hardScores.length; i++) {
+                        this.hardScores[i] += constraintWeight.getHardScore(i) * matchWeight;
+                    }
+                    for (int i = 0; i < softScores.length; i++) {
+                        this.softScores[i] += constraintWeight.getSoftScore(i) * matchWeight;
+                    }
+                });
+            }
             return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 int[] hardImpacts = new int[hardScores.length];
                 int[] softImpacts = new int[softScores.length];
@@ -108,11 +120,8 @@ public final class BendableScoreInliner extends ScoreInliner<BendableScore> {
                         this.softScores[i] -= softImpacts[i];
                     }
                 };
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        BendableScore.of(hardImpacts, softImpacts), justificationsSupplier.get());
+                        BendableScore.of(hardImpacts, softImpacts), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
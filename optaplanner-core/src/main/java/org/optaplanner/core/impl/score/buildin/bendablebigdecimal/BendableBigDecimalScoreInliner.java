@@ -70,7 +70,7 @@ public final class BendableBigDecimalScoreInliner extends ScoreInliner<BendableB
                             }
                             Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                                     BendableBigDecimalScore.ofHard(hardScores.length, softScores.length, level, hardImpact),
-                                    justificationsSupplier.get());
+                                    justificationsSupplier);
                             return () -> {
                                 undoScoreImpact.run();
                                 undoConstraintMatch.run();
@@ -89,7 +89,7 @@ public final class BendableBigDecimalScoreInliner extends ScoreInliner<BendableB
                             }
                             Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                                     BendableBigDecimalScore.ofSoft(hardScores.length, softScores.length, level, softImpact),
-                                    justificationsSupplier.get());
+                                    justificationsSupplier);
                             return () -> {
                                 undoScoreImpact.run();
                                 undoConstraintMatch.run();
@@ -122,7 +122,7 @@ public final class BendableBigDecimalScoreInliner extends ScoreInliner<BendableB
                         }
                         Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                                 BendableBigDecimalScore.of(hardImpacts, softImpacts),
-                                justificationsSupplier.get());
+                                justificationsSupplier);
                         return () -> {
                             undoScoreImpact.run();
                             undoConstraintMatch.run();
@@ -53,7 +53,7 @@ public final class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<Har
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftBigDecimalScore.ofHard(hardImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -69,7 +69,7 @@ public final class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<Har
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftBigDecimalScore.ofMedium(mediumImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -85,7 +85,7 @@ public final class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<Har
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftBigDecimalScore.ofSoft(softImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -109,7 +109,7 @@ public final class HardMediumSoftBigDecimalScoreInliner extends ScoreInliner<Har
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftBigDecimalScore.of(hardImpact, mediumImpact, softImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -43,51 +43,61 @@ public final class HardMediumSoftLongScoreInliner extends ScoreInliner<HardMediu
         long mediumConstraintWeight = constraintWeight.getMediumScore();
         long softConstraintWeight = constraintWeight.getSoftScore();
         if (mediumConstraintWeight == 0L && softConstraintWeight == 0L) {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of(
+                        (long matchWeight) -> this.hardScore += hardConstraintWeight * matchWeight);
+            }
             return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 long hardImpact = hardConstraintWeight * matchWeight;
                 this.hardScore += hardImpact;
                 UndoScoreImpacter undoScoreImpact = () -> this.hardScore -= hardImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftLongScore.ofHard(hardImpact), justificationsSupplier.get());
+                        HardMediumSoftLongScore.ofHard(hardImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
                 };
             });
         } else if (hardConstraintWeight == 0L && softConstraintWeight == 0L) {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of(
+                        (long matchWeight) -> this.mediumScore += mediumConstraintWeight * matchWeight);
+            }
             return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 long mediumImpact = mediumConstraintWeight * matchWeight;
                 this.mediumScore += mediumImpact;
                 UndoScoreImpacter undoScoreImpact = () -> this.mediumScore -= mediumImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftLongScore.ofMedium(mediumImpact), justificationsSupplier.get());
+                        HardMediumSoftLongScore.ofMedium(mediumImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
                 };
             });
         } else if (hardConstraintWeight == 0L && mediumConstraintWeight == 0L) {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of(
+                        (long matchWeight) -> this.softScore += softConstraintWeight * matchWeight);
+            }
             return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 long softImpact = softConstraintWeight * matchWeight;
                 this.softScore += softImpact;
                 UndoScoreImpacter undoScoreImpact = () -> this.softScore -= softImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardMediumSoftLongScore.ofSoft(softImpact), justificationsSupplier.get());
+                        HardMediumSoftLongScore.ofSoft(softImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
                 };
             });
         } else {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of((long matchWeight) -> {
+                    this.hardScore += hardConstraintWeight * matchWeight;
+                    this.mediumScore += mediumConstraintWeight * matchWeight;
+                    this.softScore += softConstraintWeight * matchWeight;
+                });
+            }
             return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 long hardImpact = hardConstraintWeight * matchWeight;
                 long mediumImpact = mediumConstraintWeight * matchWeight;
@@ -100,12 +110,9 @@ public final class HardMediumSoftLongScoreInliner extends ScoreInliner<HardMediu
                     this.mediumScore -= mediumImpact;
                     this.softScore -= softImpact;
                 };
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardMediumSoftLongScore.of(hardImpact, mediumImpact, softImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -40,36 +40,44 @@ public final class HardSoftScoreInliner extends ScoreInliner<HardSoftScore> {
         int hardConstraintWeight = constraintWeight.getHardScore();
         int softConstraintWeight = constraintWeight.getSoftScore();
         if (softConstraintWeight == 0) {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of(
+                        (int matchWeight) -> this.hardScore += hardConstraintWeight * matchWeight);
+            }
             return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 int hardImpact = hardConstraintWeight * matchWeight;
                 this.hardScore += hardImpact;
                 UndoScoreImpacter undoScoreImpact = () -> this.hardScore -= hardImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftScore.ofHard(hardImpact), justificationsSupplier.get());
+                        HardSoftScore.ofHard(hardImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
                 };
             });
         } else if (hardConstraintWeight == 0) {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of(
+                        (int matchWeight) -> this.softScore += softConstraintWeight * matchWeight);
+            }
             return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 int softImpact = softConstraintWeight * matchWeight;
                 this.softScore += softImpact;
                 UndoScoreImpacter undoScoreImpact = () -> this.softScore -= softImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftScore.ofSoft(softImpact), justificationsSupplier.get());
+                        HardSoftScore.ofSoft(softImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
                 };
             });
         } else {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of((int matchWeight) -> {
+                    this.hardScore += hardConstraintWeight * matchWeight;
+                    this.softScore += softConstraintWeight * matchWeight;
+                });
+            }
             return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 int hardImpact = hardConstraintWeight * matchWeight;
                 int softImpact = softConstraintWeight * matchWeight;
@@ -79,11 +87,8 @@ public final class HardSoftScoreInliner extends ScoreInliner<HardSoftScore> {
                     this.hardScore -= hardImpact;
                     this.softScore -= softImpact;
                 };
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftScore.of(hardImpact, softImpact), justificationsSupplier.get());
+                        HardSoftScore.of(hardImpact, softImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -50,7 +50,7 @@ public final class HardSoftBigDecimalScoreInliner extends ScoreInliner<HardSoftB
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftBigDecimalScore.ofHard(hardImpact), justificationsSupplier.get());
+                        HardSoftBigDecimalScore.ofHard(hardImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -65,7 +65,7 @@ public final class HardSoftBigDecimalScoreInliner extends ScoreInliner<HardSoftB
                     return undoScoreImpact;
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftBigDecimalScore.ofSoft(softImpact), justificationsSupplier.get());
+                        HardSoftBigDecimalScore.ofSoft(softImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -86,7 +86,7 @@ public final class HardSoftBigDecimalScoreInliner extends ScoreInliner<HardSoftB
                 }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
                         HardSoftBigDecimalScore.of(hardImpact, softImpact),
-                        justificationsSupplier.get());
+                        justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
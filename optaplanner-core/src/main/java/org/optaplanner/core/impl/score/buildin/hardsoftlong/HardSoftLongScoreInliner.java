@@ -41,36 +41,44 @@ public final class HardSoftLongScoreInliner extends ScoreInliner<HardSoftLongSco
         long hardConstraintWeight = constraintWeight.getHardScore();
         long softConstraintWeight = constraintWeight.getSoftScore();
         if (softConstraintWeight == 0L) {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of(
+                        (long matchWeight) -> this.hardScore += hardConstraintWeight * matchWeight);
+            }
             return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 long hardImpact = hardConstraintWeight * matchWeight;
                 this.hardScore += hardImpact;
                 UndoScoreImpacter undoScoreImpact = () -> this.hardScore -= hardImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftLongScore.ofHard(hardImpact), justificationsSupplier.get());
+                        HardSoftLongScore.ofHard(hardImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
                 };
             });
         } else if (hardConstraintWeight == 0L) {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of(
+                        (long matchWeight) -> this.softScore += softConstraintWeight * matchWeight);
+            }
             return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 long softImpact = softConstraintWeight * matchWeight;
                 this.softScore += softImpact;
                 UndoScoreImpacter undoScoreImpact = () -> this.softScore -= softImpact;
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftLongScore.ofSoft(softImpact), justificationsSupplier.get());
+                        HardSoftLongScore.ofSoft(softImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
                 };
             });
         } else {
+            if (!constraintMatchEnabled) {
+                return WeightedScoreImpacter.of((long matchWeight) -> {
+                    this.hardScore += hardConstraintWeight * matchWeight;
+                    this.softScore += softConstraintWeight * matchWeight;
+                });
+            }
             return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
                 long hardImpact = hardConstraintWeight * matchWeight;
                 long softImpact = softConstraintWeight * matchWeight;
@@ -80,11 +88,8 @@ public final class HardSoftLongScoreInliner extends ScoreInliner<HardSoftLongSco
                     this.hardScore -= hardImpact;
                     this.softScore -= softImpact;
                 };
-                if (!constraintMatchEnabled) {
-                    return undoScoreImpact;
-                }
                 Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                        HardSoftLongScore.of(hardImpact, softImpact), justificationsSupplier.get());
+                        HardSoftLongScore.of(hardImpact, softImpact), justificationsSupplier);
                 return () -> {
                     undoScoreImpact.run();
                     undoConstraintMatch.run();
@@ -37,15 +37,15 @@ public final class SimpleScoreInliner extends ScoreInliner<SimpleScore> {
     public WeightedScoreImpacter buildWeightedScoreImpacter(Constraint constraint) {
         SimpleScore constraintWeight = getConstraintWeight(constraint);
         int simpleConstraintWeight = constraintWeight.getScore();
+        if (!constraintMatchEnabled) {
+            return WeightedScoreImpacter.of((int matchWeight) -> this.score += simpleConstraintWeight * matchWeight);
+        }
         return WeightedScoreImpacter.of((int matchWeight, JustificationsSupplier justificationsSupplier) -> {
             int impact = simpleConstraintWeight * matchWeight;
             this.score += impact;
             UndoScoreImpacter undoScoreImpact = () -> this.score -= impact;
-            if (!constraintMatchEnabled) {
-                return undoScoreImpact;
-            }
             Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight, SimpleScore.of(impact),
-                    justificationsSupplier.get());
+                    justificationsSupplier);
             return () -> {
                 undoScoreImpact.run();
                 undoConstraintMatch.run();
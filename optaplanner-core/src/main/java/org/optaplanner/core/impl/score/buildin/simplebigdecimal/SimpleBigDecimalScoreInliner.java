@@ -47,7 +47,7 @@ public final class SimpleBigDecimalScoreInliner extends ScoreInliner<SimpleBigDe
                 return undoScoreImpact;
             }
             Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight,
-                    SimpleBigDecimalScore.of(impact), justificationsSupplier.get());
+                    SimpleBigDecimalScore.of(impact), justificationsSupplier);
             return () -> {
                 undoScoreImpact.run();
                 undoConstraintMatch.run();
@@ -38,15 +38,15 @@ public final class SimpleLongScoreInliner extends ScoreInliner<SimpleLongScore>
     public WeightedScoreImpacter buildWeightedScoreImpacter(Constraint constraint) {
         SimpleLongScore constraintWeight = getConstraintWeight(constraint);
         long simpleConstraintWeight = constraintWeight.getScore();
+        if (!constraintMatchEnabled) {
+            return WeightedScoreImpacter.of((long matchWeight) -> this.score += simpleConstraintWeight * matchWeight);
+        }
         return WeightedScoreImpacter.of((long matchWeight, JustificationsSupplier justificationsSupplier) -> {
             long impact = simpleConstraintWeight * matchWeight;
             this.score += impact;
             UndoScoreImpacter undoScoreImpact = () -> this.score -= impact;
-            if (!constraintMatchEnabled) {
-                return undoScoreImpact;
-            }
             Runnable undoConstraintMatch = addConstraintMatch(constraint, constraintWeight, SimpleLongScore.of(impact),
-                    justificationsSupplier.get());
+                    justificationsSupplier);
             return () -> {
                 undoScoreImpact.run();
                 undoConstraintMatch.run();
@@ -62,9 +62,7 @@ public final class BavetConstraintStreamScoreDirector<Solution_, Score_ extends
     private void resetConstraintStreamingSession() {
         session = scoreDirectorFactory.newSession(constraintMatchEnabledPreference, workingSolution);
         Collection<Object> workingFacts = getSolutionDescriptor().getAllFacts(workingSolution);
-        for (Object fact : workingFacts) {
-            session.insert(fact);
-        }
+        session.insertAll(workingFacts);
     }
 
     @Override
@@ -42,4 +42,14 @@ final class BigDecimalWeightedScoreImpacter implements WeightedScoreImpacter {
         return impactFunction.impact(matchWeight, justificationsSupplier);
     }
 
+    @Override
+    public boolean isUndoFree() {
+        return false;
+    }
+
+    @Override
+    public void impactScoreWithoutUndo(long matchWeight) {
+        throw new UnsupportedOperationException("Impossible state: the BigDecimal impacter is not undo free.");
+    }
+
 }
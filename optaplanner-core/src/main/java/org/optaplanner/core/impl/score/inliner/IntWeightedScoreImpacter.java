@@ -42,4 +42,14 @@ final class IntWeightedScoreImpacter implements WeightedScoreImpacter {
         throw new UnsupportedOperationException("Impossible state: passing BigDecimal into an int impacter.");
     }
 
+    @Override
+    public boolean isUndoFree() {
+        return false;
+    }
+
+    @Override
+    public void impactScoreWithoutUndo(long matchWeight) {
+        throw new UnsupportedOperationException("Impossible state: the int impacter is not undo free.");
+    }
+
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.inliner;
+
+import java.math.BigDecimal;
+import java.util.Objects;
+
+final class LongUndoFreeWeightedScoreImpacter implements WeightedScoreImpacter {
+
+    private final LongUndoFreeImpactFunction impactFunction;
+
+    public LongUndoFreeWeightedScoreImpacter(LongUndoFreeImpactFunction impactFunction) {
+        this.impactFunction = Objects.requireNonNull(impactFunction);
+    }
+
+    @Override
+    public UndoScoreImpacter impactScore(int matchWeight, JustificationsSupplier justificationsSupplier) {
+        return impactScore((long) matchWeight, justificationsSupplier); // int can be cast to long
+    }
+
+    @Override
+    public UndoScoreImpacter impactScore(long matchWeight, JustificationsSupplier justificationsSupplier) {
+        impactFunction.impact(matchWeight);
+        return () -> impactFunction.impact(-matchWeight);
+    }
+
+    @Override
+    public UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier) {
+        throw new UnsupportedOperationException("Impossible state: passing BigDecimal into a long impacter.");
+    }
+
+    @Override
+    public boolean isUndoFree() {
+        return true;
+    }
+
+    @Override
+    public void impactScoreWithoutUndo(long matchWeight) {
+        impactFunction.impact(matchWeight);
+    }
+
+}
@@ -42,4 +42,14 @@ final class LongWeightedScoreImpacter implements WeightedScoreImpacter {
         throw new UnsupportedOperationException("Impossible state: passing BigDecimal into a long impacter.");
     }
 
+    @Override
+    public boolean isUndoFree() {
+        return false;
+    }
+
+    @Override
+    public void impactScoreWithoutUndo(long matchWeight) {
+        throw new UnsupportedOperationException("Impossible state: the long impacter is not undo free.");
+    }
+
 }
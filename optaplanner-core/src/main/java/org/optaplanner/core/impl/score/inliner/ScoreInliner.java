@@ -17,9 +17,11 @@
 package org.optaplanner.core.impl.score.inliner;
 
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.optaplanner.core.api.score.Score;
@@ -35,8 +37,15 @@ public abstract class ScoreInliner<Score_ extends Score<Score_>> {
     private final Map<String, Score_> constraintIdToWeightMap;
     protected final boolean constraintMatchEnabled;
     private final Score_ zeroScore;
-    private final Map<String, DefaultConstraintMatchTotal<Score_>> constraintMatchTotalMap;
-    private final Map<Object, DefaultIndictment<Score_>> indictmentMap;
+    /**
+     * Compact record of every constraint match, in insertion order.
+     * The {@link ConstraintMatchTotal}s and {@link Indictment}s are only materialized from it on demand,
+     * so the incremental score calculation doesn't pay for them.
+     * Neither does it pay for the justifications: those are only created when they are materialized.
+     */
+    private final Set<ConstraintMatchRecord> constraintMatchRecordSet;
+    private Map<String, DefaultConstraintMatchTotal<Score_>> constraintMatchTotalMap = null;
+    private Map<Object, DefaultIndictment<Score_>> indictmentMap = null;
 
     protected ScoreInliner(Map<Constraint, Score_> constraintToWeightMap, boolean constraintMatchEnabled,
             Score_ zeroScore) {
@@ -44,8 +53,7 @@ public abstract class ScoreInliner<Score_ extends Score<Score_>> {
                 .collect(Collectors.toMap(e -> e.getKey().getConstraintId(), Map.Entry::getValue));
         this.constraintMatchEnabled = constraintMatchEnabled;
         this.zeroScore = zeroScore;
-        this.constraintMatchTotalMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
-        this.indictmentMap = constraintMatchEnabled ? new LinkedHashMap<>() : null;
+        this.constraintMatchRecordSet = constraintMatchEnabled ? new LinkedHashSet<>() : null;
     }
 
     public abstract Score_ extractScore(int initScore);
@@ -59,45 +67,62 @@ public abstract class ScoreInliner<Score_ extends Score<Score_>> {
     public abstract WeightedScoreImpacter buildWeightedScoreImpacter(Constraint constraint);
 
     protected final Runnable addConstraintMatch(Constraint constraint, Score_ constraintWeight, Score_ score,
-            List<Object> justificationList) {
-        String constraintPackage = constraint.getConstraintPackage();
-        String constraintName = constraint.getConstraintName();
-        DefaultConstraintMatchTotal<Score_> constraintMatchTotal = constraintMatchTotalMap.computeIfAbsent(
-                constraint.getConstraintId(),
-                key -> new DefaultConstraintMatchTotal<>(constraintPackage, constraintName, constraintWeight, zeroScore));
-        ConstraintMatch<Score_> constraintMatch = constraintMatchTotal.addConstraintMatch(justificationList, score);
-        DefaultIndictment<Score_>[] indictments = justificationList.stream()
-                .distinct() // One match might have the same justification twice
-                .map(justification -> {
-                    DefaultIndictment<Score_> indictment = indictmentMap.computeIfAbsent(justification,
-                            key -> new DefaultIndictment<>(justification, zeroScore));
-                    indictment.addConstraintMatch(constraintMatch);
-                    return indictment;
-                }).toArray(DefaultIndictment[]::new);
-        return () -> {
-            constraintMatchTotal.removeConstraintMatch(constraintMatch);
-            if (constraintMatchTotal.getConstraintMatchSet().isEmpty()) {
-                constraintMatchTotalMap.remove(constraint.getConstraintId());
-            }
-            for (DefaultIndictment<Score_> indictment : indictments) {
-                indictment.removeConstraintMatch(constraintMatch);
-                if (indictment.getConstraintMatchSet().isEmpty()) {
-                    indictmentMap.remove(indictment.getJustification());
-                }
-            }
-        };
+            JustificationsSupplier justificationsSupplier) {
+        ConstraintMatchRecord constraintMatchRecord =
+                new ConstraintMatchRecord(constraint, constraintWeight, score, justificationsSupplier);
+        constraintMatchRecordSet.add(constraintMatchRecord);
+        clearMaterializedConstraintMatches();
+        return constraintMatchRecord;
     }
 
+    /**
+     * @return never null, a snapshot that doesn't reflect any later constraint matches or undos
+     */
     public final Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
+        materializeConstraintMatches();
         // Unchecked assignment necessary as CMT and DefaultCMT incompatible in the Map generics.
         return (Map) constraintMatchTotalMap;
     }
 
+    /**
+     * @return never null, a snapshot that doesn't reflect any later constraint matches or undos
+     */
     public final Map<Object, Indictment<Score_>> getIndictmentMap() {
+        materializeConstraintMatches();
         // Unchecked assignment necessary as Indictment and DefaultIndictment incompatible in the Map generics.
         return (Map) indictmentMap;
     }
 
+    private void clearMaterializedConstraintMatches() {
+        constraintMatchTotalMap = null;
+        indictmentMap = null;
+    }
+
+    private void materializeConstraintMatches() {
+        if (!constraintMatchEnabled || constraintMatchTotalMap != null) {
+            return;
+        }
+        constraintMatchTotalMap = new LinkedHashMap<>();
+        indictmentMap = new LinkedHashMap<>();
+        for (ConstraintMatchRecord constraintMatchRecord : constraintMatchRecordSet) {
+            Constraint constraint = constraintMatchRecord.constraint;
+            DefaultConstraintMatchTotal<Score_> constraintMatchTotal = constraintMatchTotalMap.computeIfAbsent(
+                    constraint.getConstraintId(),
+                    key -> new DefaultConstraintMatchTotal<>(constraint.getConstraintPackage(),
+                            constraint.getConstraintName(), constraintMatchRecord.constraintWeight, zeroScore));
+            List<Object> justificationList = constraintMatchRecord.getJustificationList();
+            ConstraintMatch<Score_> constraintMatch =
+                    constraintMatchTotal.addConstraintMatch(justificationList, constraintMatchRecord.score);
+            justificationList.stream()
+                    .distinct() // One match might have the same justification twice
+                    .forEach(justification -> {
+                        DefaultIndictment<Score_> indictment = indictmentMap.computeIfAbsent(justification,
+                                key -> new DefaultIndictment<>(justification, zeroScore));
+                        indictment.addConstraintMatch(constraintMatch);
+                    });
+        }
+    }
+
     protected final Score_ getConstraintWeight(Constraint constraint) {
         Score_ constraintWeight = constraintIdToWeightMap.get(constraint.getConstraintId());
         if (constraintWeight == null || constraintWeight.equals(zeroScore)) {
@@ -108,4 +133,45 @@ public abstract class ScoreInliner<Score_ extends Score<Score_>> {
         return constraintWeight;
     }
 
+    /**
+     * Also acts as the undo of the constraint match, to avoid allocating a separate lambda.
+     */
+    private final class ConstraintMatchRecord implements Runnable {
+
+        private final Constraint constraint;
+        private final Score_ constraintWeight;
+        private final Score_ score;
+        private final JustificationsSupplier justificationsSupplier;
+        private List<Object> justificationList = null;
+
+        private ConstraintMatchRecord(Constraint constraint, Score_ constraintWeight, Score_ score,
+                JustificationsSupplier justificationsSupplier) {
+            this.constraint = constraint;
+            this.constraintWeight = constraintWeight;
+            this.score = score;
+            this.justificationsSupplier = justificationsSupplier;
+        }
+
+        /**
+         * Created once, so every materialization shares the same justifications.
+         */
+        private List<Object> getJustificationList() {
+            if (justificationList == null) {
+                justificationList = justificationsSupplier.get();
+            }
+            return justificationList;
+        }
+
+        @Override
+        public void run() {
+            boolean removed = constraintMatchRecordSet.remove(this);
+            if (!removed) {
+                throw new IllegalStateException("Impossible state: the constraint match ("
+                        + constraint.getConstraintId() + ": " + getJustificationList() + ") was already undone.");
+            }
+            clearMaterializedConstraintMatches();
+        }
+
+    }
+
 }
@@ -34,6 +34,12 @@ import java.math.BigDecimal;
  * An implementation of this interface can throw an {@link UnsupportedOperationException}
  * for the method types it doesn't support. The CS API guarantees no types are mixed. For example,
  * a {@link BigDecimal} parameter method won't be called on an instance built with an {@link IntImpactFunction}.
+ * <p>
+ * If constraint matching is disabled, int and long score inliners build an instance
+ * with an {@link IntUndoFreeImpactFunction} or a {@link LongUndoFreeImpactFunction} instead.
+ * Such an instance {@link #isUndoFree() is undo free}:
+ * the caller can remember the match weight and undo the impact by impacting the negated match weight,
+ * which avoids allocating an {@link UndoScoreImpacter} per match.
  */
 public interface WeightedScoreImpacter {
 
@@ -49,6 +55,14 @@ public interface WeightedScoreImpacter {
         return new BigDecimalWeightedScoreImpacter(impactFunction);
     }
 
+    static WeightedScoreImpacter of(IntUndoFreeImpactFunction impactFunction) {
+        return new IntUndoFreeWeightedScoreImpacter(impactFunction);
+    }
+
+    static WeightedScoreImpacter of(LongUndoFreeImpactFunction impactFunction) {
+        return new LongUndoFreeWeightedScoreImpacter(impactFunction);
+    }
+
     /**
      * @param matchWeight never null
      * @param justificationsSupplier never null
@@ -70,6 +84,21 @@ public interface WeightedScoreImpacter {
      */
     UndoScoreImpacter impactScore(BigDecimal matchWeight, JustificationsSupplier justificationsSupplier);
 
+    /**
+     * @return true if {@link #impactScoreWithoutUndo(long)} is supported
+     */
+    boolean isUndoFree();
+
+    /**
+     * Impacts the score without creating an {@link UndoScoreImpacter}.
+     * To undo it, call this method again with the negated matchWeight.
+     * Only supported if {@link #isUndoFree()} returns true.
+     * The int variant accepts the match weight as a long, because an int match weight always fits.
+     *
+     * @param matchWeight the int or long match weight
+     */
+    void impactScoreWithoutUndo(long matchWeight);
+
     @FunctionalInterface
     interface IntImpactFunction {
 
@@ -91,4 +120,18 @@ public interface WeightedScoreImpacter {
 
     }
 
+    @FunctionalInterface
+    interface IntUndoFreeImpactFunction {
+
+        void impact(int matchWeight);
+
+    }
+
+    @FunctionalInterface
+    interface LongUndoFreeImpactFunction {
+
+        void impact(long matchWeight);
+
+    }
+
 }
@@ -21,6 +21,7 @@ import static java.util.stream.Collectors.toList;
 import static org.optaplanner.core.api.score.stream.Joiners.lessThan;
 
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
@@ -45,6 +46,12 @@ import org.optaplanner.core.impl.score.stream.bi.FilteringBiJoiner;
 
 public abstract class InnerConstraintFactory<Solution_, Constraint_ extends Constraint> implements ConstraintFactory {
 
+    /**
+     * Reused across {@link #fromUniquePair(Class, BiJoiner)} calls,
+     * so equal unique pairs of different constraints have equal joiners and can share nodes.
+     */
+    private final Map<Class<?>, Function<?, Comparable>> planningIdGetterMap = new HashMap<>();
+
     // ************************************************************************
     // from
     // ************************************************************************
@@ -62,16 +69,8 @@ public abstract class InnerConstraintFactory<Solution_, Constraint_ extends Cons
 
     @Override
     public <A> BiConstraintStream<A, A> fromUniquePair(Class<A> fromClass, BiJoiner<A, A> joiner) {
-        MemberAccessor planningIdMemberAccessor =
-                ConfigUtils.findPlanningIdMemberAccessor(fromClass, getSolutionDescriptor().getDomainAccessType(),
-                        getSolutionDescriptor().getGeneratedMemberAccessorMap());
-        if (planningIdMemberAccessor == null) {
-            throw new IllegalArgumentException("The fromClass (" + fromClass + ") has no member with a @"
-                    + PlanningId.class.getSimpleName() + " annotation,"
-                    + " so the pairs cannot be made unique ([A,B] vs [B,A]).");
-        }
-        // TODO In Bavet breaks node sharing + involves unneeded indirection
-        Function<A, Comparable> planningIdGetter = fact -> (Comparable<?>) planningIdMemberAccessor.executeGetter(fact);
+        Function<A, Comparable> planningIdGetter = (Function<A, Comparable>) planningIdGetterMap.computeIfAbsent(
+                fromClass, this::buildPlanningIdGetter);
         // Joiner.filtering() must come last, yet Bavet requires that Joiner.lessThan() be last. This is a workaround.
         if (joiner instanceof FilteringBiJoiner) {
             BiPredicate<A, A> filter = ((FilteringBiJoiner<A, A>) joiner).getFilter();
@@ -84,6 +83,18 @@ public abstract class InnerConstraintFactory<Solution_, Constraint_ extends Cons
         }
     }
 
+    private Function<Object, Comparable> buildPlanningIdGetter(Class<?> fromClass) {
+        MemberAccessor planningIdMemberAccessor =
+                ConfigUtils.findPlanningIdMemberAccessor(fromClass, getSolutionDescriptor().getDomainAccessType(),
+                        getSolutionDescriptor().getGeneratedMemberAccessorMap());
+        if (planningIdMemberAccessor == null) {
+            throw new IllegalArgumentException("The fromClass (" + fromClass + ") has no member with a @"
+                    + PlanningId.class.getSimpleName() + " annotation,"
+                    + " so the pairs cannot be made unique ([A,B] vs [B,A]).");
+        }
+        return fact -> (Comparable<?>) planningIdMemberAccessor.executeGetter(fact);
+    }
+
     public <A> void assertValidFromType(Class<A> fromType) {
         SolutionDescriptor<Solution_> solutionDescriptor = getSolutionDescriptor();
         Set<Class<?>> problemFactOrEntityClassSet = solutionDescriptor.getProblemFactOrEntityClassSet();
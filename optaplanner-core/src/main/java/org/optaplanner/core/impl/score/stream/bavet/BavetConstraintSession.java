@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.score.stream.bavet;
 
 import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.IdentityHashMap;
 import java.util.List;
@@ -40,6 +41,12 @@ import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniTuple;
 
 public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_>> {
 
+    /**
+     * Below this number of facts, a parallel initial calculation costs more than it saves.
+     */
+    static final int PARALLEL_BULK_INSERT_THRESHOLD = 10_000;
+
+    private final int parallelBulkInsertThreshold;
     private final ScoreInliner<Score_> scoreInliner;
     private final Map<Class<?>, BavetFromUniNode<Object>> declaredClassToNodeMap;
     private final List<BavetNode> nodeIndexedNodeMap;
@@ -47,15 +54,38 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
     private final Map<Class<?>, List<BavetFromUniNode<Object>>> effectiveClassToNodeListMap;
     private final List<Queue<BavetAbstractTuple>> nodeIndexToDirtyTupleQueueMap;
     private final Map<Object, List<BavetFromUniTuple<Object>>> fromTupleListMap;
+    /**
+     * Node indexes of the subgraphs that don't share nodes, without the scoring nodes,
+     * because the {@link ScoreInliner} is not thread-safe.
+     */
+    private final List<int[]> independentNodeIndexesList;
+    /** Reused by {@link #calculateScore(int)}. */
+    private final List<BavetAbstractTuple> tupleBatch = new ArrayList<>(1000);
+    private boolean parallelBulkInsertPending = false;
 
     public BavetConstraintSession(boolean constraintMatchEnabled, ScoreDefinition<Score_> scoreDefinition,
             Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap) {
+        this(constraintMatchEnabled, scoreDefinition, constraintToWeightMap, PARALLEL_BULK_INSERT_THRESHOLD);
+    }
+
+    BavetConstraintSession(boolean constraintMatchEnabled, ScoreDefinition<Score_> scoreDefinition,
+            Map<BavetConstraint<Solution_>, Score_> constraintToWeightMap, int parallelBulkInsertThreshold) {
+        this.parallelBulkInsertThreshold = parallelBulkInsertThreshold;
         scoreInliner = scoreDefinition.buildScoreInliner((Map) constraintToWeightMap, constraintMatchEnabled);
         declaredClassToNodeMap = new HashMap<>(50);
         BavetNodeBuildPolicy<Solution_> buildPolicy = new BavetNodeBuildPolicy<>(this);
-        constraintToWeightMap.forEach((constraint, constraintWeight) -> constraint.createNodes(buildPolicy,
-                declaredClassToNodeMap, constraintWeight));
+        constraintToWeightMap.forEach((constraint, constraintWeight) -> {
+            buildPolicy.startConstraint();
+            constraint.createNodes(buildPolicy, declaredClassToNodeMap, constraintWeight);
+        });
         nodeIndexedNodeMap = buildPolicy.getCreatedNodes();
+        independentNodeIndexesList = buildPolicy.getIndependentNodeLists(nodeIndexedNodeMap).stream()
+                .map(nodeList -> nodeList.stream()
+                        .filter(node -> !(node instanceof BavetScoringNode))
+                        .mapToInt(BavetNode::getNodeIndex)
+                        .toArray())
+                .filter(nodeIndexes -> nodeIndexes.length > 0)
+                .collect(Collectors.toList());
         scoringNodeList = nodeIndexedNodeMap.stream()
                 .filter(node -> node instanceof BavetScoringNode)
                 .map(node -> (BavetScoringNode) node)
@@ -69,26 +99,6 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
         fromTupleListMap = new IdentityHashMap<>(1000);
     }
 
-    private static void refreshTuple(BavetAbstractTuple tuple) {
-        tuple.getNode().refresh(tuple);
-        switch (tuple.getState()) {
-            case CREATING:
-            case UPDATING:
-                tuple.setState(BavetTupleState.OK);
-                return;
-            case DYING:
-            case ABORTING:
-                tuple.setState(BavetTupleState.DEAD);
-                return;
-            case DEAD:
-                throw new IllegalStateException("Impossible state: The tuple (" + tuple + ") in node (" +
-                        tuple.getNode() + ") is already in the dead state (" + tuple.getState() + ").");
-            default:
-                throw new IllegalStateException("Impossible state: Tuple (" + tuple + ") in node (" +
-                        tuple.getNode() + ") is in an unexpected state (" + tuple.getState() + ").");
-        }
-    }
-
     public List<BavetFromUniNode<Object>> findFromNodeList(Class<?> factClass) {
         return effectiveClassToNodeListMap.computeIfAbsent(factClass, key -> {
             List<BavetFromUniNode<Object>> nodeList = new ArrayList<>();
@@ -116,6 +126,20 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
         }
     }
 
+    /**
+     * Inserts all facts of a fresh working solution.
+     * If there are enough facts, the next {@link #calculateScore(int)} refreshes the independent node subgraphs
+     * in parallel, after which the session goes back to single-threaded incremental calculation.
+     * @param facts never null
+     */
+    public void insertAll(Collection<Object> facts) {
+        for (Object fact : facts) {
+            insert(fact);
+        }
+        parallelBulkInsertPending = independentNodeIndexesList.size() > 1
+                && facts.size() >= parallelBulkInsertThreshold;
+    }
+
     public void update(Object fact) {
         List<BavetFromUniTuple<Object>> tupleList = fromTupleListMap.get(fact);
         if (tupleList == null) {
@@ -157,16 +181,32 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
     }
 
     public Score_ calculateScore(int initScore) {
+        if (parallelBulkInsertPending) {
+            parallelBulkInsertPending = false;
+            // Each subgraph only dirties its own nodes, so they don't interfere.
+            independentNodeIndexesList.parallelStream().forEach(nodeIndexes -> {
+                List<BavetAbstractTuple> subgraphTupleBatch = new ArrayList<>(1000);
+                for (int nodeIndex : nodeIndexes) {
+                    refreshDirtyTuples(nodeIndexToDirtyTupleQueueMap.get(nodeIndex), subgraphTupleBatch);
+                }
+            });
+        }
+        // Refreshing a tuple only dirties tuples of a higher node index, so every node index is a layer
         for (Queue<BavetAbstractTuple> queue : nodeIndexToDirtyTupleQueueMap) {
-            BavetAbstractTuple tuple = queue.poll();
-            while (tuple != null) {
-                refreshTuple(tuple);
-                tuple = queue.poll();
-            }
+            refreshDirtyTuples(queue, tupleBatch);
         }
         return scoreInliner.extractScore(initScore);
     }
 
+    private static void refreshDirtyTuples(Queue<BavetAbstractTuple> queue, List<BavetAbstractTuple> tupleBatch) {
+        while (!queue.isEmpty()) {
+            tupleBatch.addAll(queue);
+            queue.clear();
+            tupleBatch.get(0).getNode().refreshBatch(tupleBatch);
+            tupleBatch.clear();
+        }
+    }
+
     public Map<String, ConstraintMatchTotal<Score_>> getConstraintMatchTotalMap() {
         return scoreInliner.getConstraintMatchTotalMap();
     }
@@ -183,6 +223,10 @@ public final class BavetConstraintSession<Solution_, Score_ extends Score<Score_
         return scoreInliner;
     }
 
+    int getIndependentSubgraphCount() {
+        return independentNodeIndexesList.size();
+    }
+
     public List<BavetNode> getNodes() {
         return nodeIndexedNodeMap;
     }
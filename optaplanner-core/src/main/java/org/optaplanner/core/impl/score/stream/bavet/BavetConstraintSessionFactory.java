@@ -41,6 +41,12 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
 
     public BavetConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled,
             Solution_ workingSolution) {
+        return buildSession(constraintMatchEnabled, workingSolution,
+                BavetConstraintSession.PARALLEL_BULK_INSERT_THRESHOLD);
+    }
+
+    BavetConstraintSession<Solution_, Score_> buildSession(boolean constraintMatchEnabled, Solution_ workingSolution,
+            int parallelBulkInsertThreshold) {
         ScoreDefinition<Score_> scoreDefinition = solutionDescriptor.getScoreDefinition();
         Score_ zeroScore = scoreDefinition.getZeroScore();
         // Extract constraint weights, excluding constraints where weight is zero.
@@ -54,7 +60,8 @@ public final class BavetConstraintSessionFactory<Solution_, Score_ extends Score
                         .collect(Collectors.toMap(
                                 constraintAndWeight -> (BavetConstraint<Solution_>) constraintAndWeight[0],
                                 constraintAndWeight -> (Score_) constraintAndWeight[1]));
-        return new BavetConstraintSession<>(constraintMatchEnabled, scoreDefinition, constraintToWeightMap);
+        return new BavetConstraintSession<>(constraintMatchEnabled, scoreDefinition, constraintToWeightMap,
+                parallelBulkInsertThreshold);
     }
 
 }
@@ -41,7 +41,9 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
 import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinTriConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetGroupUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bi.DefaultBiConstraintCollector;
 import org.optaplanner.core.impl.score.stream.bi.InnerBiConstraintStream;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
 import org.optaplanner.core.impl.score.stream.tri.AbstractTriJoiner;
@@ -104,7 +106,7 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
                 constraintFactory, other, false, castedJoiner.getRightCombinedMapping(), indexFactory);
         other.addChildStream(rightBridge);
         BavetJoinTriConstraintStream<Solution_, A, B, C> joinStream = new BavetJoinTriConstraintStream<>(constraintFactory,
-                leftBridge, rightBridge);
+                leftBridge, rightBridge, castedJoiner);
         leftBridge.setJoinStream(joinStream);
         rightBridge.setJoinStream(joinStream);
         return joinStream;
@@ -133,7 +135,14 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        // Without a group key mapping, all tuples end up in the same group
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, Boolean, ResultContainer_, Result_> bridge =
+                new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this, (a, b) -> Boolean.TRUE, collector);
+        childStreamList.add(bridge);
+        BavetGroupUniConstraintStream<Solution_, Boolean, ResultContainer_, Result_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
@@ -164,7 +173,19 @@ public abstract class BavetAbstractBiConstraintStream<Solution_, A, B> extends B
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(BiFunction<A, B, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException();
+        return groupByKeyOnly(groupKeyMapping, DefaultBiConstraintCollector.noop());
+    }
+
+    private <GroupKey_, ResultContainer_, Result_> UniConstraintStream<GroupKey_> groupByKeyOnly(
+            BiFunction<A, B, GroupKey_> groupKeyMapping, BiConstraintCollector<A, B, ResultContainer_, Result_> collector) {
+        BavetGroupBridgeBiConstraintStream<Solution_, A, B, GroupKey_, ResultContainer_, Result_> bridge =
+                new BavetGroupBridgeBiConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        // A null finisher makes the group key the result
+        BavetGroupUniConstraintStream<Solution_, GroupKey_, ResultContainer_, GroupKey_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, null);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
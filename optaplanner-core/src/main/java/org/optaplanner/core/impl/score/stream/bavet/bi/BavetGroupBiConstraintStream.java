@@ -22,11 +22,13 @@ import java.util.function.Function;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
 
 public final class BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_>
-        extends BavetAbstractBiConstraintStream<Solution_, GroupKey_, Result_> {
+        extends BavetAbstractBiConstraintStream<Solution_, GroupKey_, Result_>
+        implements BavetGroupConstraintStream<Solution_, GroupKey_, ResultContainer_> {
 
     private final BavetAbstractConstraintStream<Solution_> parent;
     private final Function<ResultContainer_, Result_> finisher;
@@ -60,6 +62,12 @@ public final class BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultCont
                 parentNode);
     }
 
+    @Override
+    public BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> createGroupNodeChain(
+            BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight) {
+        return createNodeChain(buildPolicy, constraintWeight, null);
+    }
+
     @Override
     protected BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
             Score<?> constraintWeight, BavetAbstractBiNode<GroupKey_, Result_> parentNode) {
@@ -22,9 +22,11 @@ import java.util.function.Function;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
-public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> extends BavetAbstractBiNode<GroupKey_, Result_> {
+public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> extends BavetAbstractBiNode<GroupKey_, Result_>
+        implements BavetGroupNode<GroupKey_, ResultContainer_> {
 
     private final Function<ResultContainer_, Result_> finisher;
 
@@ -50,7 +52,8 @@ public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> extend
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    // Never shared, so it keeps the identity equality:
+    // its group bridge node creates its group tuples, and that bridge node isn't shared either.
 
     // ************************************************************************
     // Runtime
@@ -63,6 +66,7 @@ public final class BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> extend
                 + ") can't have a parentTuple (" + parentTuple + ");");
     }
 
+    @Override
     public BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> createTuple(
             GroupKey_ groupKey, ResultContainer_ resultContainer) {
         return new BavetGroupBiTuple<>(this, groupKey, resultContainer);
@@ -24,7 +24,7 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
 
 public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> extends BavetAbstractBiTuple<GroupKey_, Result_>
-        implements BavetGroupTuple {
+        implements BavetGroupTuple<GroupKey_, ResultContainer_> {
 
     private final BavetGroupBiNode<GroupKey_, ResultContainer_, Result_> node;
 
@@ -43,11 +43,13 @@ public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> exten
         result = null;
     }
 
+    @Override
     public int increaseParentCount() {
         parentCount++;
         return parentCount;
     }
 
+    @Override
     public int decreaseParentCount() {
         parentCount--;
         if (parentCount < 0) {
@@ -57,6 +59,7 @@ public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> exten
         return parentCount;
     }
 
+    @Override
     public void clearResult() {
         result = null;
     }
@@ -94,10 +97,12 @@ public final class BavetGroupBiTuple<GroupKey_, ResultContainer_, Result_> exten
         return result;
     }
 
+    @Override
     public GroupKey_ getGroupKey() {
         return groupKey;
     }
 
+    @Override
     public ResultContainer_ getResultContainer() {
         return resultContainer;
     }
@@ -22,6 +22,8 @@ import java.util.function.BiFunction;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
 
@@ -31,7 +33,7 @@ public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, NewA, Res
     private final BavetAbstractBiConstraintStream<Solution_, A, B> parent;
     private final BiFunction<A, B, NewA> groupKeyMapping;
     private final BiConstraintCollector<A, B, ResultContainer_, NewB> collector;
-    private BavetGroupBiConstraintStream<Solution_, NewA, ResultContainer_, NewB> groupStream;
+    private BavetGroupConstraintStream<Solution_, NewA, ResultContainer_> groupStream;
 
     public BavetGroupBridgeBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
             BavetAbstractBiConstraintStream<Solution_, A, B> parent,
@@ -47,7 +49,7 @@ public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, NewA, Res
         return parent.guaranteesDistinct();
     }
 
-    public void setGroupStream(BavetGroupBiConstraintStream<Solution_, NewA, ResultContainer_, NewB> groupStream) {
+    public void setGroupStream(BavetGroupConstraintStream<Solution_, NewA, ResultContainer_> groupStream) {
         this.groupStream = groupStream;
     }
 
@@ -74,11 +76,10 @@ public final class BavetGroupBridgeBiConstraintStream<Solution_, A, B, NewA, Res
             throw new IllegalStateException("Impossible state: the stream (" + this
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's a groupBy bridge.");
         }
-        BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode = groupStream.createNodeChain(buildPolicy,
-                constraintWeight, null);
+        BavetGroupNode<NewA, ResultContainer_> groupNode = groupStream.createGroupNodeChain(buildPolicy,
+                constraintWeight);
         BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> groupBridgeNode =
                 (BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB>) node;
         groupBridgeNode.setGroupNode(groupNode);
-
     }
 }
@@ -23,15 +23,17 @@ import java.util.function.BiFunction;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintCollector;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
 public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends BavetAbstractBiNode<A, B> {
 
     private final BiFunction<A, B, NewA> groupKeyMapping;
     private final BiConstraintCollector<A, B, ResultContainer_, NewB> collector;
-    private BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode;
+    private BavetGroupNode<NewA, ResultContainer_> groupNode;
 
-    private final Map<NewA, BavetGroupBiTuple<NewA, ResultContainer_, NewB>> tupleMap;
+    private final Map<NewA, BavetGroupTuple<NewA, ResultContainer_>> tupleMap;
 
     public BavetGroupBridgeBiNode(BavetConstraintSession session, int nodeIndex, BavetAbstractBiNode<A, B> parentNode,
             BiFunction<A, B, NewA> groupKeyMapping, BiConstraintCollector<A, B, ResultContainer_, NewB> collector) {
@@ -46,7 +48,7 @@ public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends
         return new BavetGroupBridgeBiTuple<>(this, parentTuple);
     }
 
-    public void setGroupNode(BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode) {
+    public void setGroupNode(BavetGroupNode<NewA, ResultContainer_> groupNode) {
         this.groupNode = groupNode;
     }
 
@@ -59,7 +61,7 @@ public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends
         BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> tuple =
                 (BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB>) uncastTuple;
         if (tuple.getChildTuple() != null) {
-            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tuple.getChildTuple();
+            BavetGroupTuple<NewA, ResultContainer_> childTuple = tuple.getChildTuple();
             NewA oldGroupKey = childTuple.getGroupKey();
             int parentCount = childTuple.decreaseParentCount();
             tuple.getUndoAccumulator().run();
@@ -69,16 +71,16 @@ public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends
             if (parentCount == 0) {
                 // Clean up tupleMap
                 tupleMap.remove(oldGroupKey);
-                session.transitionTuple(childTuple, BavetTupleState.DYING);
+                session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.DYING);
             } else {
-                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+                session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.UPDATING);
             }
         }
         if (tuple.isActive()) {
             A a = tuple.getFactA();
             B b = tuple.getFactB();
             NewA groupKey = groupKeyMapping.apply(a, b);
-            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tupleMap.computeIfAbsent(groupKey,
+            BavetGroupTuple<NewA, ResultContainer_> childTuple = tupleMap.computeIfAbsent(groupKey,
                     k -> groupNode.createTuple(groupKey, collector.supplier().get()));
             int parentCount = childTuple.increaseParentCount();
 
@@ -87,11 +89,11 @@ public class BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> extends
             childTuple.clearResult();
             tuple.setChildTuple(childTuple);
             if (parentCount == 1) {
-                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.CREATING);
             } else {
                 // It might have just been created by an earlier tuple in the same nodeIndex
                 if (childTuple.getState() != BavetTupleState.CREATING) {
-                    session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+                    session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.UPDATING);
                 }
             }
         }
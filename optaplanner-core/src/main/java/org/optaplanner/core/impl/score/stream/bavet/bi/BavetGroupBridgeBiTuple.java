@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 import java.util.List;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
 
 public final class BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> extends BavetAbstractBiTuple<A, B> {
 
@@ -26,7 +27,7 @@ public final class BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> e
     private final BavetAbstractBiTuple<A, B> parentTuple;
 
     private Runnable undoAccumulator;
-    private BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple;
+    private BavetGroupTuple<NewA, ResultContainer_> childTuple;
 
     public BavetGroupBridgeBiTuple(BavetGroupBridgeBiNode<A, B, NewA, ResultContainer_, NewB> node,
             BavetAbstractBiTuple<A, B> parentTuple) {
@@ -71,11 +72,11 @@ public final class BavetGroupBridgeBiTuple<A, B, NewA, ResultContainer_, NewB> e
         this.undoAccumulator = undoAccumulator;
     }
 
-    public BavetGroupBiTuple<NewA, ResultContainer_, NewB> getChildTuple() {
+    public BavetGroupTuple<NewA, ResultContainer_> getChildTuple() {
         return childTuple;
     }
 
-    public void setChildTuple(BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple) {
+    public void setChildTuple(BavetGroupTuple<NewA, ResultContainer_> childTuple) {
         this.childTuple = childTuple;
     }
 }
@@ -28,19 +28,23 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+import org.optaplanner.core.impl.score.stream.bi.AbstractBiJoiner;
 
 public final class BavetJoinBiConstraintStream<Solution_, A, B> extends BavetAbstractBiConstraintStream<Solution_, A, B>
         implements BavetJoinConstraintStream<Solution_> {
 
     private final BavetAbstractUniConstraintStream<Solution_, A> leftParent;
     private final BavetAbstractUniConstraintStream<Solution_, B> rightParent;
+    private final AbstractBiJoiner<A, B> joiner;
 
     public BavetJoinBiConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
             BavetAbstractUniConstraintStream<Solution_, A> leftParent,
-            BavetAbstractUniConstraintStream<Solution_, B> rightParent) {
+            BavetAbstractUniConstraintStream<Solution_, B> rightParent,
+            AbstractBiJoiner<A, B> joiner) {
         super(constraintFactory);
         this.leftParent = leftParent;
         this.rightParent = rightParent;
+        this.joiner = joiner;
     }
 
     @Override
@@ -65,12 +69,18 @@ public final class BavetJoinBiConstraintStream<Solution_, A, B> extends BavetAbs
         BavetJoinBridgeUniNode<A> leftNode = (BavetJoinBridgeUniNode<A>) leftNode_;
         BavetJoinBridgeUniNode<B> rightNode = (BavetJoinBridgeUniNode<B>) rightNode_;
         BavetJoinBiNode<A, B> node = new BavetJoinBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(),
-                leftNode, rightNode);
-        leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft); // TODO don't register if shared
-        rightNode.setChildTupleRefresher(node::refreshChildTuplesRight);
-        node = (BavetJoinBiNode<A, B>) processNode(buildPolicy, null, node); // TODO Sharing never happens
-        createChildNodeChains(buildPolicy, constraintWeight, node);
-        return node;
+                leftNode, rightNode, joiner);
+        BavetJoinBiNode<A, B> sharedNode = (BavetJoinBiNode<A, B>) processNode(buildPolicy, null, node);
+        if (sharedNode == node) { // Otherwise the join bridges are redundant, so they are discarded
+            buildPolicy.addJoinBridgeNode(leftNode);
+            leftNode.getParentNode().addChildNode(leftNode);
+            leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft);
+            buildPolicy.addJoinBridgeNode(rightNode);
+            rightNode.getParentNode().addChildNode(rightNode);
+            rightNode.setChildTupleRefresher(node::refreshChildTuplesRight);
+        }
+        createChildNodeChains(buildPolicy, constraintWeight, sharedNode);
+        return sharedNode;
     }
 
     @Override
@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
@@ -27,19 +28,23 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
+import org.optaplanner.core.impl.score.stream.bi.AbstractBiJoiner;
 
 public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> implements BavetJoinNode {
 
     private final BavetJoinBridgeUniNode<A> leftParentNode;
     private final BavetJoinBridgeUniNode<B> rightParentNode;
+    private final AbstractBiJoiner<A, B> joiner;
 
     private final List<BavetAbstractBiNode<A, B>> childNodeList = new ArrayList<>();
 
     public BavetJoinBiNode(BavetConstraintSession session, int nodeIndex,
-            BavetJoinBridgeUniNode<A> leftParentNode, BavetJoinBridgeUniNode<B> rightParentNode) {
+            BavetJoinBridgeUniNode<A> leftParentNode, BavetJoinBridgeUniNode<B> rightParentNode,
+            AbstractBiJoiner<A, B> joiner) {
         super(session, nodeIndex);
         this.leftParentNode = leftParentNode;
         this.rightParentNode = rightParentNode;
+        this.joiner = joiner;
     }
 
     @Override
@@ -56,7 +61,26 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode.getParentNode()),
+                System.identityHashCode(rightParentNode.getParentNode()), joiner);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinBiNode) {
+            BavetJoinBiNode<?, ?> other = (BavetJoinBiNode<?, ?>) o;
+            // Join bridge nodes are never shared, so compare their parent nodes instead
+            return leftParentNode.getParentNode() == other.leftParentNode.getParentNode()
+                    && rightParentNode.getParentNode() == other.rightParentNode.getParentNode()
+                    && joiner.equals(other.joiner);
+        } else {
+            return false;
+        }
+    }
 
     // ************************************************************************
     // Runtime
@@ -90,53 +114,71 @@ public final class BavetJoinBiNode<A, B> extends BavetAbstractBiNode<A, B> imple
         }
     }
 
-    public void refreshChildTuplesLeft(BavetJoinBridgeUniTuple<A> leftParentTuple) {
-        List<BavetAbstractTuple> leftTupleSet = leftParentTuple.getChildTupleList();
-        for (BavetAbstractTuple tuple_ : leftTupleSet) {
-            BavetJoinBiTuple<A, B> tuple = (BavetJoinBiTuple<A, B>) tuple_;
-            boolean removed = tuple.getBTuple().getChildTupleList().remove(tuple);
-            if (!removed) {
-                throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactA()
-                        + ")'s tuple cannot be removed from the other fact (" + tuple.getFactB()
-                        + ")'s join bridge.");
+    /**
+     * @param leftParentTupleGroup never null, never empty, all active tuples have equal index properties
+     */
+    public void refreshChildTuplesLeft(List<BavetJoinBridgeUniTuple<A>> leftParentTupleGroup) {
+        // Looked up lazily, at most once for the entire group
+        Set<BavetJoinBridgeUniTuple<B>> rightParentTupleList = null;
+        for (BavetJoinBridgeUniTuple<A> leftParentTuple : leftParentTupleGroup) {
+            List<BavetAbstractTuple> leftTupleSet = leftParentTuple.getChildTupleList();
+            for (BavetAbstractTuple tuple_ : leftTupleSet) {
+                BavetJoinBiTuple<A, B> tuple = (BavetJoinBiTuple<A, B>) tuple_;
+                boolean removed = tuple.getBTuple().getChildTupleList().remove(tuple);
+                if (!removed) {
+                    throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactA()
+                            + ")'s tuple cannot be removed from the other fact (" + tuple.getFactB()
+                            + ")'s join bridge.");
+                }
+                session.transitionTuple(tuple, BavetTupleState.DYING);
             }
-            session.transitionTuple(tuple, BavetTupleState.DYING);
-        }
-        leftTupleSet.clear();
-        if (leftParentTuple.isActive()) {
-            Set<BavetJoinBridgeUniTuple<B>> rightParentTupleList = getRightIndex().get(leftParentTuple.getIndexProperties());
-            for (BavetJoinBridgeUniTuple<B> rightParentTuple : rightParentTupleList) {
-                if (!rightParentTuple.isDirty()) {
-                    BavetJoinBiTuple<A, B> childTuple = createTuple(leftParentTuple, rightParentTuple);
-                    leftTupleSet.add(childTuple);
-                    rightParentTuple.getChildTupleList().add(childTuple);
-                    session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            leftTupleSet.clear();
+            if (leftParentTuple.isActive()) {
+                if (rightParentTupleList == null) {
+                    rightParentTupleList = getRightIndex().get(leftParentTuple.getIndexProperties());
+                }
+                for (BavetJoinBridgeUniTuple<B> rightParentTuple : rightParentTupleList) {
+                    if (!rightParentTuple.isDirty()) {
+                        BavetJoinBiTuple<A, B> childTuple = createTuple(leftParentTuple, rightParentTuple);
+                        leftTupleSet.add(childTuple);
+                        rightParentTuple.getChildTupleList().add(childTuple);
+                        session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                    }
                 }
             }
         }
     }
 
-    public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<B> rightParentTuple) {
-        List<BavetAbstractTuple> rightTupleSet = rightParentTuple.getChildTupleList();
-        for (BavetAbstractTuple uncastTuple : rightTupleSet) {
-            BavetJoinBiTuple<A, B> tuple = (BavetJoinBiTuple<A, B>) uncastTuple;
-            boolean removed = tuple.getATuple().getChildTupleList().remove(tuple);
-            if (!removed) {
-                throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactB()
-                        + ")'s tuple cannot be removed from the other fact (" + tuple.getFactA()
-                        + ")'s join bridge.");
+    /**
+     * @param rightParentTupleGroup never null, never empty, all active tuples have equal index properties
+     */
+    public void refreshChildTuplesRight(List<BavetJoinBridgeUniTuple<B>> rightParentTupleGroup) {
+        // Looked up lazily, at most once for the entire group
+        Set<BavetJoinBridgeUniTuple<A>> leftParentTupleList = null;
+        for (BavetJoinBridgeUniTuple<B> rightParentTuple : rightParentTupleGroup) {
+            List<BavetAbstractTuple> rightTupleSet = rightParentTuple.getChildTupleList();
+            for (BavetAbstractTuple uncastTuple : rightTupleSet) {
+                BavetJoinBiTuple<A, B> tuple = (BavetJoinBiTuple<A, B>) uncastTuple;
+                boolean removed = tuple.getATuple().getChildTupleList().remove(tuple);
+                if (!removed) {
+                    throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactB()
+                            + ")'s tuple cannot be removed from the other fact (" + tuple.getFactA()
+                            + ")'s join bridge.");
+                }
+                session.transitionTuple(tuple, BavetTupleState.DYING);
             }
-            session.transitionTuple(tuple, BavetTupleState.DYING);
-        }
-        rightTupleSet.clear();
-        if (rightParentTuple.isActive()) {
-            Set<BavetJoinBridgeUniTuple<A>> leftParentTupleList = getLeftIndex().get(rightParentTuple.getIndexProperties());
-            for (BavetJoinBridgeUniTuple<A> leftParentTuple : leftParentTupleList) {
-                if (!leftParentTuple.isDirty()) {
-                    BavetJoinBiTuple<A, B> childTuple = createTuple(leftParentTuple, rightParentTuple);
-                    leftParentTuple.getChildTupleList().add(childTuple);
-                    rightTupleSet.add(childTuple);
-                    session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            rightTupleSet.clear();
+            if (rightParentTuple.isActive()) {
+                if (leftParentTupleList == null) {
+                    leftParentTupleList = getLeftIndex().get(rightParentTuple.getIndexProperties());
+                }
+                for (BavetJoinBridgeUniTuple<A> leftParentTuple : leftParentTupleList) {
+                    if (!leftParentTuple.isDirty()) {
+                        BavetJoinBiTuple<A, B> childTuple = createTuple(leftParentTuple, rightParentTuple);
+                        leftParentTuple.getChildTupleList().add(childTuple);
+                        rightTupleSet.add(childTuple);
+                        session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                    }
                 }
             }
         }
@@ -74,6 +74,13 @@ public final class BavetJoinBridgeBiConstraintStream<Solution_, A, B>
                 indexFactory.buildIndex(isLeftBridge));
     }
 
+    @Override
+    protected BavetAbstractBiNode<A, B> processNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            BavetAbstractBiNode<A, B> parentNode, BavetAbstractBiNode<A, B> node) {
+        // Not shared by itself: the join stream adds it to its parentNode, unless the join node is shared.
+        return node;
+    }
+
     @Override
     protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
             BavetAbstractBiNode<A, B> uncastedNode) {
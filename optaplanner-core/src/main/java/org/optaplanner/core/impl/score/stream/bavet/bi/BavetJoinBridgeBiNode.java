@@ -16,6 +16,12 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 
@@ -31,10 +37,13 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
 
     private final BavetAbstractBiNode<A, B> parentNode;
     private final BiFunction<A, B, Object[]> mapping;
-    /** Calls {@link BavetJoinTriNode#refreshChildTuplesLeft(BavetJoinBridgeBiTuple)}, right or tri/quad/... variants. */
-    private Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleRefresher;
+    /** Calls {@link BavetJoinTriNode#refreshChildTuplesLeft(List)}, right or tri/quad/... variants. */
+    private Consumer<List<BavetJoinBridgeBiTuple<A, B>>> childTupleRefresher;
 
     private final BavetIndex<BavetJoinBridgeBiTuple<A, B>> index;
+    /** Reused by {@link #refreshBatch(List)}. */
+    private final Map<List<Object>, List<BavetJoinBridgeBiTuple<A, B>>> indexKeyToTupleGroupMap =
+            new LinkedHashMap<>();
 
     public BavetJoinBridgeBiNode(BavetConstraintSession session, int nodeIndex, BavetAbstractBiNode<A, B> parentNode,
             BiFunction<A, B, Object[]> mapping, BavetIndex<BavetJoinBridgeBiTuple<A, B>> index) {
@@ -52,6 +61,33 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
     @Override
     public void refresh(BavetAbstractTuple uncastTuple) {
         BavetJoinBridgeBiTuple<A, B> tuple = (BavetJoinBridgeBiTuple<A, B>) uncastTuple;
+        refreshIndex(tuple);
+        childTupleRefresher.accept(Collections.singletonList(tuple));
+    }
+
+    @Override
+    public void refreshBatch(List<BavetAbstractTuple> tupleBatch) {
+        if (tupleBatch.size() == 1) {
+            super.refreshBatch(tupleBatch);
+            return;
+        }
+        for (BavetAbstractTuple uncastTuple : tupleBatch) {
+            BavetJoinBridgeBiTuple<A, B> tuple = (BavetJoinBridgeBiTuple<A, B>) uncastTuple;
+            refreshIndex(tuple);
+            // Group the tuples by their index properties, so each group does a single lookup in the other index
+            List<Object> indexKey = tuple.isActive() ? Arrays.asList(tuple.getIndexProperties()) : null;
+            indexKeyToTupleGroupMap.computeIfAbsent(indexKey, k -> new ArrayList<>()).add(tuple);
+        }
+        for (List<BavetJoinBridgeBiTuple<A, B>> tupleGroup : indexKeyToTupleGroupMap.values()) {
+            childTupleRefresher.accept(tupleGroup);
+        }
+        indexKeyToTupleGroupMap.clear();
+        for (BavetAbstractTuple tuple : tupleBatch) {
+            finishRefresh(tuple);
+        }
+    }
+
+    private void refreshIndex(BavetJoinBridgeBiTuple<A, B> tuple) {
         A a = tuple.getFactA();
         B b = tuple.getFactB();
         if (tuple.getState() != BavetTupleState.CREATING) {
@@ -62,7 +98,6 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
             Object[] indexProperties = mapping.apply(a, b);
             index.put(indexProperties, tuple);
         }
-        childTupleRefresher.accept(tuple);
     }
 
     @Override
@@ -74,11 +109,15 @@ public final class BavetJoinBridgeBiNode<A, B> extends BavetAbstractBiNode<A, B>
     // Getters/setters
     // ************************************************************************
 
+    public BavetAbstractBiNode<A, B> getParentNode() {
+        return parentNode;
+    }
+
     public BavetIndex<BavetJoinBridgeBiTuple<A, B>> getIndex() {
         return index;
     }
 
-    public void setChildTupleRefresher(Consumer<BavetJoinBridgeBiTuple<A, B>> childTupleRefresher) {
+    public void setChildTupleRefresher(Consumer<List<BavetJoinBridgeBiTuple<A, B>>> childTupleRefresher) {
         this.childTupleRefresher = childTupleRefresher;
     }
 
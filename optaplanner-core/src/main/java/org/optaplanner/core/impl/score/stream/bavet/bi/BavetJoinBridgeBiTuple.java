@@ -30,6 +30,8 @@ public final class BavetJoinBridgeBiTuple<A, B> extends BavetAbstractBiTuple<A,
     private final List<BavetAbstractTuple> childTupleList = new ArrayList<>();
 
     private Object[] indexProperties;
+    private BavetJoinBridgeTuple previousInIndexBucket = null;
+    private BavetJoinBridgeTuple nextInIndexBucket = null;
 
     public BavetJoinBridgeBiTuple(BavetJoinBridgeBiNode<A, B> node,
             BavetAbstractBiTuple<A, B> parentTuple) {
@@ -76,4 +78,24 @@ public final class BavetJoinBridgeBiTuple<A, B> extends BavetAbstractBiTuple<A,
         this.indexProperties = indexProperties;
     }
 
+    @Override
+    public BavetJoinBridgeTuple getPreviousInIndexBucket() {
+        return previousInIndexBucket;
+    }
+
+    @Override
+    public void setPreviousInIndexBucket(BavetJoinBridgeTuple previousInIndexBucket) {
+        this.previousInIndexBucket = previousInIndexBucket;
+    }
+
+    @Override
+    public BavetJoinBridgeTuple getNextInIndexBucket() {
+        return nextInIndexBucket;
+    }
+
+    @Override
+    public void setNextInIndexBucket(BavetJoinBridgeTuple nextInIndexBucket) {
+        this.nextInIndexBucket = nextInIndexBucket;
+    }
+
 }
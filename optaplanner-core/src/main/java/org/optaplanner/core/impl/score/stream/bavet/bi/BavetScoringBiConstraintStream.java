@@ -109,6 +109,29 @@ public final class BavetScoringBiConstraintStream<Solution_, A, B>
             Score<?> constraintWeight, BavetAbstractBiNode<A, B> parentNode) {
         ScoreInliner<?> scoreInliner = buildPolicy.getSession().getScoreInliner();
         WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        if (weightedScoreImpacter.isUndoFree()) {
+            ToLongBiFunction<A, B> undoFreeMatchWeigher;
+            if (intMatchWeigher != null) {
+                undoFreeMatchWeigher = (a, b) -> {
+                    int matchWeight = intMatchWeigher.applyAsInt(a, b);
+                    constraint.assertCorrectImpact(matchWeight);
+                    return matchWeight;
+                };
+            } else if (longMatchWeigher != null) {
+                undoFreeMatchWeigher = (a, b) -> {
+                    long matchWeight = longMatchWeigher.applyAsLong(a, b);
+                    constraint.assertCorrectImpact(matchWeight);
+                    return matchWeight;
+                };
+            } else if (noMatchWeigher) {
+                undoFreeMatchWeigher = (a, b) -> 1L;
+            } else {
+                throw new IllegalStateException(
+                        "Impossible state: an undo free impacter requires an int or long match weigher.");
+            }
+            return new BavetScoringBiNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), constraintWeight,
+                    weightedScoreImpacter, undoFreeMatchWeigher);
+        }
         BiFunction<A, B, UndoScoreImpacter> scoreImpacter;
         if (intMatchWeigher != null) {
             scoreImpacter = (a, b) -> {
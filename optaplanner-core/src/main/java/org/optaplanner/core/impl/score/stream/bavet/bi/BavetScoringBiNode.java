@@ -17,9 +17,11 @@
 package org.optaplanner.core.impl.score.stream.bavet.bi;
 
 import java.util.function.BiFunction;
+import java.util.function.ToLongBiFunction;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
@@ -28,12 +30,27 @@ public final class BavetScoringBiNode<A, B> extends BavetAbstractBiNode<A, B> im
 
     private final Score<?> constraintWeight;
     private final BiFunction<A, B, UndoScoreImpacter> scoreImpacter;
+    private final WeightedScoreImpacter undoFreeScoreImpacter;
+    private final ToLongBiFunction<A, B> undoFreeMatchWeigher;
 
     public BavetScoringBiNode(BavetConstraintSession session, int nodeIndex, Score<?> constraintWeight,
             BiFunction<A, B, UndoScoreImpacter> scoreImpacter) {
+        this(session, nodeIndex, constraintWeight, scoreImpacter, null, null);
+    }
+
+    public BavetScoringBiNode(BavetConstraintSession session, int nodeIndex, Score<?> constraintWeight,
+            WeightedScoreImpacter undoFreeScoreImpacter, ToLongBiFunction<A, B> undoFreeMatchWeigher) {
+        this(session, nodeIndex, constraintWeight, null, undoFreeScoreImpacter, undoFreeMatchWeigher);
+    }
+
+    private BavetScoringBiNode(BavetConstraintSession session, int nodeIndex, Score<?> constraintWeight,
+            BiFunction<A, B, UndoScoreImpacter> scoreImpacter, WeightedScoreImpacter undoFreeScoreImpacter,
+            ToLongBiFunction<A, B> undoFreeMatchWeigher) {
         super(session, nodeIndex);
         this.constraintWeight = constraintWeight;
         this.scoreImpacter = scoreImpacter;
+        this.undoFreeScoreImpacter = undoFreeScoreImpacter;
+        this.undoFreeMatchWeigher = undoFreeMatchWeigher;
     }
 
     // ************************************************************************
@@ -56,6 +73,18 @@ public final class BavetScoringBiNode<A, B> extends BavetAbstractBiNode<A, B> im
         BavetScoringBiTuple<A, B> tuple = (BavetScoringBiTuple<A, B>) uncastTuple;
         A a = tuple.getFactA();
         B b = tuple.getFactB();
+        if (undoFreeScoreImpacter != null) {
+            long oldMatchWeight = tuple.getMatchWeight();
+            if (oldMatchWeight != 0L) {
+                undoFreeScoreImpacter.impactScoreWithoutUndo(-oldMatchWeight);
+            }
+            long matchWeight = tuple.isActive() ? undoFreeMatchWeigher.applyAsLong(a, b) : 0L;
+            if (matchWeight != 0L) {
+                undoFreeScoreImpacter.impactScoreWithoutUndo(matchWeight);
+            }
+            tuple.setMatchWeight(matchWeight);
+            return;
+        }
         UndoScoreImpacter oldUndoScoreImpacter = tuple.getUndoScoreImpacter();
         if (oldUndoScoreImpacter != null) {
             oldUndoScoreImpacter.run();
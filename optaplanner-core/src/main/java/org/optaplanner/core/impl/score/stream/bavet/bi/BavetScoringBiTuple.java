@@ -28,6 +28,7 @@ public final class BavetScoringBiTuple<A, B> extends BavetAbstractBiTuple<A, B>
     private final BavetAbstractBiTuple<A, B> parentTuple;
 
     private UndoScoreImpacter undoScoreImpacter = null;
+    private long matchWeight = 0L;
 
     public BavetScoringBiTuple(BavetScoringBiNode<A, B> node, BavetAbstractBiTuple<A, B> parentTuple) {
         this.node = node;
@@ -73,4 +74,14 @@ public final class BavetScoringBiTuple<A, B> extends BavetAbstractBiTuple<A, B>
         this.undoScoreImpacter = undoScoreImpacter;
     }
 
+    @Override
+    public long getMatchWeight() {
+        return matchWeight;
+    }
+
+    @Override
+    public void setMatchWeight(long matchWeight) {
+        this.matchWeight = matchWeight;
+    }
+
 }
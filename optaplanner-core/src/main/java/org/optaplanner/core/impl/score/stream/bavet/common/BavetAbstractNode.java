@@ -16,12 +16,14 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
+import java.util.List;
+
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 
 public abstract class BavetAbstractNode implements BavetNode {
 
     protected final BavetConstraintSession session;
-    protected final int nodeIndex;
+    protected int nodeIndex;
 
     public BavetAbstractNode(BavetConstraintSession session, int nodeIndex) {
         this.session = session;
@@ -30,6 +32,37 @@ public abstract class BavetAbstractNode implements BavetNode {
 
     public abstract void refresh(BavetAbstractTuple tuple);
 
+    /**
+     * Refreshes all dirty tuples of this node at once, after all nodes with a lower node index have been refreshed.
+     * Override it to share work between the tuples of a batch, such as index lookups.
+     * @param tupleBatch never null, never empty, all tuples belong to this node
+     */
+    public void refreshBatch(List<BavetAbstractTuple> tupleBatch) {
+        for (BavetAbstractTuple tuple : tupleBatch) {
+            refresh(tuple);
+            finishRefresh(tuple);
+        }
+    }
+
+    protected static void finishRefresh(BavetAbstractTuple tuple) {
+        switch (tuple.getState()) {
+            case CREATING:
+            case UPDATING:
+                tuple.setState(BavetTupleState.OK);
+                return;
+            case DYING:
+            case ABORTING:
+                tuple.setState(BavetTupleState.DEAD);
+                return;
+            case DEAD:
+                throw new IllegalStateException("Impossible state: The tuple (" + tuple + ") in node (" +
+                        tuple.getNode() + ") is already in the dead state (" + tuple.getState() + ").");
+            default:
+                throw new IllegalStateException("Impossible state: Tuple (" + tuple + ") in node (" +
+                        tuple.getNode() + ") is in an unexpected state (" + tuple.getState() + ").");
+        }
+    }
+
     // ************************************************************************
     // Getters/setters
     // ************************************************************************
@@ -39,4 +72,12 @@ public abstract class BavetAbstractNode implements BavetNode {
         return nodeIndex;
     }
 
+    /**
+     * Only used by {@link BavetNodeBuildPolicy} to close the gaps left by discarded nodes.
+     * @param nodeIndex {@code >= 0}, never higher than the original node index
+     */
+    void setNodeIndex(int nodeIndex) {
+        this.nodeIndex = nodeIndex;
+    }
+
 }
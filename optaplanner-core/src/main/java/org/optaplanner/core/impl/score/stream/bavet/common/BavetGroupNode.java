@@ -0,0 +1,30 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common;
+
+public interface BavetGroupNode<GroupKey_, ResultContainer_> extends BavetNode {
+
+    /**
+     * The returned tuple is always a {@link BavetAbstractTuple} too.
+     *
+     * @param groupKey sometimes null
+     * @param resultContainer never null
+     * @return never null
+     */
+    BavetGroupTuple<GroupKey_, ResultContainer_> createTuple(GroupKey_ groupKey, ResultContainer_ resultContainer);
+
+}
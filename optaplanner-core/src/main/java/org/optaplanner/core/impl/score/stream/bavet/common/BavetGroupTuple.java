@@ -16,6 +16,18 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
-public interface BavetGroupTuple extends BavetTuple {
+public interface BavetGroupTuple<GroupKey_, ResultContainer_> extends BavetTuple {
+
+    int increaseParentCount();
+
+    int decreaseParentCount();
+
+    void clearResult();
+
+    GroupKey_ getGroupKey();
+
+    ResultContainer_ getResultContainer();
+
+    BavetTupleState getState();
 
 }
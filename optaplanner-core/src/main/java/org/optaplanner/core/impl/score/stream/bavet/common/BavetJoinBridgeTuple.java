@@ -22,4 +22,22 @@ public interface BavetJoinBridgeTuple extends BavetTuple {
 
     void setIndexProperties(Object[] indexProperties);
 
+    /**
+     * Intrusive link used by {@link org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexBucket},
+     * so adding the tuple to an index doesn't allocate a linked list entry.
+     *
+     * @return null if this tuple is the first in its bucket or not in an index
+     */
+    BavetJoinBridgeTuple getPreviousInIndexBucket();
+
+    void setPreviousInIndexBucket(BavetJoinBridgeTuple previousInIndexBucket);
+
+    /**
+     * @return null if this tuple is the last in its bucket or not in an index
+     * @see #getPreviousInIndexBucket()
+     */
+    BavetJoinBridgeTuple getNextInIndexBucket();
+
+    void setNextInIndexBucket(BavetJoinBridgeTuple nextInIndexBucket);
+
 }
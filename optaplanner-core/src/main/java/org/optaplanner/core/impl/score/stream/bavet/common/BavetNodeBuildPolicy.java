@@ -19,8 +19,11 @@ package org.optaplanner.core.impl.score.stream.bavet.common;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.function.Function;
@@ -34,6 +37,8 @@ public class BavetNodeBuildPolicy<Solution_> {
     private final Map<BavetJoinConstraintStream<Solution_>, BavetJoinBridgeNode> joinConstraintStreamToJoinBridgeNodeMap =
             new HashMap<>();
     private final Map<BavetAbstractNode, BavetAbstractNode> sharableNodeMap = new HashMap<>();
+    private final List<Set<BavetAbstractNode>> constraintNodeSetList = new ArrayList<>();
+    private Set<BavetAbstractNode> constraintNodeSet = null;
 
     private int nextNodeIndex = 0;
 
@@ -41,15 +46,50 @@ public class BavetNodeBuildPolicy<Solution_> {
         this.session = session;
     }
 
+    /**
+     * Call before creating the nodes of each constraint,
+     * so {@link #getIndependentNodeLists(List)} knows which nodes are connected.
+     */
+    public void startConstraint() {
+        constraintNodeSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        constraintNodeSetList.add(constraintNodeSet);
+    }
+
     public <Node_ extends BavetAbstractNode> Node_ retrieveSharedNode(Node_ node) {
         Node_ sharedNode = (Node_) sharableNodeMap.computeIfAbsent(node, k -> node);
         if (sharedNode != node) {
             // We are throwing away the new instance; throw away the new index, too.
             nextNodeIndex = node.getNodeIndex();
         }
+        recordConstraintNode(sharedNode);
         return sharedNode;
     }
 
+    private void recordConstraintNode(BavetAbstractNode node) {
+        if (constraintNodeSet != null) {
+            constraintNodeSet.add(node);
+        }
+    }
+
+    /**
+     * Join bridge nodes aren't shared by themselves:
+     * they are only added once the join node they feed turned out not to be shared.
+     * Otherwise they are discarded, but their node index can't be reused,
+     * because other nodes might have been created after them. {@link #getCreatedNodes()} closes those gaps.
+     * @param node never null
+     */
+    public void addJoinBridgeNode(BavetAbstractNode node) {
+        if (!(node instanceof BavetJoinBridgeNode)) {
+            throw new IllegalStateException("Impossible state: the node (" + node + ") is not a join bridge node.");
+        }
+        BavetAbstractNode oldNode = sharableNodeMap.putIfAbsent(node, node);
+        if (oldNode != null) {
+            throw new IllegalStateException("Impossible state: the join bridge node (" + node
+                    + ") has already been added.");
+        }
+        recordConstraintNode(node);
+    }
+
     // ************************************************************************
     // Getters/setters
     // ************************************************************************
@@ -71,19 +111,56 @@ public class BavetNodeBuildPolicy<Solution_> {
             return Collections.emptyList();
         }
         // Make a sequential list of unique nodes.
-        SortedMap<Integer, BavetNode> nodeIndexToNodeMap = sharableNodeMap.keySet().stream()
+        SortedMap<Integer, BavetAbstractNode> nodeIndexToNodeMap = sharableNodeMap.keySet().stream()
                 .collect(Collectors.toMap(BavetAbstractNode::getNodeIndex, Function.identity(), (a, b) -> {
                     throw new IllegalStateException("Impossible state: 2 nodes (" + a + ", " + b +
                             ") share the same index (" + a.getNodeIndex() + ").");
                 }, TreeMap::new));
-        // Ensure there are no gaps in that list.
-        int maxNodeIndex = nodeIndexToNodeMap.lastKey();
-        int expectedMaxNodeIndex = nodeIndexToNodeMap.size() - 1;
-        if (maxNodeIndex != expectedMaxNodeIndex) {
-            throw new IllegalStateException("Impossible state: maximum node index (" + maxNodeIndex +
-                    ") does not match the expected maximum node index (" + expectedMaxNodeIndex + ").");
+        // Close the gaps left by discarded join bridge nodes, without changing the order of the nodes.
+        List<BavetNode> nodeList = new ArrayList<>(nodeIndexToNodeMap.size());
+        for (BavetAbstractNode node : nodeIndexToNodeMap.values()) {
+            node.setNodeIndex(nodeList.size());
+            nodeList.add(node);
+        }
+        return nodeList;
+    }
+
+    /**
+     * Splits the nodes in subgraphs that don't share any node, so no tuple flows from one subgraph into another.
+     * Constraints that share a node end up in the same subgraph.
+     * @param createdNodeList never null, the result of {@link #getCreatedNodes()}
+     * @return never null, each list is sorted by node index
+     */
+    public List<List<BavetNode>> getIndependentNodeLists(List<BavetNode> createdNodeList) {
+        int[] parentIndexes = new int[createdNodeList.size()];
+        for (int i = 0; i < parentIndexes.length; i++) {
+            parentIndexes[i] = i;
+        }
+        for (Set<BavetAbstractNode> nodeSet : constraintNodeSetList) {
+            int rootIndex = -1;
+            for (BavetAbstractNode node : nodeSet) {
+                int nodeRootIndex = findRootIndex(parentIndexes, node.getNodeIndex());
+                if (rootIndex < 0) {
+                    rootIndex = nodeRootIndex;
+                } else if (nodeRootIndex != rootIndex) {
+                    parentIndexes[nodeRootIndex] = rootIndex;
+                }
+            }
+        }
+        Map<Integer, List<BavetNode>> rootIndexToNodeListMap = new LinkedHashMap<>();
+        for (BavetNode node : createdNodeList) {
+            rootIndexToNodeListMap.computeIfAbsent(findRootIndex(parentIndexes, node.getNodeIndex()),
+                    k -> new ArrayList<>()).add(node);
+        }
+        return new ArrayList<>(rootIndexToNodeListMap.values());
+    }
+
+    private static int findRootIndex(int[] parentIndexes, int index) {
+        while (parentIndexes[index] != index) {
+            parentIndexes[index] = parentIndexes[parentIndexes[index]]; // Path halving
+            index = parentIndexes[index];
         }
-        return new ArrayList<>(nodeIndexToNodeMap.values());
+        return index;
     }
 
 }
@@ -17,6 +17,7 @@
 package org.optaplanner.core.impl.score.stream.bavet.common;
 
 import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 
 public interface BavetScoringTuple {
 
@@ -24,4 +25,13 @@ public interface BavetScoringTuple {
 
     void setUndoScoreImpacter(UndoScoreImpacter undoScoreImpacter);
 
+    /**
+     * Only used if the score impacter {@link WeightedScoreImpacter#isUndoFree() is undo free}.
+     *
+     * @return 0 if not impacted
+     */
+    long getMatchWeight();
+
+    void setMatchWeight(long matchWeight);
+
 }
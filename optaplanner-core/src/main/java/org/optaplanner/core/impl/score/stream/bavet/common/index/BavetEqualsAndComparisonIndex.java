@@ -20,7 +20,6 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.Set;
@@ -33,7 +32,7 @@ import org.optaplanner.core.impl.score.stream.common.JoinerType;
 public class BavetEqualsAndComparisonIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
 
     private final JoinerType comparisonJoinerType;
-    private final Map<BavetIndexKey, NavigableMap<Object, Set<Tuple_>>> equalsMap = new HashMap<>();
+    private final Map<BavetIndexKey, NavigableMap<Object, BavetIndexBucket<Tuple_>>> equalsMap = new HashMap<>();
 
     public BavetEqualsAndComparisonIndex(JoinerType comparisonJoinerType) {
         this.comparisonJoinerType = comparisonJoinerType;
@@ -45,9 +44,9 @@ public class BavetEqualsAndComparisonIndex<Tuple_ extends BavetJoinBridgeTuple>
         BavetIndexKey oldEqualsIndexKey = new BavetIndexKey(
                 Arrays.copyOfRange(oldIndexProperties, 0, oldIndexProperties.length - 1));
         Object oldComparisonIndexProperty = oldIndexProperties[oldIndexProperties.length - 1];
-        NavigableMap<Object, Set<Tuple_>> comparisonMap = equalsMap.get(oldEqualsIndexKey);
-        Set<Tuple_> tupleSet = comparisonMap.get(oldComparisonIndexProperty);
-        boolean removed = tupleSet.remove(tuple);
+        NavigableMap<Object, BavetIndexBucket<Tuple_>> comparisonMap = equalsMap.get(oldEqualsIndexKey);
+        BavetIndexBucket<Tuple_> tupleSet = comparisonMap.get(oldComparisonIndexProperty);
+        boolean removed = tupleSet.removeTuple(tuple);
         if (!removed) {
             throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
                     + ")'s tuple cannot be removed in the index from the tupleSet (" + tupleSet + ").");
@@ -65,9 +64,11 @@ public class BavetEqualsAndComparisonIndex<Tuple_ extends BavetJoinBridgeTuple>
     public void put(Object[] indexProperties, Tuple_ tuple) {
         BavetIndexKey equalsIndexKey = new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, indexProperties.length - 1));
         Object comparisonIndexProperty = indexProperties[indexProperties.length - 1];
-        NavigableMap<Object, Set<Tuple_>> comparisonMap = equalsMap.computeIfAbsent(equalsIndexKey, k -> new TreeMap<>());
-        Set<Tuple_> tupleSet = comparisonMap.computeIfAbsent(comparisonIndexProperty, k -> new LinkedHashSet<>());
-        boolean added = tupleSet.add(tuple);
+        NavigableMap<Object, BavetIndexBucket<Tuple_>> comparisonMap =
+                equalsMap.computeIfAbsent(equalsIndexKey, k -> new TreeMap<>());
+        BavetIndexBucket<Tuple_> tupleSet =
+                comparisonMap.computeIfAbsent(comparisonIndexProperty, k -> new BavetIndexBucket<>());
+        boolean added = tupleSet.addTuple(tuple);
         if (!added) {
             throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
                     + ") with indexProperties (" + Arrays.toString(indexProperties)
@@ -80,11 +81,11 @@ public class BavetEqualsAndComparisonIndex<Tuple_ extends BavetJoinBridgeTuple>
     public Set<Tuple_> get(Object[] indexProperties) {
         BavetIndexKey equalsIndexKey = new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, indexProperties.length - 1));
         Object comparisonIndexProperty = indexProperties[indexProperties.length - 1];
-        NavigableMap<Object, Set<Tuple_>> comparisonMap = equalsMap.get(equalsIndexKey);
+        NavigableMap<Object, BavetIndexBucket<Tuple_>> comparisonMap = equalsMap.get(equalsIndexKey);
         if (comparisonMap == null) {
             return Collections.emptySet();
         }
-        NavigableMap<Object, Set<Tuple_>> selectedComparisonMap;
+        NavigableMap<Object, BavetIndexBucket<Tuple_>> selectedComparisonMap;
         switch (comparisonJoinerType) {
             case LESS_THAN:
                 selectedComparisonMap = comparisonMap.headMap(comparisonIndexProperty, false);
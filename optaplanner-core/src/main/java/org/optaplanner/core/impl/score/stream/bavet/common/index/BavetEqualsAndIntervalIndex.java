@@ -0,0 +1,133 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * Indexes on equal joiners followed by a lower bound and an upper bound comparison joiner,
+ * such as {@link org.optaplanner.core.api.score.stream.Joiners#overlapping(java.util.function.Function,
+ * java.util.function.Function)}.
+ *
+ * @param <Tuple_> the tuple type
+ */
+public class BavetEqualsAndIntervalIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
+
+    private final JoinerType lowJoinerType;
+    private final JoinerType highJoinerType;
+    /** True if the stored low property is the last index property, false if it's the second last. */
+    private final boolean lowIsLast;
+    private final Map<BavetIndexKey, BavetIntervalTree<Tuple_>> equalsMap = new HashMap<>();
+    private final Map<Tuple_, BavetIntervalTree.Node<Tuple_>> nodeMap = new IdentityHashMap<>();
+
+    /**
+     * @param secondLastJoinerType never null, tested as {@code storedProperty secondLastJoinerType queryProperty}
+     * @param lastJoinerType never null, tested as {@code storedProperty lastJoinerType queryProperty}
+     */
+    public BavetEqualsAndIntervalIndex(JoinerType secondLastJoinerType, JoinerType lastJoinerType) {
+        if (isLowerBound(secondLastJoinerType) && isUpperBound(lastJoinerType)) {
+            lowJoinerType = secondLastJoinerType;
+            highJoinerType = lastJoinerType;
+            lowIsLast = false;
+        } else if (isUpperBound(secondLastJoinerType) && isLowerBound(lastJoinerType)) {
+            lowJoinerType = lastJoinerType;
+            highJoinerType = secondLastJoinerType;
+            lowIsLast = true;
+        } else {
+            throw new IllegalArgumentException("The joinerTypes (" + secondLastJoinerType + ", " + lastJoinerType
+                    + ") do not form an interval.");
+        }
+    }
+
+    public static boolean isInterval(JoinerType secondLastJoinerType, JoinerType lastJoinerType) {
+        return (isLowerBound(secondLastJoinerType) && isUpperBound(lastJoinerType))
+                || (isUpperBound(secondLastJoinerType) && isLowerBound(lastJoinerType));
+    }
+
+    private static boolean isLowerBound(JoinerType joinerType) {
+        return joinerType == JoinerType.LESS_THAN || joinerType == JoinerType.LESS_THAN_OR_EQUAL;
+    }
+
+    private static boolean isUpperBound(JoinerType joinerType) {
+        return joinerType == JoinerType.GREATER_THAN || joinerType == JoinerType.GREATER_THAN_OR_EQUAL;
+    }
+
+    @Override
+    public void remove(Tuple_ tuple) {
+        Object[] oldIndexProperties = tuple.getIndexProperties();
+        BavetIndexKey oldEqualsIndexKey = new BavetIndexKey(
+                Arrays.copyOfRange(oldIndexProperties, 0, oldIndexProperties.length - 2));
+        BavetIntervalTree<Tuple_> intervalTree = equalsMap.get(oldEqualsIndexKey);
+        BavetIntervalTree.Node<Tuple_> node = nodeMap.remove(tuple);
+        if (intervalTree == null || node == null) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ")'s tuple cannot be removed in the index with indexProperties ("
+                    + Arrays.toString(oldIndexProperties) + ").");
+        }
+        intervalTree.remove(node);
+        if (intervalTree.isEmpty()) {
+            equalsMap.remove(oldEqualsIndexKey);
+        }
+        tuple.setIndexProperties(null);
+    }
+
+    @Override
+    public void put(Object[] indexProperties, Tuple_ tuple) {
+        if (nodeMap.containsKey(tuple)) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ") with indexProperties (" + Arrays.toString(indexProperties)
+                    + ") was already added in the index.");
+        }
+        BavetIndexKey equalsIndexKey = new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, indexProperties.length - 2));
+        BavetIntervalTree<Tuple_> intervalTree = equalsMap.computeIfAbsent(equalsIndexKey,
+                k -> new BavetIntervalTree<>(lowJoinerType, highJoinerType));
+        BavetIntervalTree.Node<Tuple_> node = intervalTree.add(tuple,
+                getLowProperty(indexProperties), getHighProperty(indexProperties));
+        nodeMap.put(tuple, node);
+        tuple.setIndexProperties(indexProperties);
+    }
+
+    @Override
+    public Set<Tuple_> get(Object[] indexProperties) {
+        BavetIndexKey equalsIndexKey = new BavetIndexKey(Arrays.copyOfRange(indexProperties, 0, indexProperties.length - 2));
+        BavetIntervalTree<Tuple_> intervalTree = equalsMap.get(equalsIndexKey);
+        if (intervalTree == null) {
+            return Collections.emptySet();
+        }
+        Set<Tuple_> tupleSet = new LinkedHashSet<>();
+        intervalTree.collect(getLowProperty(indexProperties), getHighProperty(indexProperties), tupleSet);
+        return tupleSet;
+    }
+
+    private Object getLowProperty(Object[] indexProperties) {
+        return indexProperties[lowIsLast ? indexProperties.length - 1 : indexProperties.length - 2];
+    }
+
+    private Object getHighProperty(Object[] indexProperties) {
+        return indexProperties[lowIsLast ? indexProperties.length - 2 : indexProperties.length - 1];
+    }
+
+}
@@ -19,7 +19,6 @@ package org.optaplanner.core.impl.score.stream.bavet.common.index;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 
@@ -27,13 +26,15 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 
 public class BavetEqualsIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
 
-    private final Map<BavetIndexKey, Set<Tuple_>> map = new HashMap<>();
+    private final Map<BavetIndexKey, BavetIndexBucket<Tuple_>> map = new HashMap<>();
+    /** Reused for every lookup, so only {@link #put(Object[], BavetJoinBridgeTuple)} of a new key allocates one. */
+    private final BavetIndexKey lookupKey = new BavetIndexKey(null);
 
     @Override
     public void remove(Tuple_ tuple) {
-        BavetIndexKey oldIndexKey = new BavetIndexKey(tuple.getIndexProperties());
-        Set<Tuple_> tupleSet = map.get(oldIndexKey);
-        boolean removed = tupleSet.remove(tuple);
+        BavetIndexKey oldIndexKey = lookupKey.reset(tuple.getIndexProperties());
+        BavetIndexBucket<Tuple_> tupleSet = map.get(oldIndexKey);
+        boolean removed = tupleSet.removeTuple(tuple);
         if (!removed) {
             throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
                     + ")'s tuple cannot be removed in the index from the tupleSet (" + tupleSet + ").");
@@ -41,13 +42,19 @@ public class BavetEqualsIndex<Tuple_ extends BavetJoinBridgeTuple> extends Bavet
         if (tupleSet.isEmpty()) {
             map.remove(oldIndexKey);
         }
+        lookupKey.reset(null);
         tuple.setIndexProperties(null);
     }
 
     @Override
     public void put(Object[] indexProperties, Tuple_ tuple) {
-        Set<Tuple_> tupleSet = map.computeIfAbsent(new BavetIndexKey(indexProperties), k -> new LinkedHashSet<>());
-        boolean added = tupleSet.add(tuple);
+        BavetIndexBucket<Tuple_> tupleSet = map.get(lookupKey.reset(indexProperties));
+        lookupKey.reset(null);
+        if (tupleSet == null) {
+            tupleSet = new BavetIndexBucket<>();
+            map.put(new BavetIndexKey(indexProperties), tupleSet);
+        }
+        boolean added = tupleSet.addTuple(tuple);
         if (!added) {
             throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
                     + ") with indexProperties (" + Arrays.toString(indexProperties)
@@ -58,7 +65,8 @@ public class BavetEqualsIndex<Tuple_ extends BavetJoinBridgeTuple> extends Bavet
 
     @Override
     public Set<Tuple_> get(Object[] indexProperties) {
-        Set<Tuple_> tupleSet = map.get(new BavetIndexKey(indexProperties));
+        Set<Tuple_> tupleSet = map.get(lookupKey.reset(indexProperties));
+        lookupKey.reset(null);
         if (tupleSet == null) {
             return Collections.emptySet();
         }
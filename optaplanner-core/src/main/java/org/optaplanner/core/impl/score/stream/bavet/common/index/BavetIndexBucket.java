@@ -0,0 +1,118 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+
+/**
+ * An insertion ordered set of tuples, linked through the tuples themselves
+ * (see {@link BavetJoinBridgeTuple#getNextInIndexBucket()}),
+ * so adding or removing a tuple doesn't create garbage.
+ * A tuple can only be in 1 bucket at a time.
+ *
+ * @param <Tuple_> the tuple type
+ */
+public final class BavetIndexBucket<Tuple_ extends BavetJoinBridgeTuple> extends AbstractSet<Tuple_> {
+
+    private Tuple_ first = null;
+    private Tuple_ last = null;
+    private int size = 0;
+
+    /**
+     * @param tuple never null, not yet in any bucket
+     * @return false if the tuple was already in a bucket
+     */
+    public boolean addTuple(Tuple_ tuple) {
+        if (tuple == first || tuple.getPreviousInIndexBucket() != null) {
+            return false;
+        }
+        if (last == null) {
+            first = tuple;
+        } else {
+            last.setNextInIndexBucket(tuple);
+            tuple.setPreviousInIndexBucket(last);
+        }
+        last = tuple;
+        size++;
+        return true;
+    }
+
+    /**
+     * @param tuple never null, in this bucket
+     * @return false if the tuple is not in a bucket
+     */
+    public boolean removeTuple(Tuple_ tuple) {
+        BavetJoinBridgeTuple previous = tuple.getPreviousInIndexBucket();
+        BavetJoinBridgeTuple next = tuple.getNextInIndexBucket();
+        if (previous == null) {
+            if (tuple != first) {
+                return false;
+            }
+            first = (Tuple_) next;
+        } else {
+            previous.setNextInIndexBucket(next);
+            tuple.setPreviousInIndexBucket(null);
+        }
+        if (next == null) {
+            last = (Tuple_) previous;
+        } else {
+            next.setPreviousInIndexBucket(previous);
+            tuple.setNextInIndexBucket(null);
+        }
+        size--;
+        return true;
+    }
+
+    @Override
+    public Iterator<Tuple_> iterator() {
+        return new Iterator<Tuple_>() {
+
+            private Tuple_ next = first;
+
+            @Override
+            public boolean hasNext() {
+                return next != null;
+            }
+
+            @Override
+            public Tuple_ next() {
+                if (next == null) {
+                    throw new NoSuchElementException();
+                }
+                Tuple_ current = next;
+                next = (Tuple_) current.getNextInIndexBucket();
+                return current;
+            }
+
+        };
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+}
@@ -27,7 +27,7 @@ public class BavetIndexFactory {
     public BavetIndexFactory(AbstractJoiner joiner) {
         joinerTypes = joiner.getJoinerTypes();
         for (int i = 0; i < joinerTypes.length; i++) {
-            if (joinerTypes[i] != JoinerType.EQUAL && i != (joinerTypes.length - 1)) {
+            if (joinerTypes[i] != JoinerType.EQUAL && i != (joinerTypes.length - 1) && !isIntervalStart(i)) {
                 throw new IllegalArgumentException("The joinerType (" + joinerTypes[i]
                         + ") is currently only supported as the last joinerType.\n"
                         + ((joinerTypes[i + 1] == JoinerType.EQUAL)
@@ -39,12 +39,31 @@ public class BavetIndexFactory {
         }
     }
 
+    /**
+     * @param i the index of a joinerType
+     * @return true if the joinerType at i and the last joinerType together form an interval,
+     *         such as in {@link org.optaplanner.core.api.score.stream.Joiners#overlapping(java.util.function.Function,
+     *         java.util.function.Function)}
+     */
+    private boolean isIntervalStart(int i) {
+        return i >= 0 && i == (joinerTypes.length - 2)
+                && BavetEqualsAndIntervalIndex.isInterval(joinerTypes[i], joinerTypes[i + 1]);
+    }
+
     public <Tuple_ extends BavetJoinBridgeTuple> BavetIndex<Tuple_> buildIndex(boolean isLeftBridge) {
         if (joinerTypes.length == 0) {
             return new BavetNoneIndex<>();
         }
         JoinerType lastJoinerType = joinerTypes[joinerTypes.length - 1];
-        if (lastJoinerType == JoinerType.EQUAL) {
+        if (isIntervalStart(joinerTypes.length - 2)) {
+            // Use flip() to model A < B as B > A
+            JoinerType secondLastJoinerType = joinerTypes[joinerTypes.length - 2];
+            return isLeftBridge ? new BavetEqualsAndIntervalIndex<>(secondLastJoinerType, lastJoinerType)
+                    : new BavetEqualsAndIntervalIndex<>(secondLastJoinerType.flip(), lastJoinerType.flip());
+        } else if (lastJoinerType == JoinerType.EQUAL) {
+            if (joinerTypes.length == 1) {
+                return new BavetSingleEqualsIndex<>();
+            }
             return new BavetEqualsIndex<>();
         } else {
             // Use flip() to model A < B as B > A
@@ -26,6 +26,17 @@ public class BavetIndexKey {
         this.indexProperties = indexProperties;
     }
 
+    /**
+     * Only for a lookup key that is never put in a map.
+     *
+     * @param indexProperties never null
+     * @return this
+     */
+    BavetIndexKey reset(Object[] indexProperties) {
+        this.indexProperties = indexProperties;
+        return this;
+    }
+
     @Override
     public int hashCode() {
         return Arrays.hashCode(indexProperties);
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.Set;
+
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+/**
+ * A treap of tuples sorted by their low property, where each node also knows the maximum high property of its subtree.
+ * That allows finding all tuples that match both a low and a high bound in O(log n + k) instead of O(n),
+ * for example all shifts that overlap with a given time window.
+ *
+ * @param <Tuple_> the tuple type
+ */
+final class BavetIntervalTree<Tuple_> {
+
+    private final JoinerType lowJoinerType;
+    private final JoinerType highJoinerType;
+
+    private Node<Tuple_> root = null;
+    private long nextSequence = 0L;
+
+    /**
+     * @param lowJoinerType {@link JoinerType#LESS_THAN} or {@link JoinerType#LESS_THAN_OR_EQUAL},
+     *        tested as {@code storedLow lowJoinerType lowBound}
+     * @param highJoinerType {@link JoinerType#GREATER_THAN} or {@link JoinerType#GREATER_THAN_OR_EQUAL},
+     *        tested as {@code storedHigh highJoinerType highBound}
+     */
+    public BavetIntervalTree(JoinerType lowJoinerType, JoinerType highJoinerType) {
+        this.lowJoinerType = lowJoinerType;
+        this.highJoinerType = highJoinerType;
+    }
+
+    public Node<Tuple_> add(Tuple_ tuple, Object low, Object high) {
+        long sequence = nextSequence++;
+        Node<Tuple_> node = new Node<>(tuple, (Comparable) low, (Comparable) high, sequence);
+        root = insert(root, node);
+        return node;
+    }
+
+    public void remove(Node<Tuple_> node) {
+        root = delete(root, node);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * @param lowBound the bound for every stored low property
+     * @param highBound the bound for every stored high property
+     * @param result never null, gets all matching tuples added, ordered by their low property
+     */
+    public void collect(Object lowBound, Object highBound, Set<Tuple_> result) {
+        collect(root, lowBound, highBound, result);
+    }
+
+    private void collect(Node<Tuple_> node, Object lowBound, Object highBound, Set<Tuple_> result) {
+        while (node != null) {
+            if (!highJoinerType.matches(node.maxHigh, highBound)) {
+                // No tuple in this subtree has a high property that matches
+                return;
+            }
+            collect(node.left, lowBound, highBound, result);
+            if (!lowJoinerType.matches(node.low, lowBound)) {
+                // Every tuple in the right subtree has a low property that is at least as high
+                return;
+            }
+            if (highJoinerType.matches(node.high, highBound)) {
+                result.add(node.tuple);
+            }
+            node = node.right;
+        }
+    }
+
+    private static <Tuple_> Node<Tuple_> insert(Node<Tuple_> parent, Node<Tuple_> node) {
+        if (parent == null) {
+            return node;
+        }
+        if (compare(node, parent) < 0) {
+            parent.left = insert(parent.left, node);
+            if (parent.left.priority > parent.priority) {
+                return rotateRight(parent);
+            }
+        } else {
+            parent.right = insert(parent.right, node);
+            if (parent.right.priority > parent.priority) {
+                return rotateLeft(parent);
+            }
+        }
+        parent.updateMaxHigh();
+        return parent;
+    }
+
+    private static <Tuple_> Node<Tuple_> delete(Node<Tuple_> parent, Node<Tuple_> node) {
+        if (parent == null) {
+            throw new IllegalStateException("Impossible state: the tuple (" + node.tuple
+                    + ") is not in the interval tree.");
+        }
+        if (parent == node) {
+            return merge(node.left, node.right);
+        }
+        if (compare(node, parent) < 0) {
+            parent.left = delete(parent.left, node);
+        } else {
+            parent.right = delete(parent.right, node);
+        }
+        parent.updateMaxHigh();
+        return parent;
+    }
+
+    private static <Tuple_> Node<Tuple_> merge(Node<Tuple_> left, Node<Tuple_> right) {
+        if (left == null) {
+            return right;
+        } else if (right == null) {
+            return left;
+        } else if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            left.updateMaxHigh();
+            return left;
+        } else {
+            right.left = merge(left, right.left);
+            right.updateMaxHigh();
+            return right;
+        }
+    }
+
+    private static <Tuple_> Node<Tuple_> rotateRight(Node<Tuple_> parent) {
+        Node<Tuple_> child = parent.left;
+        parent.left = child.right;
+        child.right = parent;
+        parent.updateMaxHigh();
+        child.updateMaxHigh();
+        return child;
+    }
+
+    private static <Tuple_> Node<Tuple_> rotateLeft(Node<Tuple_> parent) {
+        Node<Tuple_> child = parent.right;
+        parent.right = child.left;
+        child.left = parent;
+        parent.updateMaxHigh();
+        child.updateMaxHigh();
+        return child;
+    }
+
+    private static int compare(Node<?> a, Node<?> b) {
+        int comparison = a.low.compareTo(b.low);
+        if (comparison != 0) {
+            return comparison;
+        }
+        return Long.compare(a.sequence, b.sequence);
+    }
+
+    static final class Node<Tuple_> {
+
+        private final Tuple_ tuple;
+        private final Comparable low;
+        private final Comparable high;
+        private final long sequence;
+        /** Derived from the sequence, so the tree shape is reproducible. */
+        private final int priority;
+
+        private Node<Tuple_> left = null;
+        private Node<Tuple_> right = null;
+        private Comparable maxHigh;
+
+        private Node(Tuple_ tuple, Comparable low, Comparable high, long sequence) {
+            this.tuple = tuple;
+            this.low = low;
+            this.high = high;
+            this.sequence = sequence;
+            this.priority = mix(sequence);
+            this.maxHigh = high;
+        }
+
+        private void updateMaxHigh() {
+            Comparable max = high;
+            if (left != null && left.maxHigh.compareTo(max) > 0) {
+                max = left.maxHigh;
+            }
+            if (right != null && right.maxHigh.compareTo(max) > 0) {
+                max = right.maxHigh;
+            }
+            maxHigh = max;
+        }
+
+        private static int mix(long sequence) {
+            long x = sequence * 0x9E3779B97F4A7C15L;
+            x = (x ^ (x >>> 32)) * 0xD6E8FEB86659FD93L;
+            return (int) (x ^ (x >>> 32));
+        }
+
+    }
+
+}
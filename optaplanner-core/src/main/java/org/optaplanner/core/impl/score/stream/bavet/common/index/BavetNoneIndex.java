@@ -17,18 +17,17 @@
 package org.optaplanner.core.impl.score.stream.bavet.common.index;
 
 import java.util.Arrays;
-import java.util.HashSet;
 import java.util.Set;
 
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
 
 public class BavetNoneIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
 
-    private final Set<Tuple_> tupleSet = new HashSet<>();
+    private final BavetIndexBucket<Tuple_> tupleSet = new BavetIndexBucket<>();
 
     @Override
     public void remove(Tuple_ tuple) {
-        boolean removed = tupleSet.remove(tuple);
+        boolean removed = tupleSet.removeTuple(tuple);
         if (!removed) {
             throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
                     + ")'s tuple cannot be removed in the index from the tupleSet (" + tupleSet + ").");
@@ -38,7 +37,7 @@ public class BavetNoneIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIn
 
     @Override
     public void put(Object[] indexProperties, Tuple_ tuple) {
-        boolean added = tupleSet.add(tuple);
+        boolean added = tupleSet.addTuple(tuple);
         if (!added) {
             throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
                     + ") with indexProperties (" + Arrays.toString(indexProperties)
@@ -0,0 +1,73 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeTuple;
+
+/**
+ * Specialization of {@link BavetEqualsIndex} for a single equal joiner,
+ * which uses the index property itself as the map key.
+ *
+ * @param <Tuple_> the tuple type
+ */
+public class BavetSingleEqualsIndex<Tuple_ extends BavetJoinBridgeTuple> extends BavetIndex<Tuple_> {
+
+    private final Map<Object, BavetIndexBucket<Tuple_>> map = new HashMap<>();
+
+    @Override
+    public void remove(Tuple_ tuple) {
+        Object oldIndexProperty = tuple.getIndexProperties()[0];
+        BavetIndexBucket<Tuple_> tupleSet = map.get(oldIndexProperty);
+        boolean removed = tupleSet.removeTuple(tuple);
+        if (!removed) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ")'s tuple cannot be removed in the index from the tupleSet (" + tupleSet + ").");
+        }
+        if (tupleSet.isEmpty()) {
+            map.remove(oldIndexProperty);
+        }
+        tuple.setIndexProperties(null);
+    }
+
+    @Override
+    public void put(Object[] indexProperties, Tuple_ tuple) {
+        BavetIndexBucket<Tuple_> tupleSet = map.computeIfAbsent(indexProperties[0], k -> new BavetIndexBucket<>());
+        boolean added = tupleSet.addTuple(tuple);
+        if (!added) {
+            throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactsString()
+                    + ") with indexProperties (" + Arrays.toString(indexProperties)
+                    + ") was already added in the index to the tupleSet (" + tupleSet + ").");
+        }
+        tuple.setIndexProperties(indexProperties);
+    }
+
+    @Override
+    public Set<Tuple_> get(Object[] indexProperties) {
+        Set<Tuple_> tupleSet = map.get(indexProperties[0]);
+        if (tupleSet == null) {
+            return Collections.emptySet();
+        }
+        return tupleSet;
+    }
+
+}
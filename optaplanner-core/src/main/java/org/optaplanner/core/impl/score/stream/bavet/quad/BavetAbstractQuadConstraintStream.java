@@ -0,0 +1,352 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.QuadPredicate;
+import org.optaplanner.core.api.function.ToIntQuadFunction;
+import org.optaplanner.core.api.function.ToLongQuadFunction;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
+import org.optaplanner.core.api.score.stream.penta.PentaJoiner;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintCollector;
+import org.optaplanner.core.api.score.stream.quad.QuadConstraintStream;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintStream;
+import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
+import org.optaplanner.core.impl.score.stream.quad.InnerQuadConstraintStream;
+
+public abstract class BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>
+        extends BavetAbstractConstraintStream<Solution_>
+        implements InnerQuadConstraintStream<A, B, C, D> {
+
+    protected final List<BavetAbstractQuadConstraintStream<Solution_, A, B, C, D>> childStreamList = new ArrayList<>(2);
+
+    public BavetAbstractQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory) {
+        super(constraintFactory);
+    }
+
+    // ************************************************************************
+    // Stream builder methods
+    // ************************************************************************
+
+    protected void addChildStream(BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> childStream) {
+        childStreamList.add(childStream);
+    }
+
+    // ************************************************************************
+    // Filter
+    // ************************************************************************
+
+    @Override
+    public BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> filter(QuadPredicate<A, B, C, D> predicate) {
+        BavetFilterQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetFilterQuadConstraintStream<>(
+                constraintFactory, this, predicate);
+        addChildStream(stream);
+        return stream;
+    }
+
+    // ************************************************************************
+    // If (not) exists
+    // ************************************************************************
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifExists(Class<E> otherClass,
+            PentaJoiner<A, B, C, D, E>... joiners) {
+        throw new UnsupportedOperationException();
+    }
+
+    @SafeVarargs
+    @Override
+    public final <E> QuadConstraintStream<A, B, C, D> ifNotExists(Class<E> otherClass,
+            PentaJoiner<A, B, C, D, E>... joiners) {
+        throw new UnsupportedOperationException();
+    }
+
+    // ************************************************************************
+    // Group by
+    // ************************************************************************
+
+    @Override
+    public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_> BiConstraintStream<ResultA_, ResultB_> groupBy(
+            QuadConstraintCollector<A, B, C, D, ResultContainerA_, ResultA_> collectorA,
+            QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_>
+            TriConstraintStream<ResultA_, ResultB_, ResultC_>
+            groupBy(QuadConstraintCollector<A, B, C, D, ResultContainerA_, ResultA_> collectorA,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <ResultContainerA_, ResultA_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<ResultA_, ResultB_, ResultC_, ResultD_>
+            groupBy(QuadConstraintCollector<A, B, C, D, ResultContainerA_, ResultA_> collectorA,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
+            QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <GroupKey_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_>
+            TriConstraintStream<GroupKey_, ResultB_, ResultC_> groupBy(QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <GroupKey_, ResultContainerB_, ResultB_, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<GroupKey_, ResultB_, ResultC_, ResultD_>
+            groupBy(QuadFunction<A, B, C, D, GroupKey_> groupKeyMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerB_, ResultB_> collectorB,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_> BiConstraintStream<GroupKeyA_, GroupKeyB_> groupBy(
+            QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+            QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, ResultContainer_, Result_> TriConstraintStream<GroupKeyA_, GroupKeyB_, Result_> groupBy(
+            QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+            QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+            QuadConstraintCollector<A, B, C, D, ResultContainer_, Result_> collector) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, ResultContainerC_, ResultC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<GroupKeyA_, GroupKeyB_, ResultC_, ResultD_> groupBy(
+                    QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+                    QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerC_, ResultC_> collectorC,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, GroupKeyC_> TriConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_> groupBy(
+            QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping, QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+            QuadFunction<A, B, C, D, GroupKeyC_> groupKeyCMapping) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, GroupKeyC_, ResultContainerD_, ResultD_>
+            QuadConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_, ResultD_>
+            groupBy(QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+                    QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+                    QuadFunction<A, B, C, D, GroupKeyC_> groupKeyCMapping,
+                    QuadConstraintCollector<A, B, C, D, ResultContainerD_, ResultD_> collectorD) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_> QuadConstraintStream<GroupKeyA_, GroupKeyB_, GroupKeyC_, GroupKeyD_>
+            groupBy(QuadFunction<A, B, C, D, GroupKeyA_> groupKeyAMapping,
+                    QuadFunction<A, B, C, D, GroupKeyB_> groupKeyBMapping,
+                    QuadFunction<A, B, C, D, GroupKeyC_> groupKeyCMapping,
+                    QuadFunction<A, B, C, D, GroupKeyD_> groupKeyDMapping) {
+        throw new UnsupportedOperationException();
+    }
+
+    // ************************************************************************
+    // Operations with duplicate tuple possibility
+    // ************************************************************************
+
+    @Override
+    public <ResultA_> UniConstraintStream<ResultA_> map(QuadFunction<A, B, C, D, ResultA_> mapping) {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public <ResultD_> QuadConstraintStream<A, B, C, ResultD_> flattenLast(Function<D, Iterable<ResultD_>> mapping) {
+        throw new UnsupportedOperationException();
+    }
+
+    // ************************************************************************
+    // Penalize/reward
+    // ************************************************************************
+
+    @Override
+    public final Constraint impactScore(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScore(String constraintPackage, String constraintName, Score<?> constraintWeight,
+            ToIntQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreLong(String constraintPackage, String constraintName,
+            Score<?> constraintWeight, ToLongQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreBigDecimal(String constraintPackage, String constraintName,
+            Score<?> constraintWeight, QuadFunction<A, B, C, D, BigDecimal> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraint(constraintPackage, constraintName, constraintWeight,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurable(String constraintPackage, String constraintName,
+            ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurable(String constraintPackage, String constraintName,
+            ToIntQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurableLong(String constraintPackage, String constraintName,
+            ToLongQuadFunction<A, B, C, D> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    @Override
+    public final Constraint impactScoreConfigurableBigDecimal(String constraintPackage, String constraintName,
+            QuadFunction<A, B, C, D, BigDecimal> matchWeigher, ScoreImpactType impactType) {
+        BavetConstraint<Solution_> constraint = buildConstraintConfigurable(constraintPackage, constraintName,
+                impactType);
+        BavetScoringQuadConstraintStream<Solution_, A, B, C, D> stream = new BavetScoringQuadConstraintStream<>(
+                constraintFactory, this, constraint, matchWeigher);
+        childStreamList.add(stream);
+        return constraint;
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    public BavetAbstractQuadNode<A, B, C, D> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractQuadNode<A, B, C, D> parentNode) {
+        BavetAbstractQuadNode<A, B, C, D> node = createNode(buildPolicy, constraintWeight, parentNode);
+        node = processNode(buildPolicy, parentNode, node);
+        createChildNodeChains(buildPolicy, constraintWeight, node);
+        return node;
+    }
+
+    protected BavetAbstractQuadNode<A, B, C, D> processNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            BavetAbstractQuadNode<A, B, C, D> parentNode, BavetAbstractQuadNode<A, B, C, D> node) {
+        BavetAbstractQuadNode<A, B, C, D> sharedNode = buildPolicy.retrieveSharedNode(node);
+        if (sharedNode != node) { // Share node
+            return sharedNode;
+        }
+        if (parentNode != null) { // TODO remove null check and don't go through this for from and joins
+            parentNode.addChildNode(node);
+        }
+        return node;
+    }
+
+    protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
+            BavetAbstractQuadNode<A, B, C, D> node) {
+        if (childStreamList.isEmpty()) {
+            throw new IllegalStateException("The stream (" + this + ") leads to nowhere.\n"
+                    + "Maybe don't create it.");
+        }
+        for (BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> childStream : childStreamList) {
+            childStream.createNodeChain(buildPolicy, constraintWeight, node);
+        }
+    }
+
+    protected abstract BavetAbstractQuadNode<A, B, C, D> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractQuadNode<A, B, C, D> parentNode);
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import org.optaplanner.core.api.function.QuadPredicate;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetFilterQuadNode<A, B, C, D> extends BavetAbstractQuadNode<A, B, C, D> {
+
+    private final BavetAbstractQuadNode<A, B, C, D> parentNode;
+    private final QuadPredicate<A, B, C, D> predicate;
+
+    private final List<BavetAbstractQuadNode<A, B, C, D>> childNodeList = new ArrayList<>();
+
+    public BavetFilterQuadNode(BavetConstraintSession session, int nodeIndex,
+            BavetAbstractQuadNode<A, B, C, D> parentNode, QuadPredicate<A, B, C, D> predicate) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+        this.predicate = predicate;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractQuadNode<A, B, C, D> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractQuadNode<A, B, C, D>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(parentNode), System.identityHashCode(predicate));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetFilterQuadNode) {
+            BavetFilterQuadNode<?, ?, ?, ?> other = (BavetFilterQuadNode<?, ?, ?, ?>) o;
+            return parentNode == other.parentNode
+                    && predicate == other.predicate;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetFilterQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        return new BavetFilterQuadTuple<>(this, parentTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetFilterQuadTuple<A, B, C, D> tuple = (BavetFilterQuadTuple<A, B, C, D>) uncastTuple;
+        A a = tuple.getFactA();
+        B b = tuple.getFactB();
+        C c = tuple.getFactC();
+        D d = tuple.getFactD();
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            if (predicate.test(a, b, c, d)) {
+                for (BavetAbstractQuadNode<A, B, C, D> childNode : childNodeList) {
+                    BavetAbstractQuadTuple<A, B, C, D> childTuple = childNode.createTuple(tuple);
+                    childTupleList.add(childTuple);
+                    session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                }
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Filter() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
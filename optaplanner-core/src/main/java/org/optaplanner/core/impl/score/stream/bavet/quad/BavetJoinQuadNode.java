@@ -0,0 +1,208 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinBridgeTriNode;
+import org.optaplanner.core.impl.score.stream.bavet.tri.BavetJoinBridgeTriTuple;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
+import org.optaplanner.core.impl.score.stream.quad.AbstractQuadJoiner;
+
+public final class BavetJoinQuadNode<A, B, C, D> extends BavetAbstractQuadNode<A, B, C, D> implements BavetJoinNode {
+
+    private final BavetJoinBridgeTriNode<A, B, C> leftParentNode;
+    private final BavetJoinBridgeUniNode<D> rightParentNode;
+    private final AbstractQuadJoiner<A, B, C, D> joiner;
+
+    private final List<BavetAbstractQuadNode<A, B, C, D>> childNodeList = new ArrayList<>();
+
+    public BavetJoinQuadNode(BavetConstraintSession session, int nodeIndex,
+            BavetJoinBridgeTriNode<A, B, C> leftParentNode, BavetJoinBridgeUniNode<D> rightParentNode,
+            AbstractQuadJoiner<A, B, C, D> joiner) {
+        super(session, nodeIndex);
+        this.leftParentNode = leftParentNode;
+        this.rightParentNode = rightParentNode;
+        this.joiner = joiner;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractQuadNode<A, B, C, D> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractQuadNode<A, B, C, D>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode.getParentNode()),
+                System.identityHashCode(rightParentNode.getParentNode()), joiner);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinQuadNode) {
+            BavetJoinQuadNode<?, ?, ?, ?> other = (BavetJoinQuadNode<?, ?, ?, ?>) o;
+            // Join bridge nodes are never shared, so compare their parent nodes instead
+            return leftParentNode.getParentNode() == other.leftParentNode.getParentNode()
+                    && rightParentNode.getParentNode() == other.rightParentNode.getParentNode()
+                    && joiner.equals(other.joiner);
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetJoinQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        throw new IllegalStateException("The join node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    public BavetJoinQuadTuple<A, B, C, D> createTuple(
+            BavetJoinBridgeTriTuple<A, B, C> abcTuple, BavetJoinBridgeUniTuple<D> dTuple) {
+        return new BavetJoinQuadTuple<>(this, abcTuple, dTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetJoinQuadTuple<A, B, C, D> tuple = (BavetJoinQuadTuple<A, B, C, D>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            for (BavetAbstractQuadNode<A, B, C, D> childNode : childNodeList) {
+                BavetAbstractQuadTuple<A, B, C, D> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+    }
+
+    /**
+     * @param leftParentTupleGroup never null, never empty, all active tuples have equal index properties
+     */
+    public void refreshChildTuplesLeft(List<BavetJoinBridgeTriTuple<A, B, C>> leftParentTupleGroup) {
+        // Looked up lazily, at most once for the entire group
+        Set<BavetJoinBridgeUniTuple<D>> rightParentTupleList = null;
+        for (BavetJoinBridgeTriTuple<A, B, C> leftParentTuple : leftParentTupleGroup) {
+            List<BavetAbstractTuple> leftTupleSet = leftParentTuple.getChildTupleList();
+            for (BavetAbstractTuple tuple_ : leftTupleSet) {
+                BavetJoinQuadTuple<A, B, C, D> tuple = (BavetJoinQuadTuple<A, B, C, D>) tuple_;
+                boolean removed = tuple.getDTuple().getChildTupleList().remove(tuple);
+                if (!removed) {
+                    throw new IllegalStateException("Impossible state: the facts (" + tuple.getFactA() + ", "
+                            + tuple.getFactB() + ", " + tuple.getFactC()
+                            + ")'s tuple cannot be removed from the other fact (" + tuple.getFactD()
+                            + ")'s join bridge.");
+                }
+                session.transitionTuple(tuple, BavetTupleState.DYING);
+            }
+            leftTupleSet.clear();
+            if (leftParentTuple.isActive()) {
+                if (rightParentTupleList == null) {
+                    rightParentTupleList = getRightIndex().get(leftParentTuple.getIndexProperties());
+                }
+                for (BavetJoinBridgeUniTuple<D> rightParentTuple : rightParentTupleList) {
+                    if (!rightParentTuple.isDirty()) {
+                        BavetJoinQuadTuple<A, B, C, D> childTuple = createTuple(leftParentTuple, rightParentTuple);
+                        leftTupleSet.add(childTuple);
+                        rightParentTuple.getChildTupleList().add(childTuple);
+                        session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * @param rightParentTupleGroup never null, never empty, all active tuples have equal index properties
+     */
+    public void refreshChildTuplesRight(List<BavetJoinBridgeUniTuple<D>> rightParentTupleGroup) {
+        // Looked up lazily, at most once for the entire group
+        Set<BavetJoinBridgeTriTuple<A, B, C>> leftParentTupleList = null;
+        for (BavetJoinBridgeUniTuple<D> rightParentTuple : rightParentTupleGroup) {
+            List<BavetAbstractTuple> rightTupleSet = rightParentTuple.getChildTupleList();
+            for (BavetAbstractTuple uncastTuple : rightTupleSet) {
+                BavetJoinQuadTuple<A, B, C, D> tuple = (BavetJoinQuadTuple<A, B, C, D>) uncastTuple;
+                boolean removed = tuple.getAbcTuple().getChildTupleList().remove(tuple);
+                if (!removed) {
+                    throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactD()
+                            + ")'s tuple cannot be removed from the other facts (" + tuple.getFactA() + ", "
+                            + tuple.getFactB() + ", " + tuple.getFactC()
+                            + ")'s join bridge.");
+                }
+                session.transitionTuple(tuple, BavetTupleState.DYING);
+            }
+            rightTupleSet.clear();
+            if (rightParentTuple.isActive()) {
+                if (leftParentTupleList == null) {
+                    leftParentTupleList = getLeftIndex().get(rightParentTuple.getIndexProperties());
+                }
+                for (BavetJoinBridgeTriTuple<A, B, C> leftParentTuple : leftParentTupleList) {
+                    if (!leftParentTuple.isDirty()) {
+                        BavetJoinQuadTuple<A, B, C, D> childTuple = createTuple(leftParentTuple, rightParentTuple);
+                        leftParentTuple.getChildTupleList().add(childTuple);
+                        rightTupleSet.add(childTuple);
+                        session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                    }
+                }
+            }
+        }
+    }
+
+    public BavetIndex<BavetJoinBridgeTriTuple<A, B, C>> getLeftIndex() {
+        return leftParentNode.getIndex();
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<D>> getRightIndex() {
+        return rightParentNode.getIndex();
+    }
+
+    @Override
+    public String toString() {
+        return "Join() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import static java.util.Arrays.asList;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.ToIntQuadFunction;
+import org.optaplanner.core.api.function.ToLongQuadFunction;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.inliner.ScoreInliner;
+import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+
+public final class BavetScoringQuadConstraintStream<Solution_, A, B, C, D>
+        extends BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> {
+
+    private final BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent;
+    private final BavetConstraint<Solution_> constraint;
+    private final boolean noMatchWeigher;
+    private final ToIntQuadFunction<A, B, C, D> intMatchWeigher;
+    private final ToLongQuadFunction<A, B, C, D> longMatchWeigher;
+    private final QuadFunction<A, B, C, D, BigDecimal> bigDecimalMatchWeigher;
+
+    public BavetScoringQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent,
+            BavetConstraint<Solution_> constraint) {
+        this(constraintFactory, parent, constraint, true, null, null, null);
+    }
+
+    public BavetScoringQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent,
+            BavetConstraint<Solution_> constraint, ToIntQuadFunction<A, B, C, D> intMatchWeigher) {
+        this(constraintFactory, parent, constraint, false, intMatchWeigher, null, null);
+        if (intMatchWeigher == null) {
+            throw new IllegalArgumentException("The matchWeigher (null) cannot be null.");
+        }
+    }
+
+    public BavetScoringQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent,
+            BavetConstraint<Solution_> constraint, ToLongQuadFunction<A, B, C, D> longMatchWeigher) {
+        this(constraintFactory, parent, constraint, false, null, longMatchWeigher, null);
+        if (longMatchWeigher == null) {
+            throw new IllegalArgumentException("The matchWeigher (null) cannot be null.");
+        }
+    }
+
+    public BavetScoringQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent,
+            BavetConstraint<Solution_> constraint, QuadFunction<A, B, C, D, BigDecimal> bigDecimalMatchWeigher) {
+        this(constraintFactory, parent, constraint, false, null, null, bigDecimalMatchWeigher);
+        if (bigDecimalMatchWeigher == null) {
+            throw new IllegalArgumentException("The matchWeigher (null) cannot be null.");
+        }
+    }
+
+    private BavetScoringQuadConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractQuadConstraintStream<Solution_, A, B, C, D> parent,
+            BavetConstraint<Solution_> constraint, boolean noMatchWeigher,
+            ToIntQuadFunction<A, B, C, D> intMatchWeigher, ToLongQuadFunction<A, B, C, D> longMatchWeigher,
+            QuadFunction<A, B, C, D, BigDecimal> bigDecimalMatchWeigher) {
+        super(constraintFactory);
+        this.parent = parent;
+        this.constraint = constraint;
+        this.noMatchWeigher = noMatchWeigher;
+        this.intMatchWeigher = intMatchWeigher;
+        this.longMatchWeigher = longMatchWeigher;
+        this.bigDecimalMatchWeigher = bigDecimalMatchWeigher;
+    }
+
+    @Override
+    public boolean guaranteesDistinct() {
+        return parent.guaranteesDistinct();
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    protected BavetScoringQuadNode<A, B, C, D> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractQuadNode<A, B, C, D> parentNode) {
+        ScoreInliner<?> scoreInliner = buildPolicy.getSession().getScoreInliner();
+        WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        if (weightedScoreImpacter.isUndoFree()) {
+            ToLongQuadFunction<A, B, C, D> undoFreeMatchWeigher;
+            if (intMatchWeigher != null) {
+                undoFreeMatchWeigher = (a, b, c, d) -> {
+                    int matchWeight = intMatchWeigher.applyAsInt(a, b, c, d);
+                    constraint.assertCorrectImpact(matchWeight);
+                    return matchWeight;
+                };
+            } else if (longMatchWeigher != null) {
+                undoFreeMatchWeigher = (a, b, c, d) -> {
+                    long matchWeight = longMatchWeigher.applyAsLong(a, b, c, d);
+                    constraint.assertCorrectImpact(matchWeight);
+                    return matchWeight;
+                };
+            } else if (noMatchWeigher) {
+                undoFreeMatchWeigher = (a, b, c, d) -> 1L;
+            } else {
+                throw new IllegalStateException(
+                        "Impossible state: an undo free impacter requires an int or long match weigher.");
+            }
+            return new BavetScoringQuadNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), constraintWeight,
+                    weightedScoreImpacter, undoFreeMatchWeigher);
+        }
+        QuadFunction<A, B, C, D, UndoScoreImpacter> scoreImpacter;
+        if (intMatchWeigher != null) {
+            scoreImpacter = (a, b, c, d) -> {
+                int matchWeight = intMatchWeigher.applyAsInt(a, b, c, d);
+                constraint.assertCorrectImpact(matchWeight);
+                return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b, c, d));
+            };
+        } else if (longMatchWeigher != null) {
+            scoreImpacter = (a, b, c, d) -> {
+                long matchWeight = longMatchWeigher.applyAsLong(a, b, c, d);
+                constraint.assertCorrectImpact(matchWeight);
+                return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b, c, d));
+            };
+        } else if (bigDecimalMatchWeigher != null) {
+            scoreImpacter = (a, b, c, d) -> {
+                BigDecimal matchWeight = bigDecimalMatchWeigher.apply(a, b, c, d);
+                constraint.assertCorrectImpact(matchWeight);
+                return weightedScoreImpacter.impactScore(matchWeight, () -> asList(a, b, c, d));
+            };
+        } else if (noMatchWeigher) {
+            scoreImpacter = (a, b, c, d) -> weightedScoreImpacter.impactScore(1, () -> asList(a, b, c, d));
+        } else {
+            throw new IllegalStateException("Impossible state: neither of the supported match weighers provided.");
+        }
+        return new BavetScoringQuadNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), constraintWeight,
+                scoreImpacter);
+    }
+
+    @Override
+    protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
+            BavetAbstractQuadNode<A, B, C, D> node) {
+        if (!childStreamList.isEmpty()) {
+            throw new IllegalStateException("Impossible state: the stream (" + this
+                    + ") has an non-empty childStreamList (" + childStreamList + ") but it's an endpoint.");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Scoring()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import org.optaplanner.core.api.function.QuadFunction;
+import org.optaplanner.core.api.function.ToLongQuadFunction;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
+
+public final class BavetScoringQuadNode<A, B, C, D> extends BavetAbstractQuadNode<A, B, C, D>
+        implements BavetScoringNode {
+
+    private final Score<?> constraintWeight;
+    private final QuadFunction<A, B, C, D, UndoScoreImpacter> scoreImpacter;
+    private final WeightedScoreImpacter undoFreeScoreImpacter;
+    private final ToLongQuadFunction<A, B, C, D> undoFreeMatchWeigher;
+
+    public BavetScoringQuadNode(BavetConstraintSession session, int nodeIndex, Score<?> constraintWeight,
+            QuadFunction<A, B, C, D, UndoScoreImpacter> scoreImpacter) {
+        this(session, nodeIndex, constraintWeight, scoreImpacter, null, null);
+    }
+
+    public BavetScoringQuadNode(BavetConstraintSession session, int nodeIndex, Score<?> constraintWeight,
+            WeightedScoreImpacter undoFreeScoreImpacter, ToLongQuadFunction<A, B, C, D> undoFreeMatchWeigher) {
+        this(session, nodeIndex, constraintWeight, null, undoFreeScoreImpacter, undoFreeMatchWeigher);
+    }
+
+    private BavetScoringQuadNode(BavetConstraintSession session, int nodeIndex, Score<?> constraintWeight,
+            QuadFunction<A, B, C, D, UndoScoreImpacter> scoreImpacter, WeightedScoreImpacter undoFreeScoreImpacter,
+            ToLongQuadFunction<A, B, C, D> undoFreeMatchWeigher) {
+        super(session, nodeIndex);
+        this.constraintWeight = constraintWeight;
+        this.scoreImpacter = scoreImpacter;
+        this.undoFreeScoreImpacter = undoFreeScoreImpacter;
+        this.undoFreeMatchWeigher = undoFreeMatchWeigher;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // No node sharing
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetScoringQuadTuple<A, B, C, D> createTuple(BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        return new BavetScoringQuadTuple<>(this, parentTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetScoringQuadTuple<A, B, C, D> tuple = (BavetScoringQuadTuple<A, B, C, D>) uncastTuple;
+        A a = tuple.getFactA();
+        B b = tuple.getFactB();
+        C c = tuple.getFactC();
+        D d = tuple.getFactD();
+        if (undoFreeScoreImpacter != null) {
+            long oldMatchWeight = tuple.getMatchWeight();
+            if (oldMatchWeight != 0L) {
+                undoFreeScoreImpacter.impactScoreWithoutUndo(-oldMatchWeight);
+            }
+            long matchWeight = tuple.isActive() ? undoFreeMatchWeigher.applyAsLong(a, b, c, d) : 0L;
+            if (matchWeight != 0L) {
+                undoFreeScoreImpacter.impactScoreWithoutUndo(matchWeight);
+            }
+            tuple.setMatchWeight(matchWeight);
+            return;
+        }
+        UndoScoreImpacter oldUndoScoreImpacter = tuple.getUndoScoreImpacter();
+        if (oldUndoScoreImpacter != null) {
+            oldUndoScoreImpacter.run();
+        }
+        if (tuple.isActive()) {
+            UndoScoreImpacter undoScoreImpacter = scoreImpacter.apply(a, b, c, d);
+            tuple.setUndoScoreImpacter(undoScoreImpacter);
+        } else {
+            tuple.setUndoScoreImpacter(null);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Scoring(" + constraintWeight + ")";
+    }
+
+}
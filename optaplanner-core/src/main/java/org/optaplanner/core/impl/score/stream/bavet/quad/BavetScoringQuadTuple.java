@@ -0,0 +1,99 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.quad;
+
+import java.util.List;
+
+import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringTuple;
+
+public final class BavetScoringQuadTuple<A, B, C, D> extends BavetAbstractQuadTuple<A, B, C, D>
+        implements BavetScoringTuple {
+
+    private final BavetScoringQuadNode<A, B, C, D> node;
+    private final BavetAbstractQuadTuple<A, B, C, D> parentTuple;
+
+    private UndoScoreImpacter undoScoreImpacter = null;
+    private long matchWeight = 0L;
+
+    public BavetScoringQuadTuple(BavetScoringQuadNode<A, B, C, D> node,
+            BavetAbstractQuadTuple<A, B, C, D> parentTuple) {
+        this.node = node;
+        this.parentTuple = parentTuple;
+    }
+
+    @Override
+    public String toString() {
+        return "Scoring(" + getFactsString() + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetScoringQuadNode<A, B, C, D> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        throw new IllegalStateException("Impossible state: scoring can not have child tuples.");
+    }
+
+    @Override
+    public A getFactA() {
+        return parentTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return parentTuple.getFactB();
+    }
+
+    @Override
+    public C getFactC() {
+        return parentTuple.getFactC();
+    }
+
+    @Override
+    public D getFactD() {
+        return parentTuple.getFactD();
+    }
+
+    @Override
+    public UndoScoreImpacter getUndoScoreImpacter() {
+        return undoScoreImpacter;
+    }
+
+    @Override
+    public void setUndoScoreImpacter(UndoScoreImpacter undoScoreImpacter) {
+        this.undoScoreImpacter = undoScoreImpacter;
+    }
+
+    @Override
+    public long getMatchWeight() {
+        return matchWeight;
+    }
+
+    @Override
+    public void setMatchWeight(long matchWeight) {
+        this.matchWeight = matchWeight;
+    }
+
+}
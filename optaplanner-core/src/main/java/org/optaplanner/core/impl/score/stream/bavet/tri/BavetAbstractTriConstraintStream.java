@@ -27,6 +27,7 @@ import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.function.TriPredicate;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
 import org.optaplanner.core.api.score.stream.bi.BiConstraintStream;
 import org.optaplanner.core.api.score.stream.quad.QuadConstraintStream;
 import org.optaplanner.core.api.score.stream.quad.QuadJoiner;
@@ -35,9 +36,17 @@ import org.optaplanner.core.api.score.stream.tri.TriConstraintStream;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraint;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetJoinQuadConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetGroupUniConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
+import org.optaplanner.core.impl.score.stream.quad.AbstractQuadJoiner;
+import org.optaplanner.core.impl.score.stream.tri.DefaultTriConstraintCollector;
 import org.optaplanner.core.impl.score.stream.tri.InnerTriConstraintStream;
 
 public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> extends BavetAbstractConstraintStream<Solution_>
@@ -75,7 +84,33 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
 
     @Override
     public <D> QuadConstraintStream<A, B, C, D> join(UniConstraintStream<D> otherStream, QuadJoiner<A, B, C, D> joiner) {
-        throw new UnsupportedOperationException();
+        if (!(otherStream instanceof BavetAbstractUniConstraintStream)) {
+            throw new IllegalStateException("The streams (" + this + ", " + otherStream
+                    + ") are not build from the same " + ConstraintFactory.class.getSimpleName() + ".");
+        }
+        BavetAbstractUniConstraintStream<Solution_, D> other = (BavetAbstractUniConstraintStream<Solution_, D>) otherStream;
+        if (constraintFactory != other.getConstraintFactory()) {
+            throw new IllegalStateException("The streams (" + this + ", " + other
+                    + ") are build from different constraintFactories (" + constraintFactory + ", "
+                    + other.getConstraintFactory()
+                    + ").");
+        }
+        if (!(joiner instanceof AbstractQuadJoiner)) {
+            throw new IllegalArgumentException("The joiner class (" + joiner.getClass() + ") is not supported.");
+        }
+        AbstractQuadJoiner<A, B, C, D> castedJoiner = (AbstractQuadJoiner<A, B, C, D>) joiner;
+        BavetIndexFactory indexFactory = new BavetIndexFactory(castedJoiner);
+        BavetJoinBridgeTriConstraintStream<Solution_, A, B, C> leftBridge = new BavetJoinBridgeTriConstraintStream<>(
+                constraintFactory, this, true, castedJoiner.getLeftCombinedMapping(), indexFactory);
+        addChildStream(leftBridge);
+        BavetJoinBridgeUniConstraintStream<Solution_, D> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, castedJoiner.getRightCombinedMapping(), indexFactory);
+        other.addChildStream(rightBridge);
+        BavetJoinQuadConstraintStream<Solution_, A, B, C, D> joinStream = new BavetJoinQuadConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, castedJoiner);
+        leftBridge.setJoinStream(joinStream);
+        rightBridge.setJoinStream(joinStream);
+        return joinStream;
     }
 
     // ************************************************************************
@@ -101,7 +136,15 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     @Override
     public <ResultContainer_, Result_> UniConstraintStream<Result_> groupBy(
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        // Without a group key mapping, all tuples end up in the same group
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, Boolean, ResultContainer_, Result_> bridge =
+                new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this, (a, b, c) -> Boolean.TRUE,
+                        collector);
+        childStreamList.add(bridge);
+        BavetGroupUniConstraintStream<Solution_, Boolean, ResultContainer_, Result_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
@@ -132,7 +175,20 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
 
     @Override
     public <GroupKey_> UniConstraintStream<GroupKey_> groupBy(TriFunction<A, B, C, GroupKey_> groupKeyMapping) {
-        throw new UnsupportedOperationException();
+        return groupByKeyOnly(groupKeyMapping, DefaultTriConstraintCollector.noop());
+    }
+
+    private <GroupKey_, ResultContainer_, Result_> UniConstraintStream<GroupKey_> groupByKeyOnly(
+            TriFunction<A, B, C, GroupKey_> groupKeyMapping,
+            TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, GroupKey_, ResultContainer_, Result_> bridge =
+                new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        // A null finisher makes the group key the result
+        BavetGroupUniConstraintStream<Solution_, GroupKey_, ResultContainer_, GroupKey_> groupStream =
+                new BavetGroupUniConstraintStream<>(constraintFactory, bridge, null);
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
@@ -157,7 +213,13 @@ public abstract class BavetAbstractTriConstraintStream<Solution_, A, B, C> exten
     public <GroupKey_, ResultContainer_, Result_> BiConstraintStream<GroupKey_, Result_> groupBy(
             TriFunction<A, B, C, GroupKey_> groupKeyMapping,
             TriConstraintCollector<A, B, C, ResultContainer_, Result_> collector) {
-        throw new UnsupportedOperationException();
+        BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, GroupKey_, ResultContainer_, Result_> bridge =
+                new BavetGroupBridgeTriConstraintStream<>(constraintFactory, this, groupKeyMapping, collector);
+        childStreamList.add(bridge);
+        BavetGroupBiConstraintStream<Solution_, GroupKey_, ResultContainer_, Result_> groupStream =
+                new BavetGroupBiConstraintStream<>(constraintFactory, bridge, collector.finisher());
+        bridge.setGroupStream(groupStream);
+        return groupStream;
     }
 
     @Override
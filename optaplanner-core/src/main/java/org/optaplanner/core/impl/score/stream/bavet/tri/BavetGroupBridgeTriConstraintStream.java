@@ -0,0 +1,97 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.List;
+
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.score.stream.tri.TriConstraintCollector;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+
+public final class BavetGroupBridgeTriConstraintStream<Solution_, A, B, C, NewA, ResultContainer_, NewB>
+        extends BavetAbstractTriConstraintStream<Solution_, A, B, C> {
+
+    private final BavetAbstractTriConstraintStream<Solution_, A, B, C> parent;
+    private final TriFunction<A, B, C, NewA> groupKeyMapping;
+    private final TriConstraintCollector<A, B, C, ResultContainer_, NewB> collector;
+    private BavetGroupConstraintStream<Solution_, NewA, ResultContainer_> groupStream;
+
+    public BavetGroupBridgeTriConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractTriConstraintStream<Solution_, A, B, C> parent,
+            TriFunction<A, B, C, NewA> groupKeyMapping,
+            TriConstraintCollector<A, B, C, ResultContainer_, NewB> collector) {
+        super(constraintFactory);
+        this.parent = parent;
+        this.groupKeyMapping = groupKeyMapping;
+        this.collector = collector;
+    }
+
+    @Override
+    public boolean guaranteesDistinct() {
+        return parent.guaranteesDistinct();
+    }
+
+    public void setGroupStream(BavetGroupConstraintStream<Solution_, NewA, ResultContainer_> groupStream) {
+        this.groupStream = groupStream;
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    protected BavetGroupBridgeTriNode<A, B, C, NewA, ResultContainer_, NewB> createNode(
+            BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
+            BavetAbstractTriNode<A, B, C> parentNode) {
+        return new BavetGroupBridgeTriNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode,
+                groupKeyMapping, collector);
+    }
+
+    @Override
+    protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
+            BavetAbstractTriNode<A, B, C> node) {
+        if (!childStreamList.isEmpty()) {
+            throw new IllegalStateException("Impossible state: the stream (" + this
+                    + ") has an non-empty childStreamList (" + childStreamList + ") but it's a groupBy bridge.");
+        }
+        BavetGroupNode<NewA, ResultContainer_> groupNode = groupStream.createGroupNodeChain(buildPolicy,
+                constraintWeight);
+        BavetGroupBridgeTriNode<A, B, C, NewA, ResultContainer_, NewB> groupBridgeNode =
+                (BavetGroupBridgeTriNode<A, B, C, NewA, ResultContainer_, NewB>) node;
+        groupBridgeNode.setGroupNode(groupNode);
+    }
+
+    @Override
+    public String toString() {
+        return "GroupBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
+
+public final class BavetGroupBridgeTriTuple<A, B, C, NewA, ResultContainer_, NewB>
+        extends BavetAbstractTriTuple<A, B, C> {
+
+    private final BavetGroupBridgeTriNode<A, B, C, NewA, ResultContainer_, NewB> node;
+    private final BavetAbstractTriTuple<A, B, C> parentTuple;
+
+    private Runnable undoAccumulator;
+    private BavetGroupTuple<NewA, ResultContainer_> childTuple;
+
+    public BavetGroupBridgeTriTuple(BavetGroupBridgeTriNode<A, B, C, NewA, ResultContainer_, NewB> node,
+            BavetAbstractTriTuple<A, B, C> parentTuple) {
+        this.node = node;
+        this.parentTuple = parentTuple;
+    }
+
+    @Override
+    public String toString() {
+        return "GroupBridge(" + getFactsString() + ") with " + (childTuple == null ? 0 : 1) + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetGroupBridgeTriNode<A, B, C, NewA, ResultContainer_, NewB> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        throw new IllegalStateException("Impossible state: group bridges only have 1 child tuple.");
+    }
+
+    @Override
+    public A getFactA() {
+        return parentTuple.getFactA();
+    }
+
+    @Override
+    public B getFactB() {
+        return parentTuple.getFactB();
+    }
+
+    @Override
+    public C getFactC() {
+        return parentTuple.getFactC();
+    }
+
+    public Runnable getUndoAccumulator() {
+        return undoAccumulator;
+    }
+
+    public void setUndoAccumulator(Runnable undoAccumulator) {
+        this.undoAccumulator = undoAccumulator;
+    }
+
+    public BavetGroupTuple<NewA, ResultContainer_> getChildTuple() {
+        return childTuple;
+    }
+
+    public void setChildTuple(BavetGroupTuple<NewA, ResultContainer_> childTuple) {
+        this.childTuple = childTuple;
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.List;
+
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
+
+public final class BavetJoinBridgeTriConstraintStream<Solution_, A, B, C>
+        extends BavetAbstractTriConstraintStream<Solution_, A, B, C>
+        implements BavetJoinBridgeConstraintStream<Solution_> {
+
+    private final BavetAbstractTriConstraintStream<Solution_, A, B, C> parent;
+    private BavetJoinConstraintStream<Solution_> joinStream;
+    private final boolean isLeftBridge;
+    private final TriFunction<A, B, C, Object[]> mapping;
+    private final BavetIndexFactory indexFactory;
+
+    public BavetJoinBridgeTriConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractTriConstraintStream<Solution_, A, B, C> parent,
+            boolean isLeftBridge,
+            TriFunction<A, B, C, Object[]> mapping, BavetIndexFactory indexFactory) {
+        super(constraintFactory);
+        this.parent = parent;
+        this.isLeftBridge = isLeftBridge;
+        this.mapping = mapping;
+        this.indexFactory = indexFactory;
+    }
+
+    @Override
+    public boolean guaranteesDistinct() {
+        return parent.guaranteesDistinct();
+    }
+
+    public void setJoinStream(BavetJoinConstraintStream<Solution_> joinStream) {
+        this.joinStream = joinStream;
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    protected BavetJoinBridgeTriNode<A, B, C> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractTriNode<A, B, C> parentNode) {
+        return new BavetJoinBridgeTriNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), parentNode, mapping,
+                indexFactory.buildIndex(isLeftBridge));
+    }
+
+    @Override
+    protected BavetAbstractTriNode<A, B, C> processNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            BavetAbstractTriNode<A, B, C> parentNode, BavetAbstractTriNode<A, B, C> node) {
+        // Not shared by itself: the join stream adds it to its parentNode, unless the join node is shared.
+        return node;
+    }
+
+    @Override
+    protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
+            BavetAbstractTriNode<A, B, C> uncastedNode) {
+        if (!childStreamList.isEmpty()) {
+            throw new IllegalStateException("Impossible state: the stream (" + this
+                    + ") has an non-empty childStreamList (" + childStreamList + ") but it's a join bridge.");
+        }
+        BavetJoinBridgeTriNode<A, B, C> node = (BavetJoinBridgeTriNode<A, B, C>) uncastedNode;
+        BavetJoinBridgeNode otherBridgeNode = buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().get(joinStream);
+        if (otherBridgeNode == null) {
+            buildPolicy.getJoinConstraintStreamToJoinBridgeNodeMap().put(joinStream, node);
+        } else {
+            BavetJoinBridgeNode leftNode = isLeftBridge ? node : otherBridgeNode;
+            BavetJoinBridgeNode rightNode = isLeftBridge ? otherBridgeNode : node;
+            joinStream.createNodeChain(buildPolicy, constraintWeight, leftNode, rightNode);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JoinBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.tri;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.optaplanner.core.api.function.TriFunction;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bavet.quad.BavetJoinQuadNode;
+
+public final class BavetJoinBridgeTriNode<A, B, C> extends BavetAbstractTriNode<A, B, C>
+        implements BavetJoinBridgeNode {
+
+    private final BavetAbstractTriNode<A, B, C> parentNode;
+    private final TriFunction<A, B, C, Object[]> mapping;
+    /** Calls {@link BavetJoinQuadNode#refreshChildTuplesLeft(List)}. */
+    private Consumer<List<BavetJoinBridgeTriTuple<A, B, C>>> childTupleRefresher;
+
+    private final BavetIndex<BavetJoinBridgeTriTuple<A, B, C>> index;
+    /** Reused by {@link #refreshBatch(List)}. */
+    private final Map<List<Object>, List<BavetJoinBridgeTriTuple<A, B, C>>> indexKeyToTupleGroupMap =
+            new LinkedHashMap<>();
+
+    public BavetJoinBridgeTriNode(BavetConstraintSession session, int nodeIndex,
+            BavetAbstractTriNode<A, B, C> parentNode, TriFunction<A, B, C, Object[]> mapping,
+            BavetIndex<BavetJoinBridgeTriTuple<A, B, C>> index) {
+        super(session, nodeIndex);
+        this.parentNode = parentNode;
+        this.mapping = mapping;
+        this.index = index;
+    }
+
+    @Override
+    public BavetJoinBridgeTriTuple<A, B, C> createTuple(BavetAbstractTriTuple<A, B, C> parentTuple) {
+        return new BavetJoinBridgeTriTuple<>(this, parentTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetJoinBridgeTriTuple<A, B, C> tuple = (BavetJoinBridgeTriTuple<A, B, C>) uncastTuple;
+        refreshIndex(tuple);
+        childTupleRefresher.accept(Collections.singletonList(tuple));
+    }
+
+    @Override
+    public void refreshBatch(List<BavetAbstractTuple> tupleBatch) {
+        if (tupleBatch.size() == 1) {
+            super.refreshBatch(tupleBatch);
+            return;
+        }
+        for (BavetAbstractTuple uncastTuple : tupleBatch) {
+            BavetJoinBridgeTriTuple<A, B, C> tuple = (BavetJoinBridgeTriTuple<A, B, C>) uncastTuple;
+            refreshIndex(tuple);
+            // Group the tuples by their index properties, so each group does a single lookup in the other index
+            List<Object> indexKey = tuple.isActive() ? Arrays.asList(tuple.getIndexProperties()) : null;
+            indexKeyToTupleGroupMap.computeIfAbsent(indexKey, k -> new ArrayList<>()).add(tuple);
+        }
+        for (List<BavetJoinBridgeTriTuple<A, B, C>> tupleGroup : indexKeyToTupleGroupMap.values()) {
+            childTupleRefresher.accept(tupleGroup);
+        }
+        indexKeyToTupleGroupMap.clear();
+        for (BavetAbstractTuple tuple : tupleBatch) {
+            finishRefresh(tuple);
+        }
+    }
+
+    private void refreshIndex(BavetJoinBridgeTriTuple<A, B, C> tuple) {
+        A a = tuple.getFactA();
+        B b = tuple.getFactB();
+        C c = tuple.getFactC();
+        if (tuple.getState() != BavetTupleState.CREATING) {
+            // Clean up index
+            index.remove(tuple);
+        }
+        if (tuple.isActive()) {
+            Object[] indexProperties = mapping.apply(a, b, c);
+            index.put(indexProperties, tuple);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "JoinBridge()";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    public BavetAbstractTriNode<A, B, C> getParentNode() {
+        return parentNode;
+    }
+
+    public BavetIndex<BavetJoinBridgeTriTuple<A, B, C>> getIndex() {
+        return index;
+    }
+
+    public void setChildTupleRefresher(Consumer<List<BavetJoinBridgeTriTuple<A, B, C>>> childTupleRefresher) {
+        this.childTupleRefresher = childTupleRefresher;
+    }
+
+}
@@ -30,19 +30,23 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetAbstractUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetFromUniConstraintStream;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+import org.optaplanner.core.impl.score.stream.tri.AbstractTriJoiner;
 
 public final class BavetJoinTriConstraintStream<Solution_, A, B, C> extends BavetAbstractTriConstraintStream<Solution_, A, B, C>
         implements BavetJoinConstraintStream<Solution_> {
 
     private final BavetAbstractBiConstraintStream<Solution_, A, B> leftParent;
     private final BavetAbstractUniConstraintStream<Solution_, C> rightParent;
+    private final AbstractTriJoiner<A, B, C> joiner;
 
     public BavetJoinTriConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
             BavetAbstractBiConstraintStream<Solution_, A, B> leftParent,
-            BavetAbstractUniConstraintStream<Solution_, C> rightParent) {
+            BavetAbstractUniConstraintStream<Solution_, C> rightParent,
+            AbstractTriJoiner<A, B, C> joiner) {
         super(constraintFactory);
         this.leftParent = leftParent;
         this.rightParent = rightParent;
+        this.joiner = joiner;
     }
 
     @Override
@@ -67,12 +71,18 @@ public final class BavetJoinTriConstraintStream<Solution_, A, B, C> extends Bave
         BavetJoinBridgeBiNode<A, B> leftNode = (BavetJoinBridgeBiNode<A, B>) leftNode_;
         BavetJoinBridgeUniNode<C> rightNode = (BavetJoinBridgeUniNode<C>) rightNode_;
         BavetJoinTriNode<A, B, C> node = new BavetJoinTriNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(),
-                leftNode, rightNode);
-        leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft); // TODO don't register if shared
-        rightNode.setChildTupleRefresher(node::refreshChildTuplesRight);
-        node = (BavetJoinTriNode<A, B, C>) processNode(buildPolicy, null, node); // TODO Sharing never happens
-        createChildNodeChains(buildPolicy, constraintWeight, node);
-        return node;
+                leftNode, rightNode, joiner);
+        BavetJoinTriNode<A, B, C> sharedNode = (BavetJoinTriNode<A, B, C>) processNode(buildPolicy, null, node);
+        if (sharedNode == node) { // Otherwise the join bridges are redundant, so they are discarded
+            buildPolicy.addJoinBridgeNode(leftNode);
+            leftNode.getParentNode().addChildNode(leftNode);
+            leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft);
+            buildPolicy.addJoinBridgeNode(rightNode);
+            rightNode.getParentNode().addChildNode(rightNode);
+            rightNode.setChildTupleRefresher(node::refreshChildTuplesRight);
+        }
+        createChildNodeChains(buildPolicy, constraintWeight, sharedNode);
+        return sharedNode;
     }
 
     @Override
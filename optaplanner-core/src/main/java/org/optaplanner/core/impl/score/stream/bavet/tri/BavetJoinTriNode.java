@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.score.stream.bavet.tri;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.Set;
 
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
@@ -29,19 +30,23 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
 import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
+import org.optaplanner.core.impl.score.stream.tri.AbstractTriJoiner;
 
 public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B, C> implements BavetJoinNode {
 
     private final BavetJoinBridgeBiNode<A, B> leftParentNode;
     private final BavetJoinBridgeUniNode<C> rightParentNode;
+    private final AbstractTriJoiner<A, B, C> joiner;
 
     private final List<BavetAbstractTriNode<A, B, C>> childNodeList = new ArrayList<>();
 
     public BavetJoinTriNode(BavetConstraintSession session, int nodeIndex,
-            BavetJoinBridgeBiNode<A, B> leftParentNode, BavetJoinBridgeUniNode<C> rightParentNode) {
+            BavetJoinBridgeBiNode<A, B> leftParentNode, BavetJoinBridgeUniNode<C> rightParentNode,
+            AbstractTriJoiner<A, B, C> joiner) {
         super(session, nodeIndex);
         this.leftParentNode = leftParentNode;
         this.rightParentNode = rightParentNode;
+        this.joiner = joiner;
     }
 
     @Override
@@ -58,7 +63,26 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
     // Equality for node sharing
     // ************************************************************************
 
-    // TODO
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode.getParentNode()),
+                System.identityHashCode(rightParentNode.getParentNode()), joiner);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetJoinTriNode) {
+            BavetJoinTriNode<?, ?, ?> other = (BavetJoinTriNode<?, ?, ?>) o;
+            // Join bridge nodes are never shared, so compare their parent nodes instead
+            return leftParentNode.getParentNode() == other.leftParentNode.getParentNode()
+                    && rightParentNode.getParentNode() == other.rightParentNode.getParentNode()
+                    && joiner.equals(other.joiner);
+        } else {
+            return false;
+        }
+    }
 
     // ************************************************************************
     // Runtime
@@ -92,53 +116,71 @@ public final class BavetJoinTriNode<A, B, C> extends BavetAbstractTriNode<A, B,
         }
     }
 
-    public void refreshChildTuplesLeft(BavetJoinBridgeBiTuple<A, B> leftParentTuple) {
-        List<BavetAbstractTuple> leftTupleSet = leftParentTuple.getChildTupleList();
-        for (BavetAbstractTuple tuple_ : leftTupleSet) {
-            BavetJoinTriTuple<A, B, C> tuple = (BavetJoinTriTuple<A, B, C>) tuple_;
-            boolean removed = tuple.getCTuple().getChildTupleList().remove(tuple);
-            if (!removed) {
-                throw new IllegalStateException("Impossible state: the facts (" + tuple.getFactA() + ", " + tuple.getFactB()
-                        + ")'s tuple cannot be removed from the other fact (" + tuple.getFactC()
-                        + ")'s join bridge.");
+    /**
+     * @param leftParentTupleGroup never null, never empty, all active tuples have equal index properties
+     */
+    public void refreshChildTuplesLeft(List<BavetJoinBridgeBiTuple<A, B>> leftParentTupleGroup) {
+        // Looked up lazily, at most once for the entire group
+        Set<BavetJoinBridgeUniTuple<C>> rightParentTupleList = null;
+        for (BavetJoinBridgeBiTuple<A, B> leftParentTuple : leftParentTupleGroup) {
+            List<BavetAbstractTuple> leftTupleSet = leftParentTuple.getChildTupleList();
+            for (BavetAbstractTuple tuple_ : leftTupleSet) {
+                BavetJoinTriTuple<A, B, C> tuple = (BavetJoinTriTuple<A, B, C>) tuple_;
+                boolean removed = tuple.getCTuple().getChildTupleList().remove(tuple);
+                if (!removed) {
+                    throw new IllegalStateException("Impossible state: the facts (" + tuple.getFactA() + ", " + tuple.getFactB()
+                            + ")'s tuple cannot be removed from the other fact (" + tuple.getFactC()
+                            + ")'s join bridge.");
+                }
+                session.transitionTuple(tuple, BavetTupleState.DYING);
             }
-            session.transitionTuple(tuple, BavetTupleState.DYING);
-        }
-        leftTupleSet.clear();
-        if (leftParentTuple.isActive()) {
-            Set<BavetJoinBridgeUniTuple<C>> rightParentTupleList = getRightIndex().get(leftParentTuple.getIndexProperties());
-            for (BavetJoinBridgeUniTuple<C> rightParentTuple : rightParentTupleList) {
-                if (!rightParentTuple.isDirty()) {
-                    BavetJoinTriTuple<A, B, C> childTuple = createTuple(leftParentTuple, rightParentTuple);
-                    leftTupleSet.add(childTuple);
-                    rightParentTuple.getChildTupleList().add(childTuple);
-                    session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            leftTupleSet.clear();
+            if (leftParentTuple.isActive()) {
+                if (rightParentTupleList == null) {
+                    rightParentTupleList = getRightIndex().get(leftParentTuple.getIndexProperties());
+                }
+                for (BavetJoinBridgeUniTuple<C> rightParentTuple : rightParentTupleList) {
+                    if (!rightParentTuple.isDirty()) {
+                        BavetJoinTriTuple<A, B, C> childTuple = createTuple(leftParentTuple, rightParentTuple);
+                        leftTupleSet.add(childTuple);
+                        rightParentTuple.getChildTupleList().add(childTuple);
+                        session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                    }
                 }
             }
         }
     }
 
-    public void refreshChildTuplesRight(BavetJoinBridgeUniTuple<C> rightParentTuple) {
-        List<BavetAbstractTuple> rightTupleSet = rightParentTuple.getChildTupleList();
-        for (BavetAbstractTuple uncastTuple : rightTupleSet) {
-            BavetJoinTriTuple<A, B, C> tuple = (BavetJoinTriTuple<A, B, C>) uncastTuple;
-            boolean removed = tuple.getAbTuple().getChildTupleList().remove(tuple);
-            if (!removed) {
-                throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactC()
-                        + ")'s tuple cannot be removed from the other facts (" + tuple.getFactA() + ", " + tuple.getFactB()
-                        + ")'s join bridge.");
+    /**
+     * @param rightParentTupleGroup never null, never empty, all active tuples have equal index properties
+     */
+    public void refreshChildTuplesRight(List<BavetJoinBridgeUniTuple<C>> rightParentTupleGroup) {
+        // Looked up lazily, at most once for the entire group
+        Set<BavetJoinBridgeBiTuple<A, B>> leftParentTupleList = null;
+        for (BavetJoinBridgeUniTuple<C> rightParentTuple : rightParentTupleGroup) {
+            List<BavetAbstractTuple> rightTupleSet = rightParentTuple.getChildTupleList();
+            for (BavetAbstractTuple uncastTuple : rightTupleSet) {
+                BavetJoinTriTuple<A, B, C> tuple = (BavetJoinTriTuple<A, B, C>) uncastTuple;
+                boolean removed = tuple.getAbTuple().getChildTupleList().remove(tuple);
+                if (!removed) {
+                    throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactC()
+                            + ")'s tuple cannot be removed from the other facts (" + tuple.getFactA() + ", " + tuple.getFactB()
+                            + ")'s join bridge.");
+                }
+                session.transitionTuple(tuple, BavetTupleState.DYING);
             }
-            session.transitionTuple(tuple, BavetTupleState.DYING);
-        }
-        rightTupleSet.clear();
-        if (rightParentTuple.isActive()) {
-            Set<BavetJoinBridgeBiTuple<A, B>> leftParentTupleList = getLeftIndex().get(rightParentTuple.getIndexProperties());
-            for (BavetJoinBridgeBiTuple<A, B> leftParentTuple : leftParentTupleList) {
-                if (!leftParentTuple.isDirty()) {
-                    BavetJoinTriTuple<A, B, C> childTuple = createTuple(leftParentTuple, rightParentTuple);
-                    leftParentTuple.getChildTupleList().add(childTuple);
-                    rightTupleSet.add(childTuple);
-                    session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            rightTupleSet.clear();
+            if (rightParentTuple.isActive()) {
+                if (leftParentTupleList == null) {
+                    leftParentTupleList = getLeftIndex().get(rightParentTuple.getIndexProperties());
+                }
+                for (BavetJoinBridgeBiTuple<A, B> leftParentTuple : leftParentTupleList) {
+                    if (!leftParentTuple.isDirty()) {
+                        BavetJoinTriTuple<A, B, C> childTuple = createTuple(leftParentTuple, rightParentTuple);
+                        leftParentTuple.getChildTupleList().add(childTuple);
+                        rightTupleSet.add(childTuple);
+                        session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                    }
                 }
             }
         }
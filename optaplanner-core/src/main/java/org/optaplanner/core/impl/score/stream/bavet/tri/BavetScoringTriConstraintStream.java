@@ -109,6 +109,29 @@ public final class BavetScoringTriConstraintStream<Solution_, A, B, C>
             Score<?> constraintWeight, BavetAbstractTriNode<A, B, C> parentNode) {
         ScoreInliner<?> scoreInliner = buildPolicy.getSession().getScoreInliner();
         WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        if (weightedScoreImpacter.isUndoFree()) {
+            ToLongTriFunction<A, B, C> undoFreeMatchWeigher;
+            if (intMatchWeigher != null) {
+                undoFreeMatchWeigher = (a, b, c) -> {
+                    int matchWeight = intMatchWeigher.applyAsInt(a, b, c);
+                    constraint.assertCorrectImpact(matchWeight);
+                    return matchWeight;
+                };
+            } else if (longMatchWeigher != null) {
+                undoFreeMatchWeigher = (a, b, c) -> {
+                    long matchWeight = longMatchWeigher.applyAsLong(a, b, c);
+                    constraint.assertCorrectImpact(matchWeight);
+                    return matchWeight;
+                };
+            } else if (noMatchWeigher) {
+                undoFreeMatchWeigher = (a, b, c) -> 1L;
+            } else {
+                throw new IllegalStateException(
+                        "Impossible state: an undo free impacter requires an int or long match weigher.");
+            }
+            return new BavetScoringTriNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), constraintWeight,
+                    weightedScoreImpacter, undoFreeMatchWeigher);
+        }
         TriFunction<A, B, C, UndoScoreImpacter> scoreImpacter;
         if (intMatchWeigher != null) {
             scoreImpacter = (a, b, c) -> {
@@ -16,9 +16,11 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.tri;
 
+import org.optaplanner.core.api.function.ToLongTriFunction;
 import org.optaplanner.core.api.function.TriFunction;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
@@ -27,12 +29,27 @@ public final class BavetScoringTriNode<A, B, C> extends BavetAbstractTriNode<A,
 
     private final Score<?> constraintWeight;
     private final TriFunction<A, B, C, UndoScoreImpacter> scoreImpacter;
+    private final WeightedScoreImpacter undoFreeScoreImpacter;
+    private final ToLongTriFunction<A, B, C> undoFreeMatchWeigher;
 
     public BavetScoringTriNode(BavetConstraintSession session, int nodeIndex, Score<?> constraintWeight,
             TriFunction<A, B, C, UndoScoreImpacter> scoreImpacter) {
+        this(session, nodeIndex, constraintWeight, scoreImpacter, null, null);
+    }
+
+    public BavetScoringTriNode(BavetConstraintSession session, int nodeIndex, Score<?> constraintWeight,
+            WeightedScoreImpacter undoFreeScoreImpacter, ToLongTriFunction<A, B, C> undoFreeMatchWeigher) {
+        this(session, nodeIndex, constraintWeight, null, undoFreeScoreImpacter, undoFreeMatchWeigher);
+    }
+
+    private BavetScoringTriNode(BavetConstraintSession session, int nodeIndex, Score<?> constraintWeight,
+            TriFunction<A, B, C, UndoScoreImpacter> scoreImpacter, WeightedScoreImpacter undoFreeScoreImpacter,
+            ToLongTriFunction<A, B, C> undoFreeMatchWeigher) {
         super(session, nodeIndex);
         this.constraintWeight = constraintWeight;
         this.scoreImpacter = scoreImpacter;
+        this.undoFreeScoreImpacter = undoFreeScoreImpacter;
+        this.undoFreeMatchWeigher = undoFreeMatchWeigher;
     }
 
     // ************************************************************************
@@ -56,6 +73,18 @@ public final class BavetScoringTriNode<A, B, C> extends BavetAbstractTriNode<A,
         A a = tuple.getFactA();
         B b = tuple.getFactB();
         C c = tuple.getFactC();
+        if (undoFreeScoreImpacter != null) {
+            long oldMatchWeight = tuple.getMatchWeight();
+            if (oldMatchWeight != 0L) {
+                undoFreeScoreImpacter.impactScoreWithoutUndo(-oldMatchWeight);
+            }
+            long matchWeight = tuple.isActive() ? undoFreeMatchWeigher.applyAsLong(a, b, c) : 0L;
+            if (matchWeight != 0L) {
+                undoFreeScoreImpacter.impactScoreWithoutUndo(matchWeight);
+            }
+            tuple.setMatchWeight(matchWeight);
+            return;
+        }
         UndoScoreImpacter oldUndoScoreImpacter = tuple.getUndoScoreImpacter();
         if (oldUndoScoreImpacter != null) {
             oldUndoScoreImpacter.run();
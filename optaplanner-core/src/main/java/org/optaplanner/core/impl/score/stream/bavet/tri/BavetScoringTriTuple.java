@@ -28,6 +28,7 @@ public final class BavetScoringTriTuple<A, B, C> extends BavetAbstractTriTuple<A
     private final BavetAbstractTriTuple<A, B, C> parentTuple;
 
     private UndoScoreImpacter undoScoreImpacter = null;
+    private long matchWeight = 0L;
 
     public BavetScoringTriTuple(BavetScoringTriNode<A, B, C> node, BavetAbstractTriTuple<A, B, C> parentTuple) {
         this.node = node;
@@ -78,4 +79,14 @@ public final class BavetScoringTriTuple<A, B, C> extends BavetAbstractTriTuple<A
         this.undoScoreImpacter = undoScoreImpacter;
     }
 
+    @Override
+    public long getMatchWeight() {
+        return matchWeight;
+    }
+
+    @Override
+    public void setMatchWeight(long matchWeight) {
+        this.matchWeight = matchWeight;
+    }
+
 }
@@ -19,6 +19,7 @@ package org.optaplanner.core.impl.score.stream.bavet.uni;
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.BiPredicate;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
@@ -42,6 +43,7 @@ import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndexFactory;
 import org.optaplanner.core.impl.score.stream.bi.AbstractBiJoiner;
 import org.optaplanner.core.impl.score.stream.bi.FilteringBiJoiner;
+import org.optaplanner.core.impl.score.stream.bi.NoneBiJoiner;
 import org.optaplanner.core.impl.score.stream.common.JoinerType;
 import org.optaplanner.core.impl.score.stream.common.ScoreImpactType;
 import org.optaplanner.core.impl.score.stream.uni.InnerUniConstraintStream;
@@ -99,18 +101,7 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
                     .filter(((FilteringBiJoiner<A, B>) joiner).getFilter());
         }
         AbstractBiJoiner<A, B> castedJoiner = (AbstractBiJoiner<A, B>) joiner;
-        for (JoinerType type : castedJoiner.getJoinerTypes()) {
-            switch (type) {
-                case EQUAL:
-                case LESS_THAN:
-                case LESS_THAN_OR_EQUAL:
-                case GREATER_THAN:
-                case GREATER_THAN_OR_EQUAL:
-                    continue;
-                default:
-                    throw new UnsupportedOperationException("Unsupported joiner type (" + type + ").");
-            }
-        }
+        assertSupportedJoinerTypes(castedJoiner);
         BavetIndexFactory indexFactory = new BavetIndexFactory(castedJoiner);
         BavetJoinBridgeUniConstraintStream<Solution_, A> leftBridge = new BavetJoinBridgeUniConstraintStream<>(
                 constraintFactory, this, true, castedJoiner.getLeftCombinedMapping(), indexFactory);
@@ -119,12 +110,27 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
                 constraintFactory, other, false, castedJoiner.getRightCombinedMapping(), indexFactory);
         other.childStreamList.add(rightBridge);
         BavetJoinBiConstraintStream<Solution_, A, B> joinStream = new BavetJoinBiConstraintStream<>(constraintFactory,
-                leftBridge, rightBridge);
+                leftBridge, rightBridge, castedJoiner);
         leftBridge.setJoinStream(joinStream);
         rightBridge.setJoinStream(joinStream);
         return joinStream;
     }
 
+    private static void assertSupportedJoinerTypes(AbstractBiJoiner<?, ?> joiner) {
+        for (JoinerType type : joiner.getJoinerTypes()) {
+            switch (type) {
+                case EQUAL:
+                case LESS_THAN:
+                case LESS_THAN_OR_EQUAL:
+                case GREATER_THAN:
+                case GREATER_THAN_OR_EQUAL:
+                    continue;
+                default:
+                    throw new UnsupportedOperationException("Unsupported joiner type (" + type + ").");
+            }
+        }
+    }
+
     // ************************************************************************
     // If (not) exists
     // ************************************************************************
@@ -132,13 +138,52 @@ public abstract class BavetAbstractUniConstraintStream<Solution_, A> extends Bav
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifExists(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(true, otherClass, joiners);
     }
 
     @SafeVarargs
     @Override
     public final <B> UniConstraintStream<A> ifNotExists(Class<B> otherClass, BiJoiner<A, B>... joiners) {
-        throw new UnsupportedOperationException();
+        return ifExistsOrNot(false, otherClass, joiners);
+    }
+
+    @SafeVarargs
+    private final <B> UniConstraintStream<A> ifExistsOrNot(boolean shouldExist, Class<B> otherClass,
+            BiJoiner<A, B>... joiners) {
+        BavetAbstractUniConstraintStream<Solution_, B> other = constraintFactory.fromUnfiltered(otherClass);
+        // The indexing joiners go into the index, the filtering joiners are tested for every indexed match
+        AbstractBiJoiner<A, B> indexingJoiner = null;
+        BiPredicate<A, B> filter = null;
+        for (BiJoiner<A, B> joiner : joiners) {
+            if (!(joiner instanceof AbstractBiJoiner)) {
+                throw new IllegalArgumentException("The joiner class (" + joiner.getClass() + ") is not supported.");
+            } else if (joiner instanceof FilteringBiJoiner) {
+                BiPredicate<A, B> joinerFilter = ((FilteringBiJoiner<A, B>) joiner).getFilter();
+                filter = (filter == null) ? joinerFilter : filter.and(joinerFilter);
+            } else if (filter != null) {
+                throw new IllegalStateException("Indexing joiner (" + joiner + ") must not follow a filtering joiner.");
+            } else {
+                AbstractBiJoiner<A, B> castedJoiner = (AbstractBiJoiner<A, B>) joiner;
+                indexingJoiner = (indexingJoiner == null) ? castedJoiner
+                        : AbstractBiJoiner.merge(indexingJoiner, castedJoiner);
+            }
+        }
+        if (indexingJoiner == null) {
+            indexingJoiner = new NoneBiJoiner<>();
+        }
+        assertSupportedJoinerTypes(indexingJoiner);
+        BavetIndexFactory indexFactory = new BavetIndexFactory(indexingJoiner);
+        BavetJoinBridgeUniConstraintStream<Solution_, A> leftBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, this, true, indexingJoiner.getLeftCombinedMapping(), indexFactory);
+        childStreamList.add(leftBridge);
+        BavetJoinBridgeUniConstraintStream<Solution_, B> rightBridge = new BavetJoinBridgeUniConstraintStream<>(
+                constraintFactory, other, false, indexingJoiner.getRightCombinedMapping(), indexFactory);
+        other.childStreamList.add(rightBridge);
+        BavetIfExistsUniConstraintStream<Solution_, A, B> ifExistsStream = new BavetIfExistsUniConstraintStream<>(
+                constraintFactory, leftBridge, rightBridge, indexingJoiner, shouldExist, filter);
+        leftBridge.setJoinStream(ifExistsStream);
+        rightBridge.setJoinStream(ifExistsStream);
+        return ifExistsStream;
     }
 
     // ************************************************************************
@@ -22,8 +22,8 @@ import java.util.function.Function;
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiConstraintStream;
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
 
 public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, ResultContainer_, NewB>
@@ -32,7 +32,7 @@ public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, Resul
     private final BavetAbstractUniConstraintStream<Solution_, A> parent;
     private final Function<A, NewA> groupKeyMapping;
     private final UniConstraintCollector<A, ResultContainer_, NewB> collector;
-    private BavetGroupBiConstraintStream<Solution_, NewA, ResultContainer_, NewB> groupStream;
+    private BavetGroupConstraintStream<Solution_, NewA, ResultContainer_> groupStream;
 
     public BavetGroupBridgeUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
             BavetAbstractUniConstraintStream<Solution_, A> parent,
@@ -48,7 +48,7 @@ public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, Resul
         return parent.guaranteesDistinct();
     }
 
-    public void setGroupStream(BavetGroupBiConstraintStream<Solution_, NewA, ResultContainer_, NewB> groupStream) {
+    public void setGroupStream(BavetGroupConstraintStream<Solution_, NewA, ResultContainer_> groupStream) {
         this.groupStream = groupStream;
     }
 
@@ -75,8 +75,8 @@ public final class BavetGroupBridgeUniConstraintStream<Solution_, A, NewA, Resul
             throw new IllegalStateException("Impossible state: the stream (" + this
                     + ") has an non-empty childStreamList (" + childStreamList + ") but it's a groupBy bridge.");
         }
-        BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode = groupStream.createNodeChain(buildPolicy,
-                constraintWeight, null);
+        BavetGroupNode<NewA, ResultContainer_> groupNode = groupStream.createGroupNodeChain(buildPolicy,
+                constraintWeight);
         BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> groupBridgeNode =
                 (BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB>) node;
         groupBridgeNode.setGroupNode(groupNode);
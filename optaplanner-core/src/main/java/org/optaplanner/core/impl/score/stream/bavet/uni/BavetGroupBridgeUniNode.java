@@ -24,9 +24,9 @@ import java.util.function.Function;
 
 import org.optaplanner.core.api.score.stream.uni.UniConstraintCollector;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiNode;
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
 
 public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> extends BavetAbstractUniNode<A> {
@@ -34,8 +34,8 @@ public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> exte
     private final BavetAbstractUniNode<A> parentNode;
     private final Function<A, NewA> groupKeyMapping;
     private final UniConstraintCollector<A, ResultContainer_, NewB> collector;
-    private final Map<NewA, BavetGroupBiTuple<NewA, ResultContainer_, NewB>> tupleMap;
-    private BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode;
+    private final Map<NewA, BavetGroupTuple<NewA, ResultContainer_>> tupleMap;
+    private BavetGroupNode<NewA, ResultContainer_> groupNode;
 
     public BavetGroupBridgeUniNode(BavetConstraintSession session, int nodeIndex, BavetAbstractUniNode<A> parentNode,
             Function<A, NewA> groupKeyMapping, UniConstraintCollector<A, ResultContainer_, NewB> collector) {
@@ -56,7 +56,7 @@ public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> exte
         return new BavetGroupBridgeUniTuple<>(this, parentTuple);
     }
 
-    public void setGroupNode(BavetGroupBiNode<NewA, ResultContainer_, NewB> groupNode) {
+    public void setGroupNode(BavetGroupNode<NewA, ResultContainer_> groupNode) {
         this.groupNode = groupNode;
     }
 
@@ -69,7 +69,7 @@ public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> exte
         BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> tuple =
                 (BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB>) uncastTuple;
         if (tuple.getChildTuple() != null) {
-            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tuple.getChildTuple();
+            BavetGroupTuple<NewA, ResultContainer_> childTuple = tuple.getChildTuple();
             NewA oldGroupKey = childTuple.getGroupKey();
             int parentCount = childTuple.decreaseParentCount();
             tuple.getUndoAccumulator().run();
@@ -79,15 +79,15 @@ public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> exte
             if (parentCount == 0) {
                 // Clean up tupleMap
                 tupleMap.remove(oldGroupKey);
-                session.transitionTuple(childTuple, BavetTupleState.DYING);
+                session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.DYING);
             } else {
-                session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+                session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.UPDATING);
             }
         }
         if (tuple.isActive()) {
             A a = tuple.getFactA();
             NewA groupKey = groupKeyMapping.apply(a);
-            BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple = tupleMap.computeIfAbsent(groupKey,
+            BavetGroupTuple<NewA, ResultContainer_> childTuple = tupleMap.computeIfAbsent(groupKey,
                     k -> groupNode.createTuple(groupKey, collector.supplier().get()));
             int parentCount = childTuple.increaseParentCount();
 
@@ -96,11 +96,11 @@ public final class BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> exte
             childTuple.clearResult();
             tuple.setChildTuple(childTuple);
             if (parentCount == 1) {
-                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+                session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.CREATING);
             } else {
                 // It might have just been created by an earlier tuple in the same nodeIndex
                 if (childTuple.getState() != BavetTupleState.CREATING) {
-                    session.transitionTuple(childTuple, BavetTupleState.UPDATING);
+                    session.transitionTuple((BavetAbstractTuple) childTuple, BavetTupleState.UPDATING);
                 }
             }
         }
@@ -18,8 +18,8 @@ package org.optaplanner.core.impl.score.stream.bavet.uni;
 
 import java.util.List;
 
-import org.optaplanner.core.impl.score.stream.bavet.bi.BavetGroupBiTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
 
 public final class BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> extends BavetAbstractUniTuple<A> {
 
@@ -27,7 +27,7 @@ public final class BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> ext
     private final BavetAbstractUniTuple<A> parentTuple;
 
     private Runnable undoAccumulator;
-    private BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple;
+    private BavetGroupTuple<NewA, ResultContainer_> childTuple;
 
     public BavetGroupBridgeUniTuple(BavetGroupBridgeUniNode<A, NewA, ResultContainer_, NewB> node,
             BavetAbstractUniTuple<A> parentTuple) {
@@ -67,11 +67,11 @@ public final class BavetGroupBridgeUniTuple<A, NewA, ResultContainer_, NewB> ext
         this.undoAccumulator = undoAccumulator;
     }
 
-    public BavetGroupBiTuple<NewA, ResultContainer_, NewB> getChildTuple() {
+    public BavetGroupTuple<NewA, ResultContainer_> getChildTuple() {
         return childTuple;
     }
 
-    public void setChildTuple(BavetGroupBiTuple<NewA, ResultContainer_, NewB> childTuple) {
+    public void setChildTuple(BavetGroupTuple<NewA, ResultContainer_> childTuple) {
         this.childTuple = childTuple;
     }
 
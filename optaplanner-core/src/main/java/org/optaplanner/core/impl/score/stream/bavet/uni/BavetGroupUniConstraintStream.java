@@ -0,0 +1,94 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.List;
+import java.util.function.Function;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+
+public final class BavetGroupUniConstraintStream<Solution_, GroupKey_, ResultContainer_, A>
+        extends BavetAbstractUniConstraintStream<Solution_, A>
+        implements BavetGroupConstraintStream<Solution_, GroupKey_, ResultContainer_> {
+
+    private final BavetAbstractConstraintStream<Solution_> parent;
+    private final Function<ResultContainer_, A> finisher;
+
+    /**
+     * @param constraintFactory never null
+     * @param parent never null
+     * @param finisher null if the group key itself is the result
+     */
+    public BavetGroupUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractConstraintStream<Solution_> parent,
+            Function<ResultContainer_, A> finisher) {
+        super(constraintFactory);
+        this.parent = parent;
+        this.finisher = finisher;
+    }
+
+    @Override
+    public boolean guaranteesDistinct() {
+        return true;
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return parent.getFromStreamList();
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    public BavetGroupUniNode<GroupKey_, ResultContainer_, A> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractUniNode<A> parentNode) {
+        return (BavetGroupUniNode<GroupKey_, ResultContainer_, A>) super.createNodeChain(buildPolicy, constraintWeight,
+                parentNode);
+    }
+
+    @Override
+    public BavetGroupUniNode<GroupKey_, ResultContainer_, A> createGroupNodeChain(
+            BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight) {
+        return createNodeChain(buildPolicy, constraintWeight, null);
+    }
+
+    @Override
+    protected BavetGroupUniNode<GroupKey_, ResultContainer_, A> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractUniNode<A> parentNode) {
+        if (parentNode != null) {
+            throw new IllegalStateException("Impossible state: the stream (" + this
+                    + ") cannot have a parentNode (" + parentNode + ").");
+        }
+        return new BavetGroupUniNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), finisher);
+    }
+
+    @Override
+    public String toString() {
+        return "Group() with " + childStreamList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+
+public final class BavetGroupUniNode<GroupKey_, ResultContainer_, A> extends BavetAbstractUniNode<A>
+        implements BavetGroupNode<GroupKey_, ResultContainer_> {
+
+    /**
+     * Null if the group key is the result, for example in {@code groupBy(a -> a.getDepartment())}.
+     */
+    private final Function<ResultContainer_, A> finisher;
+
+    private final List<BavetAbstractUniNode<A>> childNodeList = new ArrayList<>();
+
+    public BavetGroupUniNode(BavetConstraintSession session, int nodeIndex,
+            Function<ResultContainer_, A> finisher) {
+        super(session, nodeIndex);
+        this.finisher = finisher;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractUniNode<A> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractUniNode<A>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    // Never shared, so it keeps the identity equality:
+    // its group bridge node creates its group tuples, and that bridge node isn't shared either.
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetGroupUniTuple<GroupKey_, ResultContainer_, A> createTuple(BavetAbstractUniTuple<A> parentTuple) {
+        throw new IllegalStateException("The Grouped node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    @Override
+    public BavetGroupUniTuple<GroupKey_, ResultContainer_, A> createTuple(
+            GroupKey_ groupKey, ResultContainer_ resultContainer) {
+        return new BavetGroupUniTuple<>(this, groupKey, resultContainer);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetGroupUniTuple<GroupKey_, ResultContainer_, A> tuple =
+                (BavetGroupUniTuple<GroupKey_, ResultContainer_, A>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive()) {
+            tuple.updateResult(finisher);
+            for (BavetAbstractUniNode<A> childNode : childNodeList) {
+                BavetAbstractUniTuple<A> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Group() with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetGroupTuple;
+
+public final class BavetGroupUniTuple<GroupKey_, ResultContainer_, A> extends BavetAbstractUniTuple<A>
+        implements BavetGroupTuple<GroupKey_, ResultContainer_> {
+
+    private final BavetGroupUniNode<GroupKey_, ResultContainer_, A> node;
+
+    private GroupKey_ groupKey;
+    private int parentCount;
+    private ResultContainer_ resultContainer;
+    private A result;
+    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+
+    public BavetGroupUniTuple(BavetGroupUniNode<GroupKey_, ResultContainer_, A> node,
+            GroupKey_ groupKey, ResultContainer_ resultContainer) {
+        this.node = node;
+        this.groupKey = groupKey;
+        parentCount = 0;
+        this.resultContainer = resultContainer;
+        result = null;
+    }
+
+    @Override
+    public int increaseParentCount() {
+        parentCount++;
+        return parentCount;
+    }
+
+    @Override
+    public int decreaseParentCount() {
+        parentCount--;
+        if (parentCount < 0) {
+            throw new IllegalStateException("The parentCount (" + parentCount + ") for groupKey (" + groupKey
+                    + ") must not be negative.");
+        }
+        return parentCount;
+    }
+
+    @Override
+    public void clearResult() {
+        result = null;
+    }
+
+    /**
+     * @param finisher null if the group key is the result
+     */
+    public void updateResult(Function<ResultContainer_, A> finisher) {
+        if (finisher == null) {
+            result = (A) groupKey;
+        } else {
+            result = finisher.apply(resultContainer);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "Group(" + getFactsString() + ")";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetGroupUniNode<GroupKey_, ResultContainer_, A> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        return childTupleList;
+    }
+
+    @Override
+    public A getFactA() {
+        return result;
+    }
+
+    @Override
+    public GroupKey_ getGroupKey() {
+        return groupKey;
+    }
+
+    @Override
+    public ResultContainer_ getResultContainer() {
+        return resultContainer;
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintFactory;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinBridgeNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinConstraintStream;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNodeBuildPolicy;
+import org.optaplanner.core.impl.score.stream.bi.AbstractBiJoiner;
+
+public final class BavetIfExistsUniConstraintStream<Solution_, A, B> extends BavetAbstractUniConstraintStream<Solution_, A>
+        implements BavetJoinConstraintStream<Solution_> {
+
+    private final BavetAbstractUniConstraintStream<Solution_, A> leftParent;
+    private final BavetAbstractUniConstraintStream<Solution_, B> rightParent;
+    private final AbstractBiJoiner<A, B> indexingJoiner;
+    private final boolean shouldExist;
+    private final BiPredicate<A, B> filter;
+
+    /**
+     * @param constraintFactory never null
+     * @param leftParent never null
+     * @param rightParent never null
+     * @param indexingJoiner never null, the joiners that go into the index
+     * @param shouldExist true for ifExists(), false for ifNotExists()
+     * @param filter null if there are no filtering joiners
+     */
+    public BavetIfExistsUniConstraintStream(BavetConstraintFactory<Solution_> constraintFactory,
+            BavetAbstractUniConstraintStream<Solution_, A> leftParent,
+            BavetAbstractUniConstraintStream<Solution_, B> rightParent,
+            AbstractBiJoiner<A, B> indexingJoiner, boolean shouldExist, BiPredicate<A, B> filter) {
+        super(constraintFactory);
+        this.leftParent = leftParent;
+        this.rightParent = rightParent;
+        this.indexingJoiner = indexingJoiner;
+        this.shouldExist = shouldExist;
+        this.filter = filter;
+    }
+
+    @Override
+    public boolean guaranteesDistinct() {
+        return leftParent.guaranteesDistinct();
+    }
+
+    @Override
+    public List<BavetFromUniConstraintStream<Solution_, Object>> getFromStreamList() {
+        return Stream.concat(leftParent.getFromStreamList().stream(),
+                rightParent.getFromStreamList().stream())
+                .collect(Collectors.toList());
+    }
+
+    // ************************************************************************
+    // Node creation
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsUniNode<A, B> createNodeChain(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetJoinBridgeNode leftNode_, BavetJoinBridgeNode rightNode_) {
+        BavetJoinBridgeUniNode<A> leftNode = (BavetJoinBridgeUniNode<A>) leftNode_;
+        BavetJoinBridgeUniNode<B> rightNode = (BavetJoinBridgeUniNode<B>) rightNode_;
+        BavetIfExistsUniNode<A, B> node = new BavetIfExistsUniNode<>(buildPolicy.getSession(),
+                buildPolicy.nextNodeIndex(), leftNode, rightNode, indexingJoiner, shouldExist, filter);
+        BavetIfExistsUniNode<A, B> sharedNode = (BavetIfExistsUniNode<A, B>) processNode(buildPolicy, null, node);
+        if (sharedNode == node) { // Otherwise the join bridges are redundant, so they are discarded
+            buildPolicy.addJoinBridgeNode(leftNode);
+            leftNode.getParentNode().addChildNode(leftNode);
+            leftNode.setChildTupleRefresher(node::refreshChildTuplesLeft);
+            buildPolicy.addJoinBridgeNode(rightNode);
+            rightNode.getParentNode().addChildNode(rightNode);
+            rightNode.setChildTupleRefresher(node::refreshChildTuplesRight);
+        }
+        createChildNodeChains(buildPolicy, constraintWeight, sharedNode);
+        return sharedNode;
+    }
+
+    @Override
+    protected BavetIfExistsUniNode<A, B> createNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            Score<?> constraintWeight, BavetAbstractUniNode<A> parentNode) {
+        throw new IllegalStateException("Impossible state: this code is never called.");
+    }
+
+    @Override
+    public String toString() {
+        return (shouldExist ? "IfExists()" : "IfNotExists()") + " with " + childStreamList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiPredicate;
+
+import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetJoinNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetTupleState;
+import org.optaplanner.core.impl.score.stream.bavet.common.index.BavetIndex;
+import org.optaplanner.core.impl.score.stream.bi.AbstractBiJoiner;
+
+/**
+ * Unlike a join, it doesn't create a tuple per matching A and B pair.
+ * Instead, every A gets a single {@link BavetIfExistsUniTuple} that counts its matching Bs,
+ * so a B change only affects the tuples of the As it matches
+ * and those only propagate when their count goes from or to zero.
+ */
+public final class BavetIfExistsUniNode<A, B> extends BavetAbstractUniNode<A> implements BavetJoinNode {
+
+    private final BavetJoinBridgeUniNode<A> leftParentNode;
+    private final BavetJoinBridgeUniNode<B> rightParentNode;
+    private final AbstractBiJoiner<A, B> indexingJoiner;
+    private final boolean shouldExist;
+    /** Null if there are no filtering joiners. */
+    private final BiPredicate<A, B> filter;
+
+    private final List<BavetAbstractUniNode<A>> childNodeList = new ArrayList<>();
+
+    public BavetIfExistsUniNode(BavetConstraintSession session, int nodeIndex,
+            BavetJoinBridgeUniNode<A> leftParentNode, BavetJoinBridgeUniNode<B> rightParentNode,
+            AbstractBiJoiner<A, B> indexingJoiner, boolean shouldExist, BiPredicate<A, B> filter) {
+        super(session, nodeIndex);
+        this.leftParentNode = leftParentNode;
+        this.rightParentNode = rightParentNode;
+        this.indexingJoiner = indexingJoiner;
+        this.shouldExist = shouldExist;
+        this.filter = filter;
+    }
+
+    @Override
+    public void addChildNode(BavetAbstractUniNode<A> childNode) {
+        childNodeList.add(childNode);
+    }
+
+    @Override
+    public List<BavetAbstractUniNode<A>> getChildNodeList() {
+        return childNodeList;
+    }
+
+    // ************************************************************************
+    // Equality for node sharing
+    // ************************************************************************
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftParentNode.getParentNode()),
+                System.identityHashCode(rightParentNode.getParentNode()), indexingJoiner, shouldExist,
+                System.identityHashCode(filter));
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof BavetIfExistsUniNode) {
+            BavetIfExistsUniNode<?, ?> other = (BavetIfExistsUniNode<?, ?>) o;
+            // Join bridge nodes are never shared, so compare their parent nodes instead
+            return leftParentNode.getParentNode() == other.leftParentNode.getParentNode()
+                    && rightParentNode.getParentNode() == other.rightParentNode.getParentNode()
+                    && indexingJoiner.equals(other.indexingJoiner)
+                    && shouldExist == other.shouldExist
+                    && filter == other.filter;
+        } else {
+            return false;
+        }
+    }
+
+    // ************************************************************************
+    // Runtime
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsUniTuple<A, B> createTuple(BavetAbstractUniTuple<A> parentTuple) {
+        throw new IllegalStateException("The ifExists node (" + getClass().getSimpleName()
+                + ") can't have a parentTuple (" + parentTuple + ");");
+    }
+
+    public BavetIfExistsUniTuple<A, B> createTuple(BavetJoinBridgeUniTuple<A> leftParentTuple) {
+        return new BavetIfExistsUniTuple<>(this, leftParentTuple);
+    }
+
+    @Override
+    public void refresh(BavetAbstractTuple uncastTuple) {
+        BavetIfExistsUniTuple<A, B> tuple = (BavetIfExistsUniTuple<A, B>) uncastTuple;
+        List<BavetAbstractTuple> childTupleList = tuple.getChildTupleList();
+        for (BavetAbstractTuple childTuple : childTupleList) {
+            session.transitionTuple(childTuple, BavetTupleState.DYING);
+        }
+        childTupleList.clear();
+        if (tuple.isActive() && isPassing(tuple)) {
+            for (BavetAbstractUniNode<A> childNode : childNodeList) {
+                BavetAbstractUniTuple<A> childTuple = childNode.createTuple(tuple);
+                childTupleList.add(childTuple);
+                session.transitionTuple(childTuple, BavetTupleState.CREATING);
+            }
+        }
+    }
+
+    private boolean isPassing(BavetIfExistsUniTuple<A, B> tuple) {
+        return shouldExist == (tuple.getMatchCount() > 0);
+    }
+
+    /**
+     * @param leftParentTupleGroup never null, never empty, all active tuples have equal index properties
+     */
+    public void refreshChildTuplesLeft(List<BavetJoinBridgeUniTuple<A>> leftParentTupleGroup) {
+        // Looked up lazily, at most once for the entire group
+        Set<BavetJoinBridgeUniTuple<B>> rightParentTupleSet = null;
+        for (BavetJoinBridgeUniTuple<A> leftParentTuple : leftParentTupleGroup) {
+            List<BavetAbstractTuple> leftTupleList = leftParentTuple.getChildTupleList();
+            for (BavetAbstractTuple uncastTuple : leftTupleList) {
+                BavetIfExistsUniTuple<A, B> tuple = (BavetIfExistsUniTuple<A, B>) uncastTuple;
+                for (BavetJoinBridgeUniTuple<B> rightParentTuple : tuple.getRightParentTupleList()) {
+                    boolean removed = rightParentTuple.getChildTupleList().remove(tuple);
+                    if (!removed) {
+                        throw new IllegalStateException("Impossible state: the fact (" + tuple.getFactA()
+                                + ")'s tuple cannot be removed from the other fact (" + rightParentTuple.getFactA()
+                                + ")'s join bridge.");
+                    }
+                }
+                tuple.getRightParentTupleList().clear();
+                session.transitionTuple(tuple, BavetTupleState.DYING);
+            }
+            leftTupleList.clear();
+            if (leftParentTuple.isActive()) {
+                BavetIfExistsUniTuple<A, B> tuple = createTuple(leftParentTuple);
+                A a = leftParentTuple.getFactA();
+                if (rightParentTupleSet == null) {
+                    rightParentTupleSet = getRightIndex().get(leftParentTuple.getIndexProperties());
+                }
+                for (BavetJoinBridgeUniTuple<B> rightParentTuple : rightParentTupleSet) {
+                    // A dirty right tuple counts itself in when it's refreshed
+                    if (!rightParentTuple.isDirty() && matches(a, rightParentTuple.getFactA())) {
+                        tuple.getRightParentTupleList().add(rightParentTuple);
+                        rightParentTuple.getChildTupleList().add(tuple);
+                    }
+                }
+                leftTupleList.add(tuple);
+                session.transitionTuple(tuple, BavetTupleState.CREATING);
+            }
+        }
+    }
+
+    /**
+     * @param rightParentTupleGroup never null, never empty, all active tuples have equal index properties
+     */
+    public void refreshChildTuplesRight(List<BavetJoinBridgeUniTuple<B>> rightParentTupleGroup) {
+        // Looked up lazily, at most once for the entire group
+        Set<BavetJoinBridgeUniTuple<A>> leftParentTupleSet = null;
+        for (BavetJoinBridgeUniTuple<B> rightParentTuple : rightParentTupleGroup) {
+            List<BavetAbstractTuple> rightTupleList = rightParentTuple.getChildTupleList();
+            for (BavetAbstractTuple uncastTuple : rightTupleList) {
+                BavetIfExistsUniTuple<A, B> tuple = (BavetIfExistsUniTuple<A, B>) uncastTuple;
+                List<BavetJoinBridgeUniTuple<B>> rightParentTupleList = tuple.getRightParentTupleList();
+                boolean removed = rightParentTupleList.remove(rightParentTuple);
+                if (!removed) {
+                    throw new IllegalStateException("Impossible state: the fact (" + rightParentTuple.getFactA()
+                            + ")'s tuple cannot be removed from the other fact (" + tuple.getFactA()
+                            + ")'s ifExists tuple.");
+                }
+                if (rightParentTupleList.isEmpty()) {
+                    markUpdating(tuple);
+                }
+            }
+            rightTupleList.clear();
+            if (rightParentTuple.isActive()) {
+                B b = rightParentTuple.getFactA();
+                if (leftParentTupleSet == null) {
+                    leftParentTupleSet = getLeftIndex().get(rightParentTuple.getIndexProperties());
+                }
+                for (BavetJoinBridgeUniTuple<A> leftParentTuple : leftParentTupleSet) {
+                    // A dirty left tuple counts this right tuple in when it's refreshed
+                    if (!leftParentTuple.isDirty() && matches(leftParentTuple.getFactA(), b)) {
+                        BavetIfExistsUniTuple<A, B> tuple =
+                                (BavetIfExistsUniTuple<A, B>) leftParentTuple.getChildTupleList().get(0);
+                        List<BavetJoinBridgeUniTuple<B>> rightParentTupleList = tuple.getRightParentTupleList();
+                        rightParentTupleList.add(rightParentTuple);
+                        rightTupleList.add(tuple);
+                        if (rightParentTupleList.size() == 1) {
+                            markUpdating(tuple);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    private boolean matches(A a, B b) {
+        return filter == null || filter.test(a, b);
+    }
+
+    private void markUpdating(BavetIfExistsUniTuple<A, B> tuple) {
+        // A dirty tuple recalculates whether it passes when it's refreshed anyway
+        if (!tuple.isDirty()) {
+            session.transitionTuple(tuple, BavetTupleState.UPDATING);
+        }
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<A>> getLeftIndex() {
+        return leftParentNode.getIndex();
+    }
+
+    public BavetIndex<BavetJoinBridgeUniTuple<B>> getRightIndex() {
+        return rightParentNode.getIndex();
+    }
+
+    @Override
+    public String toString() {
+        return (shouldExist ? "IfExists()" : "IfNotExists()") + " with " + childNodeList.size() + " children";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+}
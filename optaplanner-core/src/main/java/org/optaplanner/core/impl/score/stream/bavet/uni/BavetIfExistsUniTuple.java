@@ -0,0 +1,72 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.uni;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
+
+public final class BavetIfExistsUniTuple<A, B> extends BavetAbstractUniTuple<A> {
+
+    private final BavetIfExistsUniNode<A, B> node;
+    private final BavetJoinBridgeUniTuple<A> leftParentTuple;
+    /**
+     * The right tuples that currently match, so they can uncount themselves
+     * even after their fact changed.
+     */
+    private final List<BavetJoinBridgeUniTuple<B>> rightParentTupleList = new ArrayList<>();
+    private final List<BavetAbstractTuple> childTupleList = new ArrayList<>(1);
+
+    public BavetIfExistsUniTuple(BavetIfExistsUniNode<A, B> node, BavetJoinBridgeUniTuple<A> leftParentTuple) {
+        this.node = node;
+        this.leftParentTuple = leftParentTuple;
+    }
+
+    public int getMatchCount() {
+        return rightParentTupleList.size();
+    }
+
+    @Override
+    public String toString() {
+        return "IfExists(" + getFactsString() + ") with " + getMatchCount() + " matches";
+    }
+
+    // ************************************************************************
+    // Getters/setters
+    // ************************************************************************
+
+    @Override
+    public BavetIfExistsUniNode<A, B> getNode() {
+        return node;
+    }
+
+    @Override
+    public List<BavetAbstractTuple> getChildTupleList() {
+        return childTupleList;
+    }
+
+    @Override
+    public A getFactA() {
+        return leftParentTuple.getFactA();
+    }
+
+    public List<BavetJoinBridgeUniTuple<B>> getRightParentTupleList() {
+        return rightParentTupleList;
+    }
+
+}
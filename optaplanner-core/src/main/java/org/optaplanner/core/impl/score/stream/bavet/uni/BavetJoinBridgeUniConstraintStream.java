@@ -73,6 +73,13 @@ public final class BavetJoinBridgeUniConstraintStream<Solution_, A>
                 indexFactory.buildIndex(isLeftBridge));
     }
 
+    @Override
+    protected BavetAbstractUniNode<A> processNode(BavetNodeBuildPolicy<Solution_> buildPolicy,
+            BavetAbstractUniNode<A> parentNode, BavetAbstractUniNode<A> node) {
+        // Not shared by itself: the join stream adds it to its parentNode, unless the join node is shared.
+        return node;
+    }
+
     @Override
     protected void createChildNodeChains(BavetNodeBuildPolicy<Solution_> buildPolicy, Score<?> constraintWeight,
             BavetAbstractUniNode<A> uncastedNode) {
@@ -16,8 +16,12 @@
 
 package org.optaplanner.core.impl.score.stream.bavet.uni;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -33,10 +37,13 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
 
     private final BavetAbstractUniNode<A> parentNode;
     private final Function<A, Object[]> mapping;
-    /** Calls {@link BavetJoinBiNode#refreshChildTuplesLeft(BavetJoinBridgeUniTuple)}, right or tri/quad/... variants. */
-    private Consumer<BavetJoinBridgeUniTuple<A>> childTupleRefresher;
+    /** Calls {@link BavetJoinBiNode#refreshChildTuplesLeft(List)}, right or tri/quad/... variants. */
+    private Consumer<List<BavetJoinBridgeUniTuple<A>>> childTupleRefresher;
 
     private final BavetIndex<BavetJoinBridgeUniTuple<A>> index;
+    /** Reused by {@link #refreshBatch(List)}. */
+    private final Map<List<Object>, List<BavetJoinBridgeUniTuple<A>>> indexKeyToTupleGroupMap =
+            new LinkedHashMap<>();
 
     public BavetJoinBridgeUniNode(BavetConstraintSession session, int nodeIndex, BavetAbstractUniNode<A> parentNode,
             Function<A, Object[]> mapping, BavetIndex<BavetJoinBridgeUniTuple<A>> index) {
@@ -59,6 +66,33 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
     @Override
     public void refresh(BavetAbstractTuple uncastTuple) {
         BavetJoinBridgeUniTuple<A> tuple = (BavetJoinBridgeUniTuple<A>) uncastTuple;
+        refreshIndex(tuple);
+        childTupleRefresher.accept(Collections.singletonList(tuple));
+    }
+
+    @Override
+    public void refreshBatch(List<BavetAbstractTuple> tupleBatch) {
+        if (tupleBatch.size() == 1) {
+            super.refreshBatch(tupleBatch);
+            return;
+        }
+        for (BavetAbstractTuple uncastTuple : tupleBatch) {
+            BavetJoinBridgeUniTuple<A> tuple = (BavetJoinBridgeUniTuple<A>) uncastTuple;
+            refreshIndex(tuple);
+            // Group the tuples by their index properties, so each group does a single lookup in the other index
+            List<Object> indexKey = tuple.isActive() ? Arrays.asList(tuple.getIndexProperties()) : null;
+            indexKeyToTupleGroupMap.computeIfAbsent(indexKey, k -> new ArrayList<>()).add(tuple);
+        }
+        for (List<BavetJoinBridgeUniTuple<A>> tupleGroup : indexKeyToTupleGroupMap.values()) {
+            childTupleRefresher.accept(tupleGroup);
+        }
+        indexKeyToTupleGroupMap.clear();
+        for (BavetAbstractTuple tuple : tupleBatch) {
+            finishRefresh(tuple);
+        }
+    }
+
+    private void refreshIndex(BavetJoinBridgeUniTuple<A> tuple) {
         A a = tuple.getFactA();
         if (tuple.getState() != BavetTupleState.CREATING) {
             // Clean up index
@@ -68,7 +102,6 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
             Object[] indexProperties = mapping.apply(a);
             index.put(indexProperties, tuple);
         }
-        childTupleRefresher.accept(tuple);
     }
 
     @Override
@@ -80,11 +113,15 @@ public final class BavetJoinBridgeUniNode<A> extends BavetAbstractUniNode<A>
     // Getters/setters
     // ************************************************************************
 
+    public BavetAbstractUniNode<A> getParentNode() {
+        return parentNode;
+    }
+
     public BavetIndex<BavetJoinBridgeUniTuple<A>> getIndex() {
         return index;
     }
 
-    public void setChildTupleRefresher(Consumer<BavetJoinBridgeUniTuple<A>> childTupleRefresher) {
+    public void setChildTupleRefresher(Consumer<List<BavetJoinBridgeUniTuple<A>>> childTupleRefresher) {
         this.childTupleRefresher = childTupleRefresher;
     }
 
@@ -30,6 +30,8 @@ public final class BavetJoinBridgeUniTuple<A> extends BavetAbstractUniTuple<A>
     private final List<BavetAbstractTuple> childTupleList = new ArrayList<>();
 
     private Object[] indexProperties;
+    private BavetJoinBridgeTuple previousInIndexBucket = null;
+    private BavetJoinBridgeTuple nextInIndexBucket = null;
 
     public BavetJoinBridgeUniTuple(BavetJoinBridgeUniNode<A> node,
             BavetAbstractUniTuple<A> parentTuple) {
@@ -71,4 +73,24 @@ public final class BavetJoinBridgeUniTuple<A> extends BavetAbstractUniTuple<A>
         this.indexProperties = indexProperties;
     }
 
+    @Override
+    public BavetJoinBridgeTuple getPreviousInIndexBucket() {
+        return previousInIndexBucket;
+    }
+
+    @Override
+    public void setPreviousInIndexBucket(BavetJoinBridgeTuple previousInIndexBucket) {
+        this.previousInIndexBucket = previousInIndexBucket;
+    }
+
+    @Override
+    public BavetJoinBridgeTuple getNextInIndexBucket() {
+        return nextInIndexBucket;
+    }
+
+    @Override
+    public void setNextInIndexBucket(BavetJoinBridgeTuple nextInIndexBucket) {
+        this.nextInIndexBucket = nextInIndexBucket;
+    }
+
 }
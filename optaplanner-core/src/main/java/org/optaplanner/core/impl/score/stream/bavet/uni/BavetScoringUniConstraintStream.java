@@ -107,6 +107,29 @@ public final class BavetScoringUniConstraintStream<Solution_, A> extends BavetAb
             Score<?> constraintWeight, BavetAbstractUniNode<A> parentNode) {
         ScoreInliner<?> scoreInliner = buildPolicy.getSession().getScoreInliner();
         WeightedScoreImpacter weightedScoreImpacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        if (weightedScoreImpacter.isUndoFree()) {
+            ToLongFunction<A> undoFreeMatchWeigher;
+            if (intMatchWeigher != null) {
+                undoFreeMatchWeigher = a -> {
+                    int matchWeight = intMatchWeigher.applyAsInt(a);
+                    constraint.assertCorrectImpact(matchWeight);
+                    return matchWeight;
+                };
+            } else if (longMatchWeigher != null) {
+                undoFreeMatchWeigher = a -> {
+                    long matchWeight = longMatchWeigher.applyAsLong(a);
+                    constraint.assertCorrectImpact(matchWeight);
+                    return matchWeight;
+                };
+            } else if (noMatchWeigher) {
+                undoFreeMatchWeigher = a -> 1L;
+            } else {
+                throw new IllegalStateException(
+                        "Impossible state: an undo free impacter requires an int or long match weigher.");
+            }
+            return new BavetScoringUniNode<>(buildPolicy.getSession(), buildPolicy.nextNodeIndex(), constraintWeight,
+                    weightedScoreImpacter, undoFreeMatchWeigher);
+        }
         Function<A, UndoScoreImpacter> scoreImpacter;
         if (intMatchWeigher != null) {
             scoreImpacter = a -> {
@@ -19,9 +19,11 @@ package org.optaplanner.core.impl.score.stream.bavet.uni;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import org.optaplanner.core.api.score.Score;
 import org.optaplanner.core.impl.score.inliner.UndoScoreImpacter;
+import org.optaplanner.core.impl.score.inliner.WeightedScoreImpacter;
 import org.optaplanner.core.impl.score.stream.bavet.BavetConstraintSession;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetAbstractTuple;
 import org.optaplanner.core.impl.score.stream.bavet.common.BavetScoringNode;
@@ -30,12 +32,27 @@ public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implem
 
     private final Score<?> constraintWeight;
     private final Function<A, UndoScoreImpacter> scoreImpacter;
+    private final WeightedScoreImpacter undoFreeScoreImpacter;
+    private final ToLongFunction<A> undoFreeMatchWeigher;
 
     public BavetScoringUniNode(BavetConstraintSession session, int nodeIndex, Score<?> constraintWeight,
             Function<A, UndoScoreImpacter> scoreImpacter) {
+        this(session, nodeIndex, constraintWeight, scoreImpacter, null, null);
+    }
+
+    public BavetScoringUniNode(BavetConstraintSession session, int nodeIndex, Score<?> constraintWeight,
+            WeightedScoreImpacter undoFreeScoreImpacter, ToLongFunction<A> undoFreeMatchWeigher) {
+        this(session, nodeIndex, constraintWeight, null, undoFreeScoreImpacter, undoFreeMatchWeigher);
+    }
+
+    private BavetScoringUniNode(BavetConstraintSession session, int nodeIndex, Score<?> constraintWeight,
+            Function<A, UndoScoreImpacter> scoreImpacter, WeightedScoreImpacter undoFreeScoreImpacter,
+            ToLongFunction<A> undoFreeMatchWeigher) {
         super(session, nodeIndex);
         this.constraintWeight = constraintWeight;
         this.scoreImpacter = scoreImpacter;
+        this.undoFreeScoreImpacter = undoFreeScoreImpacter;
+        this.undoFreeMatchWeigher = undoFreeMatchWeigher;
     }
 
     // ************************************************************************
@@ -62,6 +79,18 @@ public final class BavetScoringUniNode<A> extends BavetAbstractUniNode<A> implem
     public void refresh(BavetAbstractTuple uncastTuple) {
         BavetScoringUniTuple<A> tuple = (BavetScoringUniTuple<A>) uncastTuple;
         A a = tuple.getFactA();
+        if (undoFreeScoreImpacter != null) {
+            long oldMatchWeight = tuple.getMatchWeight();
+            if (oldMatchWeight != 0L) {
+                undoFreeScoreImpacter.impactScoreWithoutUndo(-oldMatchWeight);
+            }
+            long matchWeight = tuple.isActive() ? undoFreeMatchWeigher.applyAsLong(a) : 0L;
+            if (matchWeight != 0L) {
+                undoFreeScoreImpacter.impactScoreWithoutUndo(matchWeight);
+            }
+            tuple.setMatchWeight(matchWeight);
+            return;
+        }
         UndoScoreImpacter oldUndoScoreImpacter = tuple.getUndoScoreImpacter();
         if (oldUndoScoreImpacter != null) {
             oldUndoScoreImpacter.run();
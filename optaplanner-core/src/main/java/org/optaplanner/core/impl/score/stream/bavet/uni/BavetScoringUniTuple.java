@@ -28,6 +28,7 @@ public final class BavetScoringUniTuple<A> extends BavetAbstractUniTuple<A> impl
     private final BavetAbstractUniTuple<A> parentTuple;
 
     private UndoScoreImpacter undoScoreImpacter = null;
+    private long matchWeight = 0L;
 
     public BavetScoringUniTuple(BavetScoringUniNode<A> node, BavetAbstractUniTuple<A> parentTuple) {
         this.node = node;
@@ -68,4 +69,14 @@ public final class BavetScoringUniTuple<A> extends BavetAbstractUniTuple<A> impl
         this.undoScoreImpacter = undoScoreImpacter;
     }
 
+    @Override
+    public long getMatchWeight() {
+        return matchWeight;
+    }
+
+    @Override
+    public void setMatchWeight(long matchWeight) {
+        this.matchWeight = matchWeight;
+    }
+
 }
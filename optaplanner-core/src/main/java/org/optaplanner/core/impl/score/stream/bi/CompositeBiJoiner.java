@@ -81,4 +81,21 @@ public final class CompositeBiJoiner<A, B> extends AbstractBiJoiner<A, B> {
                 .map(f -> f.apply(b))
                 .toArray();
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof CompositeBiJoiner) {
+            CompositeBiJoiner<?, ?> other = (CompositeBiJoiner<?, ?>) o;
+            return joinerList.equals(other.joinerList);
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return joinerList.hashCode();
+    }
 }
@@ -55,4 +55,13 @@ public final class NonePentaJoiner<A, B, C, D, E> extends AbstractPentaJoiner<A,
         return (E e) -> EMPTY_OBJECT_ARRAY;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof NonePentaJoiner; // All none joiners join everything
+    }
+
+    @Override
+    public int hashCode() {
+        return NonePentaJoiner.class.hashCode();
+    }
 }
@@ -55,4 +55,13 @@ public final class NoneQuadJoiner<A, B, C, D> extends AbstractQuadJoiner<A, B, C
         return (D d) -> EMPTY_OBJECT_ARRAY;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof NoneQuadJoiner; // All none joiners join everything
+    }
+
+    @Override
+    public int hashCode() {
+        return NoneQuadJoiner.class.hashCode();
+    }
 }
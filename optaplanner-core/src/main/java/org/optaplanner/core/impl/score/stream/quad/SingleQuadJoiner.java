@@ -16,6 +16,7 @@
 
 package org.optaplanner.core.impl.score.stream.quad;
 
+import java.util.Objects;
 import java.util.function.Function;
 
 import org.optaplanner.core.api.function.TriFunction;
@@ -73,4 +74,23 @@ public final class SingleQuadJoiner<A, B, C, D> extends AbstractQuadJoiner<A, B,
     public Function<D, Object[]> getRightCombinedMapping() {
         return (D d) -> new Object[] { getRightMapping().apply(d) };
     }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        } else if (o instanceof SingleQuadJoiner) {
+            SingleQuadJoiner<?, ?, ?, ?> other = (SingleQuadJoiner<?, ?, ?, ?>) o;
+            return leftMapping == other.leftMapping
+                    && joinerType == other.joinerType
+                    && rightMapping == other.rightMapping;
+        } else {
+            return false;
+        }
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(System.identityHashCode(leftMapping), joinerType, System.identityHashCode(rightMapping));
+    }
 }
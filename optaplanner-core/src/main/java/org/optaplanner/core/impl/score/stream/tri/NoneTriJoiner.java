@@ -55,4 +55,13 @@ public final class NoneTriJoiner<A, B, C> extends AbstractTriJoiner<A, B, C> {
         return (C c) -> EMPTY_OBJECT_ARRAY;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof NoneTriJoiner; // All none joiners join everything
+    }
+
+    @Override
+    public int hashCode() {
+        return NoneTriJoiner.class.hashCode();
+    }
 }
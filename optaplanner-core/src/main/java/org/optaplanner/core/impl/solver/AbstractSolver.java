@@ -94,7 +94,8 @@ public abstract class AbstractSolver<Solution_> implements Solver<Solution_> {
             return;
         }
         Iterator<Phase<Solution_>> it = phaseList.iterator();
-        while (!solverTermination.isSolverTerminated(solverScope) && it.hasNext()) {
+        // Check for a next phase first, so a termination that comes in after the last phase doesn't count as applied
+        while (it.hasNext() && !solverTermination.isSolverTerminated(solverScope)) {
             Phase<Solution_> phase = it.next();
             phase.solve(solverScope);
             // If there is a next phase, it starts from the best solution, which might differ from the working solution.
@@ -64,6 +64,9 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
 
     private final String moveThreadCountDescription;
 
+    /** The time spent by an earlier run, used only by the next {@link #solve(Object)}. */
+    protected long resumedTimeMillisSpent = 0L;
+
     // ************************************************************************
     // Constructors and simple getters/setters
     // ************************************************************************
@@ -104,6 +107,16 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         return solverScope;
     }
 
+    /**
+     * Continues the time spent of an earlier run (such as a checkpoint) during the next {@link #solve(Object)},
+     * so time based terminations, such as a {@code spentLimit}, don't restart from zero.
+     *
+     * @param resumedTimeMillisSpent at least 0
+     */
+    public void setResumedTimeMillisSpent(long resumedTimeMillisSpent) {
+        this.resumedTimeMillisSpent = resumedTimeMillisSpent;
+    }
+
     // ************************************************************************
     // Complex getters
     // ************************************************************************
@@ -141,6 +154,15 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
         return basicPlumbingTermination.isTerminateEarly();
     }
 
+    /**
+     * @return true if the last {@link #solve(Object)} stopped because of {@link #terminateEarly()},
+     *         false if it ended on its own before it noticed that call
+     * @see BasicPlumbingTermination#isTerminatedEarlyApplied()
+     */
+    public boolean isTerminatedEarlyApplied() {
+        return basicPlumbingTermination.isTerminatedEarlyApplied();
+    }
+
     @Override
     public boolean addProblemFactChange(ProblemFactChange<Solution_> problemFactChange) {
         return basicPlumbingTermination.addProblemFactChange(problemFactChange);
@@ -218,7 +240,8 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
 
     @Override
     public void solvingStarted(SolverScope<Solution_> solverScope) {
-        solverScope.startingNow();
+        // Only the first run continues the resumed time spent, a restart for problem fact changes starts anew
+        solverScope.startingNow(solverScope.getStartingSolverCount() == 0 ? resumedTimeMillisSpent : 0L);
         solverScope.getScoreDirector().resetCalculationCount();
         super.solvingStarted(solverScope);
         int startingSolverCount = solverScope.getStartingSolverCount() + 1;
@@ -250,6 +273,7 @@ public class DefaultSolver<Solution_> extends AbstractSolver<Solution_> {
                 phaseList.size(),
                 environmentMode.name(),
                 moveThreadCountDescription);
+        resumedTimeMillisSpent = 0L;
         solving.set(false);
     }
 
@@ -110,8 +110,8 @@ public final class DefaultSolverFactory<Solution_> implements SolverFactory<Solu
         BestSolutionRecaller<Solution_> bestSolutionRecaller =
                 BestSolutionRecallerFactory.create().buildBestSolutionRecaller(environmentMode_);
         HeuristicConfigPolicy<Solution_> configPolicy = new HeuristicConfigPolicy<>(environmentMode_,
-                moveThreadCount_, solverConfig.getMoveThreadBufferSize(), solverConfig.getThreadFactoryClass(),
-                scoreDirectorFactory);
+                moveThreadCount_, solverConfig.getMoveThreadBufferSize(), solverConfig.getMoveThreadBatchSize(),
+                solverConfig.getMoveThreadWorkStealing(), solverConfig.getThreadFactoryClass(), scoreDirectorFactory);
         TerminationConfig terminationConfig_ = solverConfig.getTerminationConfig() == null
                 ? new TerminationConfig()
                 : solverConfig.getTerminationConfig();
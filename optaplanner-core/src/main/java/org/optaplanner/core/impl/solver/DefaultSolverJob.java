@@ -19,9 +19,9 @@ package org.optaplanner.core.impl.solver;
 import java.time.Duration;
 import java.util.UUID;
 import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
-import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -29,7 +29,10 @@ import java.util.function.Function;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverCheckpoint;
+import org.optaplanner.core.api.solver.SolverCheckpointStore;
 import org.optaplanner.core.api.solver.SolverJob;
+import org.optaplanner.core.api.solver.SolverJobPriority;
 import org.optaplanner.core.api.solver.SolverStatus;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.slf4j.Logger;
@@ -49,18 +52,34 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
     private final Function<? super ProblemId_, ? extends Solution_> problemFinder;
     private final Consumer<? super Solution_> finalBestSolutionConsumer;
     private final BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler;
+    private final SolverJobPriority priority;
+    /** Null if checkpointing is disabled. */
+    private final SolverCheckpointStore<Solution_, ProblemId_> checkpointStore;
+    /** True if solving starts from the checkpoint in the {@link #checkpointStore}, if there is one. */
+    private final boolean resuming;
 
     private final AtomicReference<SolverStatus> solverStatusReference;
     private CountDownLatch terminatedLatch;
+    private final CompletableFuture<Solution_> finalBestSolutionFuture;
 
-    private Future<Solution_> future;
+    /** Set by the {@link DefaultSolverManager} each time this job is (re)scheduled. */
+    private long schedulingSequence;
+    private volatile boolean terminateEarlyRequested = false;
+    private volatile boolean preempted = false;
+    /** Null until this job is preempted, then the solution to resume from. */
+    private volatile Solution_ preemptedBestSolution = null;
+    /** The time spent by the solver before it was preempted, so its time based terminations continue from there. */
+    private volatile long preemptedTimeMillisSpent = 0L;
 
     public DefaultSolverJob(
             DefaultSolverManager<Solution_, ProblemId_> solverManager,
             Solver<Solution_> solver, ProblemId_ problemId,
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> finalBestSolutionConsumer,
-            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            SolverJobPriority priority,
+            SolverCheckpointStore<Solution_, ProblemId_> checkpointStore, long checkpointIntervalMillis,
+            boolean resuming) {
         this.solverManager = solverManager;
         this.problemId = problemId;
         if (!(solver instanceof DefaultSolver)) {
@@ -71,12 +90,38 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
         this.problemFinder = problemFinder;
         this.finalBestSolutionConsumer = finalBestSolutionConsumer;
         this.exceptionHandler = exceptionHandler;
+        this.priority = priority;
+        if (resuming && checkpointStore == null) {
+            throw new IllegalStateException("Impossible state: resuming without a checkpointStore.");
+        }
+        this.checkpointStore = checkpointStore;
+        this.resuming = resuming;
+        if (checkpointStore != null) {
+            addCheckpointListener(checkpointIntervalMillis);
+        }
         solverStatusReference = new AtomicReference<>(SolverStatus.SOLVING_SCHEDULED);
         terminatedLatch = new CountDownLatch(1);
+        finalBestSolutionFuture = new CompletableFuture<>();
+    }
+
+    public SolverJobPriority getPriority() {
+        return priority;
+    }
+
+    public long getSchedulingSequence() {
+        return schedulingSequence;
     }
 
-    public void setFuture(Future<Solution_> future) {
-        this.future = future;
+    public void setSchedulingSequence(long schedulingSequence) {
+        this.schedulingSequence = schedulingSequence;
+    }
+
+    public boolean isPreempted() {
+        return preempted;
+    }
+
+    public boolean isTerminateEarlyRequested() {
+        return terminateEarlyRequested;
     }
 
     @Override
@@ -91,25 +136,139 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
 
     @Override
     public Solution_ call() {
-        SolverStatus solverStatus = solverStatusReference.getAndSet(SolverStatus.SOLVING_ACTIVE);
-        if (solverStatus != SolverStatus.SOLVING_SCHEDULED) {
-            // This job has been canceled before it started
-            return problemFinder.apply(problemId);
-        }
+        solverStatusReference.set(SolverStatus.SOLVING_ACTIVE);
+        boolean rescheduled = false;
         try {
-            Solution_ problem = problemFinder.apply(problemId);
+            if (terminateEarlyRequested) {
+                // This job has been terminated after it was dispatched to a solver thread, but before it started
+                return completeWithoutSolving();
+            }
+            Solution_ problem;
+            if (preemptedBestSolution != null) {
+                solver.setResumedTimeMillisSpent(preemptedTimeMillisSpent);
+                problem = preemptedBestSolution;
+            } else {
+                problem = findProblem();
+            }
             final Solution_ finalBestSolution = solver.solve(problem);
+            // If the solver ended on its own before it noticed the preemption, it's done, so don't reschedule it
+            if (preempted && !terminateEarlyRequested && solver.isTerminatedEarlyApplied()) {
+                // Resume later from this best solution
+                preemptedBestSolution = finalBestSolution;
+                preemptedTimeMillisSpent = solver.getTimeMillisSpent();
+                // Set the status first, so preempt() can't pass while the preempted flag is reset
+                solverStatusReference.set(SolverStatus.SOLVING_SCHEDULED);
+                preempted = false;
+                rescheduled = true;
+                return finalBestSolution;
+            }
+            if (checkpointStore != null) {
+                saveCheckpoint(new SolverCheckpoint<>(finalBestSolution,
+                        solver.getSolverScope().getBestScore(), solver.getTimeMillisSpent()));
+            }
             if (finalBestSolutionConsumer != null) {
                 // TODO consumption should happen on different thread than solver thread
                 finalBestSolutionConsumer.accept(finalBestSolution);
             }
+            finalBestSolutionFuture.complete(finalBestSolution);
             return finalBestSolution;
         } catch (Exception e) {
             exceptionHandler.accept(problemId, e);
-            throw new IllegalStateException("Solving failed for problemId (" + problemId + ").", e);
+            IllegalStateException exception = new IllegalStateException(
+                    "Solving failed for problemId (" + problemId + ").", e);
+            finalBestSolutionFuture.completeExceptionally(exception);
+            throw exception;
         } finally {
-            solvingTerminated();
+            if (!rescheduled) {
+                solvingTerminated();
+            }
+            solverManager.solverJobStopped(this, rescheduled);
+        }
+    }
+
+    private void addCheckpointListener(long checkpointIntervalMillis) {
+        // Best solution changed events happen on the solver thread only, so no synchronization is needed
+        long[] lastCheckpointSystemTimeMillis = {System.currentTimeMillis()};
+        solver.addEventListener(event -> {
+            long now = System.currentTimeMillis();
+            if (now - lastCheckpointSystemTimeMillis[0] >= checkpointIntervalMillis) {
+                lastCheckpointSystemTimeMillis[0] = now;
+                saveCheckpoint(new SolverCheckpoint<>(event.getNewBestSolution(), event.getNewBestScore(),
+                        event.getTimeMillisSpent()));
+            }
+        });
+    }
+
+    private void saveCheckpoint(SolverCheckpoint<Solution_> checkpoint) {
+        try {
+            checkpointStore.save(problemId, checkpoint);
+        } catch (RuntimeException e) {
+            // A failing checkpoint must not lose the solution, the next checkpoint might succeed
+            LOGGER.warn("Saving the checkpoint ({}) failed for problemId ({}).", checkpoint, problemId, e);
+        }
+    }
+
+    private Solution_ findProblem() {
+        if (resuming) {
+            SolverCheckpoint<Solution_> checkpoint = checkpointStore.load(problemId);
+            if (checkpoint != null) {
+                LOGGER.info("Resuming problemId ({}) from its checkpoint: time spent ({}), best score ({}).",
+                        problemId, checkpoint.getTimeMillisSpent(), checkpoint.getBestScore());
+                solver.setResumedTimeMillisSpent(checkpoint.getTimeMillisSpent());
+                return checkpoint.getBestSolution();
+            }
+        }
+        return problemFinder.apply(problemId);
+    }
+
+    /**
+     * @return true if this job is actively solving and not stopping yet
+     */
+    public boolean isPreemptable() {
+        return !preempted && !terminateEarlyRequested
+                && solverStatusReference.get() == SolverStatus.SOLVING_ACTIVE && solver.isSolving();
+    }
+
+    /**
+     * Called by the {@link DefaultSolverManager} while it holds its scheduling lock.
+     *
+     * @return true if this job will stop solving soon and reschedule itself,
+     *         unless it ends on its own before its solver notices the preemption
+     */
+    public boolean preempt() {
+        if (!isPreemptable()) {
+            return false;
+        }
+        preempted = true;
+        if (!solver.terminateEarly()) {
+            // Something else already terminated it, so it won't reschedule itself
+            preempted = false;
+            return false;
         }
+        return true;
+    }
+
+    /**
+     * Called if this job is canceled while it is scheduled.
+     */
+    public void cancel() {
+        terminateEarlyRequested = true;
+        completeWithoutSolving();
+        solvingTerminated();
+    }
+
+    private Solution_ completeWithoutSolving() {
+        Solution_ finalBestSolution = preemptedBestSolution;
+        if (finalBestSolution == null) {
+            finalBestSolutionFuture.cancel(false);
+            return null;
+        }
+        // It was preempted earlier, so its last best solution is the final best solution
+        if (finalBestSolutionConsumer != null) {
+            finalBestSolutionConsumer.accept(finalBestSolution);
+        }
+        finalBestSolutionFuture.complete(finalBestSolution);
+        return finalBestSolution;
     }
 
     private void solvingTerminated() {
@@ -132,21 +291,27 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
 
     @Override
     public void terminateEarly() {
-        future.cancel(false);
-        SolverStatus solverStatus = solverStatusReference.get();
-        switch (solverStatus) {
-            case SOLVING_SCHEDULED:
-                solvingTerminated();
-                break;
-            case SOLVING_ACTIVE:
-                // Indirectly triggers solvingTerminated()
-                solver.terminateEarly();
-                break;
-            case NOT_SOLVING:
-                // Do nothing, solvingTerminated() already called
-                break;
-            default:
-                throw new IllegalStateException("Unsupported solverStatus (" + solverStatus + ").");
+        terminateEarlyRequested = true;
+        if (solverManager.unscheduleSolverJob(this)) {
+            // It will never (re)start
+            completeWithoutSolving();
+            solvingTerminated();
+        } else {
+            SolverStatus solverStatus = solverStatusReference.get();
+            switch (solverStatus) {
+                case SOLVING_SCHEDULED:
+                    // Do nothing, it's dispatched to a solver thread or being rescheduled, call() handles it
+                    break;
+                case SOLVING_ACTIVE:
+                    // Indirectly triggers solvingTerminated()
+                    solver.terminateEarly();
+                    break;
+                case NOT_SOLVING:
+                    // Do nothing, solvingTerminated() already called
+                    break;
+                default:
+                    throw new IllegalStateException("Unsupported solverStatus (" + solverStatus + ").");
+            }
         }
         try {
             // Don't return until bestSolutionConsumer won't be called any more
@@ -159,7 +324,7 @@ public final class DefaultSolverJob<Solution_, ProblemId_> implements SolverJob<
 
     @Override
     public Solution_ getFinalBestSolution() throws InterruptedException, ExecutionException {
-        return future.get();
+        return finalBestSolutionFuture.get();
     }
 
     @Override
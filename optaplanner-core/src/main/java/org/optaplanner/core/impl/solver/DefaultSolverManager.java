@@ -16,24 +16,32 @@
 
 package org.optaplanner.core.impl.solver;
 
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
-import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
 import org.optaplanner.core.api.domain.solution.PlanningSolution;
 import org.optaplanner.core.api.solver.Solver;
+import org.optaplanner.core.api.solver.SolverCheckpointStore;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.api.solver.SolverJob;
+import org.optaplanner.core.api.solver.SolverJobPriority;
 import org.optaplanner.core.api.solver.SolverManager;
 import org.optaplanner.core.api.solver.SolverStatus;
 import org.optaplanner.core.config.solver.SolverManagerConfig;
+import org.optaplanner.core.config.util.ConfigUtils;
+import org.optaplanner.core.impl.solver.thread.DefaultSolverThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,7 +56,21 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
     private final BiConsumer<ProblemId_, Throwable> defaultExceptionHandler;
     private final SolverFactory<Solution_> solverFactory;
     private final ExecutorService solverThreadPool;
+    /** False if the {@link #solverThreadPool} is provided by the user, who is responsible for shutting it down. */
+    private final boolean solverThreadPoolOwned;
     private final ConcurrentMap<Object, DefaultSolverJob<Solution_, ProblemId_>> problemIdToSolverJobMap;
+    /** Null if checkpointing is disabled. */
+    private final SolverCheckpointStore<Solution_, ProblemId_> checkpointStore;
+    private final long checkpointIntervalMillis;
+
+    // Guarded by schedulingLock
+    private final Object schedulingLock = new Object();
+    /** The maximum number of solver jobs dispatched to the {@link #solverThreadPool} at the same time. */
+    private final int parallelSolverCount;
+    private final List<DefaultSolverJob<Solution_, ProblemId_>> scheduledSolverJobList = new ArrayList<>();
+    private final List<DefaultSolverJob<Solution_, ProblemId_>> runningSolverJobList = new ArrayList<>();
+    private long nextSchedulingSequence = 0L;
+    private boolean closed = false;
 
     public DefaultSolverManager(SolverFactory<Solution_> solverFactory,
             SolverManagerConfig solverManagerConfig) {
@@ -56,9 +78,29 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
                 "Solving failed for problemId ({}).", problemId, throwable);
         this.solverFactory = solverFactory;
         validateSolverFactory();
-        int parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
-        solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount);
-        problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
+        // Also with a custom executorService, so priorities, fair share and preemption still apply
+        parallelSolverCount = solverManagerConfig.resolveParallelSolverCount();
+        ExecutorService executorService = solverManagerConfig.getExecutorService();
+        if (executorService == null) {
+            solverThreadPool = Executors.newFixedThreadPool(parallelSolverCount,
+                    buildThreadFactory(solverManagerConfig));
+            solverThreadPoolOwned = true;
+            problemIdToSolverJobMap = new ConcurrentHashMap<>(parallelSolverCount * 10);
+        } else {
+            solverThreadPool = executorService;
+            solverThreadPoolOwned = false;
+            problemIdToSolverJobMap = new ConcurrentHashMap<>();
+        }
+        checkpointStore = (SolverCheckpointStore<Solution_, ProblemId_>) solverManagerConfig.getCheckpointStore();
+        checkpointIntervalMillis = solverManagerConfig.resolveCheckpointIntervalMilliseconds();
+    }
+
+    private ThreadFactory buildThreadFactory(SolverManagerConfig solverManagerConfig) {
+        Class<? extends ThreadFactory> threadFactoryClass = solverManagerConfig.getThreadFactoryClass();
+        if (threadFactoryClass != null) {
+            return ConfigUtils.newInstance(solverManagerConfig, "threadFactoryClass", threadFactoryClass);
+        }
+        return new DefaultSolverThreadFactory();
     }
 
     public SolverFactory<Solution_> getSolverFactory() {
@@ -85,7 +127,17 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
-        return solve(getProblemIdOrThrow(problemId), problemFinder, null, finalBestSolutionConsumer, exceptionHandler);
+        return solve(problemId, problemFinder, finalBestSolutionConsumer, exceptionHandler, SolverJobPriority.DEFAULT);
+    }
+
+    @Override
+    public SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            SolverJobPriority priority) {
+        return solve(getProblemIdOrThrow(problemId), problemFinder, null, finalBestSolutionConsumer, exceptionHandler,
+                priority, false);
     }
 
     @Override
@@ -94,15 +146,46 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+        return solveAndListen(problemId, problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
+                exceptionHandler, SolverJobPriority.DEFAULT);
+    }
+
+    @Override
+    public SolverJob<Solution_, ProblemId_> solveAndListen(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            SolverJobPriority priority) {
         return solve(getProblemIdOrThrow(problemId), problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
-                exceptionHandler);
+                exceptionHandler, priority, false);
     }
 
-    protected SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
+    @Override
+    public SolverJob<Solution_, ProblemId_> resume(ProblemId_ problemId,
             Function<? super ProblemId_, ? extends Solution_> problemFinder,
             Consumer<? super Solution_> bestSolutionConsumer,
             Consumer<? super Solution_> finalBestSolutionConsumer,
             BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler) {
+        if (checkpointStore == null) {
+            throw new IllegalStateException("The problemId (" + problemId
+                    + ") cannot be resumed because the solverManager has no checkpointStore.\n"
+                    + "Maybe configure a checkpointStore in the " + SolverManagerConfig.class.getSimpleName() + ".");
+        }
+        return solve(getProblemIdOrThrow(problemId), problemFinder, bestSolutionConsumer, finalBestSolutionConsumer,
+                exceptionHandler, SolverJobPriority.DEFAULT, true);
+    }
+
+    protected SolverJob<Solution_, ProblemId_> solve(ProblemId_ problemId,
+            Function<? super ProblemId_, ? extends Solution_> problemFinder,
+            Consumer<? super Solution_> bestSolutionConsumer,
+            Consumer<? super Solution_> finalBestSolutionConsumer,
+            BiConsumer<? super ProblemId_, ? super Throwable> exceptionHandler,
+            SolverJobPriority priority, boolean resuming) {
+        if (priority == null) {
+            throw new NullPointerException("Invalid priority (null) given to SolverManager for problemId ("
+                    + problemId + ").");
+        }
         Solver<Solution_> solver = solverFactory.buildSolver();
         ((DefaultSolver<Solution_>) solver).setMonitorTagMap(Map.of("problem.id", problemId.toString()));
         // TODO consumption should happen on different thread than solver thread, doing skipAhead and throttling
@@ -119,14 +202,123 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
                         throw new IllegalStateException("The problemId (" + problemId + ") is already solving.");
                     } else {
                         return new DefaultSolverJob<>(this, solver, problemId, problemFinder, finalBestSolutionConsumer,
-                                finalExceptionHandler);
+                                finalExceptionHandler, priority, checkpointStore, checkpointIntervalMillis, resuming);
                     }
                 });
-        Future<Solution_> future = solverThreadPool.submit(solverJob);
-        solverJob.setFuture(future);
+        synchronized (schedulingLock) {
+            if (closed) {
+                problemIdToSolverJobMap.remove(problemId);
+                throw new IllegalStateException("The problemId (" + problemId
+                        + ") cannot be solved because the solverManager is closed.");
+            }
+            scheduleSolverJob(solverJob);
+        }
         return solverJob;
     }
 
+    // ************************************************************************
+    // Scheduling methods
+    // ************************************************************************
+
+    private void scheduleSolverJob(DefaultSolverJob<Solution_, ProblemId_> solverJob) {
+        solverJob.setSchedulingSequence(nextSchedulingSequence++);
+        scheduledSolverJobList.add(solverJob);
+        dispatchSolverJobs();
+    }
+
+    /**
+     * Starts the scheduled solver jobs in order while there are free solver threads.
+     * Preempts lower priority running solver jobs for the remaining higher priority scheduled solver jobs.
+     */
+    private void dispatchSolverJobs() {
+        if (closed || scheduledSolverJobList.isEmpty()) {
+            return;
+        }
+        Map<Object, Integer> tenantRunningCountMap = new HashMap<>();
+        for (DefaultSolverJob<Solution_, ProblemId_> runningSolverJob : runningSolverJobList) {
+            tenantRunningCountMap.merge(runningSolverJob.getPriority().getTenantId(), 1, Integer::sum);
+        }
+        // Higher priority first, then the tenant with the least running solver jobs, then first come first served
+        Comparator<DefaultSolverJob<Solution_, ProblemId_>> comparator = Comparator
+                .<DefaultSolverJob<Solution_, ProblemId_>> comparingInt(
+                        solverJob -> solverJob.getPriority().getPriority())
+                .reversed()
+                .thenComparingInt(solverJob -> tenantRunningCountMap.getOrDefault(
+                        solverJob.getPriority().getTenantId(), 0))
+                .thenComparingLong(DefaultSolverJob::getSchedulingSequence);
+        while (!scheduledSolverJobList.isEmpty() && runningSolverJobList.size() < parallelSolverCount) {
+            DefaultSolverJob<Solution_, ProblemId_> solverJob = scheduledSolverJobList.stream()
+                    .min(comparator).orElseThrow(IllegalStateException::new);
+            scheduledSolverJobList.remove(solverJob);
+            runningSolverJobList.add(solverJob);
+            tenantRunningCountMap.merge(solverJob.getPriority().getTenantId(), 1, Integer::sum);
+            solverThreadPool.submit(solverJob);
+        }
+        if (scheduledSolverJobList.isEmpty()) {
+            return;
+        }
+        // Every preempted solver job frees up a solver thread soon
+        long freeingCount = runningSolverJobList.stream().filter(DefaultSolverJob::isPreempted).count();
+        List<DefaultSolverJob<Solution_, ProblemId_>> sortedScheduledSolverJobList =
+                new ArrayList<>(scheduledSolverJobList);
+        sortedScheduledSolverJobList.sort(comparator);
+        for (DefaultSolverJob<Solution_, ProblemId_> solverJob : sortedScheduledSolverJobList) {
+            if (freeingCount > 0L) {
+                freeingCount--;
+                continue;
+            }
+            int priority = solverJob.getPriority().getPriority();
+            DefaultSolverJob<Solution_, ProblemId_> preemptedSolverJob = runningSolverJobList.stream()
+                    .filter(runningSolverJob -> runningSolverJob.isPreemptable()
+                            && runningSolverJob.getPriority().getPriority() < priority)
+                    .min(Comparator.<DefaultSolverJob<Solution_, ProblemId_>> comparingInt(
+                            runningSolverJob -> runningSolverJob.getPriority().getPriority())
+                            .thenComparingLong(runningSolverJob -> -runningSolverJob.getSchedulingSequence()))
+                    .orElse(null);
+            if (preemptedSolverJob == null || !preemptedSolverJob.preempt()) {
+                // Lower priority scheduled solver jobs can't preempt anything either
+                break;
+            }
+            LOGGER.debug("Preempting problemId ({}) with priority ({}) for problemId ({}) with priority ({}).",
+                    preemptedSolverJob.getProblemId(), preemptedSolverJob.getPriority(),
+                    solverJob.getProblemId(), solverJob.getPriority());
+        }
+    }
+
+    /**
+     * @param solverJob never null
+     * @return true if the solverJob was scheduled and now never will be (re)started
+     */
+    protected boolean unscheduleSolverJob(DefaultSolverJob<Solution_, ProblemId_> solverJob) {
+        synchronized (schedulingLock) {
+            return scheduledSolverJobList.remove(solverJob);
+        }
+    }
+
+    /**
+     * Called on the solver thread when a solver job stops running, even if it failed.
+     *
+     * @param solverJob never null
+     * @param preempted true if the solverJob needs to be rescheduled to resume solving later
+     */
+    protected void solverJobStopped(DefaultSolverJob<Solution_, ProblemId_> solverJob, boolean preempted) {
+        boolean canceled = false;
+        synchronized (schedulingLock) {
+            runningSolverJobList.remove(solverJob);
+            if (preempted) {
+                if (closed || solverJob.isTerminateEarlyRequested()) {
+                    canceled = true;
+                } else {
+                    scheduleSolverJob(solverJob);
+                }
+            }
+            dispatchSolverJobs();
+        }
+        if (canceled) {
+            solverJob.cancel();
+        }
+    }
+
     @Override
     public SolverStatus getSolverStatus(ProblemId_ problemId) {
         DefaultSolverJob<Solution_, ProblemId_> solverJob = getSolverJob(problemId);
@@ -173,7 +365,23 @@ public final class DefaultSolverManager<Solution_, ProblemId_> implements Solver
 
     @Override
     public void close() {
-        solverThreadPool.shutdownNow();
+        List<DefaultSolverJob<Solution_, ProblemId_>> canceledSolverJobList;
+        synchronized (schedulingLock) {
+            closed = true;
+            canceledSolverJobList = new ArrayList<>(scheduledSolverJobList);
+            scheduledSolverJobList.clear();
+        }
+        for (DefaultSolverJob<Solution_, ProblemId_> solverJob : canceledSolverJobList) {
+            solverJob.cancel();
+        }
+        if (solverThreadPoolOwned) {
+            solverThreadPool.shutdownNow();
+        } else {
+            // Copy to avoid iterating the map while the terminated solver jobs unregister themselves
+            for (DefaultSolverJob<Solution_, ProblemId_> solverJob : new ArrayList<>(problemIdToSolverJobMap.values())) {
+                solverJob.terminateEarly();
+            }
+        }
     }
 
     protected void unregisterSolverJob(ProblemId_ problemId) {
@@ -202,7 +202,14 @@ public class SolverScope<Solution_> {
     }
 
     public void startingNow() {
-        startingSystemTimeMillis = System.currentTimeMillis();
+        startingNow(0L);
+    }
+
+    /**
+     * @param timeMillisAlreadySpent at least 0, the time spent by an earlier run that this run continues
+     */
+    public void startingNow(long timeMillisAlreadySpent) {
+        startingSystemTimeMillis = System.currentTimeMillis() - timeMillisAlreadySpent;
         endingSystemTimeMillis = null;
     }
 
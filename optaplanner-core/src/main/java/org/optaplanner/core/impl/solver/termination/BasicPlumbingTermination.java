@@ -35,6 +35,8 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
     protected final boolean daemon;
 
     protected boolean terminatedEarly = false;
+    /** True if {@link #terminatedEarly} actually stopped the solver, not just got set after it ended on its own. */
+    protected boolean terminatedEarlyApplied = false;
     protected BlockingQueue<ProblemFactChange<Solution_>> problemFactChangeQueue = new LinkedBlockingQueue<>();
 
     protected boolean problemFactChangesBeingProcessed = false;
@@ -52,6 +54,7 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
      */
     public synchronized void resetTerminateEarly() {
         terminatedEarly = false;
+        terminatedEarlyApplied = false;
     }
 
     /**
@@ -75,6 +78,17 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
         return terminatedEarly;
     }
 
+    /**
+     * This method is thread-safe.
+     *
+     * @return true if {@link #terminateEarly()} was called and a termination check or
+     *         {@link #waitForRestartSolverDecision()} observed it, so the solver stopped because of it
+     *         and didn't just end on its own
+     */
+    public synchronized boolean isTerminatedEarlyApplied() {
+        return terminatedEarlyApplied;
+    }
+
     /**
      * If this returns true, then the problemFactChangeQueue is definitely not empty.
      * <p>
@@ -94,7 +108,11 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
                     throw new IllegalStateException("Solver thread was interrupted during Object.wait().", e);
                 }
             }
-            return !terminatedEarly;
+            if (terminatedEarly) {
+                terminatedEarlyApplied = true;
+                return false;
+            }
+            return true;
         }
     }
 
@@ -151,7 +169,11 @@ public class BasicPlumbingTermination<Solution_> extends AbstractTermination<Sol
             logger.info("The solver thread got interrupted, so this solver is terminating early.");
             terminatedEarly = true;
         }
-        return terminatedEarly || !problemFactChangeQueue.isEmpty();
+        if (terminatedEarly) {
+            terminatedEarlyApplied = true;
+            return true;
+        }
+        return !problemFactChangeQueue.isEmpty();
     }
 
     @Override
@@ -23,6 +23,7 @@ import org.optaplanner.core.impl.solver.thread.ChildThreadType;
 public class ChildThreadPlumbingTermination<Solution_> extends AbstractTermination<Solution_> {
 
     protected boolean terminateChildren = false;
+    protected Long terminateChildrenSystemTimeMillis = null;
 
     // ************************************************************************
     // Plumbing worker methods
@@ -39,6 +40,16 @@ public class ChildThreadPlumbingTermination<Solution_> extends AbstractTerminati
         return terminationEarlySuccessful;
     }
 
+    /**
+     * This method is thread-safe.
+     * Like {@link #terminateChildren()}, but the child threads only notice it from that moment on.
+     *
+     * @param systemTimeMillis the moment, in {@link System#currentTimeMillis()} terms
+     */
+    public synchronized void terminateChildrenAt(long systemTimeMillis) {
+        terminateChildrenSystemTimeMillis = systemTimeMillis;
+    }
+
     // ************************************************************************
     // Termination worker methods
     // ************************************************************************
@@ -50,6 +61,10 @@ public class ChildThreadPlumbingTermination<Solution_> extends AbstractTerminati
             logger.info("A child solver thread got interrupted, so these child solvers are terminating early.");
             terminateChildren = true;
         }
+        if (terminateChildrenSystemTimeMillis != null
+                && System.currentTimeMillis() >= terminateChildrenSystemTimeMillis) {
+            terminateChildren = true;
+        }
         return terminateChildren;
     }
 
@@ -70,7 +70,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void filter_entity() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 0, 1, 0);
         TestdataLavishValue value1 = new TestdataLavishValue("MyValue 1", solution.getFirstValueGroup());
         solution.getValueList().add(value1);
@@ -123,7 +122,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void filter_consecutive() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(5, 5);
         TestdataLavishEntity entity1 = solution.getEntityList().get(0);
         TestdataLavishEntity entity2 = solution.getEntityList().get(1);
@@ -1305,7 +1303,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_Int() {
-        assumeDrools();
         TestdataSolution solution = new TestdataSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(singletonList(v1));
@@ -1333,7 +1330,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_Long() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = new TestdataSimpleLongScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(asList(v1));
@@ -1362,7 +1358,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_BigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = new TestdataSimpleBigDecimalScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(asList(v1));
@@ -1393,7 +1388,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void penalize_negative() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 2);
 
         String constraintName = "myConstraint";
@@ -1410,7 +1404,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_Int() {
-        assumeDrools();
         TestdataSolution solution = new TestdataSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(asList(v1));
@@ -1438,7 +1431,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_Long() {
-        assumeDrools();
         TestdataSimpleLongScoreSolution solution = new TestdataSimpleLongScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(asList(v1));
@@ -1467,7 +1459,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_BigDecimal() {
-        assumeDrools();
         TestdataSimpleBigDecimalScoreSolution solution = new TestdataSimpleBigDecimalScoreSolution();
         TestdataValue v1 = new TestdataValue("v1");
         solution.setValueList(asList(v1));
@@ -1498,7 +1489,6 @@ public class QuadConstraintStreamTest extends AbstractConstraintStreamTest imple
     @Override
     @TestTemplate
     public void reward_negative() {
-        assumeDrools();
         TestdataLavishSolution solution = TestdataLavishSolution.generateSolution(1, 1, 1, 2);
 
         String constraintName = "myConstraint";
@@ -24,15 +24,20 @@ import static org.optaplanner.core.api.solver.SolverStatus.SOLVING_ACTIVE;
 import static org.optaplanner.core.api.solver.SolverStatus.SOLVING_SCHEDULED;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertSolutionInitialized;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.CyclicBarrier;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.BiConsumer;
 import java.util.function.Consumer;
@@ -87,6 +92,28 @@ public class SolverManagerTest {
         solverManager.close();
     }
 
+    @Test
+    @Timeout(60)
+    public void solveBatch_withExecutorService() throws ExecutionException, InterruptedException {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class)
+                .withPhases(createPhaseWithConcurrentSolvingStart(2), new ConstructionHeuristicPhaseConfig());
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withExecutorService(executorService)
+                        .withParallelSolverCount("2"));
+
+        SolverJob<TestdataSolution, Long> solverJob1 = solverManager.solve(1L,
+                PlannerTestUtils.generateTestdataSolution("s1"));
+        SolverJob<TestdataSolution, Long> solverJob2 = solverManager.solve(2L,
+                PlannerTestUtils.generateTestdataSolution("s2"));
+
+        assertSolutionInitialized(solverJob1.getFinalBestSolution());
+        assertSolutionInitialized(solverJob2.getFinalBestSolution());
+        solverManager.close();
+        assertThat(executorService.isShutdown()).isFalse();
+        executorService.shutdownNow();
+    }
+
     private CustomPhaseConfig createPhaseWithConcurrentSolvingStart(int barrierPartiesCount) {
         CyclicBarrier barrier = new CyclicBarrier(barrierPartiesCount);
         return new CustomPhaseConfig().withCustomPhaseCommands(
@@ -347,6 +374,148 @@ public class SolverManagerTest {
         solverManager.close();
     }
 
+    @Test
+    @Timeout(600)
+    public void preemptLowerPrioritySolverJob() throws InterruptedException, BrokenBarrierException,
+            ExecutionException {
+        CyclicBarrier startedBarrier = new CyclicBarrier(2);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class)
+                .withTerminationConfig(new TerminationConfig())
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands((scoreDirector) -> {
+                    try {
+                        startedBarrier.await();
+                    } catch (InterruptedException | BrokenBarrierException e) {
+                        throw new IllegalStateException("The startedBarrier failed.", e);
+                    }
+                }),
+                        new ConstructionHeuristicPhaseConfig(),
+                        new LocalSearchPhaseConfig());
+
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withParallelSolverCount("1"));
+
+        SolverJob<TestdataSolution, Long> lowSolverJob = solverManager.solve(1L,
+                (problemId) -> PlannerTestUtils.generateTestdataSolution("s1", 4), null, null,
+                SolverJobPriority.of(0));
+        startedBarrier.await();
+        assertThat(lowSolverJob.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+
+        // The higher priority job preempts the lower priority job
+        SolverJob<TestdataSolution, Long> highSolverJob = solverManager.solve(2L,
+                (problemId) -> PlannerTestUtils.generateTestdataSolution("s2", 4), null, null,
+                SolverJobPriority.of(1));
+        startedBarrier.await();
+        assertThat(highSolverJob.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+        assertThat(lowSolverJob.getSolverStatus()).isEqualTo(SOLVING_SCHEDULED);
+
+        // The lower priority job resumes when the higher priority job ends
+        solverManager.terminateEarly(2L);
+        assertSolutionInitialized(highSolverJob.getFinalBestSolution());
+        startedBarrier.await();
+        assertThat(lowSolverJob.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+        solverManager.terminateEarly(1L);
+        assertThat(lowSolverJob.getSolverStatus()).isEqualTo(NOT_SOLVING);
+        assertSolutionInitialized(lowSolverJob.getFinalBestSolution());
+        solverManager.close();
+    }
+
+    @Test
+    @Timeout(600)
+    public void preemptLowerPrioritySolverJob_withExecutorService() throws InterruptedException,
+            BrokenBarrierException, ExecutionException {
+        CyclicBarrier startedBarrier = new CyclicBarrier(2);
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class,
+                TestdataEntity.class)
+                .withTerminationConfig(new TerminationConfig())
+                .withPhases(new CustomPhaseConfig().withCustomPhaseCommands((scoreDirector) -> {
+                    try {
+                        startedBarrier.await();
+                    } catch (InterruptedException | BrokenBarrierException e) {
+                        throw new IllegalStateException("The startedBarrier failed.", e);
+                    }
+                }),
+                        new ConstructionHeuristicPhaseConfig(),
+                        new LocalSearchPhaseConfig());
+        // The parallelSolverCount still limits the solver jobs on an executorService with many threads
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withExecutorService(executorService)
+                        .withParallelSolverCount("1"));
+
+        SolverJob<TestdataSolution, Long> lowSolverJob = solverManager.solve(1L,
+                (problemId) -> PlannerTestUtils.generateTestdataSolution("s1", 4), null, null,
+                SolverJobPriority.of(0));
+        startedBarrier.await();
+        assertThat(lowSolverJob.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+        Thread.sleep(100L);
+
+        SolverJob<TestdataSolution, Long> highSolverJob = solverManager.solve(2L,
+                (problemId) -> PlannerTestUtils.generateTestdataSolution("s2", 4), null, null,
+                SolverJobPriority.of(1));
+        startedBarrier.await();
+        assertThat(highSolverJob.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+        assertThat(lowSolverJob.getSolverStatus()).isEqualTo(SOLVING_SCHEDULED);
+
+        solverManager.terminateEarly(2L);
+        assertSolutionInitialized(highSolverJob.getFinalBestSolution());
+        startedBarrier.await();
+        assertThat(lowSolverJob.getSolverStatus()).isEqualTo(SOLVING_ACTIVE);
+        // The resumed solver job continues from the time it spent before it was preempted
+        assertThat(lowSolverJob.getSolvingDuration()).isGreaterThanOrEqualTo(Duration.ofMillis(100L));
+        solverManager.terminateEarly(1L);
+        assertSolutionInitialized(lowSolverJob.getFinalBestSolution());
+        solverManager.close();
+        executorService.shutdownNow();
+    }
+
+    @Test
+    @Timeout(60)
+    public void resumeFromCheckpoint() throws ExecutionException, InterruptedException {
+        ConcurrentMap<Long, SolverCheckpoint<TestdataSolution>> checkpointMap = new ConcurrentHashMap<>();
+        SolverCheckpointStore<TestdataSolution, Long> checkpointStore =
+                new SolverCheckpointStore<TestdataSolution, Long>() {
+                    @Override
+                    public void save(Long problemId, SolverCheckpoint<TestdataSolution> checkpoint) {
+                        checkpointMap.put(problemId, checkpoint);
+                    }
+
+                    @Override
+                    public SolverCheckpoint<TestdataSolution> load(Long problemId) {
+                        return checkpointMap.get(problemId);
+                    }
+                };
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        SolverManager<TestdataSolution, Long> solverManager = SolverManager.create(
+                solverConfig, new SolverManagerConfig().withCheckpointStore(checkpointStore));
+
+        SolverJob<TestdataSolution, Long> solverJob = solverManager.solve(1L,
+                PlannerTestUtils.generateTestdataSolution("s1"));
+        assertSolutionInitialized(solverJob.getFinalBestSolution());
+        SolverCheckpoint<TestdataSolution> checkpoint = checkpointMap.get(1L);
+        assertThat(checkpoint).isNotNull();
+        assertSolutionInitialized(checkpoint.getBestSolution());
+
+        SolverJob<TestdataSolution, Long> resumedSolverJob = solverManager.resume(1L);
+        TestdataSolution resumedSolution = resumedSolverJob.getFinalBestSolution();
+        assertSolutionInitialized(resumedSolution);
+        assertThat(resumedSolution.getScore()).isEqualTo(checkpoint.getBestScore());
+        // The time spent continues from the checkpoint
+        assertThat(resumedSolverJob.getSolvingDuration().toMillis())
+                .isGreaterThanOrEqualTo(checkpoint.getTimeMillisSpent());
+
+        // Without a checkpoint, there is nothing to resume from
+        SolverJob<TestdataSolution, Long> missingSolverJob = solverManager.resume(2L);
+        assertThatThrownBy(missingSolverJob::getFinalBestSolution).isInstanceOf(ExecutionException.class);
+        solverManager.close();
+
+        SolverManager<TestdataSolution, Long> solverManagerWithoutStore = SolverManager.create(solverConfig);
+        assertThatThrownBy(() -> solverManagerWithoutStore.resume(1L))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("checkpointStore");
+        solverManagerWithoutStore.close();
+    }
+
     /**
      * Tests whether SolverManager can solve on multiple threads problems that use multiple thread counts.
      */
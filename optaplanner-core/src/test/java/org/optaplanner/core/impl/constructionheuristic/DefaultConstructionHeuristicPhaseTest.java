@@ -17,19 +17,33 @@
 package org.optaplanner.core.impl.constructionheuristic;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.calculator.EasyScoreCalculator;
+import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
+import org.optaplanner.core.config.heuristic.selector.move.MoveSelectorConfig;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
 import org.optaplanner.core.config.solver.SolverConfig;
+import org.optaplanner.core.config.solver.testutil.calculator.TestdataDifferentValuesCalculator;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedEntity;
+import org.optaplanner.core.impl.testdata.domain.chained.TestdataChainedSolution;
 import org.optaplanner.core.impl.testdata.domain.pinned.TestdataPinnedEntity;
 import org.optaplanner.core.impl.testdata.domain.pinned.TestdataPinnedSolution;
+import org.optaplanner.core.impl.testdata.domain.valuerange.entityproviding.TestdataEntityProvidingEntity;
+import org.optaplanner.core.impl.testdata.domain.valuerange.entityproviding.TestdataEntityProvidingSolution;
 import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 
 public class DefaultConstructionHeuristicPhaseTest {
@@ -94,6 +108,152 @@ public class DefaultConstructionHeuristicPhaseTest {
         assertThat(solution.getScore().getInitScore()).isEqualTo(-1);
     }
 
+    @Test
+    public void solveWithSpeculativePlacements() {
+        TestdataSolution expectedSolution = solveDifferentValues(1, false);
+        assertThat(expectedSolution.getScore()).isEqualTo(SimpleScore.of(-1));
+        assertThat(extractValueCodes(expectedSolution)).containsExactly("v1", "v2", "v3", "v4", "v1");
+
+        // Every placement of a speculative batch prefers v1 against the same working solution,
+        // so the speculative scores of e3 and e4 are stale after e1 took v1 and must be evaluated again.
+        TestdataSolution solution = solveDifferentValues(3, false);
+        assertThat(extractValueCodes(solution)).isEqualTo(extractValueCodes(expectedSolution));
+        assertThat(solution.getScore()).isEqualTo(expectedSolution.getScore());
+    }
+
+    @Test
+    public void solveWithSpeculativePlacementsAndFlyweightMoves() {
+        TestdataSolution expectedSolution = solveDifferentValues(1, false);
+        TestdataSolution solution = solveDifferentValues(3, true);
+        assertThat(extractValueCodes(solution)).isEqualTo(extractValueCodes(expectedSolution));
+        assertThat(solution.getScore()).isEqualTo(expectedSolution.getScore());
+    }
+
+    private static TestdataSolution solveDifferentValues(int speculativePlacementCount, boolean flyweightMoves) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.getScoreDirectorFactoryConfig()
+                .setEasyScoreCalculatorClass(TestdataDifferentValuesCalculator.class);
+        solverConfig.setMoveThreadCount("2");
+        ConstructionHeuristicPhaseConfig phaseConfig = new ConstructionHeuristicPhaseConfig()
+                .withSpeculativePlacementCount(speculativePlacementCount);
+        if (flyweightMoves) {
+            ChangeMoveSelectorConfig changeMoveSelectorConfig = new ChangeMoveSelectorConfig();
+            changeMoveSelectorConfig.setFlyweightMoves(true);
+            phaseConfig.setMoveSelectorConfigList(Collections.<MoveSelectorConfig> singletonList(
+                    changeMoveSelectorConfig));
+        }
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        TestdataValue v3 = new TestdataValue("v3");
+        TestdataValue v4 = new TestdataValue("v4");
+        solution.setValueList(Arrays.asList(v1, v2, v3, v4));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", null),
+                new TestdataEntity("e2", v2),
+                new TestdataEntity("e3", null),
+                new TestdataEntity("e4", null),
+                new TestdataEntity("e5", null)));
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        assertThat(solution.getScore().getInitScore()).isEqualTo(0);
+        return solution;
+    }
+
+    private static List<String> extractValueCodes(TestdataSolution solution) {
+        return solution.getEntityList().stream()
+                .map(entity -> entity.getValue().getCode())
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void solveWithSpeculativePlacementsInterrupted() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.getScoreDirectorFactoryConfig().setEasyScoreCalculatorClass(
+                InterruptingEasyScoreCalculator.class);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withSpeculativePlacementCount(2)));
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        solution.setValueList(Arrays.asList(v1, v2));
+        solution.setEntityList(Arrays.asList(
+                new TestdataEntity("e1", null),
+                new TestdataEntity("e2", null),
+                new TestdataEntity("e3", null),
+                new TestdataEntity("e4", null)));
+
+        InterruptingEasyScoreCalculator.solverThread = Thread.currentThread();
+        InterruptingEasyScoreCalculator.interrupted.set(false);
+        try {
+            solution = PlannerTestUtils.solve(solverConfig, solution);
+        } finally {
+            InterruptingEasyScoreCalculator.solverThread = null;
+            // Don't leak the interrupt to other tests
+            Thread.interrupted();
+        }
+        assertThat(InterruptingEasyScoreCalculator.interrupted).isTrue();
+        assertThat(solution).isNotNull();
+        // The phase ends during the speculative evaluation of the 2nd batch of placements
+        assertThat(solution.getEntityList()).extracting(TestdataEntity::getValue)
+                .filteredOn(value -> value != null)
+                .hasSize(2);
+    }
+
+    /**
+     * Interrupts the solver thread while a move thread evaluates a move of the 2nd batch of placements.
+     */
+    public static class InterruptingEasyScoreCalculator implements EasyScoreCalculator<TestdataSolution, SimpleScore> {
+
+        private static volatile Thread solverThread;
+        private static final AtomicBoolean interrupted = new AtomicBoolean(false);
+
+        @Override
+        public SimpleScore calculateScore(TestdataSolution solution) {
+            Thread solverThread_ = solverThread;
+            long initializedCount = solution.getEntityList().stream()
+                    .filter(entity -> entity.getValue() != null)
+                    .count();
+            if (solverThread_ != null && Thread.currentThread() != solverThread_ && initializedCount >= 3
+                    && interrupted.compareAndSet(false, true)) {
+                solverThread_.interrupt();
+            }
+            return SimpleScore.of(0);
+        }
+
+    }
+
+    @Test
+    public void speculativePlacementsWithChainedVariable() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataChainedSolution.class,
+                TestdataChainedEntity.class);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withSpeculativePlacementCount(2)));
+        SolverFactory<TestdataChainedSolution> solverFactory = SolverFactory.create(solverConfig);
+        assertThatIllegalArgumentException()
+                .isThrownBy(solverFactory::buildSolver)
+                .withMessageContaining("chained");
+    }
+
+    @Test
+    public void speculativePlacementsWithEntityDependentValueRange() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataEntityProvidingSolution.class,
+                TestdataEntityProvidingEntity.class);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.setPhaseConfigList(Collections.singletonList(new ConstructionHeuristicPhaseConfig()
+                .withSpeculativePlacementCount(2)));
+        SolverFactory<TestdataEntityProvidingSolution> solverFactory = SolverFactory.create(solverConfig);
+        assertThatIllegalArgumentException()
+                .isThrownBy(solverFactory::buildSolver)
+                .withMessageContaining("entity dependent value range");
+    }
+
     @Test
     public void solveWithEmptyEntityList() {
         SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
@@ -89,6 +89,7 @@ public class SelectorTestUtils {
         when(entitySelector.isCountable()).thenReturn(true);
         when(entitySelector.isNeverEnding()).thenReturn(false);
         when(entitySelector.getSize()).thenReturn((long) entityList.size());
+        when(entitySelector.getCacheType()).thenReturn(SelectionCacheType.JUST_IN_TIME);
         return entitySelector;
     }
 
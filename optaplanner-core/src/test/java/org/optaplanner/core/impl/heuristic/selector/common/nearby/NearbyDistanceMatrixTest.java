@@ -18,10 +18,17 @@ package org.optaplanner.core.impl.heuristic.selector.common.nearby;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.io.File;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.ToLongFunction;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.optaplanner.core.impl.testdata.domain.TestdataObject;
 
 class NearbyDistanceMatrixTest {
@@ -119,6 +126,240 @@ class NearbyDistanceMatrixTest {
         assertThat(nearbyDistanceMatrix.getDestination(b, 1)).isSameAs(destination2);
     }
 
+    @Test
+    void addAllOrigins_nearestDestinationsOnly() {
+        assertNearestDestinations(10, false);
+        assertNearestDestinations(200, false);
+    }
+
+    @Test
+    void addAllOrigins_parallelBuild() {
+        assertNearestDestinations(10, true);
+        assertNearestDestinations(200, true);
+    }
+
+    private void assertNearestDestinations(int destinationSize, boolean parallelBuild) {
+        int locationSize = 300;
+        Random random = new Random(37);
+        double[] positions = new double[locationSize];
+        List<Object> locationList = new ArrayList<>(locationSize);
+        for (int i = 0; i < locationSize; i++) {
+            positions[i] = random.nextInt(1000);
+            locationList.add(new MatrixTestdataObject(Integer.toString(i), i, new double[] {}));
+        }
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter =
+                (origin, destination) -> Math.abs(positions[origin.index] - positions[destination.index]);
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(meter, locationSize,
+                origin -> locationList.iterator(), origin -> destinationSize, parallelBuild);
+        nearbyDistanceMatrix.addAllOrigins(locationList.iterator());
+
+        for (Object originObject : locationList) {
+            MatrixTestdataObject origin = (MatrixTestdataObject) originObject;
+            double previousDistance = -1.0;
+            int previousIndex = -1;
+            for (int nearbyIndex = 0; nearbyIndex < destinationSize; nearbyIndex++) {
+                MatrixTestdataObject destination =
+                        (MatrixTestdataObject) nearbyDistanceMatrix.getDestination(origin, nearbyIndex);
+                double distance = meter.getNearbyDistance(origin, destination);
+                assertThat(distance).isGreaterThanOrEqualTo(previousDistance);
+                if (distance == previousDistance) {
+                    // Destinations with the same distance keep their iteration order
+                    assertThat(destination.index).isGreaterThan(previousIndex);
+                }
+                previousDistance = distance;
+                previousIndex = destination.index;
+            }
+            // No destination that was left out is nearer than the farthest kept destination
+            long nearerCount = locationList.stream()
+                    .filter(destination -> meter.getNearbyDistance(origin, (MatrixTestdataObject) destination)
+                            < meter.getNearbyDistance(origin, (MatrixTestdataObject) nearbyDistanceMatrix
+                                    .getDestination(origin, destinationSize - 1)))
+                    .count();
+            assertThat(nearerCount).isLessThan(destinationSize);
+        }
+    }
+
+    @Test
+    void addAllOrigins_persisted(@TempDir Path tempDir) {
+        File persistenceDirectory = tempDir.toFile();
+        ToLongFunction<Object> planningIdHashFunction = object -> ((MatrixTestdataObject) object).index;
+        double[] positions = { 0.0, 4.0, 2.0, 6.0, 1.0 };
+        AtomicInteger distanceCount = new AtomicInteger(0);
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter = (origin, destination) -> {
+            distanceCount.incrementAndGet();
+            return Math.abs(positions[origin.index] - positions[destination.index]);
+        };
+
+        List<Object> locationList = createLocationList(positions.length);
+        NearbyDistanceMatrix nearbyDistanceMatrix = new NearbyDistanceMatrix(meter, positions.length,
+                origin -> locationList.iterator(), origin -> 3, false, persistenceDirectory, planningIdHashFunction);
+        nearbyDistanceMatrix.addAllOrigins(locationList.iterator());
+        assertThat(distanceCount.get()).isEqualTo(25);
+        assertThat(persistenceDirectory.list()).hasSize(1);
+
+        // Another solver has other instances of the same problem facts
+        List<Object> reloadedLocationList = createLocationList(positions.length);
+        NearbyDistanceMatrix reloadedNearbyDistanceMatrix = new NearbyDistanceMatrix(meter, positions.length,
+                origin -> reloadedLocationList.iterator(), origin -> 3, false,
+                persistenceDirectory, planningIdHashFunction);
+        reloadedNearbyDistanceMatrix.addAllOrigins(reloadedLocationList.iterator());
+        assertThat(distanceCount.get()).isEqualTo(25);
+        for (int i = 0; i < positions.length; i++) {
+            for (int nearbyIndex = 0; nearbyIndex < 3; nearbyIndex++) {
+                Object destination = nearbyDistanceMatrix.getDestination(locationList.get(i), nearbyIndex);
+                Object reloadedDestination = reloadedNearbyDistanceMatrix.getDestination(
+                        reloadedLocationList.get(i), nearbyIndex);
+                assertThat(reloadedDestination).isSameAs(
+                        reloadedLocationList.get(((MatrixTestdataObject) destination).index));
+            }
+        }
+        // Neither loading nor resolving the loaded destinations measures any distance
+        assertThat(distanceCount.get()).isEqualTo(25);
+
+        // Other destinations invalidate the file
+        List<Object> changedDestinationList = new ArrayList<>(reloadedLocationList);
+        changedDestinationList.remove(2);
+        NearbyDistanceMatrix changedNearbyDistanceMatrix = new NearbyDistanceMatrix(meter, positions.length,
+                origin -> changedDestinationList.iterator(), origin -> 3, false,
+                persistenceDirectory, planningIdHashFunction);
+        changedNearbyDistanceMatrix.addAllOrigins(reloadedLocationList.iterator());
+        assertThat(distanceCount.get()).isEqualTo(25 + 20);
+        assertThat(changedNearbyDistanceMatrix.getDestination(reloadedLocationList.get(0), 1))
+                .isSameAs(reloadedLocationList.get(4));
+    }
+
+    @Test
+    void addAllOrigins_persistedWithChangedDistances(@TempDir Path tempDir) {
+        File persistenceDirectory = tempDir.toFile();
+        ToLongFunction<Object> planningIdHashFunction = object -> ((MatrixTestdataObject) object).index;
+        double[] positions = { 0.0, 4.0, 2.0, 6.0, 1.0 };
+        AtomicInteger distanceCount = new AtomicInteger(0);
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter =
+                new NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject>() {
+                    @Override
+                    public double getNearbyDistance(MatrixTestdataObject origin, MatrixTestdataObject destination) {
+                        distanceCount.incrementAndGet();
+                        return Math.abs(positions[origin.index] - positions[destination.index]);
+                    }
+
+                    @Override
+                    public long getOriginFingerprint(MatrixTestdataObject origin) {
+                        return Double.doubleToLongBits(positions[origin.index]);
+                    }
+
+                    @Override
+                    public long getDestinationFingerprint(MatrixTestdataObject destination) {
+                        return Double.doubleToLongBits(positions[destination.index]);
+                    }
+                };
+
+        List<Object> locationList = createLocationList(positions.length);
+        new NearbyDistanceMatrix(meter, positions.length, origin -> locationList.iterator(), origin -> 3, false,
+                persistenceDirectory, planningIdHashFunction)
+                .addAllOrigins(locationList.iterator());
+        assertThat(distanceCount.get()).isEqualTo(25);
+
+        // Same planning IDs, but a moved location
+        positions[4] = 5.0;
+        List<Object> movedLocationList = createLocationList(positions.length);
+        NearbyDistanceMatrix movedNearbyDistanceMatrix = new NearbyDistanceMatrix(meter, positions.length,
+                origin -> movedLocationList.iterator(), origin -> 3, false,
+                persistenceDirectory, planningIdHashFunction);
+        movedNearbyDistanceMatrix.addAllOrigins(movedLocationList.iterator());
+        assertThat(distanceCount.get()).isEqualTo(25 + 25);
+        assertThat(movedNearbyDistanceMatrix.getDestination(movedLocationList.get(0), 1))
+                .isSameAs(movedLocationList.get(2));
+        assertThat(movedNearbyDistanceMatrix.getDestination(movedLocationList.get(0), 2))
+                .isSameAs(movedLocationList.get(1));
+        assertThat(persistenceDirectory.list()).hasSize(1);
+    }
+
+    @Test
+    void addAllOrigins_persistedWithChangedDestinationsOfOneOrigin(@TempDir Path tempDir) {
+        File persistenceDirectory = tempDir.toFile();
+        ToLongFunction<Object> planningIdHashFunction = object -> ((MatrixTestdataObject) object).index;
+        double[] positions = { 0.0, 4.0, 2.0, 6.0, 1.0 };
+        AtomicInteger distanceCount = new AtomicInteger(0);
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter = (origin, destination) -> {
+            distanceCount.incrementAndGet();
+            return Math.abs(positions[origin.index] - positions[destination.index]);
+        };
+
+        List<Object> locationList = createLocationList(positions.length);
+        new NearbyDistanceMatrix(meter, positions.length, origin -> locationList.iterator(), origin -> 3, false,
+                persistenceDirectory, planningIdHashFunction)
+                .addAllOrigins(locationList.iterator());
+        assertThat(distanceCount.get()).isEqualTo(25);
+
+        // Only the last origin no longer has the destination 2, the matrix fingerprint doesn't see that
+        List<Object> reloadedLocationList = createLocationList(positions.length);
+        List<Object> changedDestinationList = new ArrayList<>(reloadedLocationList);
+        changedDestinationList.remove(2);
+        Object lastOrigin = reloadedLocationList.get(4);
+        NearbyDistanceMatrix reloadedNearbyDistanceMatrix = new NearbyDistanceMatrix(meter, positions.length,
+                origin -> origin == lastOrigin ? changedDestinationList.iterator() : reloadedLocationList.iterator(),
+                origin -> 3, false, persistenceDirectory, planningIdHashFunction);
+        reloadedNearbyDistanceMatrix.addAllOrigins(reloadedLocationList.iterator());
+        assertThat(distanceCount.get()).isEqualTo(25);
+        assertThat(reloadedNearbyDistanceMatrix.getDestination(reloadedLocationList.get(0), 1))
+                .isSameAs(reloadedLocationList.get(4));
+        assertThat(distanceCount.get()).isEqualTo(25);
+        // The last origin recomputes its own destinations when they're first used
+        assertThat(reloadedNearbyDistanceMatrix.getDestination(lastOrigin, 2))
+                .isSameAs(reloadedLocationList.get(1));
+        assertThat(distanceCount.get()).isEqualTo(25 + 4);
+    }
+
+    @Test
+    void addAllOrigins_persistedWithOtherDestinationsInSameDirectory(@TempDir Path tempDir) {
+        File persistenceDirectory = tempDir.toFile();
+        ToLongFunction<Object> planningIdHashFunction = object -> ((MatrixTestdataObject) object).index;
+        double[] positions = { 0.0, 4.0, 2.0, 6.0, 1.0 };
+        AtomicInteger distanceCount = new AtomicInteger(0);
+        NearbyDistanceMeter<MatrixTestdataObject, MatrixTestdataObject> meter = (origin, destination) -> {
+            distanceCount.incrementAndGet();
+            return Math.abs(positions[origin.index] - positions[destination.index]);
+        };
+
+        // Same meter and origins, but other destinations, like a nearby entity and a nearby value selector
+        List<Object> locationList = createLocationList(positions.length);
+        List<Object> destinationList = locationList.subList(0, 3);
+        new NearbyDistanceMatrix(meter, positions.length, origin -> locationList.iterator(), origin -> 3, false,
+                persistenceDirectory, planningIdHashFunction)
+                .addAllOrigins(locationList.iterator());
+        new NearbyDistanceMatrix(meter, positions.length, origin -> destinationList.iterator(), origin -> 2, false,
+                persistenceDirectory, planningIdHashFunction)
+                .addAllOrigins(locationList.iterator());
+        assertThat(distanceCount.get()).isEqualTo(25 + 15);
+        assertThat(persistenceDirectory.list()).hasSize(2);
+
+        // Both reload their own file
+        List<Object> reloadedLocationList = createLocationList(positions.length);
+        List<Object> reloadedDestinationList = reloadedLocationList.subList(0, 3);
+        NearbyDistanceMatrix reloadedNearbyDistanceMatrix = new NearbyDistanceMatrix(meter, positions.length,
+                origin -> reloadedLocationList.iterator(), origin -> 3, false,
+                persistenceDirectory, planningIdHashFunction);
+        reloadedNearbyDistanceMatrix.addAllOrigins(reloadedLocationList.iterator());
+        NearbyDistanceMatrix reloadedOtherNearbyDistanceMatrix = new NearbyDistanceMatrix(meter, positions.length,
+                origin -> reloadedDestinationList.iterator(), origin -> 2, false,
+                persistenceDirectory, planningIdHashFunction);
+        reloadedOtherNearbyDistanceMatrix.addAllOrigins(reloadedLocationList.iterator());
+        assertThat(reloadedNearbyDistanceMatrix.getDestination(reloadedLocationList.get(3), 1))
+                .isSameAs(reloadedLocationList.get(1));
+        assertThat(reloadedOtherNearbyDistanceMatrix.getDestination(reloadedLocationList.get(3), 1))
+                .isSameAs(reloadedLocationList.get(2));
+        assertThat(distanceCount.get()).isEqualTo(25 + 15);
+        assertThat(persistenceDirectory.list()).hasSize(2);
+    }
+
+    private static List<Object> createLocationList(int locationSize) {
+        List<Object> locationList = new ArrayList<>(locationSize);
+        for (int i = 0; i < locationSize; i++) {
+            locationList.add(new MatrixTestdataObject(Integer.toString(i), i, new double[] {}));
+        }
+        return locationList;
+    }
+
     private static class MatrixTestdataObject extends TestdataObject {
         private int index;
         private double[] distances;
@@ -16,6 +16,8 @@
 
 package org.optaplanner.core.impl.heuristic.selector.entity.pillar;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllCodesOfPillarSelector;
@@ -23,17 +25,23 @@ import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCodesO
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertEmptyNeverEndingPillarSelector;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.verifyPhaseLifecycle;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Random;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionCacheType;
 import org.optaplanner.core.config.heuristic.selector.entity.pillar.SubPillarConfigPolicy;
 import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
+import org.optaplanner.core.impl.domain.variable.supply.Demand;
+import org.optaplanner.core.impl.domain.variable.supply.SupplyManager;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataObject;
@@ -147,6 +155,155 @@ public class DefaultPillarSelectorTest {
         verifyPhaseLifecycle(entitySelector, 1, 2, 3);
     }
 
+    @Test
+    public void originalNoSubsIncremental() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+        TestdataValue val3 = new TestdataValue("3");
+        TestdataValue val4 = new TestdataValue("4");
+
+        final TestdataEntity a = new TestdataEntity("a", val1);
+        final TestdataEntity b = new TestdataEntity("b", val2);
+        final TestdataEntity c = new TestdataEntity("c", val3);
+        final TestdataEntity d = new TestdataEntity("d", val2);
+        final TestdataEntity e = new TestdataEntity("e", val3);
+        final TestdataEntity f = new TestdataEntity("f", val3);
+
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(),
+                a, b, c, d, e, f);
+        when(entitySelector.getCacheType()).thenReturn(SelectionCacheType.PHASE);
+
+        DefaultPillarSelector pillarSelector = new DefaultPillarSelector(
+                entitySelector, Arrays.asList(variableDescriptor), false, SubPillarConfigPolicy.withoutSubpillars());
+
+        List<PillarVariableSupply> supplyList = new ArrayList<>();
+        SupplyManager supplyManager = mock(SupplyManager.class);
+        when(supplyManager.demand(any())).thenAnswer(invocation -> {
+            PillarVariableSupply supply =
+                    (PillarVariableSupply) ((Demand) invocation.getArgument(0)).createExternalizedSupply(null);
+            supplyList.add(supply);
+            return supply;
+        });
+        InnerScoreDirector scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getSupplyManager()).thenReturn(supplyManager);
+        SolverScope solverScope = mock(SolverScope.class);
+        when(solverScope.getScoreDirector()).thenReturn(scoreDirector);
+        pillarSelector.solvingStarted(solverScope);
+        assertThat(supplyList).hasSize(1);
+        PillarVariableSupply supply = supplyList.get(0);
+
+        AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        pillarSelector.phaseStarted(phaseScopeA);
+
+        AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA1);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, d]", "[c, e, f]");
+        pillarSelector.stepEnded(stepScopeA1);
+
+        b.setValue(val3);
+        supply.afterVariableChanged(scoreDirector, b);
+        f.setValue(val4);
+        supply.afterVariableChanged(scoreDirector, f);
+        // Changed and changed back
+        a.setValue(val2);
+        supply.afterVariableChanged(scoreDirector, a);
+        a.setValue(val1);
+        supply.afterVariableChanged(scoreDirector, a);
+
+        AbstractStepScope stepScopeA2 = mock(AbstractStepScope.class);
+        when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA2);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, c, e]", "[d]", "[f]");
+        pillarSelector.stepEnded(stepScopeA2);
+
+        // Only the recorded changes move entities to another pillar
+        d.setValue(val1);
+        e.setValue(val1);
+        supply.afterVariableChanged(scoreDirector, e);
+
+        AbstractStepScope stepScopeA3 = mock(AbstractStepScope.class);
+        when(stepScopeA3.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA3);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a, e]", "[b, c]", "[d]", "[f]");
+        pillarSelector.stepEnded(stepScopeA3);
+
+        pillarSelector.phaseEnded(phaseScopeA);
+
+        // A new phase constructs the pillars from scratch
+        AbstractPhaseScope phaseScopeB = mock(AbstractPhaseScope.class);
+        when(phaseScopeB.getSolverScope()).thenReturn(solverScope);
+        pillarSelector.phaseStarted(phaseScopeB);
+
+        AbstractStepScope stepScopeB1 = mock(AbstractStepScope.class);
+        when(stepScopeB1.getPhaseScope()).thenReturn(phaseScopeB);
+        pillarSelector.stepStarted(stepScopeB1);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a, d, e]", "[b, c]", "[f]");
+        pillarSelector.stepEnded(stepScopeB1);
+
+        pillarSelector.phaseEnded(phaseScopeB);
+
+        pillarSelector.solvingEnded(solverScope);
+
+        verifyPhaseLifecycle(entitySelector, 1, 2, 4);
+    }
+
+    @Test
+    public void originalNoSubsNotCachedEntitySelector() {
+        TestdataValue val1 = new TestdataValue("1");
+        TestdataValue val2 = new TestdataValue("2");
+
+        final TestdataEntity a = new TestdataEntity("a", val1);
+        final TestdataEntity b = new TestdataEntity("b", val2);
+        final TestdataEntity c = new TestdataEntity("c", val2);
+        final TestdataEntity d = new TestdataEntity("d", val1);
+
+        GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
+        // Like a filtering entitySelector, it selects other entities every step, but with the same size
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(variableDescriptor.getEntityDescriptor(),
+                a, b, c);
+        List<Object> selectedEntityList = new ArrayList<>(Arrays.asList(a, b, c));
+        when(entitySelector.spliterator()).thenAnswer(invocation -> selectedEntityList.spliterator());
+
+        DefaultPillarSelector pillarSelector = new DefaultPillarSelector(
+                entitySelector, Arrays.asList(variableDescriptor), false, SubPillarConfigPolicy.withoutSubpillars());
+
+        SupplyManager supplyManager = mock(SupplyManager.class);
+        when(supplyManager.demand(any())).thenAnswer(
+                invocation -> ((Demand) invocation.getArgument(0)).createExternalizedSupply(null));
+        InnerScoreDirector scoreDirector = mock(InnerScoreDirector.class);
+        when(scoreDirector.getSupplyManager()).thenReturn(supplyManager);
+        SolverScope solverScope = mock(SolverScope.class);
+        when(solverScope.getScoreDirector()).thenReturn(scoreDirector);
+        pillarSelector.solvingStarted(solverScope);
+
+        AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        pillarSelector.phaseStarted(phaseScopeA);
+
+        AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA1);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a]", "[b, c]");
+        pillarSelector.stepEnded(stepScopeA1);
+
+        // No variable changed, but the selected entities did
+        selectedEntityList.set(2, d);
+
+        AbstractStepScope stepScopeA2 = mock(AbstractStepScope.class);
+        when(stepScopeA2.getPhaseScope()).thenReturn(phaseScopeA);
+        pillarSelector.stepStarted(stepScopeA2);
+        assertAllCodesOfPillarSelector(pillarSelector, "[a, d]", "[b]");
+        pillarSelector.stepEnded(stepScopeA2);
+
+        pillarSelector.phaseEnded(phaseScopeA);
+        pillarSelector.solvingEnded(solverScope);
+
+        verifyPhaseLifecycle(entitySelector, 1, 1, 2);
+    }
+
     @Test
     public void emptyEntitySelectorOriginalNoSubs() {
         GenuineVariableDescriptor variableDescriptor = TestdataEntity.buildVariableDescriptorForValue();
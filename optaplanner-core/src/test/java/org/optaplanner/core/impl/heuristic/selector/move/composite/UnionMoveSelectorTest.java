@@ -18,6 +18,7 @@ package org.optaplanner.core.impl.heuristic.selector.move.composite;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.DO_NOT_ASSERT_SIZE;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllCodesOfMoveSelector;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.verifyPhaseLifecycle;
 
@@ -28,12 +29,23 @@ import java.util.Random;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.heuristic.selector.common.decorator.FixedSelectorProbabilityWeightFactory;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.decorator.FilteringMoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMove;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.ChangeMoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.move.generic.SwapMoveSelector;
+import org.optaplanner.core.impl.heuristic.selector.value.ValueSelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
 import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
 import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 import org.optaplanner.core.impl.testdata.util.PlannerTestUtils;
 import org.optaplanner.core.impl.util.TestRandom;
 
@@ -131,6 +143,44 @@ public class UnionMoveSelectorTest {
         verifyPhaseLifecycle(childMoveSelectorList.get(1), 1, 1, 1);
     }
 
+    @Test
+    public void randomSelectionOfFilteredFlyweights() {
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(TestdataEntity.buildEntityDescriptor(),
+                new TestdataEntity("a"), new TestdataEntity("b"), new TestdataEntity("c"));
+        ValueSelector valueSelector = SelectorTestUtils.mockValueSelector(TestdataEntity.class, "value",
+                new TestdataValue("1"), new TestdataValue("2"));
+        SelectionFilter<TestdataSolution, Move<TestdataSolution>> filter = (scoreDirector, move) -> {
+            TestdataValue toValue = (TestdataValue) ((ChangeMove) move).getToPlanningValue();
+            return !toValue.getCode().equals("2");
+        };
+        ArrayList<MoveSelector> childMoveSelectorList = new ArrayList<>();
+        Map<MoveSelector, Double> fixedProbabilityWeightMap = new HashMap<>();
+        childMoveSelectorList.add(new FilteringMoveSelector(
+                new ChangeMoveSelector(entitySelector, valueSelector, false, true), filter));
+        fixedProbabilityWeightMap.put(childMoveSelectorList.get(0), 1.0);
+        childMoveSelectorList.add(new SwapMoveSelector(entitySelector, entitySelector,
+                entitySelector.getEntityDescriptor().getGenuineVariableDescriptorList(), false, true));
+        fixedProbabilityWeightMap.put(childMoveSelectorList.get(1), 1.0);
+        UnionMoveSelector moveSelector = new UnionMoveSelector(childMoveSelectorList, true,
+                new FixedSelectorProbabilityWeightFactory<>(fixedProbabilityWeightMap));
+
+        Random workingRandom = new TestRandom(0.1, 0.9, 0.1, 0.1, 0.5, 0.5);
+        SolverScope solverScope = mock(SolverScope.class);
+        when(solverScope.getWorkingRandom()).thenReturn(workingRandom);
+        moveSelector.solvingStarted(solverScope);
+        AbstractPhaseScope phaseScopeA = PlannerTestUtils.delegatingPhaseScope(solverScope);
+        moveSelector.phaseStarted(phaseScopeA);
+        AbstractStepScope stepScopeA1 = PlannerTestUtils.delegatingStepScope(phaseScopeA);
+        moveSelector.stepStarted(stepScopeA1);
+
+        // Every move must still be the selected one when it's returned, never the upcoming or a rejected one
+        assertAllCodesOfMoveSelector(moveSelector, DO_NOT_ASSERT_SIZE, "a->1", "a<->b", "b->1", "c->1", "a<->c", "b<->c");
+
+        moveSelector.stepEnded(stepScopeA1);
+        moveSelector.phaseEnded(phaseScopeA);
+        moveSelector.solvingEnded(solverScope);
+    }
+
     @Test
     public void emptyRandomSelection() {
         ArrayList<MoveSelector> childMoveSelectorList = new ArrayList<>();
@@ -0,0 +1,164 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.selector.move.decorator;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllCodesOfMoveSelector;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.director.ScoreDirector;
+import org.optaplanner.core.impl.heuristic.move.Move;
+import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
+import org.optaplanner.core.impl.heuristic.selector.common.decorator.SelectionFilter;
+import org.optaplanner.core.impl.heuristic.selector.move.MoveSelector;
+import org.optaplanner.core.impl.localsearch.scope.LocalSearchStepScope;
+import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
+import org.optaplanner.core.impl.phase.scope.AbstractStepScope;
+import org.optaplanner.core.impl.solver.scope.SolverScope;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.util.CodeAssertable;
+
+public class IncrementalCachingMoveSelectorTest {
+
+    @Test
+    public void refilterOnlyMovesTouchingTheStep() {
+        TestdataEntity e1 = new TestdataEntity("e1");
+        TestdataEntity e2 = new TestdataEntity("e2");
+        TestdataEntity e3 = new TestdataEntity("e3");
+        MoveSelector childMoveSelector = SelectorTestUtils.mockMoveSelector(EntityMove.class,
+                new EntityMove("e1e2", e1, e2), new EntityMove("e2e3", e2, e3), new EntityMove("e1e3", e1, e3));
+
+        Set<TestdataEntity> rejectedEntitySet = new HashSet<>();
+        AtomicInteger filterCount = new AtomicInteger(0);
+        SelectionFilter<TestdataSolution, EntityMove> filter = (scoreDirector, move) -> {
+            filterCount.incrementAndGet();
+            return Collections.disjoint(move.getPlanningEntities(), rejectedEntitySet);
+        };
+        MoveSelector moveSelector = new IncrementalCachingMoveSelector(
+                new FilteringMoveSelector(childMoveSelector, filter), false);
+
+        SolverScope solverScope = mock(SolverScope.class);
+        moveSelector.solvingStarted(solverScope);
+
+        AbstractPhaseScope phaseScope = mock(AbstractPhaseScope.class);
+        when(phaseScope.getSolverScope()).thenReturn(solverScope);
+        moveSelector.phaseStarted(phaseScope);
+        assertThat(filterCount.get()).isEqualTo(3);
+
+        LocalSearchStepScope stepScope1 = mockStepScope(phaseScope, new EntityMove("step1", e3));
+        moveSelector.stepStarted(stepScope1);
+        assertAllCodesOfMoveSelector(moveSelector, "e1e2", "e2e3", "e1e3");
+        // The step changes e3, so the filter rejects it from now on
+        rejectedEntitySet.add(e3);
+        moveSelector.stepEnded(stepScope1);
+
+        LocalSearchStepScope stepScope2 = mockStepScope(phaseScope, new EntityMove("step2", e2));
+        moveSelector.stepStarted(stepScope2);
+        assertThat(filterCount.get()).isEqualTo(3 + 2);
+        assertAllCodesOfMoveSelector(moveSelector, "e1e2");
+        rejectedEntitySet.remove(e3);
+        moveSelector.stepEnded(stepScope2);
+
+        // Only the moves that touch e2 are filtered again, so e2e3 comes back, but e1e3 doesn't
+        LocalSearchStepScope stepScope3 = mockStepScope(phaseScope, new EntityMove("step3", e1));
+        moveSelector.stepStarted(stepScope3);
+        assertThat(filterCount.get()).isEqualTo(3 + 2 + 2);
+        assertAllCodesOfMoveSelector(moveSelector, "e1e2", "e2e3");
+        moveSelector.stepEnded(stepScope3);
+
+        // e1e3 comes back because step3 changed e1
+        AbstractStepScope stepScope4 = mock(AbstractStepScope.class);
+        when(stepScope4.getPhaseScope()).thenReturn(phaseScope);
+        moveSelector.stepStarted(stepScope4);
+        assertThat(filterCount.get()).isEqualTo(3 + 2 + 2 + 2);
+        assertAllCodesOfMoveSelector(moveSelector, "e1e2", "e2e3", "e1e3");
+        moveSelector.stepEnded(stepScope4);
+
+        // Outside of local search, the step is unknown, so all moves are filtered again
+        moveSelector.stepStarted(mockStepScope(phaseScope, new EntityMove("step5")));
+        assertThat(filterCount.get()).isEqualTo(3 + 2 + 2 + 2 + 3);
+
+        moveSelector.phaseEnded(phaseScope);
+        moveSelector.solvingEnded(solverScope);
+
+        verify(childMoveSelector, times(1)).iterator();
+    }
+
+    private static LocalSearchStepScope mockStepScope(AbstractPhaseScope phaseScope, EntityMove step) {
+        LocalSearchStepScope stepScope = mock(LocalSearchStepScope.class);
+        when(stepScope.getPhaseScope()).thenReturn(phaseScope);
+        when(stepScope.getStep()).thenReturn(step);
+        when(stepScope.getUndoStep()).thenReturn(step);
+        return stepScope;
+    }
+
+    private static class EntityMove implements Move<TestdataSolution>, CodeAssertable {
+
+        private final String code;
+        private final List<TestdataEntity> entityList;
+
+        public EntityMove(String code, TestdataEntity... entities) {
+            this.code = code;
+            this.entityList = Arrays.asList(entities);
+        }
+
+        @Override
+        public String getCode() {
+            return code;
+        }
+
+        @Override
+        public boolean isMoveDoable(ScoreDirector<TestdataSolution> scoreDirector) {
+            return true;
+        }
+
+        @Override
+        public Move<TestdataSolution> doMove(ScoreDirector<TestdataSolution> scoreDirector) {
+            return this;
+        }
+
+        @Override
+        public Collection<? extends Object> getPlanningEntities() {
+            return entityList;
+        }
+
+        @Override
+        public Collection<? extends Object> getPlanningValues() {
+            return Collections.emptyList();
+        }
+
+        @Override
+        public String toString() {
+            return code;
+        }
+
+    }
+
+}
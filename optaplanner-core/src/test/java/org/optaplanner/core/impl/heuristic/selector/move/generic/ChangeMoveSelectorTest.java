@@ -16,13 +16,18 @@
 
 package org.optaplanner.core.impl.heuristic.selector.move.generic;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllCodesOfMoveSelector;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCodesOfNeverEndingMoveSelector;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.verifyPhaseLifecycle;
 
+import java.util.Iterator;
+
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.heuristic.move.FlyweightMove;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.heuristic.selector.value.ValueSelector;
@@ -99,6 +104,45 @@ public class ChangeMoveSelectorTest {
         verifyPhaseLifecycle(valueSelector, 1, 2, 5);
     }
 
+    @Test
+    public void originalFlyweight() {
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(TestdataEntity.class,
+                new TestdataEntity("a"), new TestdataEntity("b"));
+        ValueSelector valueSelector = SelectorTestUtils.mockValueSelector(TestdataEntity.class, "value",
+                new TestdataValue("1"), new TestdataValue("2"));
+
+        ChangeMoveSelector moveSelector = new ChangeMoveSelector(entitySelector, valueSelector, false, true);
+
+        SolverScope solverScope = mock(SolverScope.class);
+        moveSelector.solvingStarted(solverScope);
+
+        AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        moveSelector.phaseStarted(phaseScopeA);
+
+        AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        moveSelector.stepStarted(stepScopeA1);
+        assertAllCodesOfMoveSelector(moveSelector, "a->1", "a->2", "b->1", "b->2");
+        Iterator<Move> iterator = moveSelector.iterator();
+        Move firstMove = iterator.next();
+        Move materializedMove = ((FlyweightMove) firstMove).materialize();
+        Move secondMove = iterator.next();
+        assertThat(secondMove).isSameAs(firstMove);
+        assertThat(materializedMove).isNotSameAs(firstMove);
+        assertThat(((ChangeMove) materializedMove).getEntity()).isSameAs(((ChangeMove) secondMove).getEntity());
+        assertThat(((TestdataValue) ((ChangeMove) materializedMove).getToPlanningValue()).getCode()).isEqualTo("1");
+        assertThat(((TestdataValue) ((ChangeMove) secondMove).getToPlanningValue()).getCode()).isEqualTo("2");
+        assertThat(((FlyweightMove) materializedMove).materialize()).isSameAs(materializedMove);
+        moveSelector.stepEnded(stepScopeA1);
+
+        moveSelector.phaseEnded(phaseScopeA);
+        moveSelector.solvingEnded(solverScope);
+
+        verifyPhaseLifecycle(entitySelector, 1, 1, 1);
+        verifyPhaseLifecycle(valueSelector, 1, 1, 1);
+    }
+
     @Test
     public void emptyEntitySelectorOriginal() {
         EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(TestdataEntity.class);
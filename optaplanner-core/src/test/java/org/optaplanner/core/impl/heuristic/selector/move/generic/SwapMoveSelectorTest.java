@@ -16,13 +16,17 @@
 
 package org.optaplanner.core.impl.heuristic.selector.move.generic;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertAllCodesOfMoveSelector;
 import static org.optaplanner.core.impl.testdata.util.PlannerAssert.verifyPhaseLifecycle;
 
+import java.util.Iterator;
+
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.impl.domain.entity.descriptor.EntityDescriptor;
+import org.optaplanner.core.impl.heuristic.move.Move;
 import org.optaplanner.core.impl.heuristic.selector.SelectorTestUtils;
 import org.optaplanner.core.impl.heuristic.selector.entity.EntitySelector;
 import org.optaplanner.core.impl.phase.scope.AbstractPhaseScope;
@@ -90,6 +94,48 @@ public class SwapMoveSelectorTest {
         verifyPhaseLifecycle(entitySelector, 1, 2, 5);
     }
 
+    @Test
+    public void originalLeftEqualsRightFlyweight() {
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+        TestdataEntity c = new TestdataEntity("c");
+        EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(TestdataEntity.buildEntityDescriptor(),
+                a, b, c);
+
+        SwapMoveSelector moveSelector = new SwapMoveSelector(entitySelector, entitySelector,
+                entitySelector.getEntityDescriptor().getGenuineVariableDescriptorList(), false, true);
+
+        SolverScope solverScope = mock(SolverScope.class);
+        moveSelector.solvingStarted(solverScope);
+
+        AbstractPhaseScope phaseScopeA = mock(AbstractPhaseScope.class);
+        when(phaseScopeA.getSolverScope()).thenReturn(solverScope);
+        moveSelector.phaseStarted(phaseScopeA);
+
+        AbstractStepScope stepScopeA1 = mock(AbstractStepScope.class);
+        when(stepScopeA1.getPhaseScope()).thenReturn(phaseScopeA);
+        moveSelector.stepStarted(stepScopeA1);
+        assertAllCodesOfMoveSelector(moveSelector, "a<->b", "a<->c", "b<->c");
+        Iterator<Move> iterator = moveSelector.iterator();
+        SwapMove firstMove = (SwapMove) iterator.next();
+        // Selecting the upcoming move doesn't change the returned move
+        assertThat(iterator.hasNext()).isTrue();
+        assertThat(firstMove.getLeftEntity()).isSameAs(a);
+        assertThat(firstMove.getRightEntity()).isSameAs(b);
+        Move materializedMove = firstMove.materialize();
+        SwapMove secondMove = (SwapMove) iterator.next();
+        assertThat(secondMove).isSameAs(firstMove);
+        assertThat(secondMove.getRightEntity()).isSameAs(c);
+        assertThat(materializedMove).isNotSameAs(firstMove);
+        assertThat(((SwapMove) materializedMove).getRightEntity()).isSameAs(b);
+        moveSelector.stepEnded(stepScopeA1);
+
+        moveSelector.phaseEnded(phaseScopeA);
+        moveSelector.solvingEnded(solverScope);
+
+        verifyPhaseLifecycle(entitySelector, 1, 1, 1);
+    }
+
     @Test
     public void emptyOriginalLeftEqualsRight() {
         EntitySelector entitySelector = SelectorTestUtils.mockEntitySelector(TestdataEntity.buildEntityDescriptor());
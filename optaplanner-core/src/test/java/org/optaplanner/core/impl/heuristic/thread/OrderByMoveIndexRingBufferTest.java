@@ -0,0 +1,153 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class OrderByMoveIndexRingBufferTest {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(OrderByMoveIndexRingBufferTest.class);
+
+    private final ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    public void tearDown() throws InterruptedException {
+        executorService.shutdownNow();
+        if (!executorService.awaitTermination(1, TimeUnit.MILLISECONDS)) {
+            LOGGER.warn("Thread pool didn't terminate within the timeout.");
+        }
+    }
+
+    @Test
+    public void addMove() throws InterruptedException {
+        // Capacity: 4 moves in circulation
+        OrderByMoveIndexRingBuffer<TestdataSolution> ringBuffer = new OrderByMoveIndexRingBuffer<>(4);
+
+        ringBuffer.startNextStep(0);
+        executorService.submit(() -> ringBuffer.addMove(0, 0, 0, new DummyMove("a0"), SimpleScore.of(-100)));
+        executorService.submit(() -> ringBuffer.addMove(1, 0, 1, new DummyMove("a1"), SimpleScore.of(-1000)));
+        executorService.submit(() -> ringBuffer.addMove(0, 0, 2, new DummyMove("a2"), SimpleScore.of(-200)));
+        executorService.submit(() -> ringBuffer.addMove(1, 0, 3, new DummyMove("a3"), SimpleScore.of(-30)));
+        assertResult("a0", -100, ringBuffer.take());
+        assertResult("a1", -1000, ringBuffer.take());
+        assertResult("a2", -200, ringBuffer.take());
+        executorService.submit(() -> ringBuffer.addMove(1, 0, 5, new DummyMove("a5"), SimpleScore.of(-5)));
+        executorService.submit(() -> ringBuffer.addMove(1, 0, 4, new DummyMove("a4"), SimpleScore.of(-4)));
+        assertResult("a3", -30, ringBuffer.take());
+        assertResult("a4", -4, ringBuffer.take());
+        assertResult("a5", -5, ringBuffer.take());
+        executorService.submit(() -> ringBuffer.addMove(0, 0, 6, new DummyMove("a6"), SimpleScore.of(-6)));
+        assertResult("a6", -6, ringBuffer.take());
+
+        // The slots of the previous step are reused
+        ringBuffer.startNextStep(1);
+        executorService.submit(() -> ringBuffer.addMove(0, 1, 0, new DummyMove("b0"), SimpleScore.of(0)));
+        executorService.submit(() -> ringBuffer.addMove(1, 0, 8, new DummyMove("a8"), SimpleScore.of(-8)));
+        assertResult("b0", 0, ringBuffer.take());
+        executorService.submit(() -> ringBuffer.addMove(0, 1, 3, new DummyMove("b3"), SimpleScore.of(-3)));
+        executorService.submit(() -> ringBuffer.addMove(0, 1, 1, new DummyMove("b1"), SimpleScore.of(-1)));
+        executorService.submit(() -> ringBuffer.addMove(0, 1, 2, new DummyMove("b2"), SimpleScore.of(-2)));
+        assertResult("b1", -1, ringBuffer.take());
+        assertResult("b2", -2, ringBuffer.take());
+        assertResult("b3", -3, ringBuffer.take());
+    }
+
+    @Test
+    public void addUndoableMove() throws InterruptedException {
+        // Capacity: 4 moves in circulation
+        OrderByMoveIndexRingBuffer<TestdataSolution> ringBuffer = new OrderByMoveIndexRingBuffer<>(4);
+
+        ringBuffer.startNextStep(0);
+        executorService.submit(() -> ringBuffer.addUndoableMove(0, 0, 0, new DummyMove("a0")));
+        executorService.submit(() -> ringBuffer.addUndoableMove(1, 0, 3, new DummyMove("a3")));
+        executorService.submit(() -> ringBuffer.addMove(0, 0, 1, new DummyMove("a1"), SimpleScore.of(-1)));
+        executorService.submit(() -> ringBuffer.addUndoableMove(1, 0, 2, new DummyMove("a2")));
+        assertResult("a0", false, ringBuffer.take());
+        assertResult("a1", -1, ringBuffer.take());
+        assertResult("a2", false, ringBuffer.take());
+
+        ringBuffer.startNextStep(1);
+        executorService.submit(() -> ringBuffer.addMove(0, 1, 1, new DummyMove("b1"), SimpleScore.of(-1)));
+        executorService.submit(() -> ringBuffer.addUndoableMove(1, 1, 0, new DummyMove("b0")));
+        assertResult("b0", false, ringBuffer.take());
+        assertResult("b1", -1, ringBuffer.take());
+    }
+
+    @Test
+    public void addExceptionThrown() throws InterruptedException, ExecutionException {
+        // Capacity: 4 moves in circulation
+        OrderByMoveIndexRingBuffer<TestdataSolution> ringBuffer = new OrderByMoveIndexRingBuffer<>(4);
+
+        ringBuffer.startNextStep(0);
+        executorService.submit(() -> ringBuffer.addMove(0, 0, 1, new DummyMove("a1"), SimpleScore.of(-1)));
+        executorService.submit(() -> ringBuffer.addUndoableMove(1, 0, 0, new DummyMove("a0"))).get();
+        IllegalArgumentException exception = new IllegalArgumentException();
+        Future<?> exceptionFuture = executorService.submit(() -> ringBuffer.addExceptionThrown(1, exception));
+        exceptionFuture.get(); // Avoid random failing test when the task hasn't started yet
+        executorService.submit(() -> ringBuffer.addMove(0, 0, 2, new DummyMove("a2"), SimpleScore.of(-2)));
+        assertResult("a0", false, ringBuffer.take());
+        assertThatThrownBy(() -> {
+            // The result of a1 might not be published yet
+            ringBuffer.take();
+            ringBuffer.take();
+        }).hasCause(exception);
+    }
+
+    @Test
+    public void addExceptionIsNotEatenIfNextStepStartsBeforeTaken() throws InterruptedException, ExecutionException {
+        // Capacity: 4 moves in circulation
+        OrderByMoveIndexRingBuffer<TestdataSolution> ringBuffer = new OrderByMoveIndexRingBuffer<>(4);
+
+        ringBuffer.startNextStep(0);
+        executorService.submit(() -> ringBuffer.addMove(0, 0, 0, new DummyMove("a0"), SimpleScore.of(0)));
+        IllegalArgumentException exception = new IllegalArgumentException();
+        Future<?> exceptionFuture = executorService.submit(() -> ringBuffer.addExceptionThrown(1, exception));
+        assertThatThrownBy(() -> {
+            exceptionFuture.get(); // Avoid random failing test when the task hasn't started yet
+            ringBuffer.startNextStep(1);
+        }).hasCause(exception);
+    }
+
+    private void assertResult(String moveCode, int score,
+            OrderByMoveIndexRingBuffer.MoveResult<TestdataSolution> result) {
+        assertCode(moveCode, result.getMove());
+        assertThat(result.getScore()).isEqualTo(SimpleScore.of(score));
+    }
+
+    private void assertResult(String moveCode, boolean doable,
+            OrderByMoveIndexRingBuffer.MoveResult<TestdataSolution> result) {
+        assertCode(moveCode, result.getMove());
+        assertThat(result.isMoveDoable()).isEqualTo(doable);
+    }
+
+}
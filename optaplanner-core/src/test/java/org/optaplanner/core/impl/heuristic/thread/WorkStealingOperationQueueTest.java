@@ -0,0 +1,79 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.heuristic.thread;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.heuristic.move.DummyMove;
+import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+
+public class WorkStealingOperationQueueTest {
+
+    @Test
+    public void takeOwnOperationsFirst() throws InterruptedException {
+        WorkStealingOperationQueue<TestdataSolution> queue = new WorkStealingOperationQueue<>(2);
+        queue.addMoveOperation(new MoveEvaluationOperation<>(0, 0, new DummyMove("a0")));
+        queue.addMoveOperation(new MoveEvaluationOperation<>(0, 1, new DummyMove("a1")));
+        queue.addMoveOperation(new MoveEvaluationOperation<>(0, 2, new DummyMove("a2")));
+        queue.addMoveOperation(new MoveEvaluationOperation<>(0, 3, new DummyMove("a3")));
+        assertMove("a1", queue.take(1, 0));
+        assertMove("a0", queue.take(0, 0));
+        assertMove("a3", queue.take(1, 0));
+        // Move thread 1 has nothing left, so it steals from move thread 0
+        assertMove("a2", queue.take(1, 0));
+    }
+
+    @Test
+    public void controlOperationsAreNotStolen() throws InterruptedException {
+        WorkStealingOperationQueue<TestdataSolution> queue = new WorkStealingOperationQueue<>(2);
+        DestroyOperation<TestdataSolution> destroyOperation = new DestroyOperation<>();
+        queue.addToAll(destroyOperation);
+        assertThat(queue.take(0, 0)).isSameAs(destroyOperation);
+        assertThat(queue.take(1, 0)).isSameAs(destroyOperation);
+        assertThatIllegalArgumentException()
+                .isThrownBy(() -> queue.addToAll(new MoveEvaluationOperation<>(0, 0, new DummyMove("a0"))));
+    }
+
+    @Test
+    public void onlyTakeOperationsOfOwnStep() throws InterruptedException {
+        WorkStealingOperationQueue<TestdataSolution> queue = new WorkStealingOperationQueue<>(2);
+        queue.addMoveOperation(new MoveEvaluationOperation<>(0, 0, new DummyMove("a0")));
+        queue.addMoveOperation(new MoveEvaluationOperation<>(0, 1, new DummyMove("a1")));
+        assertMove("a0", queue.take(0, 0));
+        queue.clearMoveOperations();
+        ApplyStepOperation<TestdataSolution, SimpleScore> stepOperation =
+                new ApplyStepOperation<>(1, new DummyMove("a0"), SimpleScore.of(-1));
+        queue.addToAll(stepOperation);
+        queue.addMoveOperation(new MoveEvaluationOperation<>(1, 0, new DummyMove("b0")));
+        queue.addMoveOperation(new MoveEvaluationOperation<>(1, 1, new DummyMove("b1")));
+        // Move thread 1 is still in step 0: it first takes its step operation
+        assertThat(queue.take(1, 0)).isSameAs(stepOperation);
+        assertMove("b1", queue.take(1, 1));
+        assertThat(queue.take(0, 0)).isSameAs(stepOperation);
+        assertMove("b0", queue.take(0, 1));
+    }
+
+    private void assertMove(String moveCode, MoveThreadOperation<TestdataSolution> operation) {
+        assertThat(operation).isInstanceOf(MoveEvaluationOperation.class);
+        assertCode(moveCode, ((MoveEvaluationOperation<TestdataSolution>) operation).getMove());
+    }
+
+}
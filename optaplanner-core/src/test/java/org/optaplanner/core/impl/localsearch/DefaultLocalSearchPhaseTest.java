@@ -21,12 +21,18 @@ import static org.optaplanner.core.impl.testdata.util.PlannerAssert.assertCode;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.config.heuristic.selector.common.SelectionOrder;
+import org.optaplanner.core.config.heuristic.selector.move.generic.ChangeMoveSelectorConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchPhaseConfig;
 import org.optaplanner.core.config.localsearch.LocalSearchType;
 import org.optaplanner.core.config.solver.SolverConfig;
 import org.optaplanner.core.config.solver.termination.TerminationConfig;
+import org.optaplanner.core.config.solver.testutil.calculator.TestdataDifferentValuesCalculator;
 import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
 import org.optaplanner.core.impl.testdata.domain.TestdataValue;
@@ -209,4 +215,54 @@ public class DefaultLocalSearchPhaseTest {
         assertThat(solution.getEntityList().size()).isEqualTo(0);
     }
 
+    @Test
+    public void solveMultiThreadedWithMoveThreadBatches() {
+        TestdataSolution expectedSolution = solveMultiThreadedDifferentValues(1);
+        List<String> expectedValueCodes = extractValueCodes(expectedSolution);
+        // 28 change moves per step, so a batch size of 3 ends every step with a partial batch
+        // and a batch size of 64 sends every step in 1 partial batch.
+        // The hill climbing forager quits at the first accepted move, often in the middle of a batch.
+        for (int moveThreadBatchSize : new int[] { 3, 64 }) {
+            TestdataSolution solution = solveMultiThreadedDifferentValues(moveThreadBatchSize);
+            assertThat(extractValueCodes(solution)).as("moveThreadBatchSize (" + moveThreadBatchSize + ")")
+                    .isEqualTo(expectedValueCodes);
+            assertThat(solution.getScore()).isEqualTo(expectedSolution.getScore());
+        }
+    }
+
+    private static TestdataSolution solveMultiThreadedDifferentValues(int moveThreadBatchSize) {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
+        solverConfig.getScoreDirectorFactoryConfig()
+                .setEasyScoreCalculatorClass(TestdataDifferentValuesCalculator.class);
+        solverConfig.setMoveThreadCount("2");
+        solverConfig.setMoveThreadBatchSize(moveThreadBatchSize);
+        LocalSearchPhaseConfig phaseConfig = new LocalSearchPhaseConfig();
+        phaseConfig.setLocalSearchType(LocalSearchType.HILL_CLIMBING);
+        // Original order, because the number of randomly selected moves per step depends on the batch size
+        ChangeMoveSelectorConfig changeMoveSelectorConfig = new ChangeMoveSelectorConfig();
+        changeMoveSelectorConfig.setSelectionOrder(SelectionOrder.ORIGINAL);
+        phaseConfig.setMoveSelectorConfig(changeMoveSelectorConfig);
+        phaseConfig.setTerminationConfig(new TerminationConfig().withStepCountLimit(20));
+        solverConfig.setPhaseConfigList(Collections.singletonList(phaseConfig));
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        List<TestdataValue> valueList = IntStream.rangeClosed(1, 4)
+                .mapToObj(i -> new TestdataValue("v" + i))
+                .collect(Collectors.toList());
+        solution.setValueList(valueList);
+        solution.setEntityList(IntStream.rangeClosed(1, 7)
+                .mapToObj(i -> new TestdataEntity("e" + i, valueList.get(0)))
+                .collect(Collectors.toList()));
+
+        solution = PlannerTestUtils.solve(solverConfig, solution);
+        assertThat(solution).isNotNull();
+        return solution;
+    }
+
+    private static List<String> extractValueCodes(TestdataSolution solution) {
+        return solution.getEntityList().stream()
+                .map(entity -> entity.getValue().getCode())
+                .collect(Collectors.toList());
+    }
+
 }
@@ -20,7 +20,9 @@ import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutionException;
@@ -28,12 +30,14 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.Timeout;
+import org.optaplanner.core.api.score.director.ScoreDirector;
 import org.optaplanner.core.api.solver.Solver;
 import org.optaplanner.core.api.solver.SolverFactory;
 import org.optaplanner.core.config.constructionheuristic.ConstructionHeuristicPhaseConfig;
@@ -81,7 +85,86 @@ public class DefaultPartitionedSearchPhaseTest {
         solver.solve(createSolution(partCount * partSize, 2));
     }
 
-    private static SolverFactory<TestdataSolution> createSolverFactory(boolean infinite, String moveThreadCount, int partSize) {
+    @Test
+    @Timeout(5)
+    public void repartitionUntilSolverTerminates() {
+        final int partSize = 3;
+        final int partCount = 4;
+        SolverConfig solverConfig = createRepartitioningSolverConfig(partSize);
+        PartitionedSearchPhaseConfig partitionedSearchPhaseConfig =
+                (PartitionedSearchPhaseConfig) solverConfig.getPhaseConfigList().get(0);
+        partitionedSearchPhaseConfig.setRepartitionIntervalMilliseconds(100L);
+        Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        TestdataSolution bestSolution = solver.solve(createSolution(partCount * partSize, 2));
+        assertThat(bestSolution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+        // The solver runs 500ms, so the 100ms partitions end several times
+        assertThat(CountingSolutionPartitioner.REPARTITION_COUNT.get()).isGreaterThan(1);
+    }
+
+    @Test
+    @Timeout(5)
+    public void repartitionAfterStepCount() {
+        final int partSize = 1;
+        final int partCount = 4;
+        SolverConfig solverConfig = createRepartitioningSolverConfig(partSize);
+        PartitionedSearchPhaseConfig partitionedSearchPhaseConfig =
+                (PartitionedSearchPhaseConfig) solverConfig.getPhaseConfigList().get(0);
+        partitionedSearchPhaseConfig.setSolutionPartitionerClass(CoarseningSolutionPartitioner.class);
+        // Every part sends exactly 1 step: the best solution of its construction heuristic phase
+        partitionedSearchPhaseConfig.setPhaseConfigList(
+                Collections.singletonList(new ConstructionHeuristicPhaseConfig()));
+        partitionedSearchPhaseConfig.setRepartitionIntervalStepCount(2);
+        Solver<TestdataSolution> solver = SolverFactory.<TestdataSolution> create(solverConfig).buildSolver();
+        TestdataSolution bestSolution = solver.solve(createSolution(partCount * partSize, 2));
+        assertThat(bestSolution.getEntityList()).allMatch(entity -> entity.getValue() != null);
+        // 4 parts and then 2 parts reach the step count of 2, but the last round of 1 part doesn't
+        assertThat(CountingSolutionPartitioner.REPARTITION_COUNT.get()).isEqualTo(2);
+    }
+
+    private static SolverConfig createRepartitioningSolverConfig(int partSize) {
+        CountingSolutionPartitioner.REPARTITION_COUNT.set(0);
+        SolverConfig solverConfig = createSolverConfig(true, SolverConfig.MOVE_THREAD_COUNT_NONE, partSize);
+        solverConfig.setTerminationConfig(new TerminationConfig().withMillisecondsSpentLimit(500L));
+        PartitionedSearchPhaseConfig partitionedSearchPhaseConfig =
+                (PartitionedSearchPhaseConfig) solverConfig.getPhaseConfigList().get(0);
+        partitionedSearchPhaseConfig.setSolutionPartitionerClass(CountingSolutionPartitioner.class);
+        return solverConfig;
+    }
+
+    public static class CountingSolutionPartitioner extends TestdataSolutionPartitioner {
+
+        private static final AtomicInteger REPARTITION_COUNT = new AtomicInteger(0);
+
+        @Override
+        public List<TestdataSolution> repartitionWorkingSolution(ScoreDirector<TestdataSolution> scoreDirector,
+                Integer runnablePartThreadLimit, List<TestdataSolution> previousPartList) {
+            REPARTITION_COUNT.incrementAndGet();
+            return super.repartitionWorkingSolution(scoreDirector, runnablePartThreadLimit, previousPartList);
+        }
+
+    }
+
+    /**
+     * Halves the number of partitions on every repartition.
+     */
+    public static class CoarseningSolutionPartitioner extends CountingSolutionPartitioner {
+
+        @Override
+        public List<TestdataSolution> repartitionWorkingSolution(ScoreDirector<TestdataSolution> scoreDirector,
+                Integer runnablePartThreadLimit, List<TestdataSolution> previousPartList) {
+            int partCount = Math.max(1, previousPartList.size() / 2);
+            setPartSize(scoreDirector.getWorkingSolution().getEntityList().size() / partCount);
+            return super.repartitionWorkingSolution(scoreDirector, runnablePartThreadLimit, previousPartList);
+        }
+
+    }
+
+    private static SolverFactory<TestdataSolution> createSolverFactory(boolean infinite, String moveThreadCount,
+            int partSize) {
+        return SolverFactory.create(createSolverConfig(infinite, moveThreadCount, partSize));
+    }
+
+    private static SolverConfig createSolverConfig(boolean infinite, String moveThreadCount, int partSize) {
         SolverConfig solverConfig = PlannerTestUtils
                 .buildSolverConfig(TestdataSolution.class, TestdataEntity.class);
         solverConfig.setMoveThreadCount(moveThreadCount);
@@ -98,7 +181,7 @@ public class DefaultPartitionedSearchPhaseTest {
         }
         partitionedSearchPhaseConfig.setPhaseConfigList(
                 Arrays.asList(constructionHeuristicPhaseConfig, localSearchPhaseConfig));
-        return SolverFactory.create(solverConfig);
+        return solverConfig;
     }
 
     private static TestdataSolution createSolution(int entities, int values) {
@@ -18,17 +18,29 @@ package org.optaplanner.core.impl.partitionedsearch.queue;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
 
+import org.apache.commons.lang3.tuple.Pair;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.impl.domain.variable.descriptor.GenuineVariableDescriptor;
 import org.optaplanner.core.impl.partitionedsearch.scope.PartitionChangeMove;
+import org.optaplanner.core.impl.score.director.InnerScoreDirector;
+import org.optaplanner.core.impl.testdata.domain.TestdataEntity;
 import org.optaplanner.core.impl.testdata.domain.TestdataSolution;
+import org.optaplanner.core.impl.testdata.domain.TestdataValue;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -51,45 +63,43 @@ public class PartitionQueueTest {
         PartitionQueue<TestdataSolution> partitionQueue = new PartitionQueue<>(3);
         Iterator<PartitionChangeMove<TestdataSolution>> it = partitionQueue.iterator();
 
-        PartitionChangeMove<TestdataSolution> moveA1 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveA1 = buildMove(0);
         executorService.submit(() -> partitionQueue.addMove(0, moveA1)).get();
         assertThat(it.next()).isSameAs(moveA1);
 
-        PartitionChangeMove<TestdataSolution> moveB1 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveB1 = buildMove(1);
         executorService.submit(() -> partitionQueue.addMove(1, moveB1)).get(); // Skipped
-        PartitionChangeMove<TestdataSolution> moveB2 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveB2 = buildMove(1);
         executorService.submit(() -> partitionQueue.addMove(1, moveB2)).get(); // Skipped
-        PartitionChangeMove<TestdataSolution> moveB3 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveB3 = buildMove(1);
         executorService.submit(() -> partitionQueue.addMove(1, moveB3)).get();
         assertThat(it.next()).isSameAs(moveB3);
 
-        PartitionChangeMove<TestdataSolution> moveA2 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveA2 = buildMove(0);
         executorService.submit(() -> partitionQueue.addMove(0, moveA2)).get(); // Skipped
-        PartitionChangeMove<TestdataSolution> moveA3 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveA3 = buildMove(0);
         executorService.submit(() -> partitionQueue.addMove(0, moveA3)).get();
-        PartitionChangeMove<TestdataSolution> moveB4 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveB4 = buildMove(1);
         executorService.submit(() -> partitionQueue.addMove(1, moveB4)).get();
-        assertThat(it.next()).isSameAs(moveA3);
-        assertThat(it.next()).isSameAs(moveB4);
+        // Coalesced into 1 move
+        assertThat(it.next()).hasToString("parts-[0, 1] {0 variables changed}");
 
-        PartitionChangeMove<TestdataSolution> moveB5 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveB5 = buildMove(1);
         executorService.submit(() -> partitionQueue.addMove(1, moveB5)).get(); // Skipped
-        PartitionChangeMove<TestdataSolution> moveA4 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveA4 = buildMove(0);
         executorService.submit(() -> partitionQueue.addMove(0, moveA4)).get(); // Skipped
-        PartitionChangeMove<TestdataSolution> moveA5 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveA5 = buildMove(0);
         executorService.submit(() -> partitionQueue.addMove(0, moveA5)).get(); // Skipped
-        PartitionChangeMove<TestdataSolution> moveB6 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveB6 = buildMove(1);
         executorService.submit(() -> partitionQueue.addMove(1, moveB6)).get();
-        PartitionChangeMove<TestdataSolution> moveC1 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveC1 = buildMove(2);
         executorService.submit(() -> partitionQueue.addMove(2, moveC1)).get();
-        PartitionChangeMove<TestdataSolution> moveA6 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveA6 = buildMove(0);
         executorService.submit(() -> partitionQueue.addMove(0, moveA6)).get();
-        assertThat(it.next()).isSameAs(moveB6);
-        assertThat(it.next()).isSameAs(moveA6);
-        assertThat(it.next()).isSameAs(moveC1);
+        assertThat(it.next()).hasToString("parts-[1, 0, 2] {0 variables changed}");
 
         executorService.submit(() -> partitionQueue.addFinish(0, 123)).get();
-        PartitionChangeMove<TestdataSolution> moveC2 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveC2 = buildMove(2);
         executorService.submit(() -> partitionQueue.addMove(2, moveC2)).get();
         executorService.submit(() -> partitionQueue.addFinish(1, 123)).get();
         assertThat(it.next()).isSameAs(moveC2);
@@ -103,19 +113,17 @@ public class PartitionQueueTest {
         PartitionQueue<TestdataSolution> partitionQueue = new PartitionQueue<>(3);
         Iterator<PartitionChangeMove<TestdataSolution>> it = partitionQueue.iterator();
 
-        PartitionChangeMove<TestdataSolution> moveA1 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveA1 = buildMove(0);
         executorService.submit(() -> partitionQueue.addMove(0, moveA1)).get();
         executorService.submit(() -> partitionQueue.addFinish(0, 123)).get();
-        PartitionChangeMove<TestdataSolution> moveC1 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveC1 = buildMove(2);
         executorService.submit(() -> partitionQueue.addMove(2, moveC1)).get();
-        PartitionChangeMove<TestdataSolution> moveC2 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveC2 = buildMove(2);
         executorService.submit(() -> partitionQueue.addMove(2, moveC2)).get();
         executorService.submit(() -> partitionQueue.addFinish(2, 123)).get();
         executorService.submit(() -> partitionQueue.addFinish(1, 123)).get();
         assertThat(it.hasNext()).isTrue();
-        assertThat(it.next()).isSameAs(moveA1);
-        assertThat(it.hasNext()).isTrue();
-        assertThat(it.next()).isSameAs(moveC2);
+        assertThat(it.next()).hasToString("parts-[0, 2] {0 variables changed}");
         assertThat(it.hasNext()).isFalse();
     }
 
@@ -124,27 +132,59 @@ public class PartitionQueueTest {
         PartitionQueue<TestdataSolution> partitionQueue = new PartitionQueue<>(3);
         Iterator<PartitionChangeMove<TestdataSolution>> it = partitionQueue.iterator();
 
-        PartitionChangeMove<TestdataSolution> moveA1 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveA1 = buildMove(0);
         executorService.submit(() -> partitionQueue.addMove(0, moveA1)).get();
         executorService.submit(() -> partitionQueue.addFinish(0, 123)).get();
-        PartitionChangeMove<TestdataSolution> moveC1 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveC1 = buildMove(2);
         executorService.submit(() -> partitionQueue.addMove(2, moveC1)).get();
-        PartitionChangeMove<TestdataSolution> moveC2 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveC2 = buildMove(2);
         executorService.submit(() -> partitionQueue.addMove(2, moveC2)).get();
         IllegalArgumentException exception = new IllegalArgumentException();
         executorService.submit(() -> partitionQueue.addExceptionThrown(1, exception)).get();
-        PartitionChangeMove<TestdataSolution> moveB1 = buildMove();
+        PartitionChangeMove<TestdataSolution> moveB1 = buildMove(1);
         executorService.submit(() -> partitionQueue.addMove(1, moveB1)).get();
         executorService.submit(() -> partitionQueue.addFinish(1, 123)).get();
         assertThat(it.hasNext()).isTrue();
-        assertThat(it.next()).isSameAs(moveA1);
-        assertThat(it.hasNext()).isTrue();
-        assertThat(it.next()).isSameAs(moveC2);
+        assertThat(it.next()).hasToString("parts-[0, 2] {0 variables changed}");
         assertThatIllegalStateException().isThrownBy(it::hasNext).withCause(exception);
     }
 
-    public PartitionChangeMove<TestdataSolution> buildMove() {
-        return new PartitionChangeMove<>(null, -1);
+    @Test
+    public void mergedMoveAppliesChangesOfAllParts() throws ExecutionException, InterruptedException {
+        GenuineVariableDescriptor<TestdataSolution> variableDescriptor =
+                TestdataEntity.buildVariableDescriptorForValue();
+        TestdataEntity a = new TestdataEntity("a");
+        TestdataEntity b = new TestdataEntity("b");
+        TestdataValue v1 = new TestdataValue("v1");
+        TestdataValue v2 = new TestdataValue("v2");
+        PartitionQueue<TestdataSolution> partitionQueue = new PartitionQueue<>(2);
+        Iterator<PartitionChangeMove<TestdataSolution>> it = partitionQueue.iterator();
+
+        PartitionChangeMove<TestdataSolution> moveA = buildMove(0, variableDescriptor, a, v1);
+        executorService.submit(() -> partitionQueue.addMove(0, moveA)).get();
+        PartitionChangeMove<TestdataSolution> moveB = buildMove(1, variableDescriptor, b, v2);
+        executorService.submit(() -> partitionQueue.addMove(1, moveB)).get();
+        PartitionChangeMove<TestdataSolution> mergedMove = it.next();
+        assertThat(mergedMove).hasToString("parts-[0, 1] {2 variables changed}");
+
+        InnerScoreDirector<TestdataSolution, SimpleScore> scoreDirector = mock(InnerScoreDirector.class);
+        mergedMove.doMove(scoreDirector);
+        verify(scoreDirector).changeVariableFacade(variableDescriptor, a, v1);
+        verify(scoreDirector).changeVariableFacade(variableDescriptor, b, v2);
+        verify(scoreDirector).triggerVariableListeners();
+        verifyNoMoreInteractions(scoreDirector);
+    }
+
+    private static PartitionChangeMove<TestdataSolution> buildMove(int partIndex,
+            GenuineVariableDescriptor<TestdataSolution> variableDescriptor, TestdataEntity entity,
+            TestdataValue value) {
+        Map<GenuineVariableDescriptor<TestdataSolution>, List<Pair<Object, Object>>> changeMap =
+                Collections.singletonMap(variableDescriptor, Collections.singletonList(Pair.of(entity, value)));
+        return new PartitionChangeMove<>(changeMap, partIndex);
+    }
+
+    public PartitionChangeMove<TestdataSolution> buildMove(int partIndex) {
+        return new PartitionChangeMove<>(Collections.emptyMap(), partIndex);
     }
 
 }
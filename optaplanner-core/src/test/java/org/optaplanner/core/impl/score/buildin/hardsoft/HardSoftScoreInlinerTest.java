@@ -18,7 +18,9 @@ package org.optaplanner.core.impl.score.buildin.hardsoft;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.Test;
 import org.optaplanner.core.api.score.buildin.hardsoft.HardSoftScore;
@@ -118,6 +120,90 @@ public class HardSoftScoreInlinerTest
                 .isEqualTo(HardSoftScore.of(0, 0));
     }
 
+    @Test
+    public void impactAllWithoutUndo() {
+        TestConstraint<TestdataHardSoftScoreSolution, HardSoftScore> constraint =
+                buildConstraint(HardSoftScore.of(10, 100));
+        HardSoftScoreInliner scoreInliner =
+                new HardSoftScoreInliner(getConstaintToWeightMap(constraint), false);
+
+        WeightedScoreImpacter impacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        assertThat(impacter.isUndoFree()).isTrue();
+        impacter.impactScoreWithoutUndo(10);
+        impacter.impactScoreWithoutUndo(20);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(300, 3_000));
+
+        impacter.impactScoreWithoutUndo(-20);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(100, 1_000));
+
+        UndoScoreImpacter undo = impacter.impactScore(5, EMPTY_JUSTIFICATIONS_SUPPLIER);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(150, 1_500));
+
+        undo.run();
+        impacter.impactScoreWithoutUndo(-10);
+        assertThat(scoreInliner.extractScore(0))
+                .isEqualTo(HardSoftScore.of(0, 0));
+    }
+
+    @Test
+    public void constraintMatchesMaterializedOnDemand() {
+        TestConstraint<TestdataHardSoftScoreSolution, HardSoftScore> constraint =
+                buildConstraint(HardSoftScore.of(10, 100));
+        HardSoftScoreInliner scoreInliner =
+                new HardSoftScoreInliner(getConstaintToWeightMap(constraint), true);
+
+        WeightedScoreImpacter impacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        UndoScoreImpacter undo1 = impacter.impactScore(1, () -> Arrays.asList("a", "b"));
+        UndoScoreImpacter undo2 = impacter.impactScore(2, () -> Arrays.asList("b", "b"));
+        assertThat(scoreInliner.getConstraintMatchTotalMap().get(constraint.getConstraintId()).getScore())
+                .isEqualTo(HardSoftScore.of(30, 300));
+        assertThat(scoreInliner.getIndictmentMap().get("a").getScore())
+                .isEqualTo(HardSoftScore.of(10, 100));
+        assertThat(scoreInliner.getIndictmentMap().get("b").getScore())
+                .isEqualTo(HardSoftScore.of(30, 300));
+
+        undo1.run();
+        assertThat(scoreInliner.getConstraintMatchTotalMap().get(constraint.getConstraintId()).getScore())
+                .isEqualTo(HardSoftScore.of(20, 200));
+        assertThat(scoreInliner.getIndictmentMap()).containsOnlyKeys("b");
+
+        undo2.run();
+        assertThat(scoreInliner.getConstraintMatchTotalMap()).isEmpty();
+        assertThat(scoreInliner.getIndictmentMap()).isEmpty();
+    }
+
+    @Test
+    public void justificationsCreatedOnDemand() {
+        TestConstraint<TestdataHardSoftScoreSolution, HardSoftScore> constraint =
+                buildConstraint(HardSoftScore.of(10, 100));
+        HardSoftScoreInliner scoreInliner =
+                new HardSoftScoreInliner(getConstaintToWeightMap(constraint), true);
+
+        WeightedScoreImpacter impacter = scoreInliner.buildWeightedScoreImpacter(constraint);
+        AtomicInteger justificationsCount = new AtomicInteger(0);
+        UndoScoreImpacter undo = impacter.impactScore(1, () -> {
+            justificationsCount.incrementAndGet();
+            return Collections.singletonList("a");
+        });
+        assertThat(scoreInliner.extractScore(0)).isEqualTo(HardSoftScore.of(10, 100));
+        assertThat(justificationsCount).hasValue(0);
+
+        assertThat(scoreInliner.getIndictmentMap()).containsOnlyKeys("a");
+        assertThat(justificationsCount).hasValue(1);
+        // Materializing again after another match reuses the justifications
+        UndoScoreImpacter undo2 = impacter.impactScore(2, () -> Collections.singletonList("b"));
+        assertThat(scoreInliner.getIndictmentMap()).containsOnlyKeys("a", "b");
+        assertThat(justificationsCount).hasValue(1);
+
+        undo2.run();
+        undo.run();
+        assertThat(scoreInliner.getIndictmentMap()).isEmpty();
+        assertThat(justificationsCount).hasValue(1);
+    }
+
     @Override
     protected SolutionDescriptor<TestdataHardSoftScoreSolution> buildSolutionDescriptor() {
         return TestdataHardSoftScoreSolution.buildSolutionDescriptor();
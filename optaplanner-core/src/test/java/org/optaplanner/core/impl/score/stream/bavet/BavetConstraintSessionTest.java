@@ -0,0 +1,121 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.constraint.ConstraintMatchTotal;
+import org.optaplanner.core.api.score.constraint.Indictment;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.impl.domain.solution.descriptor.SolutionDescriptor;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntityGroup;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishSolution;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishValue;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishValueGroup;
+
+public class BavetConstraintSessionTest {
+
+    private Constraint[] defineConstraints(ConstraintFactory factory) {
+        // Each constraint starts from a different class, so they don't share nodes
+        return new Constraint[] {
+                factory.fromUniquePair(TestdataLavishEntity.class, equal(TestdataLavishEntity::getValue))
+                        .penalize("Same value", SimpleScore.ONE),
+                factory.from(TestdataLavishValue.class)
+                        .join(TestdataLavishValueGroup.class,
+                                equal(TestdataLavishValue::getValueGroup, Function.identity()))
+                        .penalize("Value in group", SimpleScore.ONE),
+                factory.from(TestdataLavishEntityGroup.class)
+                        .penalize("Entity group", SimpleScore.ONE)
+        };
+    }
+
+    @Test
+    void parallelBulkInsertEqualsSequentialBulkInsert() {
+        TestdataLavishSolution sequentialSolution = TestdataLavishSolution.generateSolution(3, 20, 4, 300);
+        TestdataLavishSolution parallelSolution = TestdataLavishSolution.generateSolution(3, 20, 4, 300);
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> sequentialSession =
+                buildSession(sequentialSolution, Integer.MAX_VALUE);
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> parallelSession =
+                buildSession(parallelSolution, 0);
+        assertThat(parallelSession.getIndependentSubgraphCount()).isGreaterThan(1);
+
+        SimpleScore sequentialScore = sequentialSession.calculateScore(0);
+        assertThat(sequentialScore.getScore()).isNegative();
+        assertThat(parallelSession.calculateScore(0)).isEqualTo(sequentialScore);
+        assertSameConstraintMatches(sequentialSession, parallelSession);
+
+        // After the bulk insert, the parallel session continues incrementally
+        TestdataLavishValue firstValue = sequentialSolution.getFirstValue();
+        for (TestdataLavishEntity entity : sequentialSolution.getEntityList()) {
+            entity.setValue(firstValue);
+            sequentialSession.update(entity);
+        }
+        TestdataLavishValue parallelFirstValue = parallelSolution.getFirstValue();
+        for (TestdataLavishEntity entity : parallelSolution.getEntityList()) {
+            entity.setValue(parallelFirstValue);
+            parallelSession.update(entity);
+        }
+        assertThat(parallelSession.calculateScore(0)).isEqualTo(sequentialSession.calculateScore(0));
+        assertSameConstraintMatches(sequentialSession, parallelSession);
+    }
+
+    private static void assertSameConstraintMatches(
+            BavetConstraintSession<TestdataLavishSolution, SimpleScore> sequentialSession,
+            BavetConstraintSession<TestdataLavishSolution, SimpleScore> parallelSession) {
+        Map<String, ConstraintMatchTotal<SimpleScore>> sequentialTotalMap =
+                sequentialSession.getConstraintMatchTotalMap();
+        Map<String, ConstraintMatchTotal<SimpleScore>> parallelTotalMap = parallelSession.getConstraintMatchTotalMap();
+        assertThat(parallelTotalMap).containsOnlyKeys(sequentialTotalMap.keySet());
+        sequentialTotalMap.forEach((constraintId, sequentialTotal) -> {
+            ConstraintMatchTotal<SimpleScore> parallelTotal = parallelTotalMap.get(constraintId);
+            assertThat(parallelTotal.getScore()).as(constraintId).isEqualTo(sequentialTotal.getScore());
+            assertThat(parallelTotal.getConstraintMatchCount()).as(constraintId)
+                    .isEqualTo(sequentialTotal.getConstraintMatchCount());
+        });
+        Map<Object, Indictment<SimpleScore>> sequentialIndictmentMap = sequentialSession.getIndictmentMap();
+        Map<Object, Indictment<SimpleScore>> parallelIndictmentMap = parallelSession.getIndictmentMap();
+        // Both solutions are generated the same way, so compare the indicted objects by their code
+        assertThat(parallelIndictmentMap.keySet()).extracting(Object::toString)
+                .containsExactlyInAnyOrderElementsOf(sequentialIndictmentMap.keySet().stream()
+                        .map(Object::toString)
+                        .collect(Collectors.toList()));
+    }
+
+    private BavetConstraintSession<TestdataLavishSolution, SimpleScore> buildSession(
+            TestdataLavishSolution solution, int parallelBulkInsertThreshold) {
+        SolutionDescriptor<TestdataLavishSolution> solutionDescriptor =
+                TestdataLavishSolution.buildSolutionDescriptor();
+        List<BavetConstraint<TestdataLavishSolution>> constraintList =
+                new BavetConstraintFactory<>(solutionDescriptor).buildConstraints(this::defineConstraints);
+        BavetConstraintSession<TestdataLavishSolution, SimpleScore> session =
+                new BavetConstraintSessionFactory<TestdataLavishSolution, SimpleScore>(solutionDescriptor,
+                        constraintList).buildSession(true, solution, parallelBulkInsertThreshold);
+        session.insertAll(solutionDescriptor.getAllFacts(solution));
+        return session;
+    }
+
+}
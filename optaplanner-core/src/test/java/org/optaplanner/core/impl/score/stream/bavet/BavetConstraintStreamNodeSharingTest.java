@@ -0,0 +1,93 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.optaplanner.core.api.score.stream.Joiners.equal;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.api.score.buildin.simple.SimpleScore;
+import org.optaplanner.core.api.score.stream.Constraint;
+import org.optaplanner.core.api.score.stream.ConstraintFactory;
+import org.optaplanner.core.api.score.stream.bi.BiJoiner;
+import org.optaplanner.core.impl.score.director.stream.BavetConstraintStreamScoreDirector;
+import org.optaplanner.core.impl.score.director.stream.BavetConstraintStreamScoreDirectorFactory;
+import org.optaplanner.core.impl.score.stream.bavet.bi.BavetJoinBiNode;
+import org.optaplanner.core.impl.score.stream.bavet.common.BavetNode;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniNode;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntity;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishEntityGroup;
+import org.optaplanner.core.impl.testdata.domain.score.lavish.TestdataLavishSolution;
+
+public class BavetConstraintStreamNodeSharingTest {
+
+    @Test
+    void equalJoinersShareJoinNode() {
+        BiJoiner<TestdataLavishEntity, TestdataLavishEntity> joiner = equal(TestdataLavishEntity::getEntityGroup);
+        List<BavetNode> nodeList = buildNodeList(factory -> new Constraint[] {
+                factory.fromUniquePair(TestdataLavishEntity.class, joiner)
+                        .penalize("Constraint 1", SimpleScore.ONE),
+                factory.fromUniquePair(TestdataLavishEntity.class, joiner)
+                        .filter((a, b) -> a != b)
+                        .penalize("Constraint 2", SimpleScore.ONE)
+        });
+        assertThat(nodesOfType(nodeList, BavetJoinBiNode.class)).hasSize(1);
+        assertThat(nodesOfType(nodeList, BavetJoinBridgeUniNode.class)).hasSize(2);
+        assertNodeIndexesAreSequential(nodeList);
+    }
+
+    @Test
+    void differentJoinersDoNotShareJoinNode() {
+        Function<TestdataLavishEntity, TestdataLavishEntityGroup> otherMapping = TestdataLavishEntity::getEntityGroup;
+        List<BavetNode> nodeList = buildNodeList(factory -> new Constraint[] {
+                factory.fromUniquePair(TestdataLavishEntity.class, equal(TestdataLavishEntity::getEntityGroup))
+                        .penalize("Constraint 1", SimpleScore.ONE),
+                factory.fromUniquePair(TestdataLavishEntity.class, equal(otherMapping))
+                        .penalize("Constraint 2", SimpleScore.ONE)
+        });
+        assertThat(nodesOfType(nodeList, BavetJoinBiNode.class)).hasSize(2);
+        assertThat(nodesOfType(nodeList, BavetJoinBridgeUniNode.class)).hasSize(4);
+        assertNodeIndexesAreSequential(nodeList);
+    }
+
+    private static List<BavetNode> nodesOfType(List<BavetNode> nodeList, Class<?> nodeClass) {
+        return nodeList.stream()
+                .filter(nodeClass::isInstance)
+                .collect(Collectors.toList());
+    }
+
+    private static void assertNodeIndexesAreSequential(List<BavetNode> nodeList) {
+        for (int i = 0; i < nodeList.size(); i++) {
+            assertThat(nodeList.get(i).getNodeIndex()).isEqualTo(i);
+        }
+    }
+
+    private static List<BavetNode> buildNodeList(Function<ConstraintFactory, Constraint[]> constraintProvider) {
+        BavetConstraintStreamScoreDirectorFactory<TestdataLavishSolution, SimpleScore> scoreDirectorFactory =
+                new BavetConstraintStreamScoreDirectorFactory<>(TestdataLavishSolution.buildSolutionDescriptor(),
+                        constraintProvider::apply);
+        BavetConstraintStreamScoreDirector<TestdataLavishSolution, SimpleScore> scoreDirector =
+                scoreDirectorFactory.buildScoreDirector(false, false);
+        scoreDirector.setWorkingSolution(TestdataLavishSolution.generateSolution());
+        return scoreDirector.getSession().getNodes();
+    }
+
+}
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
+import org.optaplanner.core.impl.score.stream.common.JoinerType;
+
+public class BavetEqualsAndIntervalIndexTest {
+
+    @Test
+    public void overlapping() {
+        // Stored [start, end) overlaps with query [start, end) if storedStart < queryEnd and storedEnd > queryStart
+        BavetIndex<BavetJoinBridgeUniTuple<String>> index = new BavetEqualsAndIntervalIndex<>(
+                JoinerType.LESS_THAN, JoinerType.GREATER_THAN);
+        BavetJoinBridgeUniTuple<String> a = new BavetJoinBridgeUniTuple<>(null, null);
+        BavetJoinBridgeUniTuple<String> b = new BavetJoinBridgeUniTuple<>(null, null);
+        BavetJoinBridgeUniTuple<String> c = new BavetJoinBridgeUniTuple<>(null, null);
+        index.put(new Object[] { "x", 8, 14 }, a);
+        index.put(new Object[] { "x", 12, 18 }, b);
+        index.put(new Object[] { "x", 16, 22 }, c);
+        assertThat(index.get(new Object[] { "x", 8, 14 })).containsExactly(a, b);
+        assertThat(index.get(new Object[] { "x", 12, 18 })).containsExactly(a, b, c);
+        assertThat(index.get(new Object[] { "x", 14, 16 })).isEmpty();
+        assertThat(index.get(new Object[] { "y", 12, 18 })).isEmpty();
+
+        index.remove(b);
+        assertThat(index.get(new Object[] { "x", 12, 18 })).containsExactly(a, c);
+        index.put(new Object[] { "x", 13, 15 }, b);
+        assertThat(index.get(new Object[] { "x", 14, 16 })).containsExactly(b);
+    }
+
+    @Test
+    public void randomComparedToBruteForce() {
+        Random random = new Random(37);
+        BavetIndex<BavetJoinBridgeUniTuple<String>> index = new BavetEqualsAndIntervalIndex<>(
+                JoinerType.GREATER_THAN_OR_EQUAL, JoinerType.LESS_THAN);
+        List<BavetJoinBridgeUniTuple<String>> tupleList = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            tupleList.add(new BavetJoinBridgeUniTuple<>(null, null));
+        }
+        for (int step = 0; step < 5000; step++) {
+            BavetJoinBridgeUniTuple<String> tuple = tupleList.get(random.nextInt(tupleList.size()));
+            if (tuple.getIndexProperties() != null) {
+                index.remove(tuple);
+            } else {
+                int start = random.nextInt(100);
+                index.put(new Object[] { start + random.nextInt(20), start }, tuple);
+            }
+            int queryStart = random.nextInt(100);
+            Object[] query = new Object[] { queryStart + random.nextInt(20), queryStart };
+            Set<BavetJoinBridgeUniTuple<String>> expected = tupleList.stream()
+                    .filter(t -> t.getIndexProperties() != null)
+                    .filter(t -> JoinerType.GREATER_THAN_OR_EQUAL.matches(t.getIndexProperties()[0], query[0])
+                            && JoinerType.LESS_THAN.matches(t.getIndexProperties()[1], query[1]))
+                    .collect(Collectors.toSet());
+            assertThat(index.get(query)).containsExactlyInAnyOrderElementsOf(expected);
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.core.impl.score.stream.bavet.common.index;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+import org.optaplanner.core.impl.score.stream.bavet.uni.BavetJoinBridgeUniTuple;
+
+public class BavetIndexBucketTest {
+
+    @Test
+    public void addAndRemove() {
+        BavetIndexBucket<BavetJoinBridgeUniTuple<String>> bucket = new BavetIndexBucket<>();
+        BavetJoinBridgeUniTuple<String> a = new BavetJoinBridgeUniTuple<>(null, null);
+        BavetJoinBridgeUniTuple<String> b = new BavetJoinBridgeUniTuple<>(null, null);
+        BavetJoinBridgeUniTuple<String> c = new BavetJoinBridgeUniTuple<>(null, null);
+        assertThat(bucket).isEmpty();
+        assertThat(bucket.addTuple(a)).isTrue();
+        assertThat(bucket.addTuple(b)).isTrue();
+        assertThat(bucket.addTuple(c)).isTrue();
+        assertThat(bucket.addTuple(b)).isFalse();
+        assertThat(bucket).containsExactly(a, b, c);
+
+        assertThat(bucket.removeTuple(b)).isTrue();
+        assertThat(bucket).containsExactly(a, c);
+        assertThat(bucket.removeTuple(b)).isFalse();
+        assertThat(bucket.removeTuple(a)).isTrue();
+        assertThat(bucket).containsExactly(c);
+        assertThat(bucket.addTuple(a)).isTrue();
+        assertThat(bucket).containsExactly(c, a);
+        assertThat(bucket.removeTuple(a)).isTrue();
+        assertThat(bucket.removeTuple(c)).isTrue();
+        assertThat(bucket).isEmpty();
+        assertThat(bucket.addTuple(b)).isTrue();
+        assertThat(bucket).containsExactly(b);
+    }
+
+}
@@ -92,6 +92,42 @@ public class DefaultSolverTest {
         assertThat(solution.getScore().isSolutionInitialized()).isTrue();
     }
 
+    @Test
+    public void terminateEarlyApplied() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataSolution.class, TestdataEntity.class)
+                .withTerminationConfig(new TerminationConfig())
+                .withPhases(new ConstructionHeuristicPhaseConfig(), new LocalSearchPhaseConfig());
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+        // Without termination, the local search only stops because of this
+        solver.addEventListener(event -> solver.terminateEarly());
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2")));
+
+        solver.solve(solution);
+        assertThat(solver.isTerminatedEarlyApplied()).isTrue();
+    }
+
+    @Test
+    public void terminateEarlyAfterSolvingEndedIsNotApplied() {
+        SolverConfig solverConfig = PlannerTestUtils.buildSolverConfig(
+                TestdataSolution.class, TestdataEntity.class);
+        SolverFactory<TestdataSolution> solverFactory = SolverFactory.create(solverConfig);
+        DefaultSolver<TestdataSolution> solver = (DefaultSolver<TestdataSolution>) solverFactory.buildSolver();
+
+        TestdataSolution solution = new TestdataSolution("s1");
+        solution.setValueList(Arrays.asList(new TestdataValue("v1"), new TestdataValue("v2")));
+        solution.setEntityList(Arrays.asList(new TestdataEntity("e1"), new TestdataEntity("e2")));
+
+        solver.solve(solution);
+        // The solver ended on its own, so a late termination doesn't count as the reason it stopped
+        assertThat(solver.terminateEarly()).isTrue();
+        assertThat(solver.isTerminatedEarlyApplied()).isFalse();
+    }
+
     @Test
     public void checkDefaultMeters() {
         TestMeterRegistry meterRegistry = new TestMeterRegistry();
@@ -24,6 +24,7 @@ import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.Iterator;
@@ -242,10 +243,10 @@ public final class PlannerAssert {
 
     public static <O> void assertCodesOfIterator(Iterator<O> iterator, String... codes) {
         assertThat(iterator).isNotNull();
-        assertThat(iterator)
-                .toIterable()
-                .map(PlannerAssert::codeIfNotNull)
-                .containsExactly(codes);
+        // Convert every selection as soon as it's selected, because a flyweight move is reused for the next one
+        List<String> codeList = new ArrayList<>();
+        iterator.forEachRemaining(o -> codeList.add(codeIfNotNull(o)));
+        assertThat(codeList).containsExactly(codes);
     }
 
     public static void assertAllCodesOfIterator(Iterator<?> iterator, String... codes) {
@@ -0,0 +1,187 @@
+/*
+ * Copyright 2021 Red Hat, Inc. and/or its affiliates.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.optaplanner.persistence.common.api.solver;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Properties;
+import java.util.UUID;
+import java.util.function.Function;
+
+import org.optaplanner.core.api.domain.solution.PlanningSolution;
+import org.optaplanner.core.api.score.Score;
+import org.optaplanner.core.api.solver.SolverCheckpoint;
+import org.optaplanner.core.api.solver.SolverCheckpointStore;
+import org.optaplanner.persistence.common.api.domain.solution.SolutionFileIO;
+
+/**
+ * Saves every {@link SolverCheckpoint} as 2 files in a directory:
+ * the best solution, written by a {@link SolutionFileIO}, and a properties file with the other metadata.
+ * <p>
+ * Every save writes its solution to a new file and the metadata references that file by name.
+ * The metadata is written to a temporary file first and then moved over the previous one,
+ * so that move switches to the new pair of files at once
+ * and a crash during a save never corrupts the previous checkpoint.
+ * The file names are derived from {@link Object#toString()} of the problemId,
+ * so that must be unique per problemId.
+ * <p>
+ * This class is thread-safe if the {@link SolutionFileIO} is thread-safe.
+ *
+ * @param <Solution_> the solution type, the class with the {@link PlanningSolution} annotation
+ * @param <ProblemId_> the ID type of a submitted problem, such as {@link Long} or {@link UUID}.
+ */
+public class SolutionFileIOCheckpointStore<Solution_, ProblemId_>
+        implements SolverCheckpointStore<Solution_, ProblemId_> {
+
+    private static final String METADATA_FILE_EXTENSION = "properties";
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+    private static final String BEST_SCORE_PROPERTY = "bestScore";
+    private static final String TIME_MILLIS_SPENT_PROPERTY = "timeMillisSpent";
+    private static final String SOLUTION_FILE_PROPERTY = "solutionFile";
+
+    private final SolutionFileIO<Solution_> solutionFileIO;
+    private final File checkpointDirectory;
+    private final Function<String, ? extends Score<?>> scoreParser;
+
+    /**
+     * @param solutionFileIO never null, its output file must be readable as its input file
+     * @param checkpointDirectory never null, created if it doesn't exist yet
+     * @param scoreParser never null, for example {@code HardSoftScore::parseScore}
+     */
+    public SolutionFileIOCheckpointStore(SolutionFileIO<Solution_> solutionFileIO, File checkpointDirectory,
+            Function<String, ? extends Score<?>> scoreParser) {
+        this.solutionFileIO = solutionFileIO;
+        this.checkpointDirectory = checkpointDirectory;
+        this.scoreParser = scoreParser;
+        checkpointDirectory.mkdirs();
+        if (!checkpointDirectory.isDirectory()) {
+            throw new IllegalArgumentException("The checkpointDirectory (" + checkpointDirectory
+                    + ") is not a directory and cannot be created.");
+        }
+    }
+
+    public File getCheckpointDirectory() {
+        return checkpointDirectory;
+    }
+
+    // ************************************************************************
+    // Worker methods
+    // ************************************************************************
+
+    @Override
+    public void save(ProblemId_ problemId, SolverCheckpoint<Solution_> checkpoint) {
+        File metadataFile = getMetadataFile(problemId);
+        Properties previousMetadata = metadataFile.exists() ? readMetadata(problemId, metadataFile) : null;
+        // A unique name, so the previous checkpoint's solution file stays intact until the metadata switches over
+        File solutionFile = new File(checkpointDirectory, buildBaseName(problemId) + "-" + UUID.randomUUID()
+                + "." + solutionFileIO.getOutputFileExtension());
+        File temporaryMetadataFile = new File(checkpointDirectory, metadataFile.getName() + TEMPORARY_FILE_SUFFIX);
+        Properties metadata = new Properties();
+        metadata.setProperty(BEST_SCORE_PROPERTY, checkpoint.getBestScore().toString());
+        metadata.setProperty(TIME_MILLIS_SPENT_PROPERTY, Long.toString(checkpoint.getTimeMillisSpent()));
+        metadata.setProperty(SOLUTION_FILE_PROPERTY, solutionFile.getName());
+        try {
+            solutionFileIO.write(checkpoint.getBestSolution(), solutionFile);
+            try (Writer writer = Files.newBufferedWriter(temporaryMetadataFile.toPath(), StandardCharsets.UTF_8)) {
+                metadata.store(writer, "Solver checkpoint of problemId " + problemId);
+            } catch (IOException e) {
+                throw new IllegalStateException("Failed writing the metadataFile (" + temporaryMetadataFile
+                        + ") of the checkpoint for problemId (" + problemId + ").", e);
+            }
+            moveAtomically(temporaryMetadataFile, metadataFile);
+        } catch (RuntimeException e) {
+            // The previous checkpoint is still intact, so don't leave a solution file behind that nothing references
+            solutionFile.delete();
+            throw e;
+        }
+        if (previousMetadata != null) {
+            File previousSolutionFile = getSolutionFile(problemId, previousMetadata);
+            if (!previousSolutionFile.equals(solutionFile)) {
+                previousSolutionFile.delete();
+            }
+        }
+    }
+
+    @Override
+    public SolverCheckpoint<Solution_> load(ProblemId_ problemId) {
+        File metadataFile = getMetadataFile(problemId);
+        if (!metadataFile.exists()) {
+            return null;
+        }
+        Properties metadata = readMetadata(problemId, metadataFile);
+        File solutionFile = getSolutionFile(problemId, metadata);
+        if (!solutionFile.exists()) {
+            throw new IllegalStateException("The metadataFile (" + metadataFile
+                    + ") of the checkpoint for problemId (" + problemId
+                    + ") references a solutionFile (" + solutionFile + ") that doesn't exist.");
+        }
+        Solution_ bestSolution = solutionFileIO.read(solutionFile);
+        Score<?> bestScore = scoreParser.apply(metadata.getProperty(BEST_SCORE_PROPERTY));
+        long timeMillisSpent = Long.parseLong(metadata.getProperty(TIME_MILLIS_SPENT_PROPERTY));
+        return new SolverCheckpoint<>(bestSolution, bestScore, timeMillisSpent);
+    }
+
+    private Properties readMetadata(ProblemId_ problemId, File metadataFile) {
+        Properties metadata = new Properties();
+        try (Reader reader = Files.newBufferedReader(metadataFile.toPath(), StandardCharsets.UTF_8)) {
+            metadata.load(reader);
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed reading the metadataFile (" + metadataFile
+                    + ") of the checkpoint for problemId (" + problemId + ").", e);
+        }
+        return metadata;
+    }
+
+    private File getSolutionFile(ProblemId_ problemId, Properties metadata) {
+        String solutionFileName = metadata.getProperty(SOLUTION_FILE_PROPERTY);
+        if (solutionFileName == null) {
+            throw new IllegalStateException("The metadata (" + metadata
+                    + ") of the checkpoint for problemId (" + problemId
+                    + ") has no " + SOLUTION_FILE_PROPERTY + " property.");
+        }
+        return new File(checkpointDirectory, solutionFileName);
+    }
+
+    private File getMetadataFile(ProblemId_ problemId) {
+        return new File(checkpointDirectory, buildBaseName(problemId) + "." + METADATA_FILE_EXTENSION);
+    }
+
+    private String buildBaseName(ProblemId_ problemId) {
+        // Avoid path separators and other characters that aren't allowed in a file name
+        return problemId.toString().replaceAll("[^\\w.-]", "_");
+    }
+
+    private void moveAtomically(File source, File target) {
+        try {
+            try {
+                Files.move(source.toPath(), target.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("Failed moving the file (" + source + ") to (" + target + ").", e);
+        }
+    }
+
+}